@@ -0,0 +1,103 @@
+package com.codexpong.backend.game.engine;
+
+import com.codexpong.backend.game.engine.model.MutableGameState;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * [벤치마크] backend/src/jmh/java/com/codexpong/backend/game/engine/BatchedPhysicsBenchmark.java
+ * 설명:
+ *   - 방 1만 개를 한 스레드에서 한 틱 진행할 때 방별 GameEngine과 SoA 배치 엔진의 처리량을 비교한다.
+ *   - 결과 단위 ops/ms는 "코어 하나가 1ms에 진행하는 방 수"다.
+ *   - objectEngines/batchedBlocks는 입력 반영과 결과 버퍼 복사(서비스의 stageInputs/collect)를 포함하고,
+ *     batchedStepOnly는 블록 물리 진행만 잰다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.2.0-batched-physics.md
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchedPhysicsBenchmark {
+
+    private static final int ROOMS = 10_000;
+    private static final double TICK_SECONDS = 0.05;
+
+    @Param({"64", "256"})
+    public int blockSize;
+
+    private GameEngine[] engines;
+    private MutableGameState[] objectBuffers;
+    private BatchedPhysicsEngine[] blocks;
+    private BatchedPhysicsEngine.Slot[] slots;
+    private MutableGameState[] batchBuffers;
+
+    @Setup
+    public void setUp() {
+        engines = new GameEngine[ROOMS];
+        objectBuffers = new MutableGameState[ROOMS];
+        slots = new BatchedPhysicsEngine.Slot[ROOMS];
+        batchBuffers = new MutableGameState[ROOMS];
+        blocks = new BatchedPhysicsEngine[(ROOMS + blockSize - 1) / blockSize];
+        for (int b = 0; b < blocks.length; b++) {
+            blocks[b] = new BatchedPhysicsEngine(blockSize);
+        }
+        for (int i = 0; i < ROOMS; i++) {
+            engines[i] = new GameEngine();
+            objectBuffers[i] = new MutableGameState();
+            engines[i].copyInto(objectBuffers[i]);
+            slots[i] = blocks[i / blockSize].allocate();
+            slots[i].activate();
+            batchBuffers[i] = new MutableGameState();
+            slots[i].copyInto(batchBuffers[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROOMS)
+    public void objectEngines() {
+        for (int i = 0; i < ROOMS; i++) {
+            MutableGameState buffer = objectBuffers[i];
+            engines[i].tick(TICK_SECONDS, GameEngineTickBenchmark.track(buffer.leftPaddleY(), buffer.ballY()),
+                    GameEngineTickBenchmark.track(buffer.rightPaddleY(), buffer.ballY()), buffer);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROOMS)
+    public void batchedBlocks() {
+        for (int i = 0; i < ROOMS; i++) {
+            MutableGameState buffer = batchBuffers[i];
+            slots[i].stage(GameEngineTickBenchmark.track(buffer.leftPaddleY(), buffer.ballY()),
+                    GameEngineTickBenchmark.track(buffer.rightPaddleY(), buffer.ballY()));
+        }
+        for (BatchedPhysicsEngine block : blocks) {
+            block.step(TICK_SECONDS);
+        }
+        for (int i = 0; i < ROOMS; i++) {
+            slots[i].copyInto(batchBuffers[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROOMS)
+    public void batchedStepOnly() {
+        for (BatchedPhysicsEngine block : blocks) {
+            block.step(TICK_SECONDS);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.codexpong.backend.game.engine;
+
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.MutableGameState;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * [벤치마크] backend/src/jmh/java/com/codexpong/backend/game/engine/GameEngineTickBenchmark.java
+ * 설명:
+ *   - 무할당 tick(호출자 버퍼)과 기존 스냅샷 반환 tick의 처리량과 할당량을 비교한다.
+ *   - `gradle jmh -Pjmh.includes=GameEngineTickBenchmark` 실행 시 gc.alloc.rate.norm이 reusableBuffer에서 0 B/op여야 한다.
+ *   - 두 패들이 공을 따라가게 해 랠리가 끝나지 않도록 한다. 경기가 끝나면 공이 멈춰 측정이 왜곡되기 때문이다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.2.0-allocation-free-tick.md
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameEngineTickBenchmark {
+
+    private static final double TICK_SECONDS = 0.05;
+    private static final Duration TICK = Duration.ofMillis(50);
+
+    private GameEngine engine;
+    private MutableGameState buffer;
+    private GameSnapshot last;
+
+    @Setup
+    public void setUp() {
+        engine = new GameEngine();
+        buffer = new MutableGameState();
+        engine.tick(0, PaddleInput.STAY, PaddleInput.STAY, buffer);
+        last = engine.forceSnapshot();
+    }
+
+    @Benchmark
+    public void reusableBuffer(Blackhole blackhole) {
+        engine.tick(TICK_SECONDS, track(buffer.leftPaddleY(), buffer.ballY()),
+                track(buffer.rightPaddleY(), buffer.ballY()), buffer);
+        blackhole.consume(buffer.ballX());
+    }
+
+    @Benchmark
+    public void snapshotPerTick(Blackhole blackhole) {
+        last = engine.tick(TICK, track(last.leftPaddleY(), last.ballY()), track(last.rightPaddleY(), last.ballY()));
+        blackhole.consume(last);
+    }
+
+    /**
+     * 패들 중앙이 공을 따라가게 하는 입력. 패들 속도(260px/s)가 공의 세로 속도보다 빨라 득점이 나지 않는다.
+     */
+    static PaddleInput track(double paddleY, double ballY) {
+        double center = paddleY + 40;
+        if (ballY < center - 10) {
+            return PaddleInput.UP;
+        }
+        if (ballY > center + 10) {
+            return PaddleInput.DOWN;
+        }
+        return PaddleInput.STAY;
+    }
+}
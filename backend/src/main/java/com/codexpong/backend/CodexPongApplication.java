@@ -1,8 +1,13 @@
 package com.codexpong.backend;
 
 import com.codexpong.backend.async.outbox.OutboxRelayProperties;
+import com.codexpong.backend.async.outbox.OutboxRetentionProperties;
+import com.codexpong.backend.game.service.RealtimeProperties;
+import com.codexpong.backend.job.JobDispatchProperties;
 import com.codexpong.backend.job.JobExportProperties;
 import com.codexpong.backend.job.JobQueueProperties;
+import com.codexpong.backend.replay.store.ReplayStorageProperties;
+import com.codexpong.backend.retention.RetentionProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -25,10 +30,15 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  *   - v0.2.0: 인증/프로필 모듈 구동 항목 반영
  *   - v0.5.0: 소셜 도메인(WebSocket 포함) 구동 명시
  *   - v0.12.0: 잡 큐/워커 설정 바인딩 추가
+ *   - v1.2.0: 리플레이 저장 티어 설정 바인딩 추가
+ *   - v1.2.0: 잡 레인 디스패처 설정 바인딩 추가
+ *   - v1.2.0: 실시간 틱/엔진 설정 바인딩 추가
  */
 @SpringBootApplication
 @EnableScheduling
-@EnableConfigurationProperties({JobQueueProperties.class, JobExportProperties.class, OutboxRelayProperties.class})
+@EnableConfigurationProperties({JobQueueProperties.class, JobExportProperties.class, JobDispatchProperties.class,
+        OutboxRelayProperties.class, OutboxRetentionProperties.class, ReplayStorageProperties.class,
+        RetentionProperties.class, RealtimeProperties.class})
 public class CodexPongApplication {
 
     public static void main(String[] args) {
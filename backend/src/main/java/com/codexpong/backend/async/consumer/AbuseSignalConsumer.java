@@ -17,13 +17,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class AbuseSignalConsumer implements DomainEventConsumer {
 
     private final AbuseSignalRepository abuseSignalRepository;
-    private final EventConsumptionRepository consumptionRepository;
     private final ObjectMapper objectMapper;
 
-    public AbuseSignalConsumer(AbuseSignalRepository abuseSignalRepository,
-            EventConsumptionRepository consumptionRepository, ObjectMapper objectMapper) {
+    public AbuseSignalConsumer(AbuseSignalRepository abuseSignalRepository, ObjectMapper objectMapper) {
         this.abuseSignalRepository = abuseSignalRepository;
-        this.consumptionRepository = consumptionRepository;
         this.objectMapper = objectMapper;
     }
 
@@ -40,9 +37,6 @@ public class AbuseSignalConsumer implements DomainEventConsumer {
     @Override
     @Transactional
     public void consume(DomainEvent event) {
-        if (consumptionRepository.existsById(new EventConsumptionId(event.eventId(), name()))) {
-            return;
-        }
         MatchResultEventPayload payload = deserialize(event);
         int scoreDiff = Math.abs(payload.scoreA() - payload.scoreB());
         if (scoreDiff >= 10) {
@@ -52,7 +46,6 @@ public class AbuseSignalConsumer implements DomainEventConsumer {
             Long target = payload.ratingChangeA() > payload.ratingChangeB() ? payload.playerAId() : payload.playerBId();
             abuseSignalRepository.save(new AbuseSignal(payload.eventId(), payload.roomId(), target, "비정상 레이팅 변동"));
         }
-        consumptionRepository.save(new EventConsumption(event.eventId(), name()));
     }
 
     private MatchResultEventPayload deserialize(DomainEvent event) {
@@ -1,11 +1,14 @@
 package com.codexpong.backend.async.consumer;
 
 import com.codexpong.backend.async.event.DomainEvent;
+import java.util.List;
 
 /**
  * [인터페이스] backend/src/main/java/com/codexpong/backend/async/consumer/DomainEventConsumer.java
  * 설명:
  *   - 아웃박스 이벤트를 처리하는 소비자 계약을 정의한다.
+ *   - 릴레이는 한 묶음의 이벤트를 consumeBatch로 한 번에 넘긴다. 기본 구현은 이벤트마다 consume을 부른다.
+ *     사용자별 변화량을 모아 한 번에 반영할 수 있는 소비자는 이를 재정의한다.
  */
 public interface DomainEventConsumer {
 
@@ -14,4 +17,12 @@ public interface DomainEventConsumer {
     boolean supports(String eventType);
 
     void consume(DomainEvent event);
+
+    /**
+     * 설명:
+     *   - supports가 참인 이벤트만 아웃박스 id 순서대로 받는다. 하나라도 실패하면 묶음 전체가 롤백된다.
+     */
+    default void consumeBatch(List<DomainEvent> events) {
+        events.forEach(this::consume);
+    }
 }
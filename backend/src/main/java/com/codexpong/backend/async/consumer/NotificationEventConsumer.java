@@ -17,13 +17,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class NotificationEventConsumer implements DomainEventConsumer {
 
     private final NotificationLogRepository notificationLogRepository;
-    private final EventConsumptionRepository consumptionRepository;
     private final ObjectMapper objectMapper;
 
-    public NotificationEventConsumer(NotificationLogRepository notificationLogRepository,
-            EventConsumptionRepository consumptionRepository, ObjectMapper objectMapper) {
+    public NotificationEventConsumer(NotificationLogRepository notificationLogRepository, ObjectMapper objectMapper) {
         this.notificationLogRepository = notificationLogRepository;
-        this.consumptionRepository = consumptionRepository;
         this.objectMapper = objectMapper;
     }
 
@@ -40,14 +37,10 @@ public class NotificationEventConsumer implements DomainEventConsumer {
     @Override
     @Transactional
     public void consume(DomainEvent event) {
-        if (consumptionRepository.existsById(new EventConsumptionId(event.eventId(), name()))) {
-            return;
-        }
         MatchResultEventPayload payload = deserialize(event);
         String summary = "매치 종료: " + payload.roomId() + " (" + payload.scoreA() + "-" + payload.scoreB() + ")";
         persistIfMissing(payload.eventId(), payload.playerAId(), summary);
         persistIfMissing(payload.eventId(), payload.playerBId(), summary);
-        consumptionRepository.save(new EventConsumption(event.eventId(), name()));
     }
 
     private MatchResultEventPayload deserialize(DomainEvent event) {
@@ -71,6 +71,14 @@ public class PlayerMatchStats {
         this.lastEventId = lastEventId;
     }
 
+    public void recordResults(int wins, int losses, int draws, String lastEventId) {
+        this.wins += wins;
+        this.losses += losses;
+        this.draws += draws;
+        this.totalMatches += wins + losses + draws;
+        this.lastEventId = lastEventId;
+    }
+
     @PrePersist
     void onCreate() {
         this.updatedAt = KstDateTime.now();
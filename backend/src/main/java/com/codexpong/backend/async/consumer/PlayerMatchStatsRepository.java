@@ -1,5 +1,7 @@
 package com.codexpong.backend.async.consumer;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -11,4 +13,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface PlayerMatchStatsRepository extends JpaRepository<PlayerMatchStats, Long> {
 
     Optional<PlayerMatchStats> findByUserId(Long userId);
+
+    List<PlayerMatchStats> findByUserIdIn(Collection<Long> userIds);
 }
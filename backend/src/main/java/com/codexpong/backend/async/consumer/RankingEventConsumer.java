@@ -5,6 +5,11 @@ import com.codexpong.backend.async.event.MatchResultEventPayload;
 import com.codexpong.backend.async.event.OutboxEventType;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,18 +17,16 @@ import org.springframework.transaction.annotation.Transactional;
  * [컴포넌트] backend/src/main/java/com/codexpong/backend/async/consumer/RankingEventConsumer.java
  * 설명:
  *   - 경기 결과 이벤트를 받아 최신 레이팅 프로젝션을 갱신한다.
+ *   - 묶음은 사용자별 마지막 레이팅만 남겨 행마다 한 번만 갱신한다.
  */
 @Component
 public class RankingEventConsumer implements DomainEventConsumer {
 
     private final RankingProjectionRepository projectionRepository;
-    private final EventConsumptionRepository consumptionRepository;
     private final ObjectMapper objectMapper;
 
-    public RankingEventConsumer(RankingProjectionRepository projectionRepository,
-            EventConsumptionRepository consumptionRepository, ObjectMapper objectMapper) {
+    public RankingEventConsumer(RankingProjectionRepository projectionRepository, ObjectMapper objectMapper) {
         this.projectionRepository = projectionRepository;
-        this.consumptionRepository = consumptionRepository;
         this.objectMapper = objectMapper;
     }
 
@@ -40,13 +43,35 @@ public class RankingEventConsumer implements DomainEventConsumer {
     @Override
     @Transactional
     public void consume(DomainEvent event) {
-        if (consumptionRepository.existsById(new EventConsumptionId(event.eventId(), name()))) {
-            return;
+        consumeBatch(List.of(event));
+    }
+
+    /**
+     * 설명:
+     *   - 묶음 안에서 사용자별 마지막 레이팅만 남긴 뒤, 프로젝션을 IN 조회 한 번으로 읽어 반영한다.
+     */
+    @Override
+    @Transactional
+    public void consumeBatch(List<DomainEvent> events) {
+        Map<Long, LatestRating> latest = new LinkedHashMap<>();
+        for (DomainEvent event : events) {
+            MatchResultEventPayload payload = deserialize(event);
+            latest.put(payload.playerAId(), new LatestRating(payload.ratingAfterA(), payload.eventId()));
+            latest.put(payload.playerBId(), new LatestRating(payload.ratingAfterB(), payload.eventId()));
         }
-        MatchResultEventPayload payload = deserialize(event);
-        upsert(payload.playerAId(), payload.ratingAfterA(), payload.eventId());
-        upsert(payload.playerBId(), payload.ratingAfterB(), payload.eventId());
-        consumptionRepository.save(new EventConsumption(event.eventId(), name()));
+        Map<Long, RankingProjection> existing = new HashMap<>();
+        projectionRepository.findByUserIdIn(latest.keySet())
+                .forEach(projection -> existing.put(projection.getUserId(), projection));
+        List<RankingProjection> created = new ArrayList<>();
+        latest.forEach((userId, rating) -> {
+            RankingProjection projection = existing.get(userId);
+            if (projection == null) {
+                created.add(new RankingProjection(userId, rating.rating(), rating.eventId()));
+            } else {
+                projection.refresh(rating.rating(), rating.eventId());
+            }
+        });
+        projectionRepository.saveAll(created);
     }
 
     private MatchResultEventPayload deserialize(DomainEvent event) {
@@ -57,9 +82,6 @@ public class RankingEventConsumer implements DomainEventConsumer {
         }
     }
 
-    private void upsert(Long userId, int rating, String eventId) {
-        projectionRepository.findByUserId(userId)
-                .ifPresentOrElse(existing -> existing.refresh(rating, eventId),
-                        () -> projectionRepository.save(new RankingProjection(userId, rating, eventId)));
+    private record LatestRating(int rating, String eventId) {
     }
 }
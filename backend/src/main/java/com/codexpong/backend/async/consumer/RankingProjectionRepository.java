@@ -1,5 +1,7 @@
 package com.codexpong.backend.async.consumer;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -11,4 +13,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface RankingProjectionRepository extends JpaRepository<RankingProjection, Long> {
 
     Optional<RankingProjection> findByUserId(Long userId);
+
+    List<RankingProjection> findByUserIdIn(Collection<Long> userIds);
 }
@@ -5,6 +5,11 @@ import com.codexpong.backend.async.event.MatchResultEventPayload;
 import com.codexpong.backend.async.event.OutboxEventType;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,18 +17,16 @@ import org.springframework.transaction.annotation.Transactional;
  * [컴포넌트] backend/src/main/java/com/codexpong/backend/async/consumer/StatsEventConsumer.java
  * 설명:
  *   - 경기 결과를 받아 사용자별 승/패/무 집계를 업데이트한다.
+ *   - 단건도 묶음 경로로 처리한다. 묶음은 사용자별 변화량으로 합쳐 행마다 한 번만 갱신한다.
  */
 @Component
 public class StatsEventConsumer implements DomainEventConsumer {
 
     private final PlayerMatchStatsRepository statsRepository;
-    private final EventConsumptionRepository consumptionRepository;
     private final ObjectMapper objectMapper;
 
-    public StatsEventConsumer(PlayerMatchStatsRepository statsRepository,
-            EventConsumptionRepository consumptionRepository, ObjectMapper objectMapper) {
+    public StatsEventConsumer(PlayerMatchStatsRepository statsRepository, ObjectMapper objectMapper) {
         this.statsRepository = statsRepository;
-        this.consumptionRepository = consumptionRepository;
         this.objectMapper = objectMapper;
     }
 
@@ -40,21 +43,36 @@ public class StatsEventConsumer implements DomainEventConsumer {
     @Override
     @Transactional
     public void consume(DomainEvent event) {
-        if (consumptionRepository.existsById(new EventConsumptionId(event.eventId(), name()))) {
-            return;
-        }
-        MatchResultEventPayload payload = deserialize(event);
-        if (payload.scoreA() > payload.scoreB()) {
-            recordWin(payload.playerAId(), payload.eventId());
-            recordLoss(payload.playerBId(), payload.eventId());
-        } else if (payload.scoreB() > payload.scoreA()) {
-            recordWin(payload.playerBId(), payload.eventId());
-            recordLoss(payload.playerAId(), payload.eventId());
-        } else {
-            recordDraw(payload.playerAId(), payload.eventId());
-            recordDraw(payload.playerBId(), payload.eventId());
+        consumeBatch(List.of(event));
+    }
+
+    /**
+     * 설명:
+     *   - 묶음 안의 경기를 사용자별 승/패/무 변화량으로 합친 뒤, 통계 행을 IN 조회 한 번으로 읽어 반영한다.
+     *   - 기존 행은 변경 감지로 JDBC 배치 UPDATE되고, 처음 보는 사용자만 새로 저장한다.
+     */
+    @Override
+    @Transactional
+    public void consumeBatch(List<DomainEvent> events) {
+        Map<Long, StatsDelta> deltas = new LinkedHashMap<>();
+        for (DomainEvent event : events) {
+            MatchResultEventPayload payload = deserialize(event);
+            int outcome = Integer.compare(payload.scoreA(), payload.scoreB());
+            deltas.computeIfAbsent(payload.playerAId(), userId -> new StatsDelta()).record(outcome, payload.eventId());
+            deltas.computeIfAbsent(payload.playerBId(), userId -> new StatsDelta()).record(-outcome, payload.eventId());
         }
-        consumptionRepository.save(new EventConsumption(event.eventId(), name()));
+        Map<Long, PlayerMatchStats> existing = new HashMap<>();
+        statsRepository.findByUserIdIn(deltas.keySet()).forEach(stats -> existing.put(stats.getUserId(), stats));
+        List<PlayerMatchStats> created = new ArrayList<>();
+        deltas.forEach((userId, delta) -> {
+            PlayerMatchStats stats = existing.get(userId);
+            if (stats == null) {
+                stats = new PlayerMatchStats(userId, delta.lastEventId);
+                created.add(stats);
+            }
+            stats.recordResults(delta.wins, delta.losses, delta.draws, delta.lastEventId);
+        });
+        statsRepository.saveAll(created);
     }
 
     private MatchResultEventPayload deserialize(DomainEvent event) {
@@ -65,33 +83,25 @@ public class StatsEventConsumer implements DomainEventConsumer {
         }
     }
 
-    private void recordWin(Long userId, String eventId) {
-        statsRepository.findByUserId(userId)
-                .ifPresentOrElse(existing -> existing.recordWin(eventId),
-                        () -> {
-                            PlayerMatchStats created = new PlayerMatchStats(userId, eventId);
-                            created.recordWin(eventId);
-                            statsRepository.save(created);
-                        });
-    }
+    /**
+     * 한 사용자의 묶음 안 승/패/무 변화량이다. outcome은 그 사용자 기준 점수 비교 결과다.
+     */
+    private static final class StatsDelta {
 
-    private void recordLoss(Long userId, String eventId) {
-        statsRepository.findByUserId(userId)
-                .ifPresentOrElse(existing -> existing.recordLoss(eventId),
-                        () -> {
-                            PlayerMatchStats created = new PlayerMatchStats(userId, eventId);
-                            created.recordLoss(eventId);
-                            statsRepository.save(created);
-                        });
-    }
+        private int wins;
+        private int losses;
+        private int draws;
+        private String lastEventId;
 
-    private void recordDraw(Long userId, String eventId) {
-        statsRepository.findByUserId(userId)
-                .ifPresentOrElse(existing -> existing.recordDraw(eventId),
-                        () -> {
-                            PlayerMatchStats created = new PlayerMatchStats(userId, eventId);
-                            created.recordDraw(eventId);
-                            statsRepository.save(created);
-                        });
+        void record(int outcome, String eventId) {
+            if (outcome > 0) {
+                wins += 1;
+            } else if (outcome < 0) {
+                losses += 1;
+            } else {
+                draws += 1;
+            }
+            lastEventId = eventId;
+        }
     }
 }
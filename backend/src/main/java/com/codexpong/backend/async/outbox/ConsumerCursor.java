@@ -0,0 +1,110 @@
+package com.codexpong.backend.async.outbox;
+
+import com.codexpong.backend.common.KstDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * [엔티티] backend/src/main/java/com/codexpong/backend/async/outbox/ConsumerCursor.java
+ * 설명:
+ *   - 소비자(DomainEventConsumer.name()) 하나가 어디까지 처리했는지를 아웃박스 id로 보관한다.
+ *   - 재시도 횟수와 마지막 오류도 소비자마다 따로 둔다. 한 소비자의 실패가 다른 소비자를 막지 않는다.
+ *   - 릴레이 워커가 커서를 선점하면 leaseOwner/leaseUntil을 기록한다. 리스가 끝나기 전에는 다른 워커가 가져가지 않는다.
+ *   - 이름을 직접 키로 쓰므로 새 커서는 merge 없이 INSERT한다. 동시에 만든 쪽은 키 충돌로 실패하고 기존 위치를 덮지 않는다.
+ */
+@Entity
+@Table(name = "outbox_consumer_cursors")
+public class ConsumerCursor implements Persistable<String> {
+
+    @Id
+    @Column(name = "consumer_name", length = 60)
+    private String consumerName;
+
+    @Column(name = "last_event_id", nullable = false)
+    private long lastEventId;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(name = "lease_owner", length = 64)
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Transient
+    private boolean created = true;
+
+    protected ConsumerCursor() {
+    }
+
+    public ConsumerCursor(String consumerName, long lastEventId) {
+        this.consumerName = consumerName;
+        this.lastEventId = lastEventId;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        this.updatedAt = KstDateTime.now();
+    }
+
+    @PostLoad
+    @PostPersist
+    void markStored() {
+        this.created = false;
+    }
+
+    @Override
+    public String getId() {
+        return consumerName;
+    }
+
+    @Override
+    public boolean isNew() {
+        return created;
+    }
+
+    public String getConsumerName() {
+        return consumerName;
+    }
+
+    public long getLastEventId() {
+        return lastEventId;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public LocalDateTime getLeaseUntil() {
+        return leaseUntil;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
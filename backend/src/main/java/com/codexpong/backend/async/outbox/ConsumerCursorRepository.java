@@ -0,0 +1,73 @@
+package com.codexpong.backend.async.outbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * [리포지토리] backend/src/main/java/com/codexpong/backend/async/outbox/ConsumerCursorRepository.java
+ * 설명:
+ *   - 소비자별 전달 커서를 선점하고 전진시킨다.
+ *   - 선점은 FOR UPDATE SKIP LOCKED로 하므로 다른 워커가 잠근 커서는 기다리지 않고 건너뛴다.
+ *   - 전진과 실패 기록은 리스를 가진 워커만 할 수 있도록 조건부 UPDATE로 한다.
+ */
+public interface ConsumerCursorRepository extends JpaRepository<ConsumerCursor, String> {
+
+    @Query(value = "select * from outbox_consumer_cursors where consumer_name = :name "
+            + "and (lease_until is null or lease_until < :now) for update skip locked", nativeQuery = true)
+    Optional<ConsumerCursor> lockClaimable(@Param("name") String name, @Param("now") LocalDateTime now);
+
+    /**
+     * 설명:
+     *   - 커서 뒤에 이벤트가 있거나, 건너뛴 구간에 늦게 커밋된 이벤트가 있으면 1, 아니면 0이다.
+     *   - 잠그지 않고 읽기만 한다. 할 일이 없는 소비자는 선점/리스/해제를 하지 않고 이 조회 하나로 끝낸다.
+     */
+    @Query("select count(c) from ConsumerCursor c where c.consumerName = :name "
+            + "and (exists (select e.id from OutboxEvent e where e.id > c.lastEventId) "
+            + "or exists (select g.id from ConsumerGap g, OutboxEvent l "
+            + "where g.consumerName = :name and l.id between g.fromId and g.toId))")
+    long countWithPendingWork(@Param("name") String name);
+
+    @Modifying
+    @Query("update ConsumerCursor c set c.leaseOwner = :owner, c.leaseUntil = :until where c.consumerName = :name")
+    int lease(@Param("name") String name, @Param("owner") String owner, @Param("until") LocalDateTime until);
+
+    /**
+     * 설명:
+     *   - 커서가 from에 있고 리스를 가진 경우에만 to로 옮긴다. 재시도 횟수는 비우고 리스는 연장한다.
+     */
+    @Modifying
+    @Query("update ConsumerCursor c set c.lastEventId = :to, c.attempts = 0, c.lastError = null, "
+            + "c.leaseUntil = :until, c.updatedAt = :now "
+            + "where c.consumerName = :name and c.leaseOwner = :owner and c.lastEventId = :from")
+    int advance(@Param("name") String name, @Param("owner") String owner, @Param("from") long from,
+            @Param("to") long to, @Param("until") LocalDateTime until, @Param("now") LocalDateTime now);
+
+    /**
+     * 설명:
+     *   - 커서는 그대로 두고 재시도 횟수만 비운 뒤 리스를 연장한다. 건너뛴 구간의 이벤트를 처리했을 때 쓴다.
+     */
+    @Modifying
+    @Query("update ConsumerCursor c set c.attempts = 0, c.lastError = null, c.leaseUntil = :until, c.updatedAt = :now "
+            + "where c.consumerName = :name and c.leaseOwner = :owner")
+    int renew(@Param("name") String name, @Param("owner") String owner, @Param("until") LocalDateTime until,
+            @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update ConsumerCursor c set c.attempts = c.attempts + 1, c.lastError = :error, c.updatedAt = :now "
+            + "where c.consumerName = :name and c.leaseOwner = :owner")
+    int recordFailure(@Param("name") String name, @Param("owner") String owner, @Param("error") String error,
+            @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update ConsumerCursor c set c.leaseOwner = null, c.leaseUntil = null "
+            + "where c.consumerName = :name and c.leaseOwner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner);
+
+    @Query("select min(c.lastEventId) from ConsumerCursor c where c.consumerName in :names")
+    Long findMinLastEventId(@Param("names") Collection<String> names);
+}
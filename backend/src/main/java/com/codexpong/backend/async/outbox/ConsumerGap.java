@@ -0,0 +1,90 @@
+package com.codexpong.backend.async.outbox;
+
+import com.codexpong.backend.common.KstDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * [엔티티] backend/src/main/java/com/codexpong/backend/async/outbox/ConsumerGap.java
+ * 설명:
+ *   - 소비자 커서가 지나갔지만 그 소비자에게 아직 전달하지 않은 아웃박스 id 구간(fromId~toId)이다.
+ *   - 커서가 id 틈을 건너뛸 때 남긴다. 틈은 롤백된 id일 수도 있고, 아직 커밋 전인 트랜잭션의 id일 수도 있다.
+ *   - 릴레이는 구간 안에 늦게 커밋된 이벤트를 찾아 전달하고, 전달한 id를 구간에서 뺀다.
+ *   - 구간에 남은 id가 있는 동안에는 그 이벤트를 PUBLISHED로 표시하지 않는다.
+ */
+@Entity
+@Table(name = "outbox_consumer_gaps",
+        indexes = {
+                @Index(name = "idx_outbox_consumer_gaps_consumer_from", columnList = "consumer_name, from_id"),
+                @Index(name = "idx_outbox_consumer_gaps_created_at", columnList = "created_at")
+        })
+public class ConsumerGap {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "consumer_name", nullable = false, length = 60)
+    private String consumerName;
+
+    @Column(name = "from_id", nullable = false)
+    private long fromId;
+
+    @Column(name = "to_id", nullable = false)
+    private long toId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected ConsumerGap() {
+    }
+
+    public ConsumerGap(String consumerName, long fromId, long toId) {
+        this(consumerName, fromId, toId, null);
+    }
+
+    /**
+     * 설명:
+     *   - 구간을 나눌 때는 원래 구간의 기록 시각을 이어받아 보존 기간이 늘어나지 않게 한다.
+     */
+    public ConsumerGap(String consumerName, long fromId, long toId, LocalDateTime createdAt) {
+        this.consumerName = consumerName;
+        this.fromId = fromId;
+        this.toId = toId;
+        this.createdAt = createdAt;
+    }
+
+    @PrePersist
+    void onCreate() {
+        if (createdAt == null) {
+            createdAt = KstDateTime.now();
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getConsumerName() {
+        return consumerName;
+    }
+
+    public long getFromId() {
+        return fromId;
+    }
+
+    public long getToId() {
+        return toId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,35 @@
+package com.codexpong.backend.async.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * [리포지토리] backend/src/main/java/com/codexpong/backend/async/outbox/ConsumerGapRepository.java
+ * 설명:
+ *   - 소비자 커서가 건너뛴 id 구간을 보관하고, 구간 안에 늦게 커밋된 이벤트를 찾는다.
+ *   - 구간 수만큼만 기본 키 범위로 이벤트를 읽으므로 이력이 쌓여도 조회 비용이 늘지 않는다.
+ */
+public interface ConsumerGapRepository extends JpaRepository<ConsumerGap, Long> {
+
+    @Query("select e from ConsumerGap g join OutboxEvent e on e.id between g.fromId and g.toId "
+            + "where g.consumerName = :name order by e.id")
+    List<OutboxEvent> findLateEvents(@Param("name") String name, Pageable pageable);
+
+    @Query("select g from ConsumerGap g where g.consumerName = :name and g.fromId <= :id and g.toId >= :id")
+    Optional<ConsumerGap> findCovering(@Param("name") String name, @Param("id") long id);
+
+    /**
+     * 설명:
+     *   - 보존 기간이 지나도록 이벤트가 하나도 나타나지 않은 구간을 지운다. 롤백된 id로 본다.
+     */
+    @Modifying
+    @Query("delete from ConsumerGap g where g.createdAt < :cutoff "
+            + "and not exists (select e.id from OutboxEvent e where e.id between g.fromId and g.toId)")
+    int deleteExpired(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
@@ -15,9 +16,14 @@ import java.time.LocalDateTime;
  * 설명:
  *   - 재시도 한계를 초과한 이벤트를 DLQ 용도로 보관한다.
  *   - 운영자가 재처리하거나 폐기할 수 있도록 원본 payload와 실패 메시지를 남긴다.
+ *   - 재시도는 소비자마다 따로 세므로 어느 소비자가 포기했는지(consumerName)도 함께 남긴다.
  */
 @Entity
-@Table(name = "dead_letter_events")
+@Table(name = "dead_letter_events",
+        indexes = {
+                @Index(name = "idx_dead_letter_events_event_consumer", columnList = "event_id, consumer_name"),
+                @Index(name = "idx_dead_letter_events_failed_at", columnList = "failed_at")
+        })
 public class DeadLetterEvent {
 
     @Id
@@ -30,6 +36,9 @@ public class DeadLetterEvent {
     @Column(nullable = false, length = 120)
     private String type;
 
+    @Column(name = "consumer_name", length = 60)
+    private String consumerName;
+
     @Column(nullable = false, columnDefinition = "text")
     private String payload;
 
@@ -45,9 +54,11 @@ public class DeadLetterEvent {
     protected DeadLetterEvent() {
     }
 
-    public DeadLetterEvent(String eventId, String type, String payload, int failedAttempts, String lastError) {
+    public DeadLetterEvent(String eventId, String type, String consumerName, String payload, int failedAttempts,
+            String lastError) {
         this.eventId = eventId;
         this.type = type;
+        this.consumerName = consumerName;
         this.payload = payload;
         this.failedAttempts = failedAttempts;
         this.lastError = lastError;
@@ -70,6 +81,10 @@ public class DeadLetterEvent {
         return type;
     }
 
+    public String getConsumerName() {
+        return consumerName;
+    }
+
     public String getPayload() {
         return payload;
     }
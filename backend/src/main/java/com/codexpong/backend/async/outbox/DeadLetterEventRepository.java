@@ -1,6 +1,11 @@
 package com.codexpong.backend.async.outbox;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * [리포지토리] backend/src/main/java/com/codexpong/backend/async/outbox/DeadLetterEventRepository.java
@@ -9,5 +14,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface DeadLetterEventRepository extends JpaRepository<DeadLetterEvent, Long> {
 
-    boolean existsByEventId(String eventId);
+    boolean existsByEventIdAndConsumerName(String eventId, String consumerName);
+
+    @Query("select d.id from DeadLetterEvent d where d.failedAt < :cutoff")
+    List<Long> findIdsFailedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
 }
@@ -8,6 +8,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
@@ -19,9 +20,14 @@ import java.util.UUID;
  * 설명:
  *   - 도메인 트랜잭션과 함께 기록되는 아웃박스 이벤트를 보관한다.
  *   - payload는 JSON 문자열로 직렬화해 재시도와 DLQ 대상에도 동일하게 저장한다.
+ *   - (status, created_at) 색인으로 미발행 수/최소 id 조회와 보존 기간 정리가 전체 이력을 훑지 않는다.
+ *   - 소비자별 전달 위치는 ConsumerCursor가 id 기준으로 따로 관리한다. status는 모든 소비자 커서가 지나가면 PUBLISHED가 된다.
  */
 @Entity
-@Table(name = "outbox_events")
+@Table(name = "outbox_events",
+        indexes = {
+                @Index(name = "idx_outbox_events_status_created", columnList = "status, created_at")
+        })
 public class OutboxEvent {
 
     @Id
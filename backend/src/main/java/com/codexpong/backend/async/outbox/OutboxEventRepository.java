@@ -1,15 +1,61 @@
 package com.codexpong.backend.async.outbox;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * [리포지토리] backend/src/main/java/com/codexpong/backend/async/outbox/OutboxEventRepository.java
  * 설명:
  *   - 릴레이 대상 아웃박스 이벤트를 조회/보관한다.
+ *   - 소비자 커서 뒤의 이벤트를 id 순으로 읽는다. 상태와 관계없이 읽어 다른 소비자가 DLQ로 보낸 이벤트도 전달한다.
+ *   - 모든 소비자 커서가 지나갔고 어느 소비자의 건너뛴 구간(ConsumerGap)에도 들지 않는 PENDING 이벤트는
+ *     묶어서 PUBLISHED로 표시한다.
+ *   - 보존 기간이 지난 이벤트는 (status, created_at) 인덱스 범위에서 한 페이지씩 골라 정리한다.
  */
 public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
 
-    List<OutboxEvent> findByStatusOrderByCreatedAtAsc(OutboxStatus status, Pageable pageable);
+    long countByStatus(OutboxStatus status);
+
+    Optional<OutboxEvent> findByEventId(String eventId);
+
+    List<OutboxEvent> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    long countByIdGreaterThan(Long id);
+
+    @Query("select min(e.id) from OutboxEvent e where e.status = com.codexpong.backend.async.outbox.OutboxStatus.PENDING")
+    Long findMinPendingId();
+
+    @Query("select max(e.id) from OutboxEvent e")
+    Long findMaxId();
+
+    @Modifying
+    @Query("update OutboxEvent e set e.status = com.codexpong.backend.async.outbox.OutboxStatus.PUBLISHED, "
+            + "e.lastError = null, e.updatedAt = :now "
+            + "where e.id <= :id and e.status = com.codexpong.backend.async.outbox.OutboxStatus.PENDING "
+            + "and not exists (select g.id from ConsumerGap g "
+            + "where g.consumerName in :names and e.id between g.fromId and g.toId)")
+    int markPublishedThrough(@Param("id") long id, @Param("names") Collection<String> names,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 설명:
+     *   - 정리 대상 id를 한 페이지 고른다. 정렬을 걸지 않아 인덱스 범위를 페이지 크기만큼만 읽고 멈춘다.
+     *   - DLQ 행이 남은 이벤트는 재전달이 원본을 다시 읽으므로 고르지 않는다.
+     */
+    @Query("select e.id from OutboxEvent e where e.status = :status and e.createdAt < :cutoff and e.id <= :through "
+            + "and not exists (select d.id from DeadLetterEvent d where d.eventId = e.eventId)")
+    List<Long> findIdsForPurge(@Param("status") OutboxStatus status, @Param("cutoff") LocalDateTime cutoff,
+            @Param("through") long through, Pageable pageable);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1, e.lastError = :error, e.updatedAt = :now "
+            + "where e.id = :id")
+    int recordAttempt(@Param("id") Long id, @Param("error") String error, @Param("now") LocalDateTime now);
 }
@@ -10,27 +10,33 @@ import org.springframework.transaction.annotation.Transactional;
  * [컴포넌트] backend/src/main/java/com/codexpong/backend/async/outbox/OutboxEventWriter.java
  * 설명:
  *   - 도메인 트랜잭션 안에서 아웃박스 이벤트를 직렬화해 저장한다.
+ *   - 저장한 트랜잭션이 커밋되면 릴레이를 깨우도록 OutboxWakeup에 건다. 릴레이가 폴링 간격을 기다리지 않는다.
  */
 @Component
 public class OutboxEventWriter {
 
     private final OutboxEventRepository outboxEventRepository;
     private final ObjectMapper objectMapper;
+    private final OutboxWakeup wakeup;
 
-    public OutboxEventWriter(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+    public OutboxEventWriter(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper,
+            OutboxWakeup wakeup) {
         this.outboxEventRepository = outboxEventRepository;
         this.objectMapper = objectMapper;
+        this.wakeup = wakeup;
     }
 
     @Transactional(propagation = Propagation.MANDATORY)
     public OutboxEvent append(String type, Function<String, Object> payloadBuilder) {
+        OutboxEvent event = new OutboxEvent(type, "{}");
         try {
-            OutboxEvent event = new OutboxEvent(type, "{}");
             Object payload = payloadBuilder.apply(event.getEventId());
             event.overridePayload(objectMapper.writeValueAsString(payload));
-            return outboxEventRepository.save(event);
         } catch (Exception e) {
             throw new IllegalArgumentException("아웃박스 직렬화에 실패했습니다.", e);
         }
+        OutboxEvent saved = outboxEventRepository.save(event);
+        wakeup.wakeAfterCommit();
+        return saved;
     }
 }
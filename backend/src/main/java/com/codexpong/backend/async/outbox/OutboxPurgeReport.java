@@ -0,0 +1,9 @@
+package com.codexpong.backend.async.outbox;
+
+/**
+ * [모델] backend/src/main/java/com/codexpong/backend/async/outbox/OutboxPurgeReport.java
+ * 설명:
+ *   - 아웃박스 정리 1회 실행 결과다. 지운 PUBLISHED/FAILED 이벤트 수와 DLQ 행 수를 담는다.
+ */
+public record OutboxPurgeReport(int publishedDeleted, int failedDeleted, int deadLettersDeleted) {
+}
@@ -0,0 +1,105 @@
+package com.codexpong.backend.async.outbox;
+
+import com.codexpong.backend.async.consumer.DomainEventConsumer;
+import com.codexpong.backend.common.KstDateTime;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * [작업] backend/src/main/java/com/codexpong/backend/async/outbox/OutboxPurger.java
+ * 설명:
+ *   - 보존 기간이 지난 아웃박스 이벤트와 DLQ 행을 주기적으로 지워 릴레이가 읽는 테이블이 이력만큼 자라지 않게 한다.
+ *   - 아웃박스 이벤트는 등록된 모든 소비자 커서가 지나간 것만 지운다. 커서를 되감아 다시 읽을 수 있는 구간은 남긴다.
+ *     없어진 소비자의 커서 행은 릴레이와 같이 보지 않는다.
+ *   - 행은 batch-size씩 id를 고른 뒤 배치마다 짧은 트랜잭션으로 지운다. 한 번에 큰 DELETE로 테이블을 오래 잠그지 않는다.
+ */
+@Component
+public class OutboxPurger {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxPurger.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final DeadLetterEventRepository deadLetterEventRepository;
+    private final ConsumerCursorRepository cursorRepository;
+    private final List<String> consumerNames;
+    private final OutboxRetentionProperties properties;
+
+    public OutboxPurger(OutboxEventRepository outboxEventRepository,
+            DeadLetterEventRepository deadLetterEventRepository, ConsumerCursorRepository cursorRepository,
+            List<DomainEventConsumer> consumers, OutboxRetentionProperties properties) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.deadLetterEventRepository = deadLetterEventRepository;
+        this.cursorRepository = cursorRepository;
+        this.consumerNames = consumers.stream().map(DomainEventConsumer::name).toList();
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.retention.interval-millis:600000}",
+            initialDelayString = "${outbox.retention.interval-millis:600000}")
+    public void scheduledPurge() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        purge();
+    }
+
+    /**
+     * 설명:
+     *   - PUBLISHED 이벤트, FAILED 이벤트, DLQ 행 순으로 보존 기간을 한 번 적용한다.
+     *   - FAILED 이벤트(이전 릴레이가 남긴 상태)는 DLQ 보존 기간을 따른다.
+     *   - DLQ 행이 남은 이벤트는 재전달이 원본을 다시 읽으므로 상태와 관계없이 지우지 않는다.
+     */
+    public synchronized OutboxPurgeReport purge() {
+        LocalDateTime now = KstDateTime.now();
+        Long through = consumerNames.isEmpty() ? null : cursorRepository.findMinLastEventId(consumerNames);
+        int published = 0;
+        int failed = 0;
+        if (through != null) {
+            published = purgeEvents(OutboxStatus.PUBLISHED, properties.getPublishedMaxAgeHours(), now, through);
+            failed = purgeEvents(OutboxStatus.FAILED, properties.getDeadLetterMaxAgeHours(), now, through);
+        }
+        int deadLetters = properties.getDeadLetterMaxAgeHours() > 0
+                ? purgeInBatches(page -> deadLetterEventRepository.findIdsFailedBefore(
+                        now.minusHours(properties.getDeadLetterMaxAgeHours()), page),
+                        deadLetterEventRepository::deleteAllByIdInBatch)
+                : 0;
+        if (published > 0 || failed > 0 || deadLetters > 0) {
+            log.info("[OUTBOX_PURGED] published={} failed={} deadLetters={} through={}", published, failed,
+                    deadLetters, through);
+        }
+        return new OutboxPurgeReport(published, failed, deadLetters);
+    }
+
+    private int purgeEvents(OutboxStatus status, long maxAgeHours, LocalDateTime now, long through) {
+        if (maxAgeHours <= 0) {
+            return 0;
+        }
+        LocalDateTime cutoff = now.minusHours(maxAgeHours);
+        return purgeInBatches(page -> outboxEventRepository.findIdsForPurge(status, cutoff, through, page),
+                outboxEventRepository::deleteAllByIdInBatch);
+    }
+
+    private int purgeInBatches(Function<Pageable, List<Long>> finder, Consumer<List<Long>> deleter) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        int deleted = 0;
+        while (true) {
+            List<Long> ids = finder.apply(PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                return deleted;
+            }
+            deleter.accept(ids);
+            deleted += ids.size();
+            if (ids.size() < batchSize) {
+                return deleted;
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.codexpong.backend.async.outbox;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * [컴포넌트] backend/src/main/java/com/codexpong/backend/async/outbox/OutboxRedisWakeup.java
+ * 설명:
+ *   - 이 노드에서 아웃박스 이벤트가 커밋되면 Redis pub/sub 채널(outbox.relay.wakeup-channel)에 노드 ID를 보낸다.
+ *   - 다른 노드가 보낸 알림을 받으면 이 노드의 릴레이 워커를 깨운다. 자기가 보낸 알림은 무시한다.
+ *   - 발행은 전용 스레드에서 하고, 이미 대기 중인 알림이 있으면 합친다. Redis가 느려도 도메인 요청 스레드를 잡지 않는다.
+ *   - 알림은 지연을 줄이는 용도다. 잃어버려도 릴레이의 주기 폴링이 이벤트를 전달한다.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.relay.redis-wakeup-enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRedisWakeup {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRedisWakeup.class);
+
+    private final RedisConnectionFactory connectionFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final OutboxWakeup wakeup;
+    private final OutboxRelayProperties properties;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicBoolean pingPending = new AtomicBoolean();
+    private ExecutorService sender;
+    private RedisMessageListenerContainer container;
+
+    public OutboxRedisWakeup(RedisConnectionFactory connectionFactory, StringRedisTemplate redisTemplate,
+            OutboxWakeup wakeup, OutboxRelayProperties properties) {
+        this.connectionFactory = connectionFactory;
+        this.redisTemplate = redisTemplate;
+        this.wakeup = wakeup;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        sender = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-wakeup-ping");
+            thread.setDaemon(true);
+            return thread;
+        });
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            if (!nodeId.equals(new String(message.getBody(), StandardCharsets.UTF_8))) {
+                wakeup.wake();
+            }
+        }, new ChannelTopic(properties.getWakeupChannel()));
+        container.afterPropertiesSet();
+        container.start();
+        wakeup.onLocalCommit(this::ping);
+    }
+
+    @PreDestroy
+    public void stop() throws Exception {
+        if (sender != null) {
+            sender.shutdownNow();
+        }
+        if (container != null) {
+            container.destroy();
+        }
+    }
+
+    private void ping() {
+        if (!pingPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(() -> {
+                pingPending.set(false);
+                try {
+                    redisTemplate.convertAndSend(properties.getWakeupChannel(), nodeId);
+                } catch (RuntimeException ex) {
+                    log.warn("[OUTBOX_WAKEUP_PING_FAILED] reason={}", ex.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            pingPending.set(false);
+        }
+    }
+}
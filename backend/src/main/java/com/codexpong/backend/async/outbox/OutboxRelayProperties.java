@@ -1,17 +1,41 @@
 package com.codexpong.backend.async.outbox;
 
+import java.util.HashMap;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
  * [설정] backend/src/main/java/com/codexpong/backend/async/outbox/OutboxRelayProperties.java
  * 설명:
  *   - 아웃박스 릴레이의 배치 크기와 재시도 한도를 설정한다.
+ *   - 릴레이 사용 여부, 안전망 폴링 간격, 커서 선점 리스 길이, id 틈 앞에서 기다리는 가시성 지연을 설정한다.
+ *   - 커서가 건너뛴 id 구간을 늦은 커밋에 대비해 얼마나 남겨 둘지(gap-retention-millis)를 설정한다.
+ *   - 커밋 알림을 다른 노드에 보낼 Redis pub/sub 사용 여부와 채널 이름을 설정한다.
+ *   - consumers.{소비자 이름}.batch-size / max-attempts로 소비자마다 값을 바꿀 수 있다. 없으면 전역 값을 쓴다.
  */
 @ConfigurationProperties(prefix = "outbox.relay")
 public class OutboxRelayProperties {
 
-    private int batchSize = 20;
+    private int batchSize = 100;
     private int maxAttempts = 3;
+    private boolean enabled = true;
+    private long intervalMillis = 5000;
+    private long leaseMillis = 30000;
+    private long visibilityDelayMillis = 1000;
+    private long gapRetentionMillis = 86_400_000;
+    private boolean redisWakeupEnabled = true;
+    private String wakeupChannel = "outbox.wakeup";
+    private Map<String, ConsumerSettings> consumers = new HashMap<>();
+
+    public int batchSizeFor(String consumerName) {
+        ConsumerSettings settings = consumers.get(consumerName);
+        return settings != null && settings.getBatchSize() != null ? settings.getBatchSize() : batchSize;
+    }
+
+    public int maxAttemptsFor(String consumerName) {
+        ConsumerSettings settings = consumers.get(consumerName);
+        return settings != null && settings.getMaxAttempts() != null ? settings.getMaxAttempts() : maxAttempts;
+    }
 
     public int getBatchSize() {
         return batchSize;
@@ -28,4 +52,90 @@ public class OutboxRelayProperties {
     public void setMaxAttempts(int maxAttempts) {
         this.maxAttempts = maxAttempts;
     }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    public void setIntervalMillis(long intervalMillis) {
+        this.intervalMillis = intervalMillis;
+    }
+
+    public long getLeaseMillis() {
+        return leaseMillis;
+    }
+
+    public void setLeaseMillis(long leaseMillis) {
+        this.leaseMillis = leaseMillis;
+    }
+
+    public long getVisibilityDelayMillis() {
+        return visibilityDelayMillis;
+    }
+
+    public void setVisibilityDelayMillis(long visibilityDelayMillis) {
+        this.visibilityDelayMillis = visibilityDelayMillis;
+    }
+
+    public long getGapRetentionMillis() {
+        return gapRetentionMillis;
+    }
+
+    public void setGapRetentionMillis(long gapRetentionMillis) {
+        this.gapRetentionMillis = gapRetentionMillis;
+    }
+
+    public boolean isRedisWakeupEnabled() {
+        return redisWakeupEnabled;
+    }
+
+    public void setRedisWakeupEnabled(boolean redisWakeupEnabled) {
+        this.redisWakeupEnabled = redisWakeupEnabled;
+    }
+
+    public String getWakeupChannel() {
+        return wakeupChannel;
+    }
+
+    public void setWakeupChannel(String wakeupChannel) {
+        this.wakeupChannel = wakeupChannel;
+    }
+
+    public Map<String, ConsumerSettings> getConsumers() {
+        return consumers;
+    }
+
+    public void setConsumers(Map<String, ConsumerSettings> consumers) {
+        this.consumers = consumers;
+    }
+
+    public static class ConsumerSettings {
+
+        private Integer batchSize;
+        private Integer maxAttempts;
+
+        public Integer getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(Integer batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public Integer getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(Integer maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+    }
 }
@@ -2,9 +2,30 @@ package com.codexpong.backend.async.outbox;
 
 import com.codexpong.backend.async.consumer.DomainEventConsumer;
 import com.codexpong.backend.async.event.DomainEvent;
+import com.codexpong.backend.common.KstDateTime;
+import com.codexpong.backend.observability.ObservabilityMetrics;
+import com.codexpong.backend.observability.ObservabilityMetrics.OutboxMeters;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -15,51 +36,381 @@ import org.slf4j.LoggerFactory;
 /**
  * [서비스] backend/src/main/java/com/codexpong/backend/async/outbox/OutboxRelayService.java
  * 설명:
- *   - 아웃박스 테이블을 스캔하여 소비자에게 전달하고 재시도/DLQ를 관리한다.
+ *   - 아웃박스 이벤트를 소비자마다 따로 전달하고 재시도/DLQ를 관리한다.
+ *   - 소비자마다 커서(ConsumerCursor)와 워커 스레드가 하나씩 있다. 느리거나 실패하는 소비자가 다른 소비자를 막지 않는다.
+ *   - 워커는 아웃박스 기록 트랜잭션이 커밋되면 OutboxWakeup 신호로 바로 깨어난다. interval-millis 주기 폴링은
+ *     놓친 신호를 위한 안전망이다.
+ *   - 커서는 FOR UPDATE SKIP LOCKED로 선점하고 리스를 기록한다. 여러 스레드·노드가 동시에 돌아도 한 소비자의 커서는
+ *     한 워커만 움직이므로 같은 이벤트를 두 번 전달하지 않는다.
+ *   - 소비자 처리와 커서 전진을 한 트랜잭션에서 커밋한다. 그래서 소비자별 중복 처리 기록 없이도 멱등하다.
+ *   - 한 묶음은 consumeBatch 한 번으로 넘긴다. 실패하면 이벤트마다 다시 전달해 실패한 이벤트만 재시도로 센다.
+ *   - 커서가 id 틈을 건너뛰면 그 구간을 소비자별로 남긴다(ConsumerGap). 늦게 커밋된 이벤트는 다음 묶음 앞에서 찾아 전달한다.
+ *   - 할 일이 없는 소비자는 읽기 조회 하나로 드레인을 끝낸다. 커서 선점·리스·해제와 잔여 수 집계는 할 일이 있을 때만 한다.
+ *   - 모든 소비자 커서가 지나갔고 어느 소비자의 건너뛴 구간에도 들지 않는 이벤트만 PUBLISHED로 표시한다.
+ *     발행 표시, 건너뛴 구간 정리, 미발행 수 갱신은 소비자 워커가 아니라 interval-millis 주기 작업이 노드당 한 번 한다.
+ *   - DLQ 재처리는 커서를 되감지 않고 그 이벤트 id만 구간으로 다시 열어, 포기한 소비자에게 그 이벤트 하나만 다시 보낸다.
+ *   - 미발행 이벤트 수(outbox.backlog), 소비자별 잔여 이벤트 수(outbox.consumer.backlog)와
+ *     기록부터 처리까지의 지연(outbox.relay.lag)을 노출한다.
  */
 @Service
 public class OutboxRelayService {
 
     private static final Logger log = LoggerFactory.getLogger(OutboxRelayService.class);
+    private static final int MAX_ERROR_LENGTH = 500;
 
     private final OutboxEventRepository outboxEventRepository;
+    private final ConsumerCursorRepository cursorRepository;
+    private final ConsumerGapRepository gapRepository;
     private final DeadLetterEventRepository deadLetterEventRepository;
     private final List<DomainEventConsumer> consumers;
+    private final List<String> consumerNames;
     private final ObjectMapper objectMapper;
     private final OutboxRelayProperties properties;
     private final TransactionTemplate transactionTemplate;
+    private final Map<String, OutboxMeters> meters = new HashMap<>();
+    private final Map<String, AtomicLong> consumerBacklogs = new HashMap<>();
+    private final AtomicLong backlog = new AtomicLong();
+    private final Set<String> knownCursors = ConcurrentHashMap.newKeySet();
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong batchSequence = new AtomicLong();
+    private final OutboxWakeup wakeup;
+    private final List<Semaphore> signals = new CopyOnWriteArrayList<>();
+    private final Runnable wakeListener = this::signalWorkers;
+    private ExecutorService workers;
 
-    public OutboxRelayService(OutboxEventRepository outboxEventRepository,
-            DeadLetterEventRepository deadLetterEventRepository, List<DomainEventConsumer> consumers,
-            ObjectMapper objectMapper, OutboxRelayProperties properties, TransactionTemplate transactionTemplate) {
+    public OutboxRelayService(OutboxEventRepository outboxEventRepository, ConsumerCursorRepository cursorRepository,
+            ConsumerGapRepository gapRepository, DeadLetterEventRepository deadLetterEventRepository,
+            List<DomainEventConsumer> consumers, ObjectMapper objectMapper, OutboxRelayProperties properties,
+            TransactionTemplate transactionTemplate, ObservabilityMetrics metrics, OutboxWakeup wakeup) {
         this.outboxEventRepository = outboxEventRepository;
+        this.cursorRepository = cursorRepository;
+        this.gapRepository = gapRepository;
         this.deadLetterEventRepository = deadLetterEventRepository;
         this.consumers = consumers;
+        this.consumerNames = consumers.stream().map(DomainEventConsumer::name).toList();
         this.objectMapper = objectMapper;
         this.properties = properties;
         this.transactionTemplate = transactionTemplate;
+        this.wakeup = wakeup;
+        metrics.registerOutboxBacklog(backlog::get);
+        for (String name : consumerNames) {
+            AtomicLong remaining = new AtomicLong();
+            consumerBacklogs.put(name, remaining);
+            meters.put(name, metrics.outboxMeters(name, remaining::get));
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled() || consumers.isEmpty()) {
+            return;
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(consumers.size(), runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (DomainEventConsumer consumer : consumers) {
+            Semaphore signal = new Semaphore(0);
+            signals.add(signal);
+            workers.execute(() -> runWorker(consumer, signal));
+        }
+        wakeup.addListener(wakeListener);
     }
 
-    @Scheduled(fixedDelayString = "${outbox.relay.interval-millis:1000}")
-    public void scheduledPublish() {
-        publishPending();
+    @PreDestroy
+    public void stop() {
+        wakeup.removeListener(wakeListener);
+        if (workers != null) {
+            workers.shutdownNow();
+        }
     }
 
-    public void publishPending() {
-        List<OutboxEvent> pending = outboxEventRepository
-                .findByStatusOrderByCreatedAtAsc(OutboxStatus.PENDING,
-                        PageRequest.of(0, properties.getBatchSize()));
-        for (OutboxEvent event : pending) {
-            relay(event.getId());
+    /**
+     * 설명:
+     *   - 깨울 신호가 오거나 대기 시간이 지날 때까지 기다렸다가 드레인한다. 기다리는 동안 온 신호는 하나로 합친다.
+     */
+    private void runWorker(DomainEventConsumer consumer, Semaphore signal) {
+        long waitMillis = properties.getIntervalMillis();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                if (signal.tryAcquire(waitMillis, TimeUnit.MILLISECONDS)) {
+                    signal.drainPermits();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            waitMillis = drain(consumer);
         }
     }
 
-    public void relay(Long eventId) {
+    private void signalWorkers() {
+        for (Semaphore signal : signals) {
+            if (signal.availablePermits() == 0) {
+                signal.release();
+            }
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 소비자 하나의 묶음을 더 읽을 것이 없을 때까지 이어서 처리한다. 예외가 워커를 멈추지 않도록 여기서 삼킨다.
+     *   - 다음 드레인까지 기다릴 시간을 돌려준다. 커서가 id 틈 앞에서 멈췄으면 그 틈을 다시 볼 때까지만 기다린다.
+     */
+    private long drain(DomainEventConsumer consumer) {
+        long interval = properties.getIntervalMillis();
         try {
-            transactionTemplate.executeWithoutResult(status -> processEvent(eventId));
-        } catch (Exception e) {
-            registerFailure(eventId, e);
+            BatchResult result;
+            do {
+                result = relayBatch(consumer);
+            } while (result.more());
+            return result.heldMillis() > 0 ? Math.min(result.heldMillis(), interval) : interval;
+        } catch (RuntimeException ex) {
+            log.warn("[OUTBOX_RELAY_FAILED] consumer={} reason={}", consumer.name(), ex.getMessage());
+            return interval;
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 발행 표시, 건너뛴 구간 정리, 미발행 수 갱신을 interval-millis마다 노드당 한 번 한다.
+     *   - 소비자 워커는 드레인마다 이 일을 하지 않는다. 깨울 때마다 소비자 수만큼 같은 쿼리를 내지 않기 위해서다.
+     *     그래서 PUBLISHED 표시는 전달보다 최대 한 주기 늦다.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-millis:5000}",
+            initialDelayString = "${outbox.relay.interval-millis:5000}")
+    public void scheduledRefresh() {
+        if (!properties.isEnabled() || consumers.isEmpty()) {
+            return;
+        }
+        try {
+            refreshPublished();
+        } catch (RuntimeException ex) {
+            log.warn("[OUTBOX_REFRESH_FAILED] reason={}", ex.getMessage());
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 모든 소비자에 대해 한 묶음씩 처리하고, 이번에 소비자에게 전달한 건수를 돌려준다.
+     *   - 수동 호출이므로 끝난 뒤 발행 표시까지 바로 한다.
+     */
+    public int publishPending() {
+        int delivered = 0;
+        for (DomainEventConsumer consumer : consumers) {
+            delivered += relayBatch(consumer).delivered();
+        }
+        refreshPublished();
+        return delivered;
+    }
+
+    /**
+     * 설명:
+     *   - DLQ 행 하나를 그 소비자에게만 다시 보낸다. 커서는 되감지 않고 이벤트 id 하나를 건너뛴 구간으로 다시 연다.
+     *     다음 묶음에서 relayLate가 이 이벤트만 전달하므로, 통계처럼 누적하는 소비자도 뒤 이벤트를 두 번 받지 않는다.
+     *   - DLQ 행은 지운다. 다시 max-attempts에 닿으면 새 DLQ 행이 생긴다.
+     *   - 이벤트는 PENDING으로 돌린다. 다시 연 구간이 닫히면 PUBLISHED가 된다.
+     */
+    public void redeliverDeadLetter(long deadLetterId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            DeadLetterEvent deadLetter = deadLetterEventRepository.findById(deadLetterId)
+                    .orElseThrow(() -> new IllegalArgumentException("DLQ 행을 찾을 수 없습니다."));
+            String name = deadLetter.getConsumerName();
+            if (!consumerNames.contains(name)) {
+                throw new IllegalArgumentException("등록되지 않은 소비자입니다: " + name);
+            }
+            OutboxEvent event = outboxEventRepository.findByEventId(deadLetter.getEventId())
+                    .orElseThrow(() -> new IllegalStateException("원본 아웃박스 이벤트가 이미 정리되었습니다."));
+            if (gapRepository.findCovering(name, event.getId()).isEmpty()) {
+                gapRepository.save(new ConsumerGap(name, event.getId(), event.getId()));
+            }
+            deadLetterEventRepository.delete(deadLetter);
+            event.resetForRetry();
+            log.info("[OUTBOX_DLQ_REDELIVER] eventId={} consumer={}", event.getEventId(), name);
+        });
+        signalWorkers();
+    }
+
+    /**
+     * 설명:
+     *   - 할 일이 없으면 선점하지 않고 바로 끝낸다.
+     *   - 커서를 선점하고, 건너뛴 구간에 늦게 커밋된 이벤트를 먼저 전달한 뒤 커서 뒤의 이벤트를 id 순으로 한 묶음 전달한다.
+     *   - 먼저 묶음 전체를 consumeBatch 한 번과 커서 전진 한 번으로 커밋한다.
+     *   - 묶음이 실패하면 이벤트마다 다시 전달해 실패한 이벤트를 찾는다. 그 앞까지는 커밋되고, 실패한 이벤트에서 묶음을 멈춘다.
+     *     커서가 그 이벤트 앞에 남으므로 다음 간격에 같은 이벤트부터 다시 시도한다.
+     */
+    private BatchResult relayBatch(DomainEventConsumer consumer) {
+        String name = consumer.name();
+        ensureCursor(name);
+        if (cursorRepository.countWithPendingWork(name) == 0) {
+            consumerBacklogs.get(name).set(0);
+            return BatchResult.EMPTY;
+        }
+        String leaseOwner = nodeId + "-" + batchSequence.incrementAndGet();
+        Long position = claim(name, leaseOwner);
+        if (position == null) {
+            return BatchResult.EMPTY;
+        }
+        long cursor = position;
+        int delivered = 0;
+        try {
+            int late = relayLate(consumer, leaseOwner);
+            if (late < 0) {
+                return BatchResult.EMPTY;
+            }
+            delivered = late;
+            VisibleEvents visible = visible(position, outboxEventRepository.findByIdGreaterThanOrderByIdAsc(position,
+                    PageRequest.of(0, properties.batchSizeFor(name))));
+            List<OutboxEvent> events = visible.events();
+            boolean full = events.size() >= properties.batchSizeFor(name);
+            List<OutboxEvent> supported = events.stream().filter(event -> consumer.supports(event.getType())).toList();
+            if (supported.size() > 1) {
+                long from = cursor;
+                long through = events.getLast().getId();
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            deliverBatch(consumer, supported, leaseOwner, from, through, visible.gaps()));
+                    cursor = through;
+                    recordLag(name, supported);
+                    return new BatchResult(true, delivered + supported.size(), visible.heldMillis());
+                } catch (LeaseLostException e) {
+                    log.warn("[OUTBOX_LEASE_LOST] consumer={} events={}", name, supported.size());
+                    return BatchResult.EMPTY;
+                } catch (Exception e) {
+                    log.info("[OUTBOX_BATCH_FALLBACK] consumer={} events={} reason={}", name, supported.size(),
+                            e.getMessage());
+                }
+            }
+            for (OutboxEvent event : supported) {
+                long from = cursor;
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            deliver(consumer, event, leaseOwner, from, visible.gaps()));
+                } catch (LeaseLostException e) {
+                    log.warn("[OUTBOX_LEASE_LOST] consumer={} eventId={}", name, event.getEventId());
+                    return new BatchResult(false, delivered, 0);
+                } catch (Exception e) {
+                    if (registerFailure(name, event, leaseOwner, e,
+                            () -> advance(name, leaseOwner, from, event.getId(), visible.gaps()))) {
+                        cursor = event.getId();
+                    }
+                    return new BatchResult(false, delivered, 0);
+                }
+                cursor = event.getId();
+                delivered++;
+                recordLag(name, List.of(event));
+            }
+            if (!events.isEmpty() && cursor < events.getLast().getId()) {
+                cursor = skipTo(name, leaseOwner, cursor, events.getLast().getId(), visible.gaps());
+            }
+            return new BatchResult(full || delivered > 0, delivered, visible.heldMillis());
+        } finally {
+            if (cursor != position) {
+                consumerBacklogs.get(name).set(outboxEventRepository.countByIdGreaterThan(cursor));
+            }
+            transactionTemplate.executeWithoutResult(status -> cursorRepository.release(name, leaseOwner));
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 커서가 건너뛴 구간에 늦게 커밋된 이벤트를 id 순으로 이 소비자에게 전달한다. 처리한 id는 구간에서 뺀다.
+     *   - 실패하면 커서 경로와 같이 시도 횟수를 세고, max-attempts에 닿으면 DLQ에 남기고 구간에서 뺀다.
+     *   - 전달한 건수를 돌려준다. 실패했거나 리스를 잃어 이번 묶음을 멈춰야 하면 -1이다.
+     */
+    private int relayLate(DomainEventConsumer consumer, String leaseOwner) {
+        String name = consumer.name();
+        List<OutboxEvent> late = gapRepository.findLateEvents(name, PageRequest.of(0, properties.batchSizeFor(name)));
+        int delivered = 0;
+        for (OutboxEvent event : late) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> deliverLate(consumer, event, leaseOwner));
+            } catch (LeaseLostException e) {
+                log.warn("[OUTBOX_LEASE_LOST] consumer={} eventId={}", name, event.getEventId());
+                return -1;
+            } catch (Exception e) {
+                registerFailure(name, event, leaseOwner, e, () -> {
+                    closeGap(name, event.getId());
+                    renew(name, leaseOwner);
+                });
+                return -1;
+            }
+            if (consumer.supports(event.getType())) {
+                log.info("[OUTBOX_LATE_EVENT] consumer={} eventId={} id={}", name, event.getEventId(), event.getId());
+                delivered++;
+                recordLag(name, List.of(event));
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * 설명:
+     *   - 커서가 없으면 만들고, 리스가 비어 있으면 선점해 현재 위치를 돌려준다. 다른 워커가 가진 커서면 null이다.
+     */
+    private Long claim(String name, String leaseOwner) {
+        ensureCursor(name);
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = KstDateTime.now();
+            return cursorRepository.lockClaimable(name, now)
+                    .map(cursor -> {
+                        cursorRepository.lease(name, leaseOwner,
+                                now.plus(Duration.ofMillis(properties.getLeaseMillis())));
+                        return cursor.getLastEventId();
+                    })
+                    .orElse(null);
+        });
+    }
+
+    /**
+     * 설명:
+     *   - 새 소비자의 커서는 가장 오래된 미발행 이벤트 바로 앞에서 시작한다. 미발행이 없으면 마지막 이벤트 뒤에서 시작한다.
+     */
+    private void ensureCursor(String name) {
+        if (knownCursors.contains(name)) {
+            return;
+        }
+        if (!cursorRepository.existsById(name)) {
+            Long minPending = outboxEventRepository.findMinPendingId();
+            Long maxId = outboxEventRepository.findMaxId();
+            long start = minPending != null ? minPending - 1 : maxId != null ? maxId : 0;
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        cursorRepository.saveAndFlush(new ConsumerCursor(name, start)));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 워커가 먼저 만들었다. 그 위치를 그대로 쓴다.
+            }
+        }
+        knownCursors.add(name);
+    }
+
+    /**
+     * 설명:
+     *   - 커밋 순서가 id 순서와 다를 수 있다. 커서 바로 뒤부터 id가 이어지면 그대로 읽는다.
+     *   - id가 비면 앞선 트랜잭션이 아직 커밋 전일 수 있다. 틈 뒤 이벤트가 기록된 지 visibility-delay-millis가 지나기 전에는
+     *     틈 앞에서 멈춰 대부분의 이벤트를 id 순서대로 전달한다.
+     *   - 그 뒤에도 비어 있으면 틈을 건너뛰되 구간을 돌려준다. 커서가 그 구간을 지나갈 때 ConsumerGap으로 남겨,
+     *     늦게 커밋된 이벤트도 relayLate가 전달한다.
+     */
+    private VisibleEvents visible(long position, List<OutboxEvent> events) {
+        LocalDateTime now = KstDateTime.now();
+        long delay = properties.getVisibilityDelayMillis();
+        long expected = position + 1;
+        List<IdRange> gaps = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEvent event = events.get(i);
+            if (event.getId() != expected) {
+                long waited = Duration.between(event.getCreatedAt(), now).toMillis();
+                if (waited < delay) {
+                    return new VisibleEvents(events.subList(0, i), gaps, delay - waited);
+                }
+                gaps.add(new IdRange(expected, event.getId() - 1));
+            }
+            expected = event.getId() + 1;
         }
+        return new VisibleEvents(events, gaps, 0);
     }
 
     private DomainEvent deserialize(OutboxEvent event) {
@@ -71,39 +422,176 @@ public class OutboxRelayService {
         }
     }
 
-    private void processEvent(Long eventId) {
-        OutboxEvent event = outboxEventRepository.findById(eventId).orElse(null);
-        if (event == null || event.getStatus() == OutboxStatus.PUBLISHED) {
-            return;
+    /**
+     * 설명:
+     *   - 소비자 처리와 커서 전진을 한 트랜잭션에서 한다. 리스를 잃어 전진이 0건이면 소비자 처리까지 롤백한다.
+     */
+    private void deliver(DomainEventConsumer consumer, OutboxEvent event, String leaseOwner, long from,
+            List<IdRange> gaps) {
+        consumer.consume(deserialize(event));
+        if (advance(consumer.name(), leaseOwner, from, event.getId(), gaps) == 0) {
+            throw new LeaseLostException();
         }
-        DomainEvent domainEvent = deserialize(event);
-        for (DomainEventConsumer consumer : consumers) {
-            if (consumer.supports(domainEvent.type())) {
-                consumer.consume(domainEvent);
+    }
+
+    /**
+     * 설명:
+     *   - 묶음 전체를 소비자에 넘기고, 커서를 묶음 끝(지원하지 않는 유형 포함)으로 한 번에 옮긴다.
+     */
+    private void deliverBatch(DomainEventConsumer consumer, List<OutboxEvent> events, String leaseOwner, long from,
+            long through, List<IdRange> gaps) {
+        consumer.consumeBatch(events.stream().map(this::deserialize).toList());
+        if (advance(consumer.name(), leaseOwner, from, through, gaps) == 0) {
+            throw new LeaseLostException();
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 늦게 커밋된 이벤트 처리와 구간에서 그 id를 빼는 일을 한 트랜잭션에서 한다. 리스가 없으면 아무것도 하지 않는다.
+     */
+    private void deliverLate(DomainEventConsumer consumer, OutboxEvent event, String leaseOwner) {
+        if (renew(consumer.name(), leaseOwner) == 0) {
+            throw new LeaseLostException();
+        }
+        if (consumer.supports(event.getType())) {
+            consumer.consume(deserialize(event));
+        }
+        closeGap(consumer.name(), event.getId());
+    }
+
+    /**
+     * 설명:
+     *   - id를 포함한 구간을 지우고 앞뒤로 남는 부분만 다시 남긴다.
+     */
+    private void closeGap(String name, long id) {
+        gapRepository.findCovering(name, id).ifPresent(gap -> {
+            gapRepository.delete(gap);
+            if (gap.getFromId() < id) {
+                gapRepository.save(new ConsumerGap(name, gap.getFromId(), id - 1, gap.getCreatedAt()));
+            }
+            if (id < gap.getToId()) {
+                gapRepository.save(new ConsumerGap(name, id + 1, gap.getToId(), gap.getCreatedAt()));
             }
+        });
+    }
+
+    private void recordLag(String name, List<OutboxEvent> events) {
+        LocalDateTime now = KstDateTime.now();
+        events.forEach(event -> meters.get(name).lag().record(Duration.between(event.getCreatedAt(), now)));
+    }
+
+    private long skipTo(String name, String leaseOwner, long from, long to, List<IdRange> gaps) {
+        Integer updated = transactionTemplate.execute(status -> advance(name, leaseOwner, from, to, gaps));
+        return updated != null && updated > 0 ? to : from;
+    }
+
+    /**
+     * 설명:
+     *   - 커서를 from에서 to로 옮기고, 그 사이에서 건너뛴 id 구간을 같은 트랜잭션에 남긴다.
+     */
+    private int advance(String name, String leaseOwner, long from, long to, List<IdRange> gaps) {
+        LocalDateTime now = KstDateTime.now();
+        int updated = cursorRepository.advance(name, leaseOwner, from, to,
+                now.plus(Duration.ofMillis(properties.getLeaseMillis())), now);
+        if (updated > 0) {
+            gaps.stream()
+                    .filter(gap -> gap.fromId() > from && gap.toId() < to)
+                    .forEach(gap -> gapRepository.save(new ConsumerGap(name, gap.fromId(), gap.toId())));
         }
-        event.markPublished();
-        outboxEventRepository.save(event);
+        return updated;
     }
 
-    private void registerFailure(Long eventId, Exception error) {
-        transactionTemplate.executeWithoutResult(status -> {
-            OutboxEvent event = outboxEventRepository.findById(eventId).orElse(null);
-            if (event == null || event.getStatus() == OutboxStatus.FAILED) {
-                return;
+    private int renew(String name, String leaseOwner) {
+        LocalDateTime now = KstDateTime.now();
+        return cursorRepository.renew(name, leaseOwner, now.plus(Duration.ofMillis(properties.getLeaseMillis())), now);
+    }
+
+    /**
+     * 설명:
+     *   - 소비자 커서와 이벤트 행의 시도 횟수를 올린다. 소비자별 max-attempts에 닿으면 DLQ에 남기고 giveUp으로 이벤트를 넘긴다.
+     *   - 실패 상태는 그 소비자의 DLQ 행과 커서에만 남긴다. 이벤트 status는 바꾸지 않으므로, 다른 소비자가 모두 받았으면
+     *     이벤트는 그대로 PUBLISHED가 된다.
+     *   - DLQ로 넘겼으면 true를 돌려준다.
+     */
+    private boolean registerFailure(String name, OutboxEvent event, String leaseOwner, Exception error,
+            Runnable giveUp) {
+        String message = truncate(error.getMessage());
+        Boolean deadLettered = transactionTemplate.execute(status -> {
+            LocalDateTime now = KstDateTime.now();
+            if (cursorRepository.recordFailure(name, leaseOwner, message, now) == 0) {
+                return false;
             }
-            event.markAttempt(error.getMessage());
-            if (event.getAttempts() >= properties.getMaxAttempts()) {
-                event.markFailed(error.getMessage());
-                if (!deadLetterEventRepository.existsByEventId(event.getEventId())) {
-                    deadLetterEventRepository.save(
-                            new DeadLetterEvent(event.getEventId(), event.getType(), event.getPayload(), event.getAttempts(),
-                                    error.getMessage()));
-                    log.warn("[OUTBOX_DLQ] eventId={} attempts={} status={}", event.getEventId(), event.getAttempts(),
-                            event.getStatus());
-                }
+            int attempts = cursorRepository.findById(name).map(ConsumerCursor::getAttempts).orElse(0);
+            if (attempts < properties.maxAttemptsFor(name)) {
+                outboxEventRepository.recordAttempt(event.getId(), message, now);
+                return false;
+            }
+            outboxEventRepository.recordAttempt(event.getId(), message, now);
+            if (!deadLetterEventRepository.existsByEventIdAndConsumerName(event.getEventId(), name)) {
+                deadLetterEventRepository.save(new DeadLetterEvent(event.getEventId(), event.getType(), name,
+                        event.getPayload(), attempts, message));
             }
-            outboxEventRepository.save(event);
+            giveUp.run();
+            log.warn("[OUTBOX_DLQ] eventId={} consumer={} attempts={}", event.getEventId(), name, attempts);
+            return true;
         });
+        return Boolean.TRUE.equals(deadLettered);
+    }
+
+    /**
+     * 설명:
+     *   - 보존 기간 동안 아무 이벤트도 나타나지 않은 건너뛴 구간을 지운다.
+     *   - 모든 소비자 커서가 지나갔고 건너뛴 구간에 들지 않는 PENDING 이벤트를 PUBLISHED로 표시하고 미발행 수를 갱신한다.
+     */
+    private void refreshPublished() {
+        consumerNames.forEach(this::ensureCursor);
+        LocalDateTime now = KstDateTime.now();
+        Integer expired = transactionTemplate.execute(status ->
+                gapRepository.deleteExpired(now.minus(Duration.ofMillis(properties.getGapRetentionMillis()))));
+        if (expired != null && expired > 0) {
+            log.info("[OUTBOX_GAP_EXPIRED] gaps={}", expired);
+        }
+        Long through = consumerNames.isEmpty() ? null : cursorRepository.findMinLastEventId(consumerNames);
+        if (through != null) {
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxEventRepository.markPublishedThrough(through, consumerNames, now));
+        }
+        backlog.set(outboxEventRepository.countByStatus(OutboxStatus.PENDING));
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    /**
+     * 한 묶음의 결과다. more는 실패 없이 무언가를 전달했거나 묶음이 꽉 찼다는 뜻으로, 간격을 기다리지 않고 이어서 읽는다.
+     * 처리하는 동안 커밋된 이벤트를 바로 이어 받기 위해서다. heldMillis는 id 틈 때문에 멈췄을 때 틈을 다시 볼 때까지의 시간이다.
+     */
+    private record BatchResult(boolean more, int delivered, long heldMillis) {
+
+        static final BatchResult EMPTY = new BatchResult(false, 0, 0);
+    }
+
+    /**
+     * gaps는 읽은 범위 안에서 기다리지 않고 건너뛴 id 구간이다.
+     */
+    private record VisibleEvents(List<OutboxEvent> events, List<IdRange> gaps, long heldMillis) {
+    }
+
+    private record IdRange(long fromId, long toId) {
+    }
+
+    /**
+     * 커서 리스가 끝나 다른 워커가 다시 선점했다. 실패로 세지 않고 그 워커에 맡긴다.
+     */
+    private static final class LeaseLostException extends RuntimeException {
+
+        LeaseLostException() {
+            super("소비자 커서 리스를 잃었습니다.");
+        }
     }
 }
@@ -0,0 +1,60 @@
+package com.codexpong.backend.async.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * [설정] backend/src/main/java/com/codexpong/backend/async/outbox/OutboxRetentionProperties.java
+ * 설명:
+ *   - 아웃박스/DLQ 보존 기간과 정리 주기, 한 번에 지우는 행 수를 설정한다.
+ *   - PUBLISHED 이벤트는 published-max-age-hours, FAILED 이벤트와 DLQ 행은 dead-letter-max-age-hours가 지나면 지운다.
+ *     값이 0이면 그 대상은 정리하지 않는다.
+ */
+@ConfigurationProperties(prefix = "outbox.retention")
+public class OutboxRetentionProperties {
+
+    private boolean enabled = true;
+    private long intervalMillis = 600000;
+    private int batchSize = 500;
+    private long publishedMaxAgeHours = 168;
+    private long deadLetterMaxAgeHours = 720;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    public void setIntervalMillis(long intervalMillis) {
+        this.intervalMillis = intervalMillis;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getPublishedMaxAgeHours() {
+        return publishedMaxAgeHours;
+    }
+
+    public void setPublishedMaxAgeHours(long publishedMaxAgeHours) {
+        this.publishedMaxAgeHours = publishedMaxAgeHours;
+    }
+
+    public long getDeadLetterMaxAgeHours() {
+        return deadLetterMaxAgeHours;
+    }
+
+    public void setDeadLetterMaxAgeHours(long deadLetterMaxAgeHours) {
+        this.deadLetterMaxAgeHours = deadLetterMaxAgeHours;
+    }
+}
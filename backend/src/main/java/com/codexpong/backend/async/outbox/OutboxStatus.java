@@ -5,8 +5,8 @@ package com.codexpong.backend.async.outbox;
  * 설명:
  *   - 아웃박스 이벤트의 상태를 표현한다.
  *   - PENDING: 아직 릴레이되지 않음
- *   - PUBLISHED: 모든 소비자가 성공 처리함
- *   - FAILED: 재시도 한계를 넘어 DLQ로 이동함
+ *   - PUBLISHED: 모든 소비자 커서가 지나감. 어느 소비자가 DLQ로 넘긴 이벤트도 포함하며, 그 실패는 DLQ 행에만 남는다.
+ *   - FAILED: 이전 릴레이가 재시도 한계를 넘긴 이벤트에 남긴 상태. 지금 릴레이는 기록하지 않고, 정리 대상으로만 남는다.
  */
 public enum OutboxStatus {
     PENDING,
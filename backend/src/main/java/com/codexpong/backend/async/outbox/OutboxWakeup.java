@@ -0,0 +1,72 @@
+package com.codexpong.backend.async.outbox;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * [컴포넌트] backend/src/main/java/com/codexpong/backend/async/outbox/OutboxWakeup.java
+ * 설명:
+ *   - 아웃박스 이벤트를 기록한 트랜잭션이 커밋되면 같은 프로세스의 릴레이 워커를 바로 깨운다.
+ *   - 커밋 훅(onLocalCommit)으로 다른 노드에 알리는 쪽(OutboxRedisWakeup)도 함께 부른다.
+ *   - 한 트랜잭션에서 이벤트를 여러 개 기록해도 커밋 뒤 한 번만 깨운다. 롤백되면 깨우지 않는다.
+ */
+@Component
+public class OutboxWakeup {
+
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+    private final List<Runnable> commitHooks = new CopyOnWriteArrayList<>();
+
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Runnable listener) {
+        listeners.remove(listener);
+    }
+
+    public void onLocalCommit(Runnable hook) {
+        commitHooks.add(hook);
+    }
+
+    /**
+     * 설명:
+     *   - 현재 트랜잭션 커밋 뒤 깨우도록 건다. 트랜잭션 밖이면 바로 깨운다.
+     */
+    public void wakeAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            committed();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                committed();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(OutboxWakeup.this);
+            }
+        });
+    }
+
+    /**
+     * 설명:
+     *   - 이 프로세스의 릴레이 워커만 깨운다. 다른 노드의 알림을 받았을 때 쓴다.
+     */
+    public void wake() {
+        listeners.forEach(Runnable::run);
+    }
+
+    private void committed() {
+        wake();
+        commitHooks.forEach(Runnable::run);
+    }
+}
@@ -1,6 +1,8 @@
 package com.codexpong.backend.config;
 
+import com.codexpong.backend.observability.ObservabilityMetrics;
 import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.config.MeterFilter;
 import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
 import io.opentelemetry.api.GlobalOpenTelemetry;
@@ -31,6 +33,7 @@ import org.springframework.core.env.Environment;
  *   - v1.2.0 관측성 요구사항에 맞춰 OpenTelemetry 트레이서를 구성한다.
  *   - OTLP 엔드포인트가 지정되지 않은 경우 로그 익스포터로 폴백해 로컬에서도 추적값을 확인할 수 있게 한다.
  *   - HTTP 서버 타이머에 p95 퍼센타일을 고정 노출하도록 MeterFilter를 추가한다.
+ *   - 실시간 틱 루프가 공유하는 ObservabilityMetrics를 빈으로 등록한다.
  * 버전: v1.2.0
  */
 @Configuration
@@ -69,6 +72,11 @@ public class TelemetryConfig {
         return openTelemetry.getTracer("codexpong-backend");
     }
 
+    @Bean
+    public ObservabilityMetrics observabilityMetrics(MeterRegistry registry) {
+        return new ObservabilityMetrics(registry);
+    }
+
     @Bean
     public MeterFilter httpServerRequestPercentileFilter() {
         return new MeterFilter() {
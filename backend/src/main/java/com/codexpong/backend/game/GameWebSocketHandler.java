@@ -3,6 +3,7 @@ package com.codexpong.backend.game;
 import com.codexpong.backend.auth.model.AuthenticatedUser;
 import com.codexpong.backend.game.domain.GameRoom;
 import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.game.protocol.GameFrameEncoding;
 import com.codexpong.backend.game.service.GameRoomService;
 import com.codexpong.backend.game.service.GameRoomService.AudienceRole;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -24,9 +25,12 @@ import org.springframework.web.socket.handler.TextWebSocketHandler;
  *   - 빠른 대전으로 생성된 경기 방에 대한 WebSocket 연결을 관리한다.
  *   - 클라이언트 입력을 GameRoomService로 전달하고, 초기 상태를 전송한다.
  *   - v0.8.0에서는 관전 모드 진입을 허용하고 입력 차단, 관전자 수 제한을 적용한다.
- * 버전: v0.8.0
+ *   - v1.2.0에서는 핸드셰이크 쿼리 encoding=binary|delta로 바이너리/델타 STATE 프레임 수신을 옵트인한다.
+ * 버전: v1.2.0
  * 관련 설계문서:
  *   - design/realtime/v0.8.0-spectator-events.md
+ *   - design/realtime/v1.2.0-binary-state-frames.md
+ *   - design/realtime/v1.2.0-delta-state-stream.md
  */
 @Component
 public class GameWebSocketHandler extends TextWebSocketHandler {
@@ -67,6 +71,7 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
             return;
         }
 
+        session.getAttributes().put(GameFrameEncoding.SESSION_ATTRIBUTE, resolveEncoding(session.getUri()));
         if (audienceRole == AudienceRole.SPECTATOR) {
             if (!gameRoomService.registerSpectatorSession(room, session.getId(), session)) {
                 session.close(CloseStatus.POLICY_VIOLATION.withReason("관전자 수가 가득 찼습니다."));
@@ -146,6 +151,13 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
         return AudienceRole.PLAYER;
     }
 
+    private GameFrameEncoding resolveEncoding(URI uri) {
+        if (uri == null || uri.getQuery() == null) {
+            return GameFrameEncoding.JSON;
+        }
+        return GameFrameEncoding.fromQuery(QueryStringUtils.parse(uri.getQuery()).get("encoding"));
+    }
+
     public record ClientMessage(String type, String roomId, String direction) {
     }
 
@@ -1,15 +1,24 @@
 package com.codexpong.backend.game.domain;
 
+import com.codexpong.backend.common.KstDateTime;
+import com.codexpong.backend.game.engine.DeterministicEngine;
 import com.codexpong.backend.game.engine.GameEngine;
+import com.codexpong.backend.game.engine.GamePhysics;
 import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.GameStateView;
+import com.codexpong.backend.game.engine.model.InputChange;
+import com.codexpong.backend.game.engine.model.MutableGameState;
 import com.codexpong.backend.game.engine.model.PaddleInput;
 import com.codexpong.backend.game.domain.MatchType;
 import com.codexpong.backend.user.domain.User;
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -18,9 +27,16 @@ import java.util.concurrent.ConcurrentHashMap;
  * 설명:
  *   - 두 명의 사용자가 참여하는 실시간 경기 방 상태를 보관한다.
  *   - 입력 큐와 게임 엔진을 연결해 스냅샷을 제공하고 종료 시간을 기록한다.
- * 버전: v0.4.0
+ *   - v1.2.0에서는 틱 휠 스레드가 방 소유 MutableGameState 버퍼로 무할당 틱을 진행한다.
+ *   - v1.2.0에서는 물리 엔진을 GamePhysics로 주입받아 배치 엔진 슬롯도 사용할 수 있다.
+ *     배치 모드에서는 stageInputs → (블록 전체 step) → collect 순으로 호출된다.
+ *   - 결정적 엔진(DeterministicEngine)이면 입력이 바뀐 틱 번호와 입력을 기록해 입력 기반 리플레이에 제공한다.
+ * 버전: v1.2.0
  * 관련 설계문서:
  *   - design/backend/v0.4.0-ranking-system.md
+ *   - design/realtime/v1.2.0-allocation-free-tick.md
+ *   - design/realtime/v1.2.0-batched-physics.md
+ *   - design/backend/v1.2.0-replay-input-log.md
  */
 public class GameRoom {
 
@@ -28,18 +44,29 @@ public class GameRoom {
     private final User leftPlayer;
     private final User rightPlayer;
     private final MatchType matchType;
-    private final GameEngine engine;
+    private final GamePhysics physics;
     private final Map<Long, PaddleInput> inputs = new ConcurrentHashMap<>();
+    private final MutableGameState tickState = new MutableGameState();
+    private final DeterministicEngine deterministicEngine;
+    private final List<InputChange> inputLog = Collections.synchronizedList(new ArrayList<>());
+
+    private PaddleInput lastLeftInput = PaddleInput.STAY;
+    private PaddleInput lastRightInput = PaddleInput.STAY;
 
     private LocalDateTime startedAt;
     private LocalDateTime finishedAt;
 
     public GameRoom(User leftPlayer, User rightPlayer, MatchType matchType) {
+        this(leftPlayer, rightPlayer, matchType, new GameEngine());
+    }
+
+    public GameRoom(User leftPlayer, User rightPlayer, MatchType matchType, GamePhysics physics) {
         this.leftPlayer = leftPlayer;
         this.rightPlayer = rightPlayer;
         this.matchType = matchType;
-        this.engine = new GameEngine();
-        this.roomId = Objects.requireNonNullElse(engine.forceSnapshot().roomId(), UUID.randomUUID().toString());
+        this.physics = physics;
+        this.deterministicEngine = physics instanceof DeterministicEngine engine ? engine : null;
+        this.roomId = Objects.requireNonNullElse(physics.forceSnapshot().roomId(), UUID.randomUUID().toString());
         this.inputs.put(leftPlayer.getId(), PaddleInput.STAY);
         this.inputs.put(rightPlayer.getId(), PaddleInput.STAY);
     }
@@ -53,20 +80,70 @@ public class GameRoom {
     }
 
     public GameSnapshot tick(Duration delta) {
+        return advance(delta.toMillis() / 1000.0).toSnapshot();
+    }
+
+    /**
+     * 설명:
+     *   - 틱 휠 스레드 전용 핫패스. 방이 소유한 버퍼를 갱신해 반환하며 시작/종료 시각 기록 외에는 할당하지 않는다.
+     *   - 반환된 뷰는 다음 틱에 덮어써지므로 다른 스레드로 넘길 때는 toSnapshot()으로 복사해야 한다.
+     */
+    public GameStateView advance(double seconds) {
+        stageInputs();
+        physics.step(seconds);
+        return collect();
+    }
+
+    /**
+     * 설명:
+     *   - 현재 입력을 엔진에 반영한다. 배치 모드에서는 블록 step 직전에 틱 휠 스레드가 호출한다.
+     */
+    public void stageInputs() {
         if (startedAt == null) {
-            startedAt = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+            startedAt = KstDateTime.now();
         }
-        GameSnapshot snapshot = engine.tick(delta,
-                inputs.getOrDefault(leftPlayer.getId(), PaddleInput.STAY),
-                inputs.getOrDefault(rightPlayer.getId(), PaddleInput.STAY));
-        if (snapshot.finished() && finishedAt == null) {
-            finishedAt = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        PaddleInput left = inputs.getOrDefault(leftPlayer.getId(), PaddleInput.STAY);
+        PaddleInput right = inputs.getOrDefault(rightPlayer.getId(), PaddleInput.STAY);
+        if (deterministicEngine != null && (left != lastLeftInput || right != lastRightInput)) {
+            inputLog.add(new InputChange(deterministicEngine.tickIndex(), left, right));
+            lastLeftInput = left;
+            lastRightInput = right;
         }
-        return snapshot;
+        physics.stage(left, right);
+    }
+
+    /**
+     * 설명:
+     *   - 진행 결과를 방 소유 버퍼에 복사하고 종료 시각을 기록한다. 반환된 뷰는 다음 틱에 덮어써진다.
+     */
+    public GameStateView collect() {
+        physics.copyInto(tickState);
+        if (tickState.finished() && finishedAt == null) {
+            finishedAt = KstDateTime.now();
+        }
+        return tickState;
     }
 
     public GameSnapshot currentSnapshot() {
-        return engine.forceSnapshot();
+        return physics.forceSnapshot();
+    }
+
+    /**
+     * 설명:
+     *   - 결정적 엔진으로 진행하는 방이면 엔진을 반환한다. 시드/틱 길이/진행한 틱 수를 리플레이에 기록할 때 쓴다.
+     */
+    public Optional<DeterministicEngine> getDeterministicEngine() {
+        return Optional.ofNullable(deterministicEngine);
+    }
+
+    /**
+     * 설명:
+     *   - 지금까지 기록된 입력 변화의 복사본. 결정적 엔진이 아니면 비어 있다.
+     */
+    public List<InputChange> getInputLog() {
+        synchronized (inputLog) {
+            return List.copyOf(inputLog);
+        }
     }
 
     public String getRoomId() {
@@ -94,11 +171,10 @@ public class GameRoom {
     }
 
     public boolean isFinished() {
-        GameSnapshot snapshot = engine.forceSnapshot();
-        return snapshot.finished();
+        return physics.isFinished();
     }
 
     public int getTargetScore() {
-        return engine.getTargetScore();
+        return physics.getTargetScore();
     }
 }
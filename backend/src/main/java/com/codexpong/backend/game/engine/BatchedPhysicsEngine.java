@@ -0,0 +1,285 @@
+package com.codexpong.backend.game.engine;
+
+import static com.codexpong.backend.game.engine.GameEngine.BALL_SPEED;
+import static com.codexpong.backend.game.engine.GameEngine.COURT_HEIGHT;
+import static com.codexpong.backend.game.engine.GameEngine.COURT_WIDTH;
+import static com.codexpong.backend.game.engine.GameEngine.PADDLE_HEIGHT;
+import static com.codexpong.backend.game.engine.GameEngine.PADDLE_INSET;
+import static com.codexpong.backend.game.engine.GameEngine.PADDLE_SPEED;
+import static com.codexpong.backend.game.engine.GameEngine.TARGET_SCORE;
+
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.MutableGameState;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.UUID;
+
+/**
+ * [엔진] backend/src/main/java/com/codexpong/backend/game/engine/BatchedPhysicsEngine.java
+ * 설명:
+ *   - 최대 capacity개 방의 공/패들 좌표, 속도, 점수를 방향별 기본형 배열(structure-of-arrays)로 보관한다.
+ *   - step 한 번에 블록 전체를 두 단계 루프로 진행한다.
+ *       1) 패들 이동: 분기 없는 산술 루프(입력은 -1/0/+1 배율, 비활성 슬롯은 배율 0). C2가 자동 벡터화할 수 있는 형태다.
+ *       2) 공 이동/반사/득점: 진행 중인 슬롯만 SweptCollision으로 연속 충돌 검사
+ *     GameEngine과 같은 충돌 함수를 쓰므로 결과가 비트 단위로 일치한다.
+ *   - 종료된 슬롯은 블록 진행에서 패들까지 멈춘다. 서비스는 종료된 방을 다시 진행하지 않으므로 관찰 결과는 같다.
+ *   - 블록은 틱 휠 작업 하나가 소유하며, 슬롯 할당/해제/스냅샷 조회 같은 다른 스레드 접근은 블록 락으로 직렬화한다.
+ *     락은 방마다가 아니라 블록(프레임)마다 한 번 잡는다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.2.0-batched-physics.md
+ *   - design/realtime/v1.2.0-swept-collision.md
+ * 테스트:
+ *   - backend/src/test/java/com/codexpong/backend/game/engine/BatchedPhysicsEngineTest.java
+ */
+public class BatchedPhysicsEngine {
+
+    private static final double PADDLE_MAX_Y = COURT_HEIGHT - PADDLE_HEIGHT;
+
+    private final int capacity;
+    private final String[] roomIds;
+    private final double[] ballX;
+    private final double[] ballY;
+    private final double[] ballVelocityX;
+    private final double[] ballVelocityY;
+    private final double[] leftPaddleY;
+    private final double[] rightPaddleY;
+    private final double[] leftDirection;
+    private final double[] rightDirection;
+    private final double[] live;
+    private final double[] moving;
+    private final int[] leftScore;
+    private final int[] rightScore;
+    private final boolean[] finished;
+    private final double[] ball = new double[4];
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int highWater;
+
+    public BatchedPhysicsEngine(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.roomIds = new String[this.capacity];
+        this.ballX = new double[this.capacity];
+        this.ballY = new double[this.capacity];
+        this.ballVelocityX = new double[this.capacity];
+        this.ballVelocityY = new double[this.capacity];
+        this.leftPaddleY = new double[this.capacity];
+        this.rightPaddleY = new double[this.capacity];
+        this.leftDirection = new double[this.capacity];
+        this.rightDirection = new double[this.capacity];
+        this.live = new double[this.capacity];
+        this.moving = new double[this.capacity];
+        this.leftScore = new int[this.capacity];
+        this.rightScore = new int[this.capacity];
+        this.finished = new boolean[this.capacity];
+    }
+
+    /**
+     * 설명:
+     *   - 새 방 슬롯을 GameEngine 생성 직후와 같은 초기 상태로 할당한다. 진행은 activate 이후부터다.
+     * 출력:
+     *   - 할당된 슬롯, 블록이 가득 차면 null
+     */
+    public synchronized Slot allocate() {
+        int index;
+        if (!freeSlots.isEmpty()) {
+            index = freeSlots.pop();
+        } else if (highWater < capacity) {
+            index = highWater++;
+        } else {
+            return null;
+        }
+        roomIds[index] = UUID.randomUUID().toString();
+        leftScore[index] = 0;
+        rightScore[index] = 0;
+        finished[index] = false;
+        live[index] = 0;
+        leftDirection[index] = 0;
+        rightDirection[index] = 0;
+        moving[index] = 0;
+        resetRound(index, true);
+        return new Slot(index);
+    }
+
+    public synchronized int freeSlotCount() {
+        return capacity - highWater + freeSlots.size();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 설명:
+     *   - 활성 슬롯 전체를 한 틱 진행한다. 블록을 소유한 틱 휠 스레드에서 호출한다.
+     */
+    public synchronized void step(double seconds) {
+        stepRange(0, highWater, seconds);
+    }
+
+    private void stepRange(int from, int to, double seconds) {
+        double paddleStep = PADDLE_SPEED * seconds;
+        for (int i = from; i < to; i++) {
+            leftPaddleY[i] = clampPaddle(leftPaddleY[i] + leftDirection[i] * live[i] * paddleStep);
+            rightPaddleY[i] = clampPaddle(rightPaddleY[i] + rightDirection[i] * live[i] * paddleStep);
+        }
+        for (int i = from; i < to; i++) {
+            if (moving[i] != 0) {
+                sweepAndScore(i, seconds);
+            }
+        }
+    }
+
+    /**
+     * 블록 밖에서 슬롯 하나만 진행한다. 활성 여부와 관계없이 GameEngine.tick과 같은 순서로 계산한다.
+     */
+    private void stepOne(int i, double seconds) {
+        double paddleStep = PADDLE_SPEED * seconds;
+        leftPaddleY[i] = clampPaddle(leftPaddleY[i] + leftDirection[i] * paddleStep);
+        rightPaddleY[i] = clampPaddle(rightPaddleY[i] + rightDirection[i] * paddleStep);
+        if (finished[i]) {
+            return;
+        }
+        sweepAndScore(i, seconds);
+    }
+
+    private static double clampPaddle(double value) {
+        return Math.max(0, Math.min(PADDLE_MAX_Y, value));
+    }
+
+    private void sweepAndScore(int i, double seconds) {
+        ball[SweptCollision.X] = ballX[i];
+        ball[SweptCollision.Y] = ballY[i];
+        ball[SweptCollision.VX] = ballVelocityX[i];
+        ball[SweptCollision.VY] = ballVelocityY[i];
+        int outcome = SweptCollision.advance(ball, seconds, COURT_WIDTH, COURT_HEIGHT, PADDLE_INSET, PADDLE_HEIGHT,
+                leftPaddleY[i], rightPaddleY[i]);
+        ballX[i] = ball[SweptCollision.X];
+        ballY[i] = ball[SweptCollision.Y];
+        ballVelocityX[i] = ball[SweptCollision.VX];
+        ballVelocityY[i] = ball[SweptCollision.VY];
+        if (outcome == SweptCollision.RIGHT_SCORED) {
+            rightScore[i] += 1;
+            checkFinished(i);
+            resetRound(i, true);
+        } else if (outcome == SweptCollision.LEFT_SCORED) {
+            leftScore[i] += 1;
+            checkFinished(i);
+            resetRound(i, false);
+        }
+    }
+
+    private void checkFinished(int i) {
+        if (leftScore[i] >= TARGET_SCORE || rightScore[i] >= TARGET_SCORE) {
+            finished[i] = true;
+            moving[i] = 0;
+            live[i] = 0;
+        }
+    }
+
+    /**
+     * GameEngine.resetRound와 같은 규칙: toLeft면 오른쪽(+x)으로 서브한다.
+     */
+    private void resetRound(int i, boolean toLeft) {
+        ballX[i] = COURT_WIDTH / 2;
+        ballY[i] = COURT_HEIGHT / 2;
+        ballVelocityX[i] = toLeft ? BALL_SPEED : -BALL_SPEED;
+        ballVelocityY[i] = BALL_SPEED / 2;
+        leftPaddleY[i] = (COURT_HEIGHT - PADDLE_HEIGHT) / 2;
+        rightPaddleY[i] = (COURT_HEIGHT - PADDLE_HEIGHT) / 2;
+    }
+
+    private static double direction(PaddleInput input) {
+        return switch (input) {
+            case UP -> -1;
+            case DOWN -> 1;
+            default -> 0;
+        };
+    }
+
+    /**
+     * 배치 엔진 안의 방 하나를 GamePhysics로 다루는 핸들.
+     */
+    public final class Slot implements GamePhysics {
+
+        private final int index;
+
+        private Slot(int index) {
+            this.index = index;
+        }
+
+        /**
+         * 설명:
+         *   - 다음 step부터 이 슬롯을 진행 대상에 포함한다.
+         */
+        public void activate() {
+            synchronized (BatchedPhysicsEngine.this) {
+                live[index] = 1;
+                moving[index] = finished[index] ? 0 : 1;
+            }
+        }
+
+        /**
+         * 설명:
+         *   - 진행을 멈추고 슬롯을 재사용 대기열에 돌려준다. 이후 이 핸들은 쓰지 않는다.
+         */
+        public void release() {
+            synchronized (BatchedPhysicsEngine.this) {
+                if (roomIds[index] == null) {
+                    return;
+                }
+                live[index] = 0;
+                moving[index] = 0;
+                leftDirection[index] = 0;
+                rightDirection[index] = 0;
+                roomIds[index] = null;
+                freeSlots.push(index);
+            }
+        }
+
+        public BatchedPhysicsEngine engine() {
+            return BatchedPhysicsEngine.this;
+        }
+
+        @Override
+        public void stage(PaddleInput leftInput, PaddleInput rightInput) {
+            leftDirection[index] = direction(leftInput);
+            rightDirection[index] = direction(rightInput);
+        }
+
+        @Override
+        public void step(double seconds) {
+            synchronized (BatchedPhysicsEngine.this) {
+                stepOne(index, seconds);
+            }
+        }
+
+        @Override
+        public void copyInto(MutableGameState out) {
+            out.set(roomIds[index], ballX[index], ballY[index], ballVelocityX[index], ballVelocityY[index],
+                    leftPaddleY[index], rightPaddleY[index], leftScore[index], rightScore[index], TARGET_SCORE,
+                    finished[index]);
+        }
+
+        @Override
+        public GameSnapshot forceSnapshot() {
+            synchronized (BatchedPhysicsEngine.this) {
+                return new GameSnapshot(roomIds[index], ballX[index], ballY[index], ballVelocityX[index],
+                        ballVelocityY[index], leftPaddleY[index], rightPaddleY[index], leftScore[index],
+                        rightScore[index], TARGET_SCORE, finished[index]);
+            }
+        }
+
+        @Override
+        public boolean isFinished() {
+            synchronized (BatchedPhysicsEngine.this) {
+                return finished[index];
+            }
+        }
+
+        @Override
+        public int getTargetScore() {
+            return TARGET_SCORE;
+        }
+    }
+}
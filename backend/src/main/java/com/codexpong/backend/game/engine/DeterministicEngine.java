@@ -0,0 +1,233 @@
+package com.codexpong.backend.game.engine;
+
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.MutableGameState;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import java.lang.invoke.VarHandle;
+import java.util.Random;
+
+/**
+ * [엔진] backend/src/main/java/com/codexpong/backend/game/engine/DeterministicEngine.java
+ * 설명:
+ *   - 시드와 입력 흐름만으로 경기를 똑같이 재현할 수 있는 결정적 물리 엔진이다.
+ *   - 좌표/속도는 1/1000px 단위 정수(long), 속도는 "틱당 이동량"으로 보관해 부동소수 연산이 없다.
+ *   - 시간은 틱 번호로만 흐른다. step(seconds)의 인자는 무시하고 항상 생성 시 정한 tickMillis 한 틱을 진행한다.
+ *   - 서브 방향(세로 속도 부호/크기)은 시드로 만든 java.util.Random에서 뽑는다. 알고리즘이 명세된 LCG라 JVM과 무관하게 같다.
+ *   - 충돌은 GameEngine과 같은 규칙(벽 반사, 패들 면 통과 시점의 y로 판정, 골라인 득점)을 정수로 계산한다.
+ *     벽 반사는 2H 주기 접기(fold)로, 패들 통과 시점 y는 정수 비례식으로 구한다.
+ *   - 작성자/읽기 동시성은 GameEngine과 같은 seqlock이다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.2.0-deterministic-engine.md
+ * 테스트:
+ *   - backend/src/test/java/com/codexpong/backend/game/engine/DeterministicEngineTest.java
+ */
+public class DeterministicEngine implements GamePhysics {
+
+    static final long SCALE = 1_000;
+    static final long MAX_TICK_MILLIS = 1_000;
+
+    private static final long WIDTH = (long) (GameEngine.COURT_WIDTH * SCALE);
+    private static final long HEIGHT = (long) (GameEngine.COURT_HEIGHT * SCALE);
+    private static final long PADDLE_HEIGHT = (long) (GameEngine.PADDLE_HEIGHT * SCALE);
+    private static final long PADDLE_MAX_Y = HEIGHT - PADDLE_HEIGHT;
+    private static final long LEFT_PLANE = (long) (GameEngine.PADDLE_INSET * SCALE);
+    private static final long RIGHT_PLANE = WIDTH - LEFT_PLANE;
+
+    private final String roomId;
+    private final long seed;
+    private final long tickMillis;
+    private final long ballStep;
+    private final long paddleStep;
+    private final Random serves;
+
+    private volatile long version;
+
+    private long tickIndex;
+    private long ballX;
+    private long ballY;
+    private long ballVelocityX;
+    private long ballVelocityY;
+    private long leftPaddleY;
+    private long rightPaddleY;
+    private int leftScore;
+    private int rightScore;
+    private boolean finished;
+
+    private PaddleInput stagedLeft = PaddleInput.STAY;
+    private PaddleInput stagedRight = PaddleInput.STAY;
+
+    public DeterministicEngine(String roomId, long seed, long tickMillis) {
+        if (tickMillis <= 0 || tickMillis > MAX_TICK_MILLIS) {
+            throw new IllegalArgumentException("tickMillis는 1~" + MAX_TICK_MILLIS + " 사이여야 합니다: " + tickMillis);
+        }
+        this.roomId = roomId;
+        this.seed = seed;
+        this.tickMillis = tickMillis;
+        this.ballStep = (long) (GameEngine.BALL_SPEED * SCALE) * tickMillis / 1_000;
+        this.paddleStep = (long) (GameEngine.PADDLE_SPEED * SCALE) * tickMillis / 1_000;
+        this.serves = new Random(seed);
+        serve(true);
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    public long tickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * 설명:
+     *   - 지금까지 진행한 틱 수. 입력 기록은 이 번호를 기준으로 남긴다.
+     */
+    public long tickIndex() {
+        return tickIndex;
+    }
+
+    @Override
+    public int getTargetScore() {
+        return GameEngine.TARGET_SCORE;
+    }
+
+    @Override
+    public void stage(PaddleInput leftInput, PaddleInput rightInput) {
+        this.stagedLeft = leftInput;
+        this.stagedRight = rightInput;
+    }
+
+    /**
+     * 설명:
+     *   - 한 틱을 진행한다. 시간은 틱 번호로만 흐르므로 seconds는 쓰지 않는다.
+     */
+    @Override
+    public void step(double seconds) {
+        step();
+    }
+
+    public void step() {
+        long current = version;
+        version = current + 1;
+        VarHandle.storeStoreFence();
+        leftPaddleY = movePaddle(leftPaddleY, stagedLeft);
+        rightPaddleY = movePaddle(rightPaddleY, stagedRight);
+        if (!finished) {
+            moveBall();
+        }
+        tickIndex++;
+        version = current + 2;
+    }
+
+    @Override
+    public void copyInto(MutableGameState out) {
+        out.set(roomId, toPixels(ballX), toPixels(ballY), toPixelsPerSecond(ballVelocityX),
+                toPixelsPerSecond(ballVelocityY), toPixels(leftPaddleY), toPixels(rightPaddleY), leftScore,
+                rightScore, GameEngine.TARGET_SCORE, finished);
+    }
+
+    @Override
+    public GameSnapshot forceSnapshot() {
+        while (true) {
+            long before = version;
+            if ((before & 1) == 0) {
+                GameSnapshot snapshot = new GameSnapshot(roomId, toPixels(ballX), toPixels(ballY),
+                        toPixelsPerSecond(ballVelocityX), toPixelsPerSecond(ballVelocityY), toPixels(leftPaddleY),
+                        toPixels(rightPaddleY), leftScore, rightScore, GameEngine.TARGET_SCORE, finished);
+                VarHandle.loadLoadFence();
+                if (version == before) {
+                    return snapshot;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    @Override
+    public boolean isFinished() {
+        long observed = version;
+        return observed >= 0 && finished;
+    }
+
+    private long movePaddle(long paddleY, PaddleInput input) {
+        long moved = switch (input) {
+            case UP -> paddleY - paddleStep;
+            case DOWN -> paddleY + paddleStep;
+            default -> paddleY;
+        };
+        return Math.max(0, Math.min(PADDLE_MAX_Y, moved));
+    }
+
+    private void moveBall() {
+        long nextX = ballX + ballVelocityX;
+        long unfoldedY = ballY + ballVelocityY;
+        if (ballVelocityX < 0 && ballX >= LEFT_PLANE && nextX < LEFT_PLANE
+                && hitsPaddle(LEFT_PLANE, leftPaddleY)) {
+            nextX = 2 * LEFT_PLANE - nextX;
+            ballVelocityX = -ballVelocityX;
+        } else if (ballVelocityX > 0 && ballX <= RIGHT_PLANE && nextX > RIGHT_PLANE
+                && hitsPaddle(RIGHT_PLANE, rightPaddleY)) {
+            nextX = 2 * RIGHT_PLANE - nextX;
+            ballVelocityX = -ballVelocityX;
+        }
+        ballX = nextX;
+        ballY = fold(unfoldedY);
+        if ((Math.floorDiv(unfoldedY, HEIGHT) & 1) != 0) {
+            ballVelocityY = -ballVelocityY;
+        }
+        if (ballX < 0) {
+            score(false);
+        } else if (ballX > WIDTH) {
+            score(true);
+        }
+    }
+
+    /**
+     * 공이 패들 면(plane)을 지나는 순간의 y가 패들 구간 안인지 판정한다.
+     */
+    private boolean hitsPaddle(long plane, long paddleY) {
+        long crossingY = fold(ballY + Math.floorDiv(ballVelocityY * (plane - ballX), ballVelocityX));
+        return crossingY >= paddleY && crossingY <= paddleY + PADDLE_HEIGHT;
+    }
+
+    /**
+     * 벽(0, HEIGHT) 사이를 오가는 반사를 2·HEIGHT 주기 접기로 계산한다.
+     */
+    private static long fold(long unfoldedY) {
+        long folded = Math.floorMod(unfoldedY, 2 * HEIGHT);
+        return folded <= HEIGHT ? folded : 2 * HEIGHT - folded;
+    }
+
+    private void score(boolean left) {
+        if (left) {
+            leftScore += 1;
+        } else {
+            rightScore += 1;
+        }
+        if (leftScore >= GameEngine.TARGET_SCORE || rightScore >= GameEngine.TARGET_SCORE) {
+            finished = true;
+        }
+        serve(!left);
+    }
+
+    /**
+     * GameEngine.resetRound와 같은 위치에서 서브한다. 세로 속도는 시드 난수로 ±[speed/4, speed/2] 범위에서 정한다.
+     */
+    private void serve(boolean towardRight) {
+        ballX = WIDTH / 2;
+        ballY = HEIGHT / 2;
+        ballVelocityX = towardRight ? ballStep : -ballStep;
+        long vertical = ballStep / 4 + serves.nextInt((int) (ballStep / 4) + 1);
+        ballVelocityY = serves.nextBoolean() ? vertical : -vertical;
+        leftPaddleY = PADDLE_MAX_Y / 2;
+        rightPaddleY = PADDLE_MAX_Y / 2;
+    }
+
+    private static double toPixels(long units) {
+        return (double) units / SCALE;
+    }
+
+    private double toPixelsPerSecond(long unitsPerTick) {
+        return (double) unitsPerTick * 1_000 / (SCALE * tickMillis);
+    }
+}
@@ -3,7 +3,9 @@ package com.codexpong.backend.game.engine;
 import com.codexpong.backend.game.engine.model.GamePhysicsState;
 import com.codexpong.backend.game.engine.model.GameSide;
 import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.MutableGameState;
 import com.codexpong.backend.game.engine.model.PaddleInput;
+import java.lang.invoke.VarHandle;
 import java.time.Duration;
 
 /**
@@ -11,29 +13,51 @@ import java.time.Duration;
  * 설명:
  *   - v0.3.0 실시간 1:1 경기를 위한 틱 기반 물리 시뮬레이션을 담당한다.
  *   - 패들 이동 입력과 공 이동, 득점/리셋을 관리하며 스냅샷을 반환한다.
- * 버전: v0.3.0
+ *   - v1.2.0부터 틱은 단일 작성자(방이 배치된 틱 휠 스레드)만 호출하며 synchronized 대신 seqlock으로
+ *     다른 스레드의 일관된 읽기를 보장한다. 작성자는 락도 객체 할당도 하지 않는다.
+ * 버전: v1.2.0
  * 관련 설계문서:
  *   - design/realtime/v0.3.0-game-loop-and-events.md
  *   - design/backend/v0.3.0-game-and-matchmaking.md
+ *   - design/realtime/v1.2.0-allocation-free-tick.md
+ *   - design/realtime/v1.2.0-swept-collision.md
  * 변경 이력:
  *   - v0.3.0: 기본 공/패들 이동 및 득점 판정 로직 추가
+ *   - v1.2.0: 호출자 버퍼에 쓰는 무할당 tick, synchronized 제거(seqlock 기반 단일 작성자)
+ *   - v1.2.0: GamePhysics 구현, 경기 상수를 배치 엔진과 공유
+ *   - v1.2.0: 틱 끝 위치만 보던 충돌 판정을 SweptCollision 기반 연속 충돌 검사로 교체
  */
-public class GameEngine {
+public class GameEngine implements GamePhysics {
 
-    private static final double COURT_WIDTH = 800;
-    private static final double COURT_HEIGHT = 480;
-    private static final double PADDLE_HEIGHT = 80;
-    private static final double PADDLE_SPEED = 260; // px per second
-    private static final double BALL_SPEED = 280; // px per second
-    private static final int TARGET_SCORE = 5;
+    static final double COURT_WIDTH = 800;
+    static final double COURT_HEIGHT = 480;
+    static final double PADDLE_HEIGHT = 80;
+    static final double PADDLE_SPEED = 260; // px per second
+    static final double BALL_SPEED = 280; // px per second
+    static final double PADDLE_INSET = 40;
+    static final int TARGET_SCORE = 5;
 
     private final GamePhysicsState state;
 
+    /**
+     * 홀수면 작성 중. 작성자만 증가시키며 읽는 쪽은 전후 값이 같을 때만 결과를 채택한다.
+     */
+    private volatile long version;
+
+    /**
+     * 스윕 충돌 계산용 작업 버퍼 {x, y, vx, vy}. 틱마다 재사용한다.
+     */
+    private final double[] ball = new double[4];
+
+    private PaddleInput stagedLeft = PaddleInput.STAY;
+    private PaddleInput stagedRight = PaddleInput.STAY;
+
     public GameEngine() {
         this.state = new GamePhysicsState(COURT_WIDTH, COURT_HEIGHT, PADDLE_HEIGHT, TARGET_SCORE);
         resetRound(GameSide.LEFT);
     }
 
+    @Override
     public int getTargetScore() {
         return TARGET_SCORE;
     }
@@ -47,16 +71,78 @@ public class GameEngine {
      * 출력:
      *   - 현재 스냅샷 (좌표, 점수, 종료 여부)
      */
-    public synchronized GameSnapshot tick(Duration delta, PaddleInput leftInput, PaddleInput rightInput) {
-        double seconds = delta.toMillis() / 1000.0;
-        movePaddle(GameSide.LEFT, leftInput, seconds);
-        movePaddle(GameSide.RIGHT, rightInput, seconds);
-        moveBall(seconds);
+    public GameSnapshot tick(Duration delta, PaddleInput leftInput, PaddleInput rightInput) {
+        advance(delta.toMillis() / 1000.0, leftInput, rightInput);
         return state.toSnapshot();
     }
 
-    public synchronized GameSnapshot forceSnapshot() {
-        return state.toSnapshot();
+    /**
+     * 설명:
+     *   - 핫패스 틱. 결과를 호출자 소유 버퍼에 덮어쓰며 객체를 할당하지 않는다.
+     *   - 같은 엔진에 대해 한 스레드만 호출해야 한다.
+     * 입력:
+     *   - seconds: 틱 시간 간격(초)
+     *   - out: 결과를 받을 재사용 버퍼
+     */
+    public void tick(double seconds, PaddleInput leftInput, PaddleInput rightInput, MutableGameState out) {
+        advance(seconds, leftInput, rightInput);
+        state.copyInto(out);
+    }
+
+    @Override
+    public void stage(PaddleInput leftInput, PaddleInput rightInput) {
+        this.stagedLeft = leftInput;
+        this.stagedRight = rightInput;
+    }
+
+    @Override
+    public void step(double seconds) {
+        advance(seconds, stagedLeft, stagedRight);
+    }
+
+    @Override
+    public void copyInto(MutableGameState out) {
+        state.copyInto(out);
+    }
+
+    /**
+     * 설명:
+     *   - 틱 스레드 밖(핸드셰이크, 리플레이 시작 등)에서 일관된 불변 스냅샷이 필요할 때 쓴다.
+     */
+    @Override
+    public GameSnapshot forceSnapshot() {
+        while (true) {
+            long before = version;
+            if ((before & 1) == 0) {
+                GameSnapshot snapshot = state.toSnapshot();
+                VarHandle.loadLoadFence();
+                if (version == before) {
+                    return snapshot;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 종료 여부만 필요한 호출자를 위해 스냅샷 없이 읽는다. 종료 플래그는 한 번 true가 되면 바뀌지 않으므로
+     *     version의 volatile 읽기로 마지막으로 끝난 틱의 쓰기만 관측하면 충분하다.
+     */
+    @Override
+    public boolean isFinished() {
+        long observed = version;
+        return observed >= 0 && state.finished();
+    }
+
+    private void advance(double seconds, PaddleInput leftInput, PaddleInput rightInput) {
+        long current = version;
+        version = current + 1;
+        VarHandle.storeStoreFence();
+        movePaddle(GameSide.LEFT, leftInput, seconds);
+        movePaddle(GameSide.RIGHT, rightInput, seconds);
+        moveBall(seconds);
+        version = current + 2;
     }
 
     private void movePaddle(GameSide side, PaddleInput input, double seconds) {
@@ -72,37 +158,23 @@ public class GameEngine {
         if (state.finished()) {
             return;
         }
-        state.moveBall(seconds);
-        bounceIfNeeded();
-        if (state.ballX() < 0) {
+        ball[SweptCollision.X] = state.ballX();
+        ball[SweptCollision.Y] = state.ballY();
+        ball[SweptCollision.VX] = state.ballVelocityX();
+        ball[SweptCollision.VY] = state.ballVelocityY();
+        int outcome = SweptCollision.advance(ball, seconds, state.courtWidth(), state.courtHeight(), PADDLE_INSET,
+                state.paddleHeight(), state.leftPaddleY(), state.rightPaddleY());
+        state.placeBall(ball[SweptCollision.X], ball[SweptCollision.Y], ball[SweptCollision.VX],
+                ball[SweptCollision.VY]);
+        if (outcome == SweptCollision.RIGHT_SCORED) {
             state.score(GameSide.RIGHT);
             resetRound(GameSide.LEFT);
-        } else if (state.ballX() > state.courtWidth()) {
+        } else if (outcome == SweptCollision.LEFT_SCORED) {
             state.score(GameSide.LEFT);
             resetRound(GameSide.RIGHT);
         }
     }
 
-    private void bounceIfNeeded() {
-        if (state.ballY() <= 0 || state.ballY() >= state.courtHeight()) {
-            state.reflectVertical();
-        }
-
-        double leftPaddleX = 40;
-        double rightPaddleX = state.courtWidth() - 40;
-
-        if (state.ballVelocityX() < 0 && state.ballX() <= leftPaddleX
-                && state.ballY() >= state.leftPaddleY()
-                && state.ballY() <= state.leftPaddleY() + state.paddleHeight()) {
-            state.reflectHorizontal();
-        }
-        if (state.ballVelocityX() > 0 && state.ballX() >= rightPaddleX
-                && state.ballY() >= state.rightPaddleY()
-                && state.ballY() <= state.rightPaddleY() + state.paddleHeight()) {
-            state.reflectHorizontal();
-        }
-    }
-
     private void resetRound(GameSide toSide) {
         state.resetBall(toSide, BALL_SPEED);
         state.resetPaddles(state.paddleHeight());
@@ -0,0 +1,38 @@
+package com.codexpong.backend.game.engine;
+
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.MutableGameState;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+
+/**
+ * [인터페이스] backend/src/main/java/com/codexpong/backend/game/engine/GamePhysics.java
+ * 설명:
+ *   - 경기 방 하나의 물리 상태를 진행/조회하는 계약이다.
+ *   - 방별 객체 엔진(GameEngine)과 배치 엔진의 슬롯(BatchedPhysicsEngine.Slot)이 구현한다.
+ *   - 입력 반영(stage) → 진행(step) → 결과 복사(copyInto) 순으로 나눠, 배치 엔진이 진행 단계만 묶어 수행할 수 있게 한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.2.0-batched-physics.md
+ */
+public interface GamePhysics {
+
+    /**
+     * 설명:
+     *   - 다음 진행에 쓸 입력을 기록한다. 틱 스레드에서만 호출한다.
+     */
+    void stage(PaddleInput leftInput, PaddleInput rightInput);
+
+    /**
+     * 설명:
+     *   - 이 방만 단독으로 한 틱 진행한다. 배치 엔진은 블록 전체를 한 번에 진행하는 경로를 따로 제공한다.
+     */
+    void step(double seconds);
+
+    void copyInto(MutableGameState out);
+
+    GameSnapshot forceSnapshot();
+
+    boolean isFinished();
+
+    int getTargetScore();
+}
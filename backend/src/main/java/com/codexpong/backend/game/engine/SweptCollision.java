@@ -0,0 +1,138 @@
+package com.codexpong.backend.game.engine;
+
+/**
+ * [엔진] backend/src/main/java/com/codexpong/backend/game/engine/SweptCollision.java
+ * 설명:
+ *   - 한 틱 동안의 공 이동을 연속 충돌 검사(swept collision)로 적분한다.
+ *   - 벽(y=0, y=courtHeight), 패들 면(x=inset, x=courtWidth-inset), 골라인(x=0, x=courtWidth) 중 가장 이른 충돌 시각을
+ *     정확히 계산해 그 지점까지 이동 → 반사를 반복하므로, 한 틱에 여러 번 튕겨도 벽/패들을 통과하지 않는다.
+ *   - 패들은 틱 시작 시 이동을 마친 위치에 고정된 것으로 본다(패들 이동 → 공 이동 순서는 기존과 같다).
+ *   - GameEngine과 BatchedPhysicsEngine이 같은 함수를 써서 두 경로의 결과가 비트 단위로 같다.
+ *   - 호출자가 넘긴 double[4] {x, y, vx, vy}를 제자리에서 갱신하며 객체를 할당하지 않는다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.2.0-swept-collision.md
+ * 테스트:
+ *   - backend/src/test/java/com/codexpong/backend/game/engine/SweptCollisionPropertyTest.java
+ */
+final class SweptCollision {
+
+    static final int X = 0;
+    static final int Y = 1;
+    static final int VX = 2;
+    static final int VY = 3;
+
+    static final int NO_GOAL = 0;
+    static final int LEFT_SCORED = 1;
+    static final int RIGHT_SCORED = 2;
+
+    /**
+     * 한 틱에 처리할 최대 충돌 수. 정상 속도에서는 2~3회를 넘지 않으며, 비정상 입력에서 무한 루프를 막는다.
+     */
+    static final int MAX_IMPACTS_PER_STEP = 32;
+
+    private static final int NONE = -1;
+    private static final int WALL = 0;
+    private static final int LEFT_PADDLE = 1;
+    private static final int RIGHT_PADDLE = 2;
+    private static final int LEFT_GOAL = 3;
+    private static final int RIGHT_GOAL = 4;
+
+    private SweptCollision() {
+    }
+
+    /**
+     * 설명:
+     *   - seconds 동안 공을 이동시키고 충돌을 처리한다. 골라인을 넘으면 즉시 멈추고 득점 측을 반환한다.
+     * 입력:
+     *   - ball: {x, y, vx, vy}
+     *   - leftPaddleY/rightPaddleY: 패들 상단 y
+     * 출력:
+     *   - NO_GOAL, LEFT_SCORED(왼쪽 득점: 공이 오른쪽 골라인 통과), RIGHT_SCORED
+     */
+    static int advance(double[] ball, double seconds, double courtWidth, double courtHeight,
+            double paddleInset, double paddleHeight, double leftPaddleY, double rightPaddleY) {
+        double remaining = seconds;
+        double leftPlane = paddleInset;
+        double rightPlane = courtWidth - paddleInset;
+        for (int impacts = 0; impacts < MAX_IMPACTS_PER_STEP && remaining > 0; impacts++) {
+            double x = ball[X];
+            double y = ball[Y];
+            double vx = ball[VX];
+            double vy = ball[VY];
+            double earliest = remaining;
+            int event = NONE;
+
+            if (vy < 0) {
+                double t = -y / vy;
+                if (t <= earliest) {
+                    earliest = Math.max(0, t);
+                    event = WALL;
+                }
+            } else if (vy > 0) {
+                double t = (courtHeight - y) / vy;
+                if (t <= earliest) {
+                    earliest = Math.max(0, t);
+                    event = WALL;
+                }
+            }
+            if (vx < 0) {
+                if (x >= leftPlane) {
+                    double t = (leftPlane - x) / vx;
+                    double hitY = y + vy * t;
+                    if (t <= earliest && hitY >= leftPaddleY && hitY <= leftPaddleY + paddleHeight) {
+                        earliest = t;
+                        event = LEFT_PADDLE;
+                    }
+                }
+                double goal = -x / vx;
+                if (goal < earliest) {
+                    earliest = goal;
+                    event = LEFT_GOAL;
+                }
+            } else if (vx > 0) {
+                if (x <= rightPlane) {
+                    double t = (rightPlane - x) / vx;
+                    double hitY = y + vy * t;
+                    if (t <= earliest && hitY >= rightPaddleY && hitY <= rightPaddleY + paddleHeight) {
+                        earliest = t;
+                        event = RIGHT_PADDLE;
+                    }
+                }
+                double goal = (courtWidth - x) / vx;
+                if (goal < earliest) {
+                    earliest = goal;
+                    event = RIGHT_GOAL;
+                }
+            }
+
+            ball[X] = x + vx * earliest;
+            ball[Y] = y + vy * earliest;
+            remaining -= earliest;
+            switch (event) {
+                case WALL -> {
+                    ball[Y] = vy < 0 ? 0 : courtHeight;
+                    ball[VY] = -vy;
+                }
+                case LEFT_PADDLE -> {
+                    ball[X] = leftPlane;
+                    ball[VX] = -vx;
+                }
+                case RIGHT_PADDLE -> {
+                    ball[X] = rightPlane;
+                    ball[VX] = -vx;
+                }
+                case LEFT_GOAL -> {
+                    return RIGHT_SCORED;
+                }
+                case RIGHT_GOAL -> {
+                    return LEFT_SCORED;
+                }
+                default -> {
+                    return NO_GOAL;
+                }
+            }
+        }
+        return NO_GOAL;
+    }
+}
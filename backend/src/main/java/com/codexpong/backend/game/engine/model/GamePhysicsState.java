@@ -7,8 +7,8 @@ import java.util.UUID;
  * [도메인] backend/src/main/java/com/codexpong/backend/game/engine/model/GamePhysicsState.java
  * 설명:
  *   - 경기장의 좌표, 공/패들 위치, 점수와 종료 상태를 보관한다.
- *   - 엔진이 내부적으로 갱신하며, 외부에는 GameSnapshot 형태로 노출된다.
- * 버전: v0.3.0
+ *   - 엔진이 내부적으로 갱신하며, 외부에는 GameSnapshot 또는 MutableGameState 형태로 노출된다.
+ * 버전: v1.2.0
  * 관련 설계문서:
  *   - design/realtime/v0.3.0-game-loop-and-events.md
  *   - design/backend/v0.3.0-game-and-matchmaking.md
@@ -47,6 +47,14 @@ public class GamePhysicsState {
                 leftScore, rightScore, targetScore, finished);
     }
 
+    /**
+     * 설명:
+     *   - 호출자 소유 버퍼에 현재 상태를 복사한다. 틱 경로에서 객체를 만들지 않기 위해 쓴다.
+     */
+    public void copyInto(MutableGameState target) {
+        target.copyFrom(this);
+    }
+
     public void applyPaddleMove(GameSide side, double deltaY) {
         if (side == GameSide.LEFT) {
             leftPaddleY = clamp(leftPaddleY + deltaY, 0, courtHeight - paddleHeight);
@@ -55,17 +63,15 @@ public class GamePhysicsState {
         }
     }
 
-    public void moveBall(double seconds) {
-        ballX += ballVelocityX * seconds;
-        ballY += ballVelocityY * seconds;
-    }
-
-    public void reflectVertical() {
-        ballVelocityY = -ballVelocityY;
-    }
-
-    public void reflectHorizontal() {
-        ballVelocityX = -ballVelocityX;
+    /**
+     * 설명:
+     *   - 엔진이 충돌을 직접 계산한 뒤 공의 위치/속도를 한 번에 반영한다.
+     */
+    public void placeBall(double x, double y, double velocityX, double velocityY) {
+        this.ballX = x;
+        this.ballY = y;
+        this.ballVelocityX = velocityX;
+        this.ballVelocityY = velocityY;
     }
 
     public void resetBall(GameSide direction, double speed) {
@@ -5,7 +5,8 @@ package com.codexpong.backend.game.engine.model;
  * 설명:
  *   - 클라이언트로 전송할 수 있는 현재 경기 상태 스냅샷이다.
  *   - 좌표, 속도, 점수, 목표 점수, 종료 여부를 포함한다.
- * 버전: v0.3.0
+ *   - v1.2.0부터 GameStateView를 구현해 MutableGameState와 같은 경로로 인코딩된다.
+ * 버전: v1.2.0
  * 관련 설계문서:
  *   - design/realtime/v0.3.0-game-loop-and-events.md
  */
@@ -21,5 +22,10 @@ public record GameSnapshot(
         int rightScore,
         int targetScore,
         boolean finished
-) {
+) implements GameStateView {
+
+    @Override
+    public GameSnapshot toSnapshot() {
+        return this;
+    }
 }
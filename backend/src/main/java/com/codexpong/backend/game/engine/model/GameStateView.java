@@ -0,0 +1,41 @@
+package com.codexpong.backend.game.engine.model;
+
+/**
+ * [모델] backend/src/main/java/com/codexpong/backend/game/engine/model/GameStateView.java
+ * 설명:
+ *   - 경기 상태를 읽기 전용으로 노출하는 공통 뷰다.
+ *   - 불변 GameSnapshot과 틱마다 재사용되는 MutableGameState가 함께 구현해, 인코더가 둘을 구분하지 않고 읽는다.
+ *   - 불변 스냅샷이 꼭 필요한 소비자(리플레이 버퍼, JSON 직렬화)만 toSnapshot()으로 복사한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.2.0-allocation-free-tick.md
+ */
+public interface GameStateView {
+
+    String roomId();
+
+    double ballX();
+
+    double ballY();
+
+    double ballVelocityX();
+
+    double ballVelocityY();
+
+    double leftPaddleY();
+
+    double rightPaddleY();
+
+    int leftScore();
+
+    int rightScore();
+
+    int targetScore();
+
+    boolean finished();
+
+    default GameSnapshot toSnapshot() {
+        return new GameSnapshot(roomId(), ballX(), ballY(), ballVelocityX(), ballVelocityY(), leftPaddleY(),
+                rightPaddleY(), leftScore(), rightScore(), targetScore(), finished());
+    }
+}
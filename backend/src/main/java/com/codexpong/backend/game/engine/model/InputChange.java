@@ -0,0 +1,16 @@
+package com.codexpong.backend.game.engine.model;
+
+/**
+ * [모델] backend/src/main/java/com/codexpong/backend/game/engine/model/InputChange.java
+ * 설명:
+ *   - 결정적 엔진에서 tick번째 step 직전에 반영된 양쪽 패들 입력이다. 입력이 바뀐 틱에만 기록한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-replay-input-log.md
+ */
+public record InputChange(
+        long tick,
+        PaddleInput left,
+        PaddleInput right
+) {
+}
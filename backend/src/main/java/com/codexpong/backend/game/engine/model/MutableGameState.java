@@ -0,0 +1,114 @@
+package com.codexpong.backend.game.engine.model;
+
+/**
+ * [모델] backend/src/main/java/com/codexpong/backend/game/engine/model/MutableGameState.java
+ * 설명:
+ *   - GameEngine의 무할당 틱 API가 결과를 덮어쓰는 호출자 소유 버퍼다.
+ *   - 방마다 하나를 만들어 틱 스레드에서만 재사용한다. 다른 스레드에 넘길 때는 toSnapshot()으로 복사한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.2.0-allocation-free-tick.md
+ */
+public final class MutableGameState implements GameStateView {
+
+    private String roomId;
+    private double ballX;
+    private double ballY;
+    private double ballVelocityX;
+    private double ballVelocityY;
+    private double leftPaddleY;
+    private double rightPaddleY;
+    private int leftScore;
+    private int rightScore;
+    private int targetScore;
+    private boolean finished;
+
+    /**
+     * 설명:
+     *   - 배치 엔진처럼 GamePhysicsState 없이 배열에 상태를 보관하는 엔진이 결과를 덮어쓸 때 사용한다.
+     */
+    public void set(String roomId, double ballX, double ballY, double ballVelocityX, double ballVelocityY,
+            double leftPaddleY, double rightPaddleY, int leftScore, int rightScore, int targetScore,
+            boolean finished) {
+        this.roomId = roomId;
+        this.ballX = ballX;
+        this.ballY = ballY;
+        this.ballVelocityX = ballVelocityX;
+        this.ballVelocityY = ballVelocityY;
+        this.leftPaddleY = leftPaddleY;
+        this.rightPaddleY = rightPaddleY;
+        this.leftScore = leftScore;
+        this.rightScore = rightScore;
+        this.targetScore = targetScore;
+        this.finished = finished;
+    }
+
+    void copyFrom(GamePhysicsState state) {
+        this.roomId = state.roomId();
+        this.ballX = state.ballX();
+        this.ballY = state.ballY();
+        this.ballVelocityX = state.ballVelocityX();
+        this.ballVelocityY = state.ballVelocityY();
+        this.leftPaddleY = state.leftPaddleY();
+        this.rightPaddleY = state.rightPaddleY();
+        this.leftScore = state.leftScore();
+        this.rightScore = state.rightScore();
+        this.targetScore = state.targetScore();
+        this.finished = state.finished();
+    }
+
+    @Override
+    public String roomId() {
+        return roomId;
+    }
+
+    @Override
+    public double ballX() {
+        return ballX;
+    }
+
+    @Override
+    public double ballY() {
+        return ballY;
+    }
+
+    @Override
+    public double ballVelocityX() {
+        return ballVelocityX;
+    }
+
+    @Override
+    public double ballVelocityY() {
+        return ballVelocityY;
+    }
+
+    @Override
+    public double leftPaddleY() {
+        return leftPaddleY;
+    }
+
+    @Override
+    public double rightPaddleY() {
+        return rightPaddleY;
+    }
+
+    @Override
+    public int leftScore() {
+        return leftScore;
+    }
+
+    @Override
+    public int rightScore() {
+        return rightScore;
+    }
+
+    @Override
+    public int targetScore() {
+        return targetScore;
+    }
+
+    @Override
+    public boolean finished() {
+        return finished;
+    }
+}
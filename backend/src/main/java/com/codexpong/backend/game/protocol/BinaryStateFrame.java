@@ -0,0 +1,72 @@
+package com.codexpong.backend.game.protocol;
+
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.GameStateView;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * [코덱] backend/src/main/java/com/codexpong/backend/game/protocol/BinaryStateFrame.java
+ * 설명:
+ *   - 틱마다 전송하는 STATE 스냅샷을 고정 길이 little-endian 바이너리 프레임으로 인코딩/디코딩한다.
+ *   - roomId/matchType/audienceRole은 핸드셰이크와 READY 메시지로 이미 알고 있으므로 싣지 않는다.
+ *     덕분에 플레이어/관전자 세션이 같은 바이트 배열을 공유할 수 있다.
+ *   - 레이아웃(68바이트):
+ *       0  u8  frameType (0x01 = STATE)
+ *       1  u8  flags (bit0 = finished)
+ *       2  u16 reserved
+ *       4  f64 ballX, ballY, ballVelocityX, ballVelocityY, leftPaddleY, rightPaddleY
+ *       52 i32 leftScore, rightScore, targetScore, spectatorCount
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.2.0-binary-state-frames.md
+ */
+public final class BinaryStateFrame {
+
+    public static final byte TYPE_STATE = 0x01;
+    public static final int SIZE = 68;
+
+    private static final byte FLAG_FINISHED = 0x01;
+
+    private BinaryStateFrame() {
+    }
+
+    public static byte[] encode(GameStateView snapshot, int spectatorCount) {
+        byte[] frame = new byte[SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(TYPE_STATE);
+        buffer.put(snapshot.finished() ? FLAG_FINISHED : 0);
+        buffer.putShort((short) 0);
+        buffer.putDouble(snapshot.ballX());
+        buffer.putDouble(snapshot.ballY());
+        buffer.putDouble(snapshot.ballVelocityX());
+        buffer.putDouble(snapshot.ballVelocityY());
+        buffer.putDouble(snapshot.leftPaddleY());
+        buffer.putDouble(snapshot.rightPaddleY());
+        buffer.putInt(snapshot.leftScore());
+        buffer.putInt(snapshot.rightScore());
+        buffer.putInt(snapshot.targetScore());
+        buffer.putInt(spectatorCount);
+        return frame;
+    }
+
+    /**
+     * 설명:
+     *   - 테스트와 서버측 검증용 디코더. roomId는 프레임에 없으므로 호출자가 전달한다.
+     */
+    public static GameSnapshot decode(String roomId, ByteBuffer source) {
+        ByteBuffer buffer = source.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() < SIZE || buffer.get() != TYPE_STATE) {
+            throw new IllegalArgumentException("STATE 바이너리 프레임 형식이 아닙니다.");
+        }
+        boolean finished = (buffer.get() & FLAG_FINISHED) != 0;
+        buffer.getShort();
+        return new GameSnapshot(roomId, buffer.getDouble(), buffer.getDouble(), buffer.getDouble(),
+                buffer.getDouble(), buffer.getDouble(), buffer.getDouble(), buffer.getInt(), buffer.getInt(),
+                buffer.getInt(), finished);
+    }
+
+    public static int spectatorCount(ByteBuffer source) {
+        return source.duplicate().order(ByteOrder.LITTLE_ENDIAN).getInt(source.position() + SIZE - Integer.BYTES);
+    }
+}
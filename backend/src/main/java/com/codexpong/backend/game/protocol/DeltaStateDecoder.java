@@ -0,0 +1,80 @@
+package com.codexpong.backend.game.protocol;
+
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Optional;
+
+/**
+ * [코덱] backend/src/main/java/com/codexpong/backend/game/protocol/DeltaStateDecoder.java
+ * 설명:
+ *   - DeltaStateEncoder가 만든 키프레임/델타 스트림에서 스냅샷을 복원한다. 클라이언트 디코더의 기준 구현이다.
+ *   - 키프레임을 받기 전이거나 시퀀스가 끊기면 델타를 버리고 다음 키프레임을 기다린다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.2.0-delta-state-stream.md
+ */
+public final class DeltaStateDecoder {
+
+    private final String roomId;
+    private final long[] state = new long[DeltaStateEncoder.FIELD_COUNT];
+    private double precision;
+    private int leftScore;
+    private int rightScore;
+    private int targetScore;
+    private int spectatorCount;
+    private int lastSequence = -1;
+
+    public DeltaStateDecoder(String roomId) {
+        this.roomId = roomId;
+    }
+
+    /**
+     * 출력:
+     *   - 복원된 스냅샷. 동기화 전이거나 시퀀스가 끊긴 델타면 빈 값
+     */
+    public Optional<GameSnapshot> apply(ByteBuffer source) {
+        ByteBuffer buffer = source.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        byte type = buffer.get();
+        boolean finished = (buffer.get() & DeltaStateEncoder.FLAG_FINISHED) != 0;
+        int sequence = buffer.getShort() & 0xFFFF;
+        if (type == DeltaStateEncoder.TYPE_KEYFRAME) {
+            precision = buffer.getDouble();
+            for (int i = 0; i < state.length; i++) {
+                state[i] = Varints.getSigned(buffer);
+            }
+            leftScore = (int) Varints.getUnsigned(buffer);
+            rightScore = (int) Varints.getUnsigned(buffer);
+            targetScore = (int) Varints.getUnsigned(buffer);
+            spectatorCount = (int) Varints.getUnsigned(buffer);
+        } else if (type == DeltaStateEncoder.TYPE_DELTA) {
+            if (lastSequence < 0 || sequence != ((lastSequence + 1) & 0xFFFF)) {
+                lastSequence = -1;
+                return Optional.empty();
+            }
+            int mask = buffer.get() & 0xFF;
+            for (int i = 0; i < state.length; i++) {
+                if ((mask & (1 << i)) != 0) {
+                    state[i] += Varints.getSigned(buffer);
+                }
+            }
+            if ((mask & DeltaStateEncoder.MASK_SCORES) != 0) {
+                leftScore = (int) Varints.getUnsigned(buffer);
+                rightScore = (int) Varints.getUnsigned(buffer);
+            }
+            if ((mask & DeltaStateEncoder.MASK_SPECTATORS) != 0) {
+                spectatorCount = (int) Varints.getUnsigned(buffer);
+            }
+        } else {
+            throw new IllegalArgumentException("델타 STATE 프레임 형식이 아닙니다.");
+        }
+        lastSequence = sequence;
+        return Optional.of(new GameSnapshot(roomId, state[0] * precision, state[1] * precision,
+                state[2] * precision, state[3] * precision, state[4] * precision, state[5] * precision,
+                leftScore, rightScore, targetScore, finished));
+    }
+
+    public int spectatorCount() {
+        return spectatorCount;
+    }
+}
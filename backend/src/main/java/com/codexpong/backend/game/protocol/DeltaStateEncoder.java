@@ -0,0 +1,154 @@
+package com.codexpong.backend.game.protocol;
+
+import com.codexpong.backend.game.engine.model.GameStateView;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * [코덱] backend/src/main/java/com/codexpong/backend/game/protocol/DeltaStateEncoder.java
+ * 설명:
+ *   - 방 하나의 STATE 스트림을 키프레임 + 양자화 델타 프레임으로 인코딩한다.
+ *   - 좌표/속도는 precision 단위 정수로 양자화하고, 직전에 보낸 양자화 값과의 차이만 zigzag varint로 싣는다.
+ *     기준값도 양자화 값이므로 델타를 누적해도 오차가 쌓이지 않는다.
+ *   - keyframeInterval 틱마다(또는 targetScore 변경 시) 키프레임을 보내고, 늦게 합류한 세션을 위해
+ *     현재 기준 상태의 키프레임을 같은 시퀀스로 만들어 줄 수 있다.
+ *   - 틱 스레드 한 곳에서만 호출한다고 가정하며 동기화하지 않는다.
+ *   - 레이아웃(little-endian):
+ *       공통 헤더  u8 frameType(0x02 키프레임, 0x03 델타) / u8 flags(bit0 finished) / u16 sequence
+ *       키프레임   f64 precision, zigzag varint x6(ballX, ballY, ballVelocityX, ballVelocityY, leftPaddleY,
+ *                  rightPaddleY 양자화 값), varint leftScore/rightScore/targetScore/spectatorCount
+ *       델타       u8 mask(bit0~5 필드 변경, bit6 점수, bit7 관전자 수), 설정된 비트 순서대로
+ *                  zigzag varint 변화량 / varint leftScore,rightScore / varint spectatorCount
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.2.0-delta-state-stream.md
+ */
+public final class DeltaStateEncoder {
+
+    public static final byte TYPE_KEYFRAME = 0x02;
+    public static final byte TYPE_DELTA = 0x03;
+
+    static final int FIELD_COUNT = 6;
+    static final int MASK_SCORES = 1 << 6;
+    static final int MASK_SPECTATORS = 1 << 7;
+    static final byte FLAG_FINISHED = 0x01;
+
+    private static final int MAX_FRAME_SIZE = 4 + Double.BYTES + FIELD_COUNT * 10 + 4 * 5;
+
+    private final double precision;
+    private final int keyframeInterval;
+    private final ByteBuffer scratch = ByteBuffer.allocate(MAX_FRAME_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final long[] reference = new long[FIELD_COUNT];
+    private final long[] quantized = new long[FIELD_COUNT];
+    private int leftScore;
+    private int rightScore;
+    private int targetScore;
+    private int spectatorCount;
+    private boolean finished;
+    private int sequence = -1;
+    private int ticksSinceKeyframe;
+    private boolean primed;
+
+    public DeltaStateEncoder(double precision, int keyframeInterval) {
+        if (precision <= 0) {
+            throw new IllegalArgumentException("precision은 0보다 커야 합니다.");
+        }
+        this.precision = precision;
+        this.keyframeInterval = Math.max(1, keyframeInterval);
+    }
+
+    /**
+     * 설명:
+     *   - 다음 틱 스냅샷을 인코딩한다. 첫 호출, keyframeInterval 경과, targetScore 변경 시 키프레임을 만든다.
+     * 출력:
+     *   - 이번 틱의 프레임 바이트(키프레임 또는 델타)
+     */
+    public byte[] encode(GameStateView snapshot, int spectators) {
+        sequence = (sequence + 1) & 0xFFFF;
+        quantize(snapshot);
+        boolean keyframe = !primed || ++ticksSinceKeyframe >= keyframeInterval
+                || snapshot.targetScore() != targetScore;
+        if (keyframe) {
+            System.arraycopy(quantized, 0, reference, 0, FIELD_COUNT);
+            adopt(snapshot, spectators);
+            ticksSinceKeyframe = 0;
+            primed = true;
+            return keyframe();
+        }
+        scratch.clear();
+        writeHeader(TYPE_DELTA, snapshot.finished());
+        int maskPosition = scratch.position();
+        scratch.put((byte) 0);
+        int mask = 0;
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            long change = quantized[i] - reference[i];
+            if (change != 0) {
+                mask |= 1 << i;
+                Varints.putSigned(scratch, change);
+                reference[i] = quantized[i];
+            }
+        }
+        if (snapshot.leftScore() != leftScore || snapshot.rightScore() != rightScore) {
+            mask |= MASK_SCORES;
+            Varints.putUnsigned(scratch, snapshot.leftScore());
+            Varints.putUnsigned(scratch, snapshot.rightScore());
+        }
+        if (spectators != spectatorCount) {
+            mask |= MASK_SPECTATORS;
+            Varints.putUnsigned(scratch, spectators);
+        }
+        scratch.put(maskPosition, (byte) mask);
+        adopt(snapshot, spectators);
+        return Arrays.copyOf(scratch.array(), scratch.position());
+    }
+
+    /**
+     * 설명:
+     *   - 마지막으로 인코딩한 기준 상태를 같은 시퀀스 번호의 키프레임으로 만든다.
+     *     동기화되지 않은 세션이 다음 정기 키프레임까지 기다리지 않도록 쓴다.
+     */
+    public byte[] keyframe() {
+        if (!primed) {
+            throw new IllegalStateException("아직 인코딩한 스냅샷이 없습니다.");
+        }
+        scratch.clear();
+        writeHeader(TYPE_KEYFRAME, finished);
+        scratch.putDouble(precision);
+        for (long value : reference) {
+            Varints.putSigned(scratch, value);
+        }
+        Varints.putUnsigned(scratch, leftScore);
+        Varints.putUnsigned(scratch, rightScore);
+        Varints.putUnsigned(scratch, targetScore);
+        Varints.putUnsigned(scratch, spectatorCount);
+        return Arrays.copyOf(scratch.array(), scratch.position());
+    }
+
+    public static boolean isKeyframe(byte[] frame) {
+        return frame.length > 0 && frame[0] == TYPE_KEYFRAME;
+    }
+
+    private void writeHeader(byte type, boolean finishedFlag) {
+        scratch.put(type);
+        scratch.put(finishedFlag ? FLAG_FINISHED : 0);
+        scratch.putShort((short) sequence);
+    }
+
+    private void quantize(GameStateView snapshot) {
+        quantized[0] = Math.round(snapshot.ballX() / precision);
+        quantized[1] = Math.round(snapshot.ballY() / precision);
+        quantized[2] = Math.round(snapshot.ballVelocityX() / precision);
+        quantized[3] = Math.round(snapshot.ballVelocityY() / precision);
+        quantized[4] = Math.round(snapshot.leftPaddleY() / precision);
+        quantized[5] = Math.round(snapshot.rightPaddleY() / precision);
+    }
+
+    private void adopt(GameStateView snapshot, int spectators) {
+        leftScore = snapshot.leftScore();
+        rightScore = snapshot.rightScore();
+        targetScore = snapshot.targetScore();
+        spectatorCount = spectators;
+        finished = snapshot.finished();
+    }
+}
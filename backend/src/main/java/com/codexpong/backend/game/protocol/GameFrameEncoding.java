@@ -0,0 +1,37 @@
+package com.codexpong.backend.game.protocol;
+
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [열거형] backend/src/main/java/com/codexpong/backend/game/protocol/GameFrameEncoding.java
+ * 설명:
+ *   - /ws/game 세션이 틱마다 받을 STATE 프레임 인코딩을 나타낸다.
+ *   - 핸드셰이크 쿼리 `encoding=binary|delta`로 옵트인하며, 미지정 시 기존 JSON을 유지한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.2.0-binary-state-frames.md
+ *   - design/realtime/v1.2.0-delta-state-stream.md
+ */
+public enum GameFrameEncoding {
+    JSON,
+    BINARY,
+    DELTA;
+
+    public static final String SESSION_ATTRIBUTE = "frameEncoding";
+
+    public static GameFrameEncoding fromQuery(String raw) {
+        if (raw == null) {
+            return JSON;
+        }
+        return switch (raw.toLowerCase()) {
+            case "binary" -> BINARY;
+            case "delta" -> DELTA;
+            default -> JSON;
+        };
+    }
+
+    public static GameFrameEncoding of(WebSocketSession session) {
+        Object value = session.getAttributes().get(SESSION_ATTRIBUTE);
+        return value instanceof GameFrameEncoding encoding ? encoding : JSON;
+    }
+}
@@ -0,0 +1,47 @@
+package com.codexpong.backend.game.protocol;
+
+import java.nio.ByteBuffer;
+
+/**
+ * [유틸] backend/src/main/java/com/codexpong/backend/game/protocol/Varints.java
+ * 설명:
+ *   - 델타 STATE 프레임에서 쓰는 LEB128 가변 길이 정수와 zigzag 변환을 제공한다.
+ *   - 작은 변화량(대부분 ±2000 이내)을 1~2바이트로 담기 위해 사용한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.2.0-delta-state-stream.md
+ */
+final class Varints {
+
+    private Varints() {
+    }
+
+    static void putSigned(ByteBuffer buffer, long value) {
+        putUnsigned(buffer, (value << 1) ^ (value >> 63));
+    }
+
+    static long getSigned(ByteBuffer buffer) {
+        long raw = getUnsigned(buffer);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    static void putUnsigned(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static long getUnsigned(ByteBuffer buffer) {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("varint 길이가 올바르지 않습니다.");
+    }
+}
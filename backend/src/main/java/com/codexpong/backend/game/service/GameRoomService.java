@@ -1,29 +1,44 @@
 package com.codexpong.backend.game.service;
 
+import com.codexpong.backend.common.KstDateTime;
 import com.codexpong.backend.game.GameResult;
 import com.codexpong.backend.game.GameResultService;
 import com.codexpong.backend.game.domain.GameRoom;
 import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.engine.BatchedPhysicsEngine;
+import com.codexpong.backend.game.engine.DeterministicEngine;
 import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.GameStateView;
 import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.game.protocol.BinaryStateFrame;
+import com.codexpong.backend.game.protocol.DeltaStateEncoder;
+import com.codexpong.backend.game.protocol.GameFrameEncoding;
+import com.codexpong.backend.observability.ObservabilityMetrics;
 import com.codexpong.backend.replay.ReplayService;
 import com.codexpong.backend.user.domain.User;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
@@ -31,42 +46,122 @@ import org.springframework.web.socket.WebSocketSession;
  * [서비스] backend/src/main/java/com/codexpong/backend/game/service/GameRoomService.java
  * 설명:
  *   - 경기 방 생성/관리와 틱 루프 실행, 상태 브로드캐스트를 담당한다.
- *   - 방이 종료되면 GameResultService를 통해 DB에 기록한다.
+ *   - 방이 종료되면 MatchCompletionPipeline에 인계해 틱 스레드 밖에서 GameResultService로 DB에 기록한다.
  *   - v0.8.0에서는 관전자 연결 제한과 지연 브로드캐스트를 포함한 관전 지원을 수행한다.
  *   - v0.11.0에서는 틱 단위 스냅샷을 리플레이 버퍼에 기록해 종료 시 파일을 생성한다.
- * 버전: v0.11.0
+ *   - v1.2.0에서는 방별 스케줄 대신 GameTickScheduler의 코어별 틱 휠에 방을 배치해 한 프레임에 일괄 진행한다.
+ *   - realtime.engine.mode=batched이면 방을 BatchedPhysicsEngine 블록 슬롯에 배치하고, 블록 단위로 휠에 등록해
+ *     블록 전체 물리를 한 번에 진행한 뒤 방별 리플레이 기록/브로드캐스트를 수행한다.
+ *   - realtime.engine.mode=deterministic이면 방마다 무작위 시드로 DeterministicEngine(정수 물리)을 만든다.
+ * 버전: v1.2.0
  * 관련 설계문서:
  *   - design/backend/v0.8.0-spectator-mode.md
  *   - design/realtime/v0.8.0-spectator-events.md
  *   - design/backend/v0.11.0-replay-recording-and-storage.md
+ *   - design/realtime/v1.2.0-binary-state-frames.md
+ *   - design/realtime/v1.2.0-delta-state-stream.md
+ *   - design/realtime/v1.2.0-batched-physics.md
+ *   - design/realtime/v1.2.0-swept-collision.md
+ *   - design/realtime/v1.2.0-deterministic-engine.md
  * 변경 이력:
  *   - v0.9.0: 활성 경기/관전자 계수 메트릭 노출 함수 추가
+ *   - v1.2.0: 공유 틱 휠 스케줄러 도입, 관전자 지연 전송은 별도 스케줄러로 분리
+ *   - v1.2.0: 결과 저장/리플레이 플러시를 종료 처리 파이프라인으로 이동
+ *   - v1.2.0: encoding=binary 세션에 틱당 1회 인코딩한 바이너리 STATE 프레임 전송, JSON은 세션 간 공유
+ *   - v1.2.0: 방 소유 버퍼로 무할당 틱을 진행하고 불변 스냅샷은 필요한 틱에만 한 번 만든다
+ *   - v1.2.0: encoding=delta 세션에 키프레임 + 양자화 델타 스트림 전송, 관전자 지연 전송을 단일 스레드로 직렬화
+ *   - v1.2.0: 구조체 배열(SoA) 배치 물리 엔진 모드 추가(realtime.engine.mode)
+ *   - v1.2.0: 연속 충돌 검사 도입에 맞춰 틱 간격을 설정으로 분리(realtime.tick.interval-millis)
+ *   - v1.2.0: 시드 기반 결정적 엔진 모드 추가(realtime.engine.mode=deterministic)
+ *   - v1.2.0: 방 정리 시 완료되지 않은 리플레이 녹화 임시 파일 삭제
+ *   - v1.2.0: 틱 예외가 난 방(배치 모드는 블록의 방 전체)은 세션을 닫고 정리
+ *   - v1.2.0: realtime.* 설정을 RealtimeProperties로 묶고 엔진 모드 오타를 기동 시 거부
+ *   - v1.2.0: 종료 시 틱 휠을 기다린 뒤 파이프라인을 닫고, 인계를 기다리던 종료 방을 직접 마무리
  */
 @Service
 public class GameRoomService {
 
-    private static final Duration TICK_INTERVAL = Duration.ofMillis(50);
+    private static final Logger log = LoggerFactory.getLogger(GameRoomService.class);
     private static final Duration SPECTATOR_DELAY = Duration.ofMillis(250);
     private static final int MAX_SPECTATORS_PER_ROOM = 30;
+    private static final String DELTA_SYNCED_ATTRIBUTE = "deltaSynced";
 
     private final Map<String, GameRoom> rooms = new ConcurrentHashMap<>();
-    private final Map<String, ScheduledFuture<?>> loopHandles = new ConcurrentHashMap<>();
     private final Map<String, Map<Long, WebSocketSession>> roomSessions = new ConcurrentHashMap<>();
     private final Map<String, Map<String, WebSocketSession>> spectatorSessions = new ConcurrentHashMap<>();
+    private final Map<String, DeltaStateEncoder> deltaEncoders = new ConcurrentHashMap<>();
+    private final List<PhysicsBlock> physicsBlocks = new CopyOnWriteArrayList<>();
+    private final Map<String, PhysicsBlock> blockByRoom = new ConcurrentHashMap<>();
 
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    private final ScheduledExecutorService spectatorScheduler = Executors.newSingleThreadScheduledExecutor();
+    private final GameTickScheduler tickScheduler;
+    private final MatchCompletionPipeline<FinishedMatch> completionPipeline;
     private final GameResultService gameResultService;
     private final ReplayService replayService;
     private final ObjectMapper objectMapper;
+    private final double deltaPrecision;
+    private final int deltaKeyframeInterval;
+    private final boolean batchedPhysics;
+    private final boolean deterministicPhysics;
+    private final int physicsBlockSize;
+    private final long tickIntervalMillis;
+    private final double tickSeconds;
 
     public GameRoomService(GameResultService gameResultService, ReplayService replayService, ObjectMapper objectMapper) {
+        this(gameResultService, replayService, objectMapper, ObservabilityMetrics.noop(), new RealtimeProperties());
+    }
+
+    @Autowired
+    public GameRoomService(GameResultService gameResultService, ReplayService replayService, ObjectMapper objectMapper,
+            ObservabilityMetrics metrics, RealtimeProperties properties) {
         this.gameResultService = gameResultService;
         this.replayService = replayService;
         this.objectMapper = objectMapper;
+        this.deltaPrecision = properties.getDelta().getPrecision();
+        this.deltaKeyframeInterval = properties.getDelta().getKeyframeInterval();
+        this.batchedPhysics = properties.getEngine().getMode() == RealtimeProperties.EngineMode.BATCHED;
+        this.deterministicPhysics = properties.getEngine().getMode() == RealtimeProperties.EngineMode.DETERMINISTIC;
+        this.physicsBlockSize = properties.getEngine().getBatchSize();
+        this.tickIntervalMillis = properties.getTick().getIntervalMillis();
+        this.tickSeconds = tickIntervalMillis / 1000.0;
+        this.tickScheduler = new GameTickScheduler(properties.getTick().getWheels(),
+                Duration.ofMillis(tickIntervalMillis),
+                Duration.ofMillis(properties.getTick().getSlowRoomThresholdMillis()), metrics);
+        this.completionPipeline = new MatchCompletionPipeline<>(properties.getCompletion().getQueueCapacity(),
+                properties.getCompletion().getWorkers(), this::finishRoom, metrics);
+    }
+
+    /**
+     * 설명:
+     *   - 틱 휠이 완전히 멈춘 뒤 파이프라인을 닫는다. 그래서 프레임 중간의 휠 스레드가 마지막 비우기 뒤에 인계하지 않는다.
+     *   - 대기열이 가득 차 다음 틱 인계를 기다리던 종료 방은 파이프라인이 비워진 뒤 이 스레드에서 직접 마무리한다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        tickScheduler.shutdown();
+        completionPipeline.shutdown();
+        for (GameRoom room : List.copyOf(rooms.values())) {
+            if (room.isFinished() && isLooping(room.getRoomId())) {
+                try {
+                    finishRoom(new FinishedMatch(room, room.currentSnapshot()));
+                } catch (RuntimeException ex) {
+                    log.warn("[ROOM_SHUTDOWN_FINISH_FAILED] roomId={} reason={}", room.getRoomId(), ex.getMessage());
+                }
+            }
+        }
+        spectatorScheduler.shutdownNow();
     }
 
     public GameRoom createRoom(User left, User right, MatchType matchType) {
-        GameRoom room = new GameRoom(left, right, matchType);
+        GameRoom room;
+        if (batchedPhysics) {
+            room = createBatchedRoom(left, right, matchType);
+        } else if (deterministicPhysics) {
+            room = new GameRoom(left, right, matchType, new DeterministicEngine(UUID.randomUUID().toString(),
+                    ThreadLocalRandom.current().nextLong(), tickIntervalMillis));
+        } else {
+            room = new GameRoom(left, right, matchType);
+        }
         rooms.put(room.getRoomId(), room);
         replayService.startRecording(room);
         return room;
@@ -77,10 +172,16 @@ public class GameRoomService {
     }
 
     public void removeRoom(String roomId) {
-        Optional.ofNullable(loopHandles.remove(roomId)).ifPresent(handle -> handle.cancel(true));
+        tickScheduler.unregister(roomId);
+        PhysicsBlock block = blockByRoom.remove(roomId);
+        if (block != null) {
+            block.release(roomId);
+        }
         rooms.remove(roomId);
         roomSessions.remove(roomId);
         spectatorSessions.remove(roomId);
+        deltaEncoders.remove(roomId);
+        replayService.discardRecording(roomId);
     }
 
     public void updateInput(String roomId, Long userId, PaddleInput input) {
@@ -93,7 +194,7 @@ public class GameRoomService {
     public void registerSession(GameRoom room, Long userId, WebSocketSession session) {
         roomSessions.computeIfAbsent(room.getRoomId(), key -> new ConcurrentHashMap<>())
                 .put(userId, session);
-        if (!loopHandles.containsKey(room.getRoomId()) && hasBothPlayers(room.getRoomId())) {
+        if (!isLooping(room.getRoomId()) && !room.isFinished() && hasBothPlayers(room.getRoomId())) {
             startLoop(room);
         }
     }
@@ -168,45 +269,266 @@ public class GameRoomService {
                 && sessions.containsKey(room.getRightPlayer().getId());
     }
 
+    private GameRoom createBatchedRoom(User left, User right, MatchType matchType) {
+        synchronized (physicsBlocks) {
+            for (PhysicsBlock block : physicsBlocks) {
+                BatchedPhysicsEngine.Slot slot = block.engine.allocate();
+                if (slot != null) {
+                    return adopt(block, new GameRoom(left, right, matchType, slot), slot);
+                }
+            }
+            PhysicsBlock block = new PhysicsBlock("physics-block-" + physicsBlocks.size(),
+                    new BatchedPhysicsEngine(physicsBlockSize));
+            physicsBlocks.add(block);
+            BatchedPhysicsEngine.Slot slot = block.engine.allocate();
+            return adopt(block, new GameRoom(left, right, matchType, slot), slot);
+        }
+    }
+
+    private GameRoom adopt(PhysicsBlock block, GameRoom room, BatchedPhysicsEngine.Slot slot) {
+        block.slots.put(room.getRoomId(), slot);
+        blockByRoom.put(room.getRoomId(), block);
+        return room;
+    }
+
+    private boolean isLooping(String roomId) {
+        PhysicsBlock block = blockByRoom.get(roomId);
+        return block != null ? block.liveRooms.containsKey(roomId) : tickScheduler.isRegistered(roomId);
+    }
+
     private void startLoop(GameRoom room) {
-        ScheduledFuture<?> handle = scheduler.scheduleAtFixedRate(() -> runTick(room), 0,
-                TICK_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
-        loopHandles.put(room.getRoomId(), handle);
+        PhysicsBlock block = blockByRoom.get(room.getRoomId());
+        if (block == null) {
+            tickScheduler.register(room.getRoomId(), () -> runTick(room), ex -> abortRoom(room.getRoomId()));
+            return;
+        }
+        BatchedPhysicsEngine.Slot slot = block.slots.get(room.getRoomId());
+        if (slot != null) {
+            slot.activate();
+            block.liveRooms.put(room.getRoomId(), room);
+            tickScheduler.register(block.id, () -> runBlock(block), ex -> abortBlock(block));
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 틱이 예외를 던져 휠에서 내려진 방을 정리한다. 결과는 기록하지 않고, 접속한 세션은 서버 오류로 닫는다.
+     */
+    private void abortRoom(String roomId) {
+        closeSessions(roomSessions.get(roomId));
+        closeSessions(spectatorSessions.get(roomId));
+        removeRoom(roomId);
+        log.warn("[ROOM_ABORTED] roomId={} 틱 예외로 경기를 중단하고 방을 정리함", roomId);
+    }
+
+    /**
+     * 설명:
+     *   - 배치 모드에서는 블록 틱 하나가 실패하면 어느 방이 원인인지 가릴 수 없어 블록에서 진행 중인 방을 모두 정리한다.
+     *     블록은 비워진 슬롯으로 남아 다음 방이 다시 쓰며, 그때 휠에 다시 등록된다.
+     */
+    private void abortBlock(PhysicsBlock block) {
+        for (String roomId : List.copyOf(block.liveRooms.keySet())) {
+            abortRoom(roomId);
+        }
+    }
+
+    private void closeSessions(Map<?, WebSocketSession> sessions) {
+        if (sessions == null) {
+            return;
+        }
+        for (WebSocketSession session : sessions.values()) {
+            try {
+                if (session.isOpen()) {
+                    session.close(CloseStatus.SERVER_ERROR.withReason("경기 진행 중 오류가 발생했습니다."));
+                }
+            } catch (IOException ex) {
+                // 이미 끊긴 세션이다.
+            }
+        }
     }
 
     private void runTick(GameRoom room) {
-        GameSnapshot snapshot = room.tick(TICK_INTERVAL);
-        replayService.appendSnapshot(room.getRoomId(), snapshot);
-        broadcastState(room.getRoomId(), snapshot, room.getMatchType(), null);
-        if (snapshot.finished()) {
-            finishRoom(room, snapshot);
-        }
-    }
-
-    private void broadcastState(String roomId, GameSnapshot snapshot, MatchType matchType,
-            GameResult ratingResult) {
-        GameServerMessage playerMessage = buildMessage("STATE", snapshot, matchType, ratingResult,
-                AudienceRole.PLAYER, roomId);
-        GameServerMessage spectatorMessage = buildMessage("STATE", snapshot, matchType, ratingResult,
-                AudienceRole.SPECTATOR, roomId);
-        sendMessage(roomSessions.get(roomId), playerMessage, 0);
-        sendMessage(spectatorSessions.get(roomId), spectatorMessage, SPECTATOR_DELAY.toMillis());
-    }
-
-    private void finishRoom(GameRoom room, GameSnapshot snapshot) {
-        GameResult result = gameResultService.recordResult(
-                room.getRoomId(),
-                room.getLeftPlayer(),
-                room.getRightPlayer(),
-                snapshot.leftScore(),
-                snapshot.rightScore(),
-                room.getMatchType(),
-                room.getStartedAt(),
-                room.getFinishedAt() != null ? room.getFinishedAt() : LocalDateTime.now(ZoneId.of("Asia/Seoul"))
-        );
-        replayService.completeRecording(room, result);
-        broadcastState(room.getRoomId(), snapshot, room.getMatchType(), result);
-        removeRoom(room.getRoomId());
+        if (room.isFinished()) {
+            handOff(room, room.currentSnapshot());
+            return;
+        }
+        publishTick(room, room.advance(tickSeconds));
+    }
+
+    /**
+     * 설명:
+     *   - 배치 모드의 블록 틱. 진행 중인 방의 입력을 모은 뒤 블록 물리를 한 번에 진행하고 방별 후처리를 한다.
+     *   - 이미 끝났지만 파이프라인에 넘기지 못한 방은 진행하지 않고 인계만 다시 시도한다.
+     */
+    private void runBlock(PhysicsBlock block) {
+        List<GameRoom> stepped = block.stepped;
+        stepped.clear();
+        for (GameRoom room : block.liveRooms.values()) {
+            if (room.isFinished()) {
+                handOff(room, room.currentSnapshot());
+            } else {
+                room.stageInputs();
+                stepped.add(room);
+            }
+        }
+        block.engine.step(tickSeconds);
+        for (GameRoom room : stepped) {
+            publishTick(room, room.collect());
+        }
+        stepped.clear();
+    }
+
+    /**
+     * 설명:
+     *   - 바이너리/델타 프레임은 재사용 상태 버퍼에서 바로 인코딩한다.
+     *   - 불변 스냅샷은 객체가 필요한 곳(스냅샷 녹화, JSON으로 받는 세션, 종료 인계)이 있는 틱에만 한 번 복사해 함께 쓴다.
+     *     녹화는 append 안에서 바로 직렬화하지만, JSON 메시지는 관전자 지연 전송이 틱 이후까지 참조하므로 복사본이 필요하다.
+     */
+    private void publishTick(GameRoom room, GameStateView state) {
+        String roomId = room.getRoomId();
+        StateFrames frames = encodeFrames(roomId, state, spectatorCount(roomId));
+        boolean needsSnapshot = state.finished() || replayService.recordsSnapshots(roomId)
+                || needsJson(roomSessions.get(roomId), frames) || needsJson(spectatorSessions.get(roomId), frames);
+        GameSnapshot snapshot = needsSnapshot ? state.toSnapshot() : null;
+        if (snapshot != null) {
+            replayService.appendSnapshot(roomId, snapshot);
+        }
+        broadcastState(roomId, snapshot, room.getMatchType(), null, frames);
+        if (snapshot != null && snapshot.finished()) {
+            handOff(room, snapshot);
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 종료된 방을 파이프라인에 넘기고 휠(배치 모드에서는 블록)에서 뺀다.
+     *     대기열이 가득 차면 그대로 두어 다음 틱에 다시 시도한다.
+     */
+    private void handOff(GameRoom room, GameSnapshot snapshot) {
+        if (completionPipeline.submit(new FinishedMatch(room, snapshot))) {
+            PhysicsBlock block = blockByRoom.get(room.getRoomId());
+            if (block != null) {
+                block.liveRooms.remove(room.getRoomId());
+            } else {
+                tickScheduler.unregister(room.getRoomId());
+            }
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 틱 프레임으로 받을 수 있는 세션에는 그 바이트를, 나머지 세션에는 JSON을 보낸다.
+     *     snapshot이 null이면 JSON으로 받는 세션이 없는 틱이다.
+     *   - 레이팅 변동이 실린 최종 메시지는 모든 세션에 JSON으로 보낸다.
+     */
+    private void broadcastState(String roomId, GameSnapshot snapshot, MatchType matchType, GameResult ratingResult,
+            StateFrames frames) {
+        GameServerMessage playerMessage = snapshot == null ? null
+                : buildMessage("STATE", snapshot, matchType, ratingResult, AudienceRole.PLAYER, roomId);
+        GameServerMessage spectatorMessage = snapshot == null ? null
+                : buildMessage("STATE", snapshot, matchType, ratingResult, AudienceRole.SPECTATOR, roomId);
+        sendMessage(roomSessions.get(roomId), playerMessage, frames, 0);
+        sendMessage(spectatorSessions.get(roomId), spectatorMessage, frames, SPECTATOR_DELAY.toMillis());
+    }
+
+    /**
+     * 설명:
+     *   - 이번 틱 프레임으로 받지 못하고 JSON 메시지가 필요한 세션이 있는지 본다.
+     */
+    private static boolean needsJson(Map<?, WebSocketSession> sessions, StateFrames frames) {
+        if (sessions == null) {
+            return false;
+        }
+        for (WebSocketSession session : sessions.values()) {
+            GameFrameEncoding encoding = GameFrameEncoding.of(session);
+            if (!(encoding == GameFrameEncoding.BINARY && frames.binary() != null)
+                    && !(encoding == GameFrameEncoding.DELTA && frames.delta() != null)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 설명:
+     *   - 바이너리 STATE 프레임은 encoding=binary 세션이 있는 틱에만, 틱당 한 번 인코딩해 플레이어/관전자 세션이 같은 바이트를 공유한다.
+     *   - 델타 인코더는 encoding=delta 세션이 처음 나타난 방에만 만들고, 이후 매 틱 전진시켜 기준 상태를 유지한다.
+     *     아직 키프레임을 받지 못한 세션이 있으면 같은 시퀀스의 키프레임을 함께 만든다.
+     */
+    private StateFrames encodeFrames(String roomId, GameStateView snapshot, int spectators) {
+        byte[] binaryFrame = hasBinarySession(roomId) ? BinaryStateFrame.encode(snapshot, spectators) : null;
+        DeltaStateEncoder encoder = deltaEncoders.get(roomId);
+        if (encoder == null) {
+            if (!hasDeltaSession(roomId, false)) {
+                return new StateFrames(binaryFrame, null, null);
+            }
+            encoder = deltaEncoders.computeIfAbsent(roomId,
+                    key -> new DeltaStateEncoder(deltaPrecision, deltaKeyframeInterval));
+        }
+        byte[] deltaFrame = encoder.encode(snapshot, spectators);
+        byte[] keyframe = DeltaStateEncoder.isKeyframe(deltaFrame) ? deltaFrame
+                : hasDeltaSession(roomId, true) ? encoder.keyframe() : null;
+        return new StateFrames(binaryFrame, deltaFrame, keyframe);
+    }
+
+    private boolean hasBinarySession(String roomId) {
+        return hasEncoding(roomSessions.get(roomId), GameFrameEncoding.BINARY)
+                || hasEncoding(spectatorSessions.get(roomId), GameFrameEncoding.BINARY);
+    }
+
+    private static boolean hasEncoding(Map<?, WebSocketSession> sessions, GameFrameEncoding encoding) {
+        if (sessions == null) {
+            return false;
+        }
+        for (WebSocketSession session : sessions.values()) {
+            if (GameFrameEncoding.of(session) == encoding) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasDeltaSession(String roomId, boolean unsyncedOnly) {
+        return hasDeltaSession(roomSessions.get(roomId), unsyncedOnly)
+                || hasDeltaSession(spectatorSessions.get(roomId), unsyncedOnly);
+    }
+
+    private boolean hasDeltaSession(Map<?, WebSocketSession> sessions, boolean unsyncedOnly) {
+        if (sessions == null) {
+            return false;
+        }
+        for (WebSocketSession session : sessions.values()) {
+            if (GameFrameEncoding.of(session) == GameFrameEncoding.DELTA
+                    && (!unsyncedOnly || !isDeltaSynced(session))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isDeltaSynced(WebSocketSession session) {
+        return Boolean.TRUE.equals(session.getAttributes().get(DELTA_SYNCED_ATTRIBUTE));
+    }
+
+    private void finishRoom(FinishedMatch finished) {
+        GameRoom room = finished.room();
+        GameSnapshot snapshot = finished.snapshot();
+        try {
+            GameResult result = gameResultService.recordResult(
+                    room.getRoomId(),
+                    room.getLeftPlayer(),
+                    room.getRightPlayer(),
+                    snapshot.leftScore(),
+                    snapshot.rightScore(),
+                    room.getMatchType(),
+                    room.getStartedAt(),
+                    room.getFinishedAt() != null ? room.getFinishedAt() : KstDateTime.now()
+            );
+            replayService.completeRecording(room, result);
+            broadcastState(room.getRoomId(), snapshot, room.getMatchType(), result, StateFrames.JSON_ONLY);
+        } finally {
+            removeRoom(room.getRoomId());
+        }
     }
 
     private GameServerMessage buildMessage(String type, GameSnapshot snapshot, MatchType matchType,
@@ -216,29 +538,61 @@ public class GameRoomService {
                 audienceRole.name(), spectatorCount(roomId));
     }
 
-    private void sendMessage(Map<?, WebSocketSession> sessions, GameServerMessage message, long delayMillis) {
+    private void sendMessage(Map<?, WebSocketSession> sessions, GameServerMessage message, StateFrames frames,
+            long delayMillis) {
         if (sessions == null || sessions.isEmpty()) {
             return;
         }
-        try {
-            String payload = objectMapper.writeValueAsString(message);
-            Runnable sender = () -> sessions.values().forEach(session -> {
+        Runnable sender = () -> {
+            TextMessage json = null;
+            for (WebSocketSession session : sessions.values()) {
                 try {
-                    if (session.isOpen()) {
-                        session.sendMessage(new TextMessage(payload));
+                    if (!session.isOpen()) {
+                        continue;
                     }
-                } catch (IOException ignored) {
+                    GameFrameEncoding encoding = GameFrameEncoding.of(session);
+                    if (frames.binary() != null && encoding == GameFrameEncoding.BINARY) {
+                        session.sendMessage(new BinaryMessage(frames.binary()));
+                        continue;
+                    }
+                    if (frames.delta() != null && encoding == GameFrameEncoding.DELTA) {
+                        sendDelta(session, frames);
+                        continue;
+                    }
+                    if (message == null) {
+                        // 스냅샷을 복사한 뒤 합류한 JSON 세션이다. 다음 틱부터 받는다.
+                        continue;
+                    }
+                    if (json == null) {
+                        json = new TextMessage(objectMapper.writeValueAsString(message));
+                    }
+                    session.sendMessage(json);
+                } catch (IOException ex) {
+                    session.getAttributes().remove(DELTA_SYNCED_ATTRIBUTE);
                 }
-            });
-            if (delayMillis <= 0) {
-                sender.run();
-            } else {
-                scheduler.schedule(sender, delayMillis, TimeUnit.MILLISECONDS);
             }
-        } catch (IOException ignored) {
+        };
+        if (delayMillis <= 0) {
+            sender.run();
+        } else {
+            spectatorScheduler.schedule(sender, delayMillis, TimeUnit.MILLISECONDS);
         }
     }
 
+    /**
+     * 설명:
+     *   - 동기화된 세션에는 이번 틱 프레임을, 아직 키프레임을 받지 못한 세션에는 키프레임을 보낸다.
+     *     키프레임이 준비되지 않은 틱에 합류한 세션은 다음 틱까지 기다린다.
+     */
+    private void sendDelta(WebSocketSession session, StateFrames frames) throws IOException {
+        byte[] payload = isDeltaSynced(session) ? frames.delta() : frames.keyframe();
+        if (payload == null) {
+            return;
+        }
+        session.sendMessage(new BinaryMessage(payload));
+        session.getAttributes().put(DELTA_SYNCED_ATTRIBUTE, Boolean.TRUE);
+    }
+
     public enum AudienceRole {
         PLAYER,
         SPECTATOR
@@ -271,6 +625,40 @@ public class GameRoomService {
         }
     }
 
+    private record FinishedMatch(GameRoom room, GameSnapshot snapshot) {
+    }
+
+    /**
+     * 배치 물리 블록 하나와 그 슬롯을 쓰는 방들. 틱 휠에는 방 대신 블록 id로 등록된다.
+     */
+    private static final class PhysicsBlock {
+        private final String id;
+        private final BatchedPhysicsEngine engine;
+        private final Map<String, BatchedPhysicsEngine.Slot> slots = new ConcurrentHashMap<>();
+        private final Map<String, GameRoom> liveRooms = new ConcurrentHashMap<>();
+        private final List<GameRoom> stepped = new ArrayList<>();
+
+        private PhysicsBlock(String id, BatchedPhysicsEngine engine) {
+            this.id = id;
+            this.engine = engine;
+        }
+
+        void release(String roomId) {
+            liveRooms.remove(roomId);
+            BatchedPhysicsEngine.Slot slot = slots.remove(roomId);
+            if (slot != null) {
+                slot.release();
+            }
+        }
+    }
+
+    /**
+     * 틱 하나에서 세션 간 공유하는 인코딩 결과. null 필드는 해당 인코딩 세션에 JSON을 보낸다는 뜻이다.
+     */
+    private record StateFrames(byte[] binary, byte[] delta, byte[] keyframe) {
+        static final StateFrames JSON_ONLY = new StateFrames(null, null, null);
+    }
+
     public record LiveRoomView(String roomId, Long leftPlayerId, String leftNickname, Long rightPlayerId,
             String rightNickname, MatchType matchType, LocalDateTime startedAt, LocalDateTime finishedAt,
             int spectatorCount, int spectatorLimit) {
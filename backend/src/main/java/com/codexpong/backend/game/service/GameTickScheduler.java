@@ -0,0 +1,243 @@
+package com.codexpong.backend.game.service;
+
+import com.codexpong.backend.observability.ObservabilityMetrics;
+import com.codexpong.backend.observability.ObservabilityMetrics.WheelMeters;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * [모듈] backend/src/main/java/com/codexpong/backend/game/service/GameTickScheduler.java
+ * 설명:
+ *   - 방마다 scheduleAtFixedRate를 걸던 방식을 대체해, 코어 수만큼의 틱 휠에 방을 나눠 배치한다.
+ *   - 각 휠은 전용 스레드 하나로 프레임(기본 50ms)마다 소속 방 전체를 한 번에 순회한다.
+ *   - 틱 하나가 임계치를 연속으로 넘는 방은 격리 휠로 옮겨 같은 휠의 다른 방을 지연시키지 않는다.
+ *   - 틱이 예외를 던진 방은 그 자리에서 휠에서 내리고 등록 시 받은 실패 처리기를 한 번 호출한다.
+ *     방별 scheduleAtFixedRate가 첫 예외에서 멈추던 동작과 같고, 고장 난 방이 프레임마다 로그를 남기지 않는다.
+ *   - 휠별 순회 소요 시간, overrun, 프레임 지터를 ObservabilityMetrics로 기록한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.3.0-game-loop-and-events.md
+ * 테스트:
+ *   - backend/src/test/java/com/codexpong/backend/game/service/GameTickSchedulerTest.java
+ */
+public class GameTickScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(GameTickScheduler.class);
+    private static final int SLOW_STRIKES_BEFORE_ISOLATION = 3;
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final long frameNanos;
+    private final long slowRoomNanos;
+    private final ObservabilityMetrics metrics;
+    private final List<TickWheel> wheels;
+    private final TickWheel isolationWheel;
+    private final Map<String, TickWheel> assignments = new ConcurrentHashMap<>();
+
+    public GameTickScheduler(int wheelCount, Duration frameInterval, Duration slowRoomThreshold,
+            ObservabilityMetrics metrics) {
+        this.frameNanos = frameInterval.toNanos();
+        this.slowRoomNanos = slowRoomThreshold.toNanos();
+        this.metrics = metrics;
+        int resolved = wheelCount > 0 ? wheelCount : Runtime.getRuntime().availableProcessors();
+        List<TickWheel> created = new ArrayList<>(resolved);
+        for (int i = 0; i < resolved; i++) {
+            created.add(new TickWheel(String.valueOf(i)));
+        }
+        this.wheels = Collections.unmodifiableList(created);
+        this.isolationWheel = new TickWheel("isolated");
+        wheels.forEach(TickWheel::start);
+        isolationWheel.start();
+    }
+
+    /**
+     * 설명:
+     *   - 가장 적은 방을 가진 휠에 방 틱 작업을 배치한다. 이미 등록된 방이면 무시한다.
+     * 출력:
+     *   - 새로 등록되었으면 true
+     */
+    public boolean register(String roomId, Runnable tick) {
+        return register(roomId, tick, ex -> { });
+    }
+
+    /**
+     * 설명:
+     *   - register와 같되, 틱이 예외를 던져 방이 휠에서 내려졌을 때 호출할 처리기를 함께 받는다.
+     *     처리기는 휠 스레드에서 한 번만 호출된다.
+     */
+    public boolean register(String roomId, Runnable tick, Consumer<RuntimeException> onFailure) {
+        boolean[] added = {false};
+        assignments.computeIfAbsent(roomId, key -> {
+            TickWheel target = leastLoadedWheel();
+            target.rooms.put(key, new RoomTask(key, tick, onFailure));
+            added[0] = true;
+            return target;
+        });
+        return added[0];
+    }
+
+    public void unregister(String roomId) {
+        assignments.computeIfPresent(roomId, (key, wheel) -> {
+            wheel.rooms.remove(key);
+            return null;
+        });
+    }
+
+    public boolean isRegistered(String roomId) {
+        return assignments.containsKey(roomId);
+    }
+
+    public int wheelCount() {
+        return wheels.size();
+    }
+
+    /**
+     * 설명:
+     *   - 방이 현재 배치된 휠 식별자를 반환한다. 격리된 방은 "isolated"를 반환한다.
+     */
+    public String wheelOf(String roomId) {
+        TickWheel wheel = assignments.get(roomId);
+        return wheel == null ? null : wheel.id;
+    }
+
+    /**
+     * 설명:
+     *   - 다음 프레임 예약을 멈추고, 휠 스레드가 진행 중인 프레임을 마칠 때까지 기다린다.
+     *     인터럽트하지 않으므로 프레임 중간의 방 틱(종료 인계 포함)이 끊기지 않는다.
+     *   - 반환 뒤에는 어떤 휠 스레드도 방 틱을 실행하지 않는다. 제한 시간을 넘긴 휠만 인터럽트한다.
+     */
+    public void shutdown() {
+        List<TickWheel> all = new ArrayList<>(wheels);
+        all.add(isolationWheel);
+        all.forEach(wheel -> wheel.executor.shutdown());
+        long deadline = System.nanoTime() + SHUTDOWN_TIMEOUT.toNanos();
+        for (TickWheel wheel : all) {
+            try {
+                long remainingNanos = deadline - System.nanoTime();
+                if (!wheel.executor.awaitTermination(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS)) {
+                    log.warn("[TICK_SHUTDOWN_TIMEOUT] wheel={} 진행 중인 프레임이 끝나지 않은 채 종료", wheel.id);
+                    wheel.executor.shutdownNow();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                all.forEach(remaining -> remaining.executor.shutdownNow());
+                return;
+            }
+        }
+    }
+
+    private TickWheel leastLoadedWheel() {
+        TickWheel selected = wheels.get(0);
+        for (TickWheel wheel : wheels) {
+            if (wheel.rooms.size() < selected.rooms.size()) {
+                selected = wheel;
+            }
+        }
+        return selected;
+    }
+
+    private void isolate(RoomTask task) {
+        assignments.computeIfPresent(task.roomId, (key, wheel) -> {
+            if (wheel == isolationWheel) {
+                return wheel;
+            }
+            wheel.rooms.remove(key);
+            isolationWheel.rooms.put(key, task);
+            log.warn("[TICK_ISOLATE] roomId={} wheel={} 틱 지연이 반복되어 격리 휠로 이동", key, wheel.id);
+            return isolationWheel;
+        });
+    }
+
+    /**
+     * 설명:
+     *   - 예외를 던진 방을 현재 휠에서 내리고 실패 처리기를 호출한다. 처리기의 예외는 휠을 멈추지 않도록 삼킨다.
+     */
+    private void fail(TickWheel wheel, RoomTask task, RuntimeException ex) {
+        wheel.rooms.remove(task.roomId);
+        assignments.remove(task.roomId, wheel);
+        log.warn("[TICK_FAILED] roomId={} wheel={} 틱 예외로 방을 휠에서 내림", task.roomId, wheel.id, ex);
+        try {
+            task.onFailure.accept(ex);
+        } catch (RuntimeException handlerEx) {
+            log.warn("[TICK_FAILURE_HANDLER_FAILED] roomId={} reason={}", task.roomId, handlerEx.getMessage());
+        }
+    }
+
+    /**
+     * 휠 하나에 배치된 방 틱 작업과 연속 지연 횟수를 보관한다.
+     */
+    private static final class RoomTask {
+        private final String roomId;
+        private final Runnable tick;
+        private final Consumer<RuntimeException> onFailure;
+        private int slowStrikes;
+
+        private RoomTask(String roomId, Runnable tick, Consumer<RuntimeException> onFailure) {
+            this.roomId = roomId;
+            this.tick = tick;
+            this.onFailure = onFailure;
+        }
+
+        boolean observe(boolean slow) {
+            slowStrikes = slow ? slowStrikes + 1 : 0;
+            return slowStrikes >= SLOW_STRIKES_BEFORE_ISOLATION;
+        }
+    }
+
+    /**
+     * 전용 스레드 하나로 프레임마다 소속 방을 순회하는 틱 휠.
+     */
+    private final class TickWheel implements Runnable {
+        private final String id;
+        private final Map<String, RoomTask> rooms = new ConcurrentHashMap<>();
+        private final ScheduledExecutorService executor;
+        private final WheelMeters meters;
+        private long lastFrameStart;
+
+        private TickWheel(String id) {
+            this.id = id;
+            this.meters = metrics.wheelMeters(id);
+            this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "game-tick-wheel-" + id);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        void start() {
+            executor.scheduleAtFixedRate(this, frameNanos, frameNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void run() {
+            long frameStart = System.nanoTime();
+            if (lastFrameStart != 0) {
+                metrics.recordTickJitter(Duration.ofNanos(Math.abs(frameStart - lastFrameStart - frameNanos)));
+            }
+            lastFrameStart = frameStart;
+            for (RoomTask task : rooms.values()) {
+                long roomStart = System.nanoTime();
+                try {
+                    task.tick.run();
+                } catch (RuntimeException ex) {
+                    fail(this, task, ex);
+                    continue;
+                }
+                boolean slow = System.nanoTime() - roomStart > slowRoomNanos;
+                if (this != isolationWheel && task.observe(slow)) {
+                    isolate(task);
+                }
+            }
+            meters.record(System.nanoTime() - frameStart, frameNanos);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.codexpong.backend.game.service;
+
+import com.codexpong.backend.observability.ObservabilityMetrics;
+import com.codexpong.backend.observability.ObservabilityMetrics.CompletionMeters;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * [모듈] backend/src/main/java/com/codexpong/backend/game/service/MatchCompletionPipeline.java
+ * 설명:
+ *   - 틱 스레드가 종료된 경기를 넘기면, 가상 스레드 워커가 결과 저장/리플레이 플러시/최종 브로드캐스트를 수행한다.
+ *   - 대기열은 고정 크기이며 가득 차면 submit이 false를 반환한다. 호출자는 다음 틱에 다시 넘긴다(back-pressure).
+ *   - 대기열 깊이, 인계→완료 지연, 거절 횟수를 ObservabilityMetrics로 노출한다.
+ *   - submit과 shutdown은 읽기/쓰기 락으로 나눈다. shutdown이 running을 내린 뒤에는 어떤 submit도 대기열에 넣지 못하므로
+ *     마지막 비우기 뒤에 들어와 잃는 항목이 없다. submit은 락을 기다리지 않고 종료 중이면 거절한다.
+ * 버전: v1.2.0
+ * 테스트:
+ *   - backend/src/test/java/com/codexpong/backend/game/service/MatchCompletionPipelineTest.java
+ */
+public class MatchCompletionPipeline<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchCompletionPipeline.class);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final BlockingQueue<Handoff<T>> queue;
+    private final Consumer<T> handler;
+    private final CompletionMeters meters;
+    private final List<Thread> workers = new ArrayList<>();
+    private final ReadWriteLock gate = new ReentrantReadWriteLock();
+    private volatile boolean running = true;
+
+    public MatchCompletionPipeline(int capacity, int workerCount, Consumer<T> handler, ObservabilityMetrics metrics) {
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.handler = handler;
+        this.meters = metrics.completionMeters(queue::size);
+        for (int i = 0; i < Math.max(1, workerCount); i++) {
+            workers.add(Thread.ofVirtual().name("match-completion-" + i).start(this::drain));
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 틱 스레드에서 호출되며 절대 블로킹하지 않는다.
+     * 출력:
+     *   - 대기열에 들어갔으면 true, 가득 찼거나 종료 중이면 false
+     */
+    public boolean submit(T item) {
+        Lock lock = gate.readLock();
+        if (lock.tryLock()) {
+            try {
+                if (running && queue.offer(new Handoff<>(item, System.nanoTime()))) {
+                    return true;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        meters.rejected().increment();
+        return false;
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * 설명:
+     *   - 새 인계를 막고, 워커가 처리 중인 항목(JPA 트랜잭션, 파일 플러시)을 마칠 때까지 기다린다.
+     *     워커를 인터럽트하지 않으므로 진행 중인 결과 저장이 중간에 끊기지 않는다.
+     *   - 워커가 모두 멈춘 뒤 남은 인계 항목을 호출 스레드에서 처리해 결과 유실을 막는다.
+     */
+    public void shutdown() {
+        Lock lock = gate.writeLock();
+        lock.lock();
+        try {
+            running = false;
+        } finally {
+            lock.unlock();
+        }
+        long deadline = System.nanoTime() + SHUTDOWN_TIMEOUT.toNanos();
+        for (Thread worker : workers) {
+            try {
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0 || !worker.join(Duration.ofNanos(remainingNanos))) {
+                    log.warn("[MATCH_COMPLETION_SHUTDOWN_TIMEOUT] worker={} 처리 중인 항목이 끝나지 않은 채 종료",
+                            worker.getName());
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        Handoff<T> remaining;
+        while ((remaining = queue.poll()) != null) {
+            complete(remaining);
+        }
+    }
+
+    private void drain() {
+        while (running) {
+            try {
+                Handoff<T> handoff = queue.poll(1, TimeUnit.SECONDS);
+                if (handoff != null) {
+                    complete(handoff);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void complete(Handoff<T> handoff) {
+        try {
+            handler.accept(handoff.item());
+        } catch (RuntimeException ex) {
+            log.warn("[MATCH_COMPLETION_FAILED] reason={}", ex.getMessage(), ex);
+        } finally {
+            meters.latency().record(System.nanoTime() - handoff.handedOffAtNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private record Handoff<T>(T item, long handedOffAtNanos) {
+    }
+}
@@ -0,0 +1,159 @@
+package com.codexpong.backend.game.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * [설정] backend/src/main/java/com/codexpong/backend/game/service/RealtimeProperties.java
+ * 설명:
+ *   - 틱 휠, 종료 처리 파이프라인, 델타 스트림, 물리 엔진 모드를 realtime.* 설정으로 묶는다.
+ *   - engine.mode는 열거형으로 받는다. 오타는 기동 시 바인딩 오류로 드러나고, object로 조용히 바뀌지 않는다.
+ *   - tick.wheels가 0이면 코어 수만큼 휠을 만든다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.2.0-batched-physics.md
+ *   - design/realtime/v1.2.0-deterministic-engine.md
+ *   - design/realtime/v1.2.0-delta-state-stream.md
+ */
+@ConfigurationProperties(prefix = "realtime")
+public class RealtimeProperties {
+
+    private Tick tick = new Tick();
+    private Completion completion = new Completion();
+    private Delta delta = new Delta();
+    private Engine engine = new Engine();
+
+    public Tick getTick() {
+        return tick;
+    }
+
+    public void setTick(Tick tick) {
+        this.tick = tick;
+    }
+
+    public Completion getCompletion() {
+        return completion;
+    }
+
+    public void setCompletion(Completion completion) {
+        this.completion = completion;
+    }
+
+    public Delta getDelta() {
+        return delta;
+    }
+
+    public void setDelta(Delta delta) {
+        this.delta = delta;
+    }
+
+    public Engine getEngine() {
+        return engine;
+    }
+
+    public void setEngine(Engine engine) {
+        this.engine = engine;
+    }
+
+    public enum EngineMode {
+        OBJECT,
+        BATCHED,
+        DETERMINISTIC
+    }
+
+    public static class Tick {
+
+        private int wheels;
+        private long intervalMillis = 50;
+        private long slowRoomThresholdMillis = 10;
+
+        public int getWheels() {
+            return wheels;
+        }
+
+        public void setWheels(int wheels) {
+            this.wheels = wheels;
+        }
+
+        public long getIntervalMillis() {
+            return intervalMillis;
+        }
+
+        public void setIntervalMillis(long intervalMillis) {
+            this.intervalMillis = intervalMillis;
+        }
+
+        public long getSlowRoomThresholdMillis() {
+            return slowRoomThresholdMillis;
+        }
+
+        public void setSlowRoomThresholdMillis(long slowRoomThresholdMillis) {
+            this.slowRoomThresholdMillis = slowRoomThresholdMillis;
+        }
+    }
+
+    public static class Completion {
+
+        private int queueCapacity = 1024;
+        private int workers = 4;
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getWorkers() {
+            return workers;
+        }
+
+        public void setWorkers(int workers) {
+            this.workers = workers;
+        }
+    }
+
+    public static class Delta {
+
+        private double precision = 0.01;
+        private int keyframeInterval = 20;
+
+        public double getPrecision() {
+            return precision;
+        }
+
+        public void setPrecision(double precision) {
+            this.precision = precision;
+        }
+
+        public int getKeyframeInterval() {
+            return keyframeInterval;
+        }
+
+        public void setKeyframeInterval(int keyframeInterval) {
+            this.keyframeInterval = keyframeInterval;
+        }
+    }
+
+    public static class Engine {
+
+        private EngineMode mode = EngineMode.OBJECT;
+        private int batchSize = 64;
+
+        public EngineMode getMode() {
+            return mode;
+        }
+
+        public void setMode(EngineMode mode) {
+            this.mode = mode;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+    }
+}
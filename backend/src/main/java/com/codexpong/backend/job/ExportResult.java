@@ -0,0 +1,98 @@
+package com.codexpong.backend.job;
+
+import com.codexpong.backend.common.KstDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * [엔티티] backend/src/main/java/com/codexpong/backend/job/ExportResult.java
+ * 설명:
+ *   - (리플레이 체크섬, 잡 유형, 렌더 프로필)로 주소가 매겨진 내보내기 결과 파일 하나를 보관한다.
+ *   - refCount는 이 파일을 결과로 가진 잡 수다. 보존 정책이 잡 결과를 비우면 참조만 줄고 파일은 캐시로 남는다.
+ *   - lastUsedAt은 새 잡이 이 결과를 받아 갈 때마다 갱신되며 LRU 축출 순서가 된다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-export-result-cache.md
+ */
+@Entity
+@Table(name = "export_results",
+        indexes = @Index(name = "idx_export_results_ref_used", columnList = "ref_count, last_used_at"))
+public class ExportResult {
+
+    @Id
+    @Column(length = 64)
+    private String cacheKey;
+
+    @Column(nullable = false, length = 500)
+    private String resultUri;
+
+    @Column(length = 128)
+    private String resultChecksum;
+
+    @Column(nullable = false)
+    private long sizeBytes;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_used_at", nullable = false)
+    private LocalDateTime lastUsedAt;
+
+    protected ExportResult() {
+    }
+
+    public ExportResult(String cacheKey, String resultUri, String resultChecksum, long sizeBytes, int refCount) {
+        this.cacheKey = cacheKey;
+        this.resultUri = resultUri;
+        this.resultChecksum = resultChecksum;
+        this.sizeBytes = sizeBytes;
+        this.refCount = refCount;
+    }
+
+    @PrePersist
+    void onCreate() {
+        LocalDateTime now = KstDateTime.now();
+        if (createdAt == null) {
+            createdAt = now;
+        }
+        if (lastUsedAt == null) {
+            lastUsedAt = now;
+        }
+    }
+
+    public String getCacheKey() {
+        return cacheKey;
+    }
+
+    public String getResultUri() {
+        return resultUri;
+    }
+
+    public String getResultChecksum() {
+        return resultChecksum;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public int getRefCount() {
+        return refCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getLastUsedAt() {
+        return lastUsedAt;
+    }
+}
@@ -0,0 +1,188 @@
+package com.codexpong.backend.job;
+
+import com.codexpong.backend.common.KstDateTime;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * [캐시] backend/src/main/java/com/codexpong/backend/job/ExportResultCache.java
+ * 설명:
+ *   - 완료된 내보내기 결과를 (리플레이 체크섬, 잡 유형, 렌더 프로필) 키로 보관해 같은 결과를 다시 렌더링하지 않게 한다.
+ *     두 선수의 리플레이 행은 체크섬을 공유하므로 상대가 먼저 내보낸 결과도 그대로 받아 간다.
+ *   - 참조 수는 이 결과를 resultUri로 가진 잡 수다. 잡 생성 시 늘리고, 보존 정책이 잡 결과를 비우면 줄인다.
+ *   - 캐시 총량이 jobs.export.cache-max-bytes를 넘으면 참조 없는 결과부터, 그다음 오래 쓰이지 않은 결과 순으로 지운다.
+ *     참조 중인 결과를 지울 때는 그 결과를 가진 잡의 resultUri를 비워 다운로드가 410으로 끝나게 한다.
+ *   - 키 계산과 참조 증감은 호출자 트랜잭션에 참여하고, 축출은 항목마다 짧은 트랜잭션으로 커밋한 뒤 파일을 지운다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-export-result-cache.md
+ */
+@Component
+public class ExportResultCache {
+
+    /**
+     * 렌더 결과를 바꾸는 설정을 잡 유형별로 적는다. 워커/렌더러의 해상도·프레임·시점이 바뀌면 값을 올려 캐시를 갈아엎는다.
+     */
+    static final String MP4_PROFILE = "mp4:1280x720:20fps:v1";
+    static final String THUMBNAIL_PROFILE = "png:1280x720:mid:v1";
+
+    private static final Logger log = LoggerFactory.getLogger(ExportResultCache.class);
+    private static final int EVICTION_BATCH_SIZE = 100;
+
+    private final ExportResultRepository exportResultRepository;
+    private final JobRepository jobRepository;
+    private final JobExportProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public ExportResultCache(ExportResultRepository exportResultRepository, JobRepository jobRepository,
+            JobExportProperties properties, TransactionTemplate transactionTemplate) {
+        this.exportResultRepository = exportResultRepository;
+        this.jobRepository = jobRepository;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 설명:
+     *   - 캐시 키를 만든다. 캐시가 꺼져 있거나 리플레이 체크섬이 없으면(기록 이전 리플레이) null을 돌려준다.
+     */
+    public String keyFor(String replayChecksum, JobType jobType) {
+        if (!properties.isCacheEnabled() || replayChecksum == null || replayChecksum.isBlank()) {
+            return null;
+        }
+        String profile = jobType == JobType.REPLAY_EXPORT_MP4 ? MP4_PROFILE : THUMBNAIL_PROFILE;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((replayChecksum + "|" + jobType.name() + "|" + profile).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("해시 알고리즘을 찾을 수 없습니다.", ex);
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 완료된 결과가 있으면 참조를 하나 늘리고 돌려준다. 파일이 사라진 항목은 지우고 없는 것으로 본다.
+     *   - 참조 증가는 단일 UPDATE라 같은 순간 축출이 행을 지웠다면 0건이 되어 역시 없는 것으로 본다.
+     */
+    public Optional<ExportResult> acquire(String cacheKey) {
+        Optional<ExportResult> found = exportResultRepository.findById(cacheKey);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        ExportResult entry = found.get();
+        if (!Files.exists(Paths.get(entry.getResultUri()))) {
+            log.warn("[EXPORT_CACHE_FILE_MISSING] cacheKey={} resultUri={}", cacheKey, entry.getResultUri());
+            jobRepository.clearResultsByCacheKey(cacheKey);
+            exportResultRepository.delete(entry);
+            return Optional.empty();
+        }
+        if (exportResultRepository.addReferences(cacheKey, 1, KstDateTime.now()) == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(entry);
+    }
+
+    /**
+     * 설명:
+     *   - 새로 렌더링한 결과를 참조 1로 등록한다. 경쟁하던 다른 잡이 같은 키를 먼저 등록했다면
+     *     기존 결과에 참조를 더하고 방금 만든 중복 파일은 지운다. 호출자는 돌려받은 항목의 경로를 써야 한다.
+     */
+    public ExportResult record(String cacheKey, String resultUri, String resultChecksum, long sizeBytes) {
+        Optional<ExportResult> existing = exportResultRepository.findById(cacheKey);
+        if (existing.isPresent() && Files.exists(Paths.get(existing.get().getResultUri()))) {
+            exportResultRepository.addReferences(cacheKey, 1, KstDateTime.now());
+            if (!existing.get().getResultUri().equals(resultUri)) {
+                deleteFile(resultUri);
+            }
+            return existing.get();
+        }
+        existing.ifPresent(exportResultRepository::delete);
+        return exportResultRepository.save(new ExportResult(cacheKey, resultUri, resultChecksum, sizeBytes, 1));
+    }
+
+    public void addReferences(String cacheKey, int count) {
+        if (count > 0) {
+            exportResultRepository.addReferences(cacheKey, count, KstDateTime.now());
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 잡 결과가 비워진 만큼 참조를 반납한다. 파일은 축출 전까지 캐시에 남는다.
+     */
+    public void release(Map<String, Long> countsByKey) {
+        countsByKey.forEach((cacheKey, count) -> exportResultRepository.release(cacheKey, count.intValue()));
+    }
+
+    /**
+     * 설명:
+     *   - 캐시 총량이 상한 아래로 내려갈 때까지 축출 후보 순서(참조 없음 → LRU)로 항목을 지운다.
+     */
+    public Eviction evict() {
+        long maxBytes = properties.getCacheMaxBytes();
+        if (maxBytes <= 0) {
+            return Eviction.NONE;
+        }
+        long excess = exportResultRepository.sumBytes() - maxBytes;
+        int entries = 0;
+        int jobsCleared = 0;
+        long bytes = 0;
+        while (excess > 0) {
+            List<ExportResult> page = exportResultRepository.findEvictionCandidates(
+                    PageRequest.of(0, EVICTION_BATCH_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
+            for (ExportResult entry : page) {
+                Integer cleared = transactionTemplate.execute(status -> {
+                    int count = jobRepository.clearResultsByCacheKey(entry.getCacheKey());
+                    exportResultRepository.deleteById(entry.getCacheKey());
+                    return count;
+                });
+                deleteFile(entry.getResultUri());
+                entries++;
+                jobsCleared += cleared == null ? 0 : cleared;
+                bytes += entry.getSizeBytes();
+                excess -= entry.getSizeBytes();
+                if (excess <= 0) {
+                    break;
+                }
+            }
+        }
+        if (entries > 0) {
+            log.info("[EXPORT_CACHE_EVICTED] entries={} jobsCleared={} bytes={}", entries, jobsCleared, bytes);
+        }
+        return new Eviction(entries, jobsCleared, bytes);
+    }
+
+    private void deleteFile(String resultUri) {
+        try {
+            Files.deleteIfExists(Path.of(resultUri));
+        } catch (IOException ex) {
+            log.warn("[EXPORT_CACHE_DELETE_FAILED] resultUri={} reason={}", resultUri, ex.getMessage());
+        }
+    }
+
+    /**
+     * 한 번의 축출에서 지운 항목 수, resultUri를 비운 잡 수, 회수한 바이트.
+     */
+    public record Eviction(int entries, int jobsCleared, long bytes) {
+
+        static final Eviction NONE = new Eviction(0, 0, 0);
+    }
+}
@@ -0,0 +1,42 @@
+package com.codexpong.backend.job;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * [저장소] backend/src/main/java/com/codexpong/backend/job/ExportResultRepository.java
+ * 설명:
+ *   - 내보내기 결과 캐시 행의 참조 수 증감과 LRU 축출 후보 조회를 제공한다.
+ *   - 참조 수 변경은 행을 읽지 않는 단일 UPDATE로 처리해 동시에 같은 결과를 받아 가도 값이 틀어지지 않게 한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-export-result-cache.md
+ */
+public interface ExportResultRepository extends JpaRepository<ExportResult, String> {
+
+    @Modifying
+    @Query("update ExportResult e set e.refCount = e.refCount + :count, e.lastUsedAt = :now "
+            + "where e.cacheKey = :cacheKey")
+    int addReferences(@Param("cacheKey") String cacheKey, @Param("count") int count,
+            @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update ExportResult e set e.refCount = case when e.refCount > :count then e.refCount - :count else 0 end "
+            + "where e.cacheKey = :cacheKey")
+    int release(@Param("cacheKey") String cacheKey, @Param("count") int count);
+
+    @Query("select coalesce(sum(e.sizeBytes), 0) from ExportResult e")
+    long sumBytes();
+
+    /**
+     * 참조 없는 결과를 먼저, 그 안에서는 오래 쓰이지 않은 순으로 읽는다.
+     */
+    @Query("select e from ExportResult e order by case when e.refCount = 0 then 0 else 1 end, e.lastUsedAt, "
+            + "e.cacheKey")
+    List<ExportResult> findEvictionCandidates(Pageable pageable);
+}
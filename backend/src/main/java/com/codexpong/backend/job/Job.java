@@ -9,6 +9,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -21,12 +22,25 @@ import java.time.ZoneId;
  * 설명:
  *   - v0.12.0 리플레이 내보내기 잡의 상태, 소유자, 대상 리플레이, 결과 경로를 저장한다.
  *   - 워커 진행 상황에 따라 상태 전이를 관리하며, 타임스탬프는 KST 기준으로 기록한다.
- * 버전: v0.12.0
+ *   - 결과 파일 크기(resultBytes)를 함께 저장해 보존 정책이 파일을 열지 않고 용량을 계산한다.
+ *     보존 정책으로 결과 파일이 지워지면 resultUri만 비우고 잡 이력은 남긴다.
+ *   - 구간 분할 MP4 내보내기는 segmentCount에 구간 수를 남긴다. 통째로 내보낸 잡은 null이다.
+ *   - 결과 캐시 대상 잡은 cacheKey를 가진다. 같은 키로 진행 중인 잡에 붙은 잡은 leaderJobId에 그 잡을 가리키고
+ *     직접 렌더링하지 않는다. cacheKey가 없는 잡의 결과 파일은 그 잡 혼자 소유한다.
+ * 버전: v1.2.0
  * 관련 설계문서:
  *   - design/backend/v0.12.0-jobs-api-and-state-machine.md
+ *   - design/backend/v1.2.0-retention-compactor.md
+ *   - design/backend/v1.2.0-segmented-mp4-export.md
+ *   - design/backend/v1.2.0-export-result-cache.md
  */
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs",
+        indexes = {
+                @Index(name = "idx_jobs_owner_ended", columnList = "owner_user_id, ended_at"),
+                @Index(name = "idx_jobs_cache_key_status", columnList = "cache_key, status"),
+                @Index(name = "idx_jobs_leader", columnList = "leader_job_id")
+        })
 public class Job {
 
     @Id
@@ -69,6 +83,15 @@ public class Job {
     @Column(length = 128)
     private String resultChecksum;
 
+    private Long resultBytes;
+
+    private Integer segmentCount;
+
+    @Column(length = 64)
+    private String cacheKey;
+
+    private Long leaderJobId;
+
     protected Job() {
     }
 
@@ -137,6 +160,42 @@ public class Job {
         return resultChecksum;
     }
 
+    public Long getResultBytes() {
+        return resultBytes;
+    }
+
+    public Integer getSegmentCount() {
+        return segmentCount;
+    }
+
+    public boolean isSegmented() {
+        return segmentCount != null && segmentCount > 1;
+    }
+
+    public void splitInto(int segmentCount) {
+        this.segmentCount = segmentCount;
+    }
+
+    public String getCacheKey() {
+        return cacheKey;
+    }
+
+    public Long getLeaderJobId() {
+        return leaderJobId;
+    }
+
+    public boolean isFollower() {
+        return leaderJobId != null;
+    }
+
+    public void shareResultsAs(String cacheKey) {
+        this.cacheKey = cacheKey;
+    }
+
+    public void follow(Long leaderJobId) {
+        this.leaderJobId = leaderJobId;
+    }
+
     public void markRunning(int progress) {
         if (status == JobStatus.QUEUED) {
             this.startedAt = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
@@ -150,10 +209,15 @@ public class Job {
     }
 
     public void succeed(String resultUri, String checksum) {
+        succeed(resultUri, checksum, null);
+    }
+
+    public void succeed(String resultUri, String checksum, Long resultBytes) {
         this.status = JobStatus.SUCCEEDED;
         this.progress = 100;
         this.resultUri = resultUri;
         this.resultChecksum = checksum;
+        this.resultBytes = resultBytes;
         this.endedAt = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
     }
 
@@ -0,0 +1,134 @@
+package com.codexpong.backend.job;
+
+import com.codexpong.backend.common.KstDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * [엔티티] backend/src/main/java/com/codexpong/backend/job/JobDispatch.java
+ * 설명:
+ *   - 워커 요청 하나(잡 전체, 구간 하나, 이어 붙이기 단계 하나)를 레인 스트림에 넣기 전후로 추적한다.
+ *   - dispatchedAt이 null이면 백엔드 대기 중이고, 값이 있으면 워커 쪽(스트림 또는 처리 중)에 있다.
+ *     워커 결과가 오면 행을 지운다. 잡이 지워지면 ON DELETE CASCADE로 함께 지워진다.
+ *   - startedAt은 워커가 QUEUE 단계를 알린 시각이며, createdAt과의 차이가 레인 대기 시간 메트릭이 된다.
+ *   - priority가 낮을수록 같은 소유자의 다른 요청보다 먼저 나간다. 이어 붙이기처럼 끝내는 단계를 앞세운다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-job-lanes-and-fair-share.md
+ */
+@Entity
+@Table(name = "job_dispatches",
+        indexes = {
+                @Index(name = "idx_job_dispatches_pending", columnList = "lane, dispatched_at, priority, id"),
+                @Index(name = "idx_job_dispatches_owner", columnList = "owner_id, lane, dispatched_at")
+        })
+public class JobDispatch {
+
+    static final int PRIORITY_FINISH = 0;
+    static final int PRIORITY_RENDER = 1;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "job_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Job job;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobLane lane;
+
+    private Integer segmentIndex;
+
+    @Column(nullable = false)
+    private int priority;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "dispatched_at")
+    private LocalDateTime dispatchedAt;
+
+    private LocalDateTime startedAt;
+
+    protected JobDispatch() {
+    }
+
+    JobDispatch(Job job, JobLane lane, Integer segmentIndex, int priority, String payload) {
+        this.job = job;
+        this.ownerId = job.getOwner().getId();
+        this.lane = lane;
+        this.segmentIndex = segmentIndex;
+        this.priority = priority;
+        this.payload = payload;
+    }
+
+    @PrePersist
+    void onCreate() {
+        if (createdAt == null) {
+            createdAt = KstDateTime.now();
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public JobLane getLane() {
+        return lane;
+    }
+
+    public Integer getSegmentIndex() {
+        return segmentIndex;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getDispatchedAt() {
+        return dispatchedAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void markStarted(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+}
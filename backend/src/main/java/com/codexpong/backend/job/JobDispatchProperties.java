@@ -0,0 +1,63 @@
+package com.codexpong.backend.job;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * [설정] backend/src/main/java/com/codexpong/backend/job/JobDispatchProperties.java
+ * 설명:
+ *   - 레인 디스패처의 소유자별 동시 요청 상한, 발행 lease, 주기, 한 번에 훑는 대기 요청 수를 외부 설정으로 묶는다.
+ *   - 소유자별 상한은 레인마다 따로 센다. 구간 분할 MP4의 구간 요청도 하나씩 센다.
+ *   - sweepEnabled를 끄면 주기 드레인 없이 커밋 직후 드레인만 한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-job-lanes-and-fair-share.md
+ */
+@ConfigurationProperties(prefix = "jobs.dispatch")
+public class JobDispatchProperties {
+
+    private int maxInFlightPerOwner = 4;
+    private long leaseMillis = 1_800_000;
+    private long intervalMillis = 1_000;
+    private int batchSize = 500;
+    private boolean sweepEnabled = true;
+
+    public int getMaxInFlightPerOwner() {
+        return maxInFlightPerOwner;
+    }
+
+    public void setMaxInFlightPerOwner(int maxInFlightPerOwner) {
+        this.maxInFlightPerOwner = maxInFlightPerOwner;
+    }
+
+    public long getLeaseMillis() {
+        return leaseMillis;
+    }
+
+    public void setLeaseMillis(long leaseMillis) {
+        this.leaseMillis = leaseMillis;
+    }
+
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    public void setIntervalMillis(long intervalMillis) {
+        this.intervalMillis = intervalMillis;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public boolean isSweepEnabled() {
+        return sweepEnabled;
+    }
+
+    public void setSweepEnabled(boolean sweepEnabled) {
+        this.sweepEnabled = sweepEnabled;
+    }
+}
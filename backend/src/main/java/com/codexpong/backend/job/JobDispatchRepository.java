@@ -0,0 +1,58 @@
+package com.codexpong.backend.job;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * [저장소] backend/src/main/java/com/codexpong/backend/job/JobDispatchRepository.java
+ * 설명:
+ *   - 레인별 대기 요청 조회, 소유자별 진행 중 요청 수 집계, 발행 선점/완료 처리를 제공한다.
+ *   - 발행 선점은 dispatchedAt이 비어 있을 때만 채우는 조건부 UPDATE라 같은 요청이 두 번 나가지 않는다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-job-lanes-and-fair-share.md
+ */
+public interface JobDispatchRepository extends JpaRepository<JobDispatch, Long> {
+
+    /**
+     * 아직 발행하지 않은 요청을 (priority, id) 순으로 읽는다. 상한에 닿은 소유자는 excludedOwners로 뺀다.
+     */
+    @Query("select d from JobDispatch d where d.lane = :lane and d.dispatchedAt is null "
+            + "and d.ownerId not in :excludedOwners order by d.priority, d.id")
+    List<JobDispatch> findPending(@Param("lane") JobLane lane,
+            @Param("excludedOwners") Collection<Long> excludedOwners, Pageable pageable);
+
+    @Query("select count(d) from JobDispatch d where d.lane = :lane and d.dispatchedAt is null")
+    long countPending(@Param("lane") JobLane lane);
+
+    /**
+     * lease 시각 이후 발행되어 아직 결과가 오지 않은 요청 수를 소유자별로 센다. 오래된 발행은 워커가 잃은 것으로 본다.
+     */
+    @Query("select new com.codexpong.backend.job.JobDispatchRepository$OwnerCount(d.ownerId, count(d)) "
+            + "from JobDispatch d where d.lane = :lane and d.dispatchedAt > :leaseStart group by d.ownerId")
+    List<OwnerCount> countInFlightByOwner(@Param("lane") JobLane lane, @Param("leaseStart") LocalDateTime leaseStart);
+
+    @Modifying
+    @Query("update JobDispatch d set d.dispatchedAt = :now where d.id = :id and d.dispatchedAt is null")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Query("select d from JobDispatch d where d.job.id = :jobId and d.startedAt is null order by d.id")
+    List<JobDispatch> findUnstarted(@Param("jobId") Long jobId);
+
+    @Modifying
+    @Query("delete from JobDispatch d where d.job.id = :jobId and d.segmentIndex = :segmentIndex")
+    int deleteSegment(@Param("jobId") Long jobId, @Param("segmentIndex") Integer segmentIndex);
+
+    @Modifying
+    @Query("delete from JobDispatch d where d.job.id = :jobId")
+    int deleteByJobId(@Param("jobId") Long jobId);
+
+    record OwnerCount(Long ownerId, long count) {
+    }
+}
@@ -0,0 +1,297 @@
+package com.codexpong.backend.job;
+
+import com.codexpong.backend.common.KstDateTime;
+import com.codexpong.backend.observability.ObservabilityMetrics;
+import com.codexpong.backend.observability.ObservabilityMetrics.JobLaneMeters;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * [디스패처] backend/src/main/java/com/codexpong/backend/job/JobDispatcher.java
+ * 설명:
+ *   - 워커 요청을 바로 스트림에 넣지 않고 job_dispatches에 쌓은 뒤, 레인마다 공정하게 골라 레인 스트림에 넣는다.
+ *   - 소유자별로 lease 안에 발행된 요청 수가 jobs.dispatch.max-in-flight-per-owner에 닿으면 더 넣지 않는다.
+ *     그래서 한 사용자가 MP4 20개를 몰아 요청해도 스트림에는 상한만큼만 들어가고, 다른 사용자의 요청이 바로 뒤에 선다.
+ *   - 한 번의 드레인에서는 소유자를 돌아가며(가장 오래 기다린 소유자부터) 하나씩 고른다. 같은 소유자 안에서는
+ *     priority(이어 붙이기 먼저) → 생성 순이다.
+ *   - 요청 생성/결과 수신 트랜잭션이 커밋되면 바로 드레인하고, 놓친 경우를 위해 주기적으로도 드레인한다.
+ *     커밋 뒤 드레인은 전용 스레드 하나에 넘긴다. 요청 스레드는 드레인을 기다리지 않고 응답하고,
+ *     드레인 중에 온 신호는 하나로 합쳐 한 번 더 돈다. 자체 트랜잭션은 REQUIRES_NEW로 연다.
+ *   - 발행은 요청마다 선점 UPDATE와 같은 트랜잭션에서 한다. 스트림 적재가 실패하면 선점이 롤백되어 다음 드레인에 다시 시도한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-job-lanes-and-fair-share.md
+ */
+@Component
+public class JobDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(JobDispatcher.class);
+    private static final Long NO_OWNER = -1L;
+
+    private final JobDispatchRepository dispatchRepository;
+    private final JobQueuePublisher jobQueuePublisher;
+    private final JobDispatchProperties properties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<JobLane, JobLaneMeters> laneMeters = new EnumMap<>(JobLane.class);
+    private final Map<JobLane, AtomicLong> pendingCounts = new EnumMap<>(JobLane.class);
+    private final AtomicBoolean drainPending = new AtomicBoolean();
+    private ExecutorService drainer;
+
+    public JobDispatcher(JobDispatchRepository dispatchRepository, JobQueuePublisher jobQueuePublisher,
+            JobDispatchProperties properties, ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager, ObservabilityMetrics metrics) {
+        this.dispatchRepository = dispatchRepository;
+        this.jobQueuePublisher = jobQueuePublisher;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (JobLane lane : JobLane.values()) {
+            AtomicLong pending = new AtomicLong();
+            pendingCounts.put(lane, pending);
+            laneMeters.put(lane, metrics.jobLaneMeters(lane.key(), pending::get));
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        drainer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-dispatch-drain");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (drainer != null) {
+            drainer.shutdownNow();
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 호출자 트랜잭션 안에서 요청을 쌓고, 커밋 뒤 드레인을 요청한다.
+     */
+    public void enqueue(Job job, JobRequestMessage message, Integer segmentIndex, int priority) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(message.toMap());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("잡 요청을 직렬화하지 못했습니다.", ex);
+        }
+        dispatchRepository.save(new JobDispatch(job, JobLane.of(job.getJobType()), segmentIndex, priority, payload));
+        drainAfterCommit();
+    }
+
+    /**
+     * 설명:
+     *   - 워커가 요청 착수(QUEUE 단계)를 알리면 레인 대기 시간을 한 번만 기록한다.
+     *     segmentIndex가 없으면 잡 전체 요청 또는 이어 붙이기 요청이다.
+     */
+    public void markStarted(Long jobId, Integer segmentIndex) {
+        LocalDateTime now = KstDateTime.now();
+        dispatchRepository.findUnstarted(jobId).stream()
+                .filter(dispatch -> Objects.equals(dispatch.getSegmentIndex(), segmentIndex))
+                .findFirst()
+                .ifPresent(dispatch -> {
+                    dispatch.markStarted(now);
+                    laneMeters.get(dispatch.getLane()).queueWait()
+                            .record(Duration.between(dispatch.getCreatedAt(), now));
+                });
+    }
+
+    /**
+     * 설명:
+     *   - 구간 요청 하나의 결과가 왔으므로 그 소유자의 자리를 하나 비운다.
+     */
+    public void completeSegment(Long jobId, int segmentIndex) {
+        dispatchRepository.deleteSegment(jobId, segmentIndex);
+        drainAfterCommit();
+    }
+
+    /**
+     * 설명:
+     *   - 잡이 끝났으므로 아직 나가지 않은 구간 요청까지 모두 거둔다.
+     */
+    public void completeJob(Long jobId) {
+        dispatchRepository.deleteByJobId(jobId);
+        drainAfterCommit();
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.dispatch.interval-millis:1000}",
+            initialDelayString = "${jobs.dispatch.interval-millis:1000}")
+    public void scheduledDrain() {
+        if (!properties.isSweepEnabled()) {
+            return;
+        }
+        drain();
+    }
+
+    /**
+     * 설명:
+     *   - 레인마다 대기 요청을 공정 순서로 골라 소유자별 상한 안에서 발행한다.
+     */
+    public synchronized void drain() {
+        for (JobLane lane : JobLane.values()) {
+            try {
+                drainLane(lane);
+            } catch (RuntimeException ex) {
+                log.warn("[JOB_DISPATCH_FAILED] lane={} reason={}", lane.key(), ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 상한에 닿은 소유자의 요청은 조회에서 빼고 한 페이지씩 고른다. 한 소유자의 대기 요청이 페이지를 채워도
+     *     다음 페이지에서 다른 소유자의 요청을 보게 된다.
+     */
+    private void drainLane(JobLane lane) {
+        while (true) {
+            LocalDateTime now = KstDateTime.now();
+            Page page = transactionTemplate.execute(status -> {
+                Map<Long, Long> inFlight = new HashMap<>();
+                dispatchRepository.countInFlightByOwner(lane,
+                                now.minus(Duration.ofMillis(properties.getLeaseMillis())))
+                        .forEach(row -> inFlight.put(row.ownerId(), row.count()));
+                List<Long> saturated = new ArrayList<>(List.of(NO_OWNER));
+                inFlight.forEach((ownerId, count) -> {
+                    if (count >= properties.getMaxInFlightPerOwner()) {
+                        saturated.add(ownerId);
+                    }
+                });
+                List<JobDispatch> pending = dispatchRepository.findPending(lane, saturated,
+                        PageRequest.of(0, properties.getBatchSize()));
+                return new Page(pending.size(), fairOrder(pending, inFlight, properties.getMaxInFlightPerOwner()));
+            });
+            for (JobDispatch dispatch : page.selected()) {
+                Map<String, String> fields = readPayload(dispatch);
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (dispatchRepository.claim(dispatch.getId(), now) == 1) {
+                        jobQueuePublisher.publish(lane, fields);
+                    }
+                });
+            }
+            if (page.selected().isEmpty() || page.scanned() < properties.getBatchSize()) {
+                break;
+            }
+        }
+        pendingCounts.get(lane).set(transactionTemplate.execute(status -> dispatchRepository.countPending(lane)));
+    }
+
+    /**
+     * 설명:
+     *   - 대기 요청(priority, id 순)을 소유자별 줄로 나누고, 소유자를 돌아가며 하나씩 고른다.
+     *     소유자 순서는 각 소유자의 가장 앞 요청 순서이며, 상한에 닿은 소유자는 건너뛴다.
+     */
+    static List<JobDispatch> fairOrder(List<JobDispatch> pending, Map<Long, Long> inFlight, int maxPerOwner) {
+        Map<Long, Deque<JobDispatch>> byOwner = new LinkedHashMap<>();
+        for (JobDispatch dispatch : pending) {
+            byOwner.computeIfAbsent(dispatch.getOwnerId(), owner -> new ArrayDeque<>()).add(dispatch);
+        }
+        Map<Long, Long> used = new HashMap<>(inFlight);
+        List<JobDispatch> selected = new ArrayList<>();
+        boolean progressed = true;
+        while (progressed) {
+            progressed = false;
+            for (Map.Entry<Long, Deque<JobDispatch>> entry : byOwner.entrySet()) {
+                long count = used.getOrDefault(entry.getKey(), 0L);
+                if (entry.getValue().isEmpty() || count >= maxPerOwner) {
+                    continue;
+                }
+                selected.add(entry.getValue().poll());
+                used.put(entry.getKey(), count + 1);
+                progressed = true;
+            }
+        }
+        return selected;
+    }
+
+    private Map<String, String> readPayload(JobDispatch dispatch) {
+        try {
+            return objectMapper.readValue(dispatch.getPayload(), new TypeReference<Map<String, String>>() {
+            });
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("잡 요청을 읽지 못했습니다. dispatchId=" + dispatch.getId(), ex);
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 한 트랜잭션에서 여러 번 불려도(구간 N개 적재 등) 커밋 뒤 드레인은 한 번만 건다. 트랜잭션 밖이면 바로 요청한다.
+     */
+    private void drainAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            requestDrain();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                requestDrain();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(JobDispatcher.this);
+            }
+        });
+    }
+
+    /**
+     * 설명:
+     *   - 전용 스레드에 드레인을 넘긴다. 이미 대기 중인 드레인이 있으면 그 드레인이 이번 요청도 함께 본다.
+     *     드레인을 시작하면서 표시를 내리므로, 드레인 중에 온 신호는 다음 드레인 하나로 이어진다.
+     */
+    private void requestDrain() {
+        if (drainer == null || !drainPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            drainer.execute(() -> {
+                drainPending.set(false);
+                drain();
+            });
+        } catch (RejectedExecutionException ex) {
+            drainPending.set(false);
+        }
+    }
+
+    private record Page(int scanned, List<JobDispatch> selected) {
+    }
+}
@@ -5,6 +5,8 @@ import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
@@ -14,18 +16,31 @@ import org.springframework.web.socket.WebSocketSession;
  * 설명:
  *   - 잡 진행률/결과를 사용자별 WebSocket 세션으로 전달한다.
  *   - 세션 연결 상태가 불안정해도 백엔드 처리 흐름을 막지 않도록 예외는 무시한다.
- * 버전: v0.12.0
+ *   - 진행률 알림은 잡마다 jobs.queue.progress-publish-interval-millis에 한 번만 보낸다. 간격 안에 온 값은 마지막 것만
+ *     보관했다가 간격이 지나면 주기 작업이 보낸다. 완료/실패 알림이 나가면 보관 중인 진행률은 버린다.
+ * 버전: v1.2.0
  * 관련 설계문서:
  *   - design/realtime/v0.12.0-job-progress-events.md
+ *   - design/backend/v1.2.0-batched-progress-ingestion.md
+ * 변경 이력:
+ *   - v1.2.0: 잡별 진행률 알림 간격 제한
  */
 @Component
 public class JobEventPublisher {
 
+    /**
+     * 이 시간 동안 알림이 없던 잡의 간격 상태는 주기 작업에서 지운다. 결과가 오지 않은 잡이 상태를 붙잡지 않게 한다.
+     */
+    private static final long IDLE_EVICT_NANOS = TimeUnit.MINUTES.toNanos(1);
+
     private final Map<Long, Set<WebSocketSession>> sessions = new ConcurrentHashMap<>();
+    private final Map<Long, ProgressThrottle> progressThrottles = new ConcurrentHashMap<>();
     private final ObjectMapper objectMapper;
+    private final JobQueueProperties queueProperties;
 
-    public JobEventPublisher(ObjectMapper objectMapper) {
+    public JobEventPublisher(ObjectMapper objectMapper, JobQueueProperties queueProperties) {
         this.objectMapper = objectMapper;
+        this.queueProperties = queueProperties;
     }
 
     public void register(Long userId, WebSocketSession session) {
@@ -44,15 +59,14 @@ public class JobEventPublisher {
     }
 
     public void publishProgress(Long userId, JobProgressMessage message) {
-        publish(userId, "job.progress", Map.of(
-                "jobId", message.jobId(),
-                "progress", message.progress(),
-                "phase", message.phase(),
-                "message", message.message()
-        ));
+        ProgressThrottle throttle = progressThrottles.computeIfAbsent(message.jobId(), jobId -> new ProgressThrottle());
+        if (throttle.offer(userId, message, System.nanoTime(), intervalNanos())) {
+            sendProgress(userId, message);
+        }
     }
 
     public void publishCompleted(Long userId, JobResultMessage message) {
+        progressThrottles.remove(message.jobId());
         publish(userId, "job.completed", Map.of(
                 "jobId", message.jobId(),
                 "downloadUrl", "/api/jobs/" + message.jobId() + "/result",
@@ -61,6 +75,7 @@ public class JobEventPublisher {
     }
 
     public void publishFailed(Long userId, JobResultMessage message) {
+        progressThrottles.remove(message.jobId());
         publish(userId, "job.failed", Map.of(
                 "jobId", message.jobId(),
                 "errorCode", message.errorCode(),
@@ -68,6 +83,33 @@ public class JobEventPublisher {
         ));
     }
 
+    /**
+     * 설명:
+     *   - 간격 제한으로 보관된 마지막 진행률 중 간격이 지난 것을 보낸다.
+     */
+    @Scheduled(fixedDelayString = "${jobs.queue.progress-publish-interval-millis:250}")
+    public void flushProgress() {
+        long now = System.nanoTime();
+        long interval = intervalNanos();
+        progressThrottles.forEach((jobId, throttle) -> {
+            ProgressThrottle.Pending pending = throttle.poll(now, interval);
+            if (pending != null) {
+                sendProgress(pending.userId(), pending.message());
+            } else if (throttle.idleSince(now, IDLE_EVICT_NANOS)) {
+                progressThrottles.remove(jobId, throttle);
+            }
+        });
+    }
+
+    private void sendProgress(Long userId, JobProgressMessage message) {
+        publish(userId, "job.progress", Map.of(
+                "jobId", message.jobId(),
+                "progress", message.progress(),
+                "phase", message.phase(),
+                "message", message.message()
+        ));
+    }
+
     private void publish(Long userId, String type, Object payload) {
         Set<WebSocketSession> userSessions = sessions.get(userId);
         if (userSessions == null || userSessions.isEmpty()) {
@@ -92,4 +134,45 @@ public class JobEventPublisher {
         } catch (IOException ignored) {
         }
     }
+
+    private long intervalNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(queueProperties.getProgressPublishIntervalMillis());
+    }
+
+    /**
+     * 설명:
+     *   - 잡 하나의 마지막 발송 시각과 보관 중인 마지막 진행률이다. 리스너 스레드와 주기 작업이 함께 쓰므로 동기화한다.
+     */
+    private static final class ProgressThrottle {
+
+        private long lastSentAt = Long.MIN_VALUE;
+        private Pending pending;
+
+        synchronized boolean offer(Long userId, JobProgressMessage message, long now, long interval) {
+            if (lastSentAt != Long.MIN_VALUE && now - lastSentAt < interval) {
+                pending = new Pending(userId, message);
+                return false;
+            }
+            lastSentAt = now;
+            pending = null;
+            return true;
+        }
+
+        synchronized Pending poll(long now, long interval) {
+            if (pending == null || now - lastSentAt < interval) {
+                return null;
+            }
+            Pending due = pending;
+            pending = null;
+            lastSentAt = now;
+            return due;
+        }
+
+        synchronized boolean idleSince(long now, long idle) {
+            return pending == null && now - lastSentAt >= idle;
+        }
+
+        private record Pending(Long userId, JobProgressMessage message) {
+        }
+    }
 }
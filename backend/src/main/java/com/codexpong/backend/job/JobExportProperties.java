@@ -7,14 +7,22 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * 설명:
  *   - 워커가 출력 파일을 기록할 기본 디렉터리를 외부 설정으로 관리한다.
  *   - 리플레이 JSONL 원본은 v0.11.0 저장 경로를 그대로 재사용한다.
- * 버전: v0.12.0
+ *   - v1.2.0부터 MP4 내보내기를 나눌 구간 길이와 최대 구간 수를 함께 둔다. 구간이 1개면 기존처럼 통째로 보낸다.
+ *   - 내보내기 결과 캐시 사용 여부와 캐시가 디스크에 둘 최대 바이트(0이면 무제한)를 둔다.
+ * 버전: v1.2.0
  * 관련 설계문서:
  *   - design/backend/v0.12.0-jobs-api-and-state-machine.md
+ *   - design/backend/v1.2.0-segmented-mp4-export.md
+ *   - design/backend/v1.2.0-export-result-cache.md
  */
 @ConfigurationProperties(prefix = "jobs.export")
 public class JobExportProperties {
 
     private String path;
+    private long segmentMs = 60_000;
+    private int maxSegments = 8;
+    private boolean cacheEnabled = true;
+    private long cacheMaxBytes = 5L * 1024 * 1024 * 1024;
 
     public String getPath() {
         return path;
@@ -23,4 +31,36 @@ public class JobExportProperties {
     public void setPath(String path) {
         this.path = path;
     }
+
+    public long getSegmentMs() {
+        return segmentMs;
+    }
+
+    public void setSegmentMs(long segmentMs) {
+        this.segmentMs = segmentMs;
+    }
+
+    public int getMaxSegments() {
+        return maxSegments;
+    }
+
+    public void setMaxSegments(int maxSegments) {
+        this.maxSegments = maxSegments;
+    }
+
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
+    public void setCacheEnabled(boolean cacheEnabled) {
+        this.cacheEnabled = cacheEnabled;
+    }
+
+    public long getCacheMaxBytes() {
+        return cacheMaxBytes;
+    }
+
+    public void setCacheMaxBytes(long cacheMaxBytes) {
+        this.cacheMaxBytes = cacheMaxBytes;
+    }
 }
@@ -0,0 +1,33 @@
+package com.codexpong.backend.job;
+
+/**
+ * [모델] backend/src/main/java/com/codexpong/backend/job/JobLane.java
+ * 설명:
+ *   - 워커 요청 스트림을 잡 유형별 레인으로 나눈다. 레인 스트림 이름은 "{jobs.queue.request-stream}.{key}"다.
+ *   - 워커는 레인마다 가중치를 두고 번갈아 읽는다. 그래서 MP4 요청이 쌓여도 짧은 요청이 그 뒤에 줄 서지 않는다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-job-lanes-and-fair-share.md
+ */
+public enum JobLane {
+    THUMBNAIL("thumbnail"),
+    MP4("mp4");
+
+    private final String key;
+
+    JobLane(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public String streamName(String requestStream) {
+        return requestStream + "." + key;
+    }
+
+    public static JobLane of(JobType jobType) {
+        return jobType == JobType.REPLAY_THUMBNAIL ? THUMBNAIL : MP4;
+    }
+}
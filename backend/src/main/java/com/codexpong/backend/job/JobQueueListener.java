@@ -3,14 +3,21 @@ package com.codexpong.backend.job;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.stream.Consumer;
 import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.stream.StreamMessageListenerContainer;
 import org.springframework.stereotype.Component;
@@ -20,22 +27,32 @@ import org.springframework.stereotype.Component;
  * 설명:
  *   - Redis Streams progress/result 스트림을 소비하여 잡 상태를 업데이트하고 WebSocket으로 중계한다.
  *   - 최소 재시도/데드레터 정책을 명시하기 위해 오류 시 별도 스트림으로 이동 후 ACK 처리한다.
- * 버전: v0.12.0
+ *   - 진행률은 전용 스레드가 XREADGROUP COUNT로 묶어 읽고, 한 트랜잭션으로 반영한 뒤 한 번의 XACK로 확인한다.
+ *     묶음 반영이 실패하면 레코드 하나씩 다시 반영해 문제 레코드만 데드레터로 보낸다.
+ * 버전: v1.2.0
  * 관련 설계문서:
  *   - design/infra/v0.12.0-worker-and-queue-topology.md
  *   - design/realtime/v0.12.0-job-progress-events.md
+ *   - design/backend/v1.2.0-batched-progress-ingestion.md
+ * 변경 이력:
+ *   - v1.2.0: 진행률 스트림 묶음 읽기·반영·ACK
  */
 @Component
 @ConditionalOnProperty(name = "jobs.queue.enabled", havingValue = "true", matchIfMissing = true)
 public class JobQueueListener {
 
+    private static final Logger log = LoggerFactory.getLogger(JobQueueListener.class);
     private static final String DEAD_LETTER_STREAM = "job.deadletter";
+    private static final String PROGRESS_CONSUMER = "progress-consumer";
+    private static final Duration PROGRESS_BLOCK = Duration.ofSeconds(2);
 
     private final RedisConnectionFactory connectionFactory;
     private final StringRedisTemplate redisTemplate;
     private final JobQueueProperties properties;
     private final JobService jobService;
     private StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+    private Thread progressThread;
+    private volatile boolean running;
 
     public JobQueueListener(RedisConnectionFactory connectionFactory, StringRedisTemplate redisTemplate,
             JobQueueProperties properties, JobService jobService) {
@@ -56,34 +73,108 @@ public class JobQueueListener {
                         .build();
         container = StreamMessageListenerContainer.create(connectionFactory, options);
 
-        container.receive(Consumer.from(properties.getConsumerGroup(), "progress-consumer"),
-                StreamOffset.create(properties.getProgressStream(), ReadOffset.lastConsumed()),
-                this::handleProgressRecord);
         container.receive(Consumer.from(properties.getConsumerGroup(), "result-consumer"),
                 StreamOffset.create(properties.getResultStream(), ReadOffset.lastConsumed()),
                 this::handleResultRecord);
 
         container.start();
+
+        running = true;
+        progressThread = new Thread(this::pollProgress, "job-progress-consumer");
+        progressThread.setDaemon(true);
+        progressThread.start();
     }
 
     @PreDestroy
     public void stop() {
+        running = false;
+        if (progressThread != null) {
+            progressThread.interrupt();
+            try {
+                progressThread.join(PROGRESS_BLOCK.toMillis() * 2);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
         if (container != null) {
             container.stop();
         }
     }
 
+    private void pollProgress() {
+        Consumer consumer = Consumer.from(properties.getConsumerGroup(), PROGRESS_CONSUMER);
+        StreamReadOptions options = StreamReadOptions.empty()
+                .count(properties.getProgressBatchSize())
+                .block(PROGRESS_BLOCK);
+        // read(...)가 제네릭 가변 인자라 배열을 직접 만든다. 원소가 하나뿐이라 힙 오염이 없다.
+        @SuppressWarnings("unchecked")
+        StreamOffset<String>[] offsets = new StreamOffset[] {
+                StreamOffset.create(properties.getProgressStream(), ReadOffset.lastConsumed())};
+        while (running) {
+            try {
+                List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                        .read(consumer, options, offsets);
+                if (records != null && !records.isEmpty()) {
+                    handleProgressRecords(records.stream().map(this::toStringRecord).toList());
+                }
+            } catch (Exception ex) {
+                if (!running) {
+                    return;
+                }
+                log.warn("[JOB_PROGRESS_READ_FAILED] reason={}", ex.getMessage());
+                try {
+                    Thread.sleep(PROGRESS_BLOCK.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 읽은 묶음을 한 번에 반영하고 한 번에 ACK한다. 파싱할 수 없는 레코드는 먼저 데드레터로 보낸다.
+     */
+    private void handleProgressRecords(List<MapRecord<String, String, String>> records) {
+        List<MapRecord<String, String, String>> parsed = new ArrayList<>();
+        List<JobProgressMessage> messages = new ArrayList<>();
+        for (MapRecord<String, String, String> record : records) {
+            try {
+                messages.add(JobProgressMessage.fromRaw(record.getValue()));
+                parsed.add(record);
+            } catch (Exception ex) {
+                moveToDeadLetter(record, ex.getMessage());
+            }
+        }
+        if (parsed.isEmpty()) {
+            return;
+        }
+        try {
+            jobService.handleProgressBatch(messages);
+            redisTemplate.opsForStream().acknowledge(properties.getProgressStream(), properties.getConsumerGroup(),
+                    parsed.stream().map(MapRecord::getId).toArray(RecordId[]::new));
+        } catch (Exception ex) {
+            log.warn("[JOB_PROGRESS_BATCH_FAILED] size={} reason={}", parsed.size(), ex.getMessage());
+            parsed.forEach(this::handleProgressRecord);
+        }
+    }
+
     private void handleProgressRecord(MapRecord<String, String, String> record) {
         try {
-            Map<String, String> body = record.getValue().entrySet().stream()
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-            jobService.handleProgress(JobProgressMessage.fromRaw(body));
+            jobService.handleProgress(JobProgressMessage.fromRaw(record.getValue()));
             redisTemplate.opsForStream().acknowledge(properties.getProgressStream(), properties.getConsumerGroup(), record.getId());
         } catch (Exception ex) {
             moveToDeadLetter(record, ex.getMessage());
         }
     }
 
+    private MapRecord<String, String, String> toStringRecord(MapRecord<String, Object, Object> record) {
+        Map<String, String> body = new HashMap<>();
+        record.getValue().forEach((key, value) -> body.put(String.valueOf(key), String.valueOf(value)));
+        return MapRecord.create(record.getStream(), body).withId(record.getId());
+    }
+
     private void handleResultRecord(MapRecord<String, String, String> record) {
         try {
             Map<String, String> body = record.getValue().entrySet().stream()
@@ -6,9 +6,13 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * [설정] backend/src/main/java/com/codexpong/backend/job/JobQueueProperties.java
  * 설명:
  *   - Redis Streams 큐 토폴로지에 사용되는 스트림 이름, 그룹 이름, 활성화 여부를 외부 설정으로 묶는다.
- * 버전: v0.12.0
+ *   - 진행률 스트림을 한 번에 읽을 최대 레코드 수와, 잡별 진행률 WebSocket 알림의 최소 간격도 함께 둔다.
+ * 버전: v1.2.0
  * 관련 설계문서:
  *   - design/infra/v0.12.0-worker-and-queue-topology.md
+ *   - design/backend/v1.2.0-batched-progress-ingestion.md
+ * 변경 이력:
+ *   - v1.2.0: 진행률 배치 크기, 진행률 알림 최소 간격 추가
  */
 @ConfigurationProperties(prefix = "jobs.queue")
 public class JobQueueProperties {
@@ -18,6 +22,8 @@ public class JobQueueProperties {
     private String progressStream = "job.progress";
     private String resultStream = "job.results";
     private String consumerGroup = "replay-jobs";
+    private int progressBatchSize = 200;
+    private long progressPublishIntervalMillis = 250;
 
     public boolean isEnabled() {
         return enabled;
@@ -58,4 +64,20 @@ public class JobQueueProperties {
     public void setConsumerGroup(String consumerGroup) {
         this.consumerGroup = consumerGroup;
     }
+
+    public int getProgressBatchSize() {
+        return progressBatchSize;
+    }
+
+    public void setProgressBatchSize(int progressBatchSize) {
+        this.progressBatchSize = progressBatchSize;
+    }
+
+    public long getProgressPublishIntervalMillis() {
+        return progressPublishIntervalMillis;
+    }
+
+    public void setProgressPublishIntervalMillis(long progressPublishIntervalMillis) {
+        this.progressPublishIntervalMillis = progressPublishIntervalMillis;
+    }
 }
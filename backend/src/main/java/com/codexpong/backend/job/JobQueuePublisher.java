@@ -1,5 +1,6 @@
 package com.codexpong.backend.job;
 
+import java.util.Map;
 import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.connection.stream.StreamRecords;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -10,10 +11,12 @@ import org.springframework.stereotype.Component;
  * 설명:
  *   - v0.12.0 Redis Streams 기반 워커 큐로 잡 요청 메시지를 발행한다.
  *   - 동일 jobId는 한 번만 발행되도록 서비스 레이어에서 선행 검증을 수행하며, 여기서는 단순히 스트림에 적재한다.
- * 버전: v0.12.0
+ *   - v1.2.0부터 잡 유형별 레인 스트림("{request-stream}.{lane}")에 적재한다. 언제 적재할지는 JobDispatcher가 정한다.
+ * 버전: v1.2.0
  * 관련 설계문서:
  *   - design/backend/v0.12.0-jobs-api-and-state-machine.md
  *   - design/infra/v0.12.0-worker-and-queue-topology.md
+ *   - design/backend/v1.2.0-job-lanes-and-fair-share.md
  */
 @Component
 public class JobQueuePublisher {
@@ -27,11 +30,15 @@ public class JobQueuePublisher {
     }
 
     public void publish(JobRequestMessage message) {
+        publish(JobLane.of(message.jobType()), message.toMap());
+    }
+
+    public void publish(JobLane lane, Map<String, String> fields) {
         if (!properties.isEnabled()) {
             return;
         }
-        redisTemplate.opsForStream().add(StreamRecords.mapBacked(message.toMap())
-                .withStreamKey(properties.getRequestStream())
+        redisTemplate.opsForStream().add(StreamRecords.mapBacked(fields)
+                .withStreamKey(lane.streamName(properties.getRequestStream()))
                 .withId(RecordId.autoGenerate()));
     }
 }
@@ -1,19 +1,33 @@
 package com.codexpong.backend.job;
 
 import com.codexpong.backend.user.domain.User;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * [저장소] backend/src/main/java/com/codexpong/backend/job/JobRepository.java
  * 설명:
  *   - v0.12.0 잡 엔티티의 기본 CRUD와 소유자 기반 조회 쿼리를 제공한다.
- * 버전: v0.12.0
+ *   - v1.2.0부터 보존 정책용 결과 파일 키셋 스캔과 일괄 정리 쿼리를 제공한다.
+ *   - 구간 결과를 반영할 때는 잡 행을 잠가 마지막 구간 완료와 이어 붙이기 발행이 한 번만 일어나게 한다.
+ *   - 결과 캐시용으로 같은 키의 진행 중인 대표 잡과 그 잡에 붙은 잡을 찾는 쿼리를 둔다.
+ *     전역 용량 정책은 캐시가 소유하지 않은 결과(cacheKey 없음)만 대상으로 한다.
+ * 버전: v1.2.0
  * 관련 설계문서:
  *   - design/backend/v0.12.0-jobs-api-and-state-machine.md
+ *   - design/backend/v1.2.0-retention-compactor.md
+ *   - design/backend/v1.2.0-segmented-mp4-export.md
+ *   - design/backend/v1.2.0-export-result-cache.md
  */
 public interface JobRepository extends JpaRepository<Job, Long> {
 
@@ -28,4 +42,66 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     Page<Job> findByOwnerAndJobTypeAndStatus(User owner, JobType jobType, JobStatus status, Pageable pageable);
 
     List<Job> findByOwner(User owner);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from Job j where j.id = :id")
+    Optional<Job> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 결과 파일이 남은 잡을 (소유자, 종료 시각 내림차순, id 내림차순)으로 커서 뒤부터 읽는다.
+     */
+    @Query("select new com.codexpong.backend.job.JobRetentionRow(j.id, j.owner.id, j.endedAt, j.resultUri, "
+            + "j.resultBytes, j.cacheKey) from Job j where j.resultUri is not null and (j.owner.id > :ownerId "
+            + "or (j.owner.id = :ownerId and (j.endedAt < :endedAt or (j.endedAt = :endedAt and j.id < :id)))) "
+            + "order by j.owner.id, j.endedAt desc, j.id desc")
+    List<JobRetentionRow> findResultRowsAfter(@Param("ownerId") Long ownerId,
+            @Param("endedAt") LocalDateTime endedAt, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 캐시가 소유하지 않은 결과 파일이 남은 잡을 오래된 순(종료 시각, id)으로 커서 뒤부터 읽는다.
+     */
+    @Query("select new com.codexpong.backend.job.JobRetentionRow(j.id, j.owner.id, j.endedAt, j.resultUri, "
+            + "j.resultBytes, j.cacheKey) from Job j where j.resultUri is not null and j.cacheKey is null "
+            + "and (j.endedAt > :endedAt "
+            + "or (j.endedAt = :endedAt and j.id > :id)) order by j.endedAt, j.id")
+    List<JobRetentionRow> findOldestResultRowsAfter(@Param("endedAt") LocalDateTime endedAt,
+            @Param("id") Long id, Pageable pageable);
+
+    @Query("select coalesce(sum(j.resultBytes), 0) from Job j where j.resultUri is not null and j.cacheKey is null")
+    long sumResultBytes();
+
+    @Modifying
+    @Query("update Job j set j.resultUri = null where j.id in :ids")
+    int clearResults(@Param("ids") Collection<Long> ids);
+
+    @Query("select j.resultUri from Job j where j.targetReplay.id in :replayIds and j.resultUri is not null "
+            + "and j.cacheKey is null")
+    List<String> findResultUrisByTargetReplayIdIn(@Param("replayIds") Collection<Long> replayIds);
+
+    /**
+     * 캐시 결과를 가진 잡의 cacheKey를 잡마다 하나씩 돌려준다. 같은 키가 여러 번 나오면 그만큼 참조를 반납한다.
+     */
+    @Query("select j.cacheKey from Job j where j.targetReplay.id in :replayIds and j.resultUri is not null "
+            + "and j.cacheKey is not null")
+    List<String> findResultCacheKeysByTargetReplayIdIn(@Param("replayIds") Collection<Long> replayIds);
+
+    /**
+     * 같은 캐시 키로 직접 렌더링 중인(다른 잡에 붙지 않은) 잡을 오래된 순으로 읽는다.
+     */
+    @Query("select j from Job j where j.cacheKey = :cacheKey and j.leaderJobId is null and j.id <> :excludeId "
+            + "and j.status in :statuses order by j.id")
+    List<Job> findLeaders(@Param("cacheKey") String cacheKey, @Param("excludeId") Long excludeId,
+            @Param("statuses") Collection<JobStatus> statuses, Pageable pageable);
+
+    List<Job> findByLeaderJobIdAndStatusIn(Long leaderJobId, Collection<JobStatus> statuses);
+
+    List<Job> findByLeaderJobIdInAndStatusIn(Collection<Long> leaderJobIds, Collection<JobStatus> statuses);
+
+    @Modifying
+    @Query("update Job j set j.resultUri = null where j.cacheKey = :cacheKey and j.resultUri is not null")
+    int clearResultsByCacheKey(@Param("cacheKey") String cacheKey);
+
+    @Modifying
+    @Query("delete from Job j where j.targetReplay.id in :replayIds")
+    int deleteByTargetReplayIdIn(@Param("replayIds") Collection<Long> replayIds);
 }
@@ -6,12 +6,19 @@ import java.util.Map;
  * [메시지] backend/src/main/java/com/codexpong/backend/job/JobResultMessage.java
  * 설명:
  *   - 워커가 완료/실패 결과를 게시할 때 사용하는 Redis Streams payload 스키마를 표현한다.
- * 버전: v0.12.0
+ *   - 구간 분할 내보내기의 구간 잡 결과는 segmentIndex를 함께 보낸다. 잡 전체 결과는 null이다.
+ * 버전: v1.2.0
  * 관련 설계문서:
  *   - design/infra/v0.12.0-worker-and-queue-topology.md
+ *   - design/backend/v1.2.0-segmented-mp4-export.md
  */
 public record JobResultMessage(Long jobId, JobStatus status, String resultUri, String checksum,
-                               String errorCode, String errorMessage) {
+                               String errorCode, String errorMessage, Integer segmentIndex) {
+
+    public JobResultMessage(Long jobId, JobStatus status, String resultUri, String checksum,
+            String errorCode, String errorMessage) {
+        this(jobId, status, resultUri, checksum, errorCode, errorMessage, null);
+    }
 
     public static JobResultMessage fromRaw(Map<String, String> map) {
         Long jobId = Long.parseLong(map.getOrDefault("jobId", "0"));
@@ -20,6 +27,8 @@ public record JobResultMessage(Long jobId, JobStatus status, String resultUri, S
         String checksum = map.getOrDefault("checksum", "");
         String errorCode = map.getOrDefault("errorCode", "");
         String errorMessage = map.getOrDefault("errorMessage", "");
-        return new JobResultMessage(jobId, status, resultUri, checksum, errorCode, errorMessage);
+        String segment = map.getOrDefault("segmentIndex", "");
+        return new JobResultMessage(jobId, status, resultUri, checksum, errorCode, errorMessage,
+                segment.isBlank() ? null : Integer.valueOf(segment));
     }
 }
@@ -0,0 +1,26 @@
+package com.codexpong.backend.job;
+
+import java.time.LocalDateTime;
+
+/**
+ * [모델] backend/src/main/java/com/codexpong/backend/job/JobRetentionRow.java
+ * 설명:
+ *   - 보존 정책 스캔이 내보내기 결과를 판정하는 데 필요한 열만 담은 프로젝션이다.
+ *   - resultBytes가 없는(크기 기록 이전) 결과는 0바이트로 계산한다.
+ *   - cacheKey가 있으면 결과 파일은 내보내기 결과 캐시가 소유하므로 파일 대신 참조만 반납한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-retention-compactor.md
+ *   - design/backend/v1.2.0-export-result-cache.md
+ */
+public record JobRetentionRow(Long id, Long ownerId, LocalDateTime endedAt, String resultUri, Long resultBytes,
+        String cacheKey) {
+
+    public long sizeBytes() {
+        return resultBytes == null ? 0 : resultBytes;
+    }
+
+    public boolean isCached() {
+        return cacheKey != null;
+    }
+}
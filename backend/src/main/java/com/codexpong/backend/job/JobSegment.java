@@ -0,0 +1,141 @@
+package com.codexpong.backend.job;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * [엔티티] backend/src/main/java/com/codexpong/backend/job/JobSegment.java
+ * 설명:
+ *   - 구간 분할 MP4 내보내기에서 한 구간 [startMs, endMs)의 상태, 진행률, 부분 파일 경로를 저장한다.
+ *   - 잡이 지워지면(보존 정책의 일괄 삭제 포함) DB의 ON DELETE CASCADE로 함께 지워진다.
+ *   - 진행률은 줄어들지 않는다. 워커가 QUEUE(10) 뒤 PREPARE(5)를 보내도 집계가 뒤로 가지 않게 한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-segmented-mp4-export.md
+ */
+@Entity
+@Table(name = "job_segments",
+        uniqueConstraints = @UniqueConstraint(name = "uk_job_segments_job_index",
+                columnNames = {"job_id", "segment_index"}))
+public class JobSegment {
+
+    /**
+     * 구간 경계를 색인 간격(1초) 단위로 맞춰 워커가 구간마다 색인 경계에서 읽기 시작하게 한다.
+     */
+    static final long BOUNDARY_MS = 1_000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "job_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Job job;
+
+    @Column(name = "segment_index", nullable = false)
+    private int segmentIndex;
+
+    @Column(nullable = false)
+    private long startMs;
+
+    @Column(nullable = false)
+    private long endMs;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobStatus status = JobStatus.QUEUED;
+
+    @Column(nullable = false)
+    private int progress = 0;
+
+    @Column(length = 500)
+    private String resultUri;
+
+    protected JobSegment() {
+    }
+
+    JobSegment(Job job, int segmentIndex, long startMs, long endMs) {
+        this.job = job;
+        this.segmentIndex = segmentIndex;
+        this.startMs = startMs;
+        this.endMs = endMs;
+    }
+
+    /**
+     * 설명:
+     *   - 경기 길이를 segmentMs 안팎의 구간으로 나눈다. 구간 수는 maxSegments를 넘지 않고, 경계는 1초 단위다.
+     * 출력:
+     *   - 구간이 2개 미만이면 빈 목록(나누지 않고 통째로 내보낸다)
+     */
+    static List<JobSegment> plan(Job job, long durationMs, long segmentMs, int maxSegments) {
+        if (durationMs <= 0 || segmentMs <= 0 || maxSegments < 2) {
+            return List.of();
+        }
+        long count = Math.min(maxSegments, (durationMs + segmentMs - 1) / segmentMs);
+        long length = (durationMs + count - 1) / count;
+        length = (length + BOUNDARY_MS - 1) / BOUNDARY_MS * BOUNDARY_MS;
+        List<JobSegment> segments = new ArrayList<>();
+        for (long start = 0; start < durationMs; start += length) {
+            segments.add(new JobSegment(job, segments.size(), start, Math.min(durationMs, start + length)));
+        }
+        return segments.size() < 2 ? List.of() : segments;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Job getJob() {
+        return job;
+    }
+
+    public int getSegmentIndex() {
+        return segmentIndex;
+    }
+
+    public long getStartMs() {
+        return startMs;
+    }
+
+    public long getEndMs() {
+        return endMs;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public int getProgress() {
+        return progress;
+    }
+
+    public String getResultUri() {
+        return resultUri;
+    }
+
+    public void updateProgress(int progress) {
+        this.status = JobStatus.RUNNING;
+        this.progress = Math.max(this.progress, Math.min(100, Math.max(0, progress)));
+    }
+
+    public void succeed(String resultUri) {
+        this.status = JobStatus.SUCCEEDED;
+        this.progress = 100;
+        this.resultUri = resultUri;
+    }
+}
@@ -0,0 +1,20 @@
+package com.codexpong.backend.job;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * [저장소] backend/src/main/java/com/codexpong/backend/job/JobSegmentRepository.java
+ * 설명:
+ *   - 구간 분할 MP4 내보내기의 구간 행을 잡 단위로 조회한다. 진행률 묶음 반영 시에는 여러 잡을 한 번에 읽는다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-segmented-mp4-export.md
+ */
+public interface JobSegmentRepository extends JpaRepository<JobSegment, Long> {
+
+    List<JobSegment> findByJobIdOrderBySegmentIndex(Long jobId);
+
+    List<JobSegment> findByJobIdInOrderBySegmentIndex(Collection<Long> jobIds);
+}
@@ -2,22 +2,37 @@ package com.codexpong.backend.job;
 
 import com.codexpong.backend.replay.Replay;
 import com.codexpong.backend.replay.ReplayRepository;
+import com.codexpong.backend.replay.ReplayService;
+import com.codexpong.backend.replay.thumbnail.ReplayThumbnailService;
 import com.codexpong.backend.user.domain.User;
 import com.codexpong.backend.user.repository.UserRepository;
 import jakarta.annotation.PostConstruct;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 /**
@@ -25,31 +40,79 @@ import org.springframework.web.server.ResponseStatusException;
  * 설명:
  *   - 리플레이 내보내기 잡 생성, 상태 조회, 결과 다운로드, 워커 피드백 반영을 담당한다.
  *   - Redis Streams 디스패처/리스너와 WebSocket 퍼블리셔를 연결해 엔드 투 엔드 파이프라인을 완성한다.
- * 버전: v0.12.0
+ *   - 워커에는 JSONL 이벤트 파일(평문 또는 블록 gzip) 경로를 넘긴다. 입력 로그 리플레이는 ReplayService가 재시뮬레이션해 준비한다.
+ *     이 파일은 잡마다 내보내기 루트 아래 inputs/에 고정해 두고 잡이 끝나면 지운다. 티어 이전이나 로컬 캐시 축출과 무관하다.
+ *   - 성공 결과의 파일 크기를 기록해 두고, 보존 정책으로 지워진 결과는 다운로드 시 410으로 알린다.
+ *   - 썸네일 잡은 큐/워커로 보내지 않고 커밋 직후 ReplayThumbnailService 전용 풀에서 그려 바로 완료 처리한다.
+ *   - 긴 MP4 내보내기는 시간 구간으로 나눠 구간마다 요청을 발행하고, 구간이 모두 끝나면 이어 붙이기 단계를 발행한다.
+ *     진행률은 구간 평균(95%까지) + 이어 붙이기(나머지 5%)로 모아 한 잡의 진행률로 알린다.
+ *   - 같은 리플레이 체크섬·유형·렌더 프로필의 결과가 캐시에 있으면 렌더링 없이 바로 완료하고,
+ *     같은 키로 렌더링 중인 잡이 있으면 그 잡에 붙여 진행률과 결과를 나눠 받는다.
+ *   - 워커 요청은 JobDispatcher에 맡겨 레인별·소유자별 공정 순서로 발행한다. 결과가 오면 소유자의 자리를 돌려준다.
+ *   - 진행률은 리스너가 읽은 묶음 단위로 받아 잡별 마지막 값만 한 트랜잭션에 반영한다.
+ * 버전: v1.2.0
  * 관련 설계문서:
  *   - design/backend/v0.12.0-jobs-api-and-state-machine.md
+ *   - design/backend/v1.2.0-replay-input-log.md
+ *   - design/backend/v1.2.0-retention-compactor.md
+ *   - design/backend/v1.2.0-replay-thumbnail-renderer.md
+ *   - design/backend/v1.2.0-segmented-mp4-export.md
+ *   - design/backend/v1.2.0-export-result-cache.md
+ *   - design/backend/v1.2.0-job-lanes-and-fair-share.md
+ *   - design/backend/v1.2.0-batched-progress-ingestion.md
+ * 변경 이력:
+ *   - v1.2.0: REPLAY_INPUTS_V2 리플레이는 재시뮬레이션한 이벤트 파일을 워커 입력으로 전달
+ *   - v1.2.0: 결과 파일 크기 기록, 보존 정책으로 삭제된 결과 다운로드 시 410 응답
+ *   - v1.2.0: 썸네일 잡을 워커 대신 서버 내 렌더러로 처리
+ *   - v1.2.0: MP4 내보내기 구간 분할 발행, 구간 진행률 집계, 이어 붙이기 단계
+ *   - v1.2.0: 내보내기 결과 캐시 조회, 진행 중인 같은 키 잡에 붙이기
+ *   - v1.2.0: 워커 요청을 레인 디스패처로 발행, 레인 대기 시간 기록
+ *   - v1.2.0: 진행률 묶음 반영(잡별 마지막 값만 기록·알림)
+ *   - v1.2.0: 워커 입력을 잡마다 내보내기 루트에 고정해 티어 이전·캐시 축출과 분리
  */
 @Service
 public class JobService {
 
+    /**
+     * 구간 분할 잡에서 구간 렌더링이 차지하는 진행률 몫(%). 나머지는 이어 붙이기 단계다.
+     */
+    static final int SEGMENT_PROGRESS_SHARE = 95;
+    static final String CONCAT_STEP = "CONCAT";
+    private static final String QUEUE_PHASE = "QUEUE";
+    private static final String INPUT_DIR = "inputs";
+    private static final List<JobStatus> ACTIVE_STATUSES = List.of(JobStatus.QUEUED, JobStatus.RUNNING);
+
     private final JobRepository jobRepository;
+    private final JobSegmentRepository segmentRepository;
     private final ReplayRepository replayRepository;
     private final UserRepository userRepository;
-    private final JobQueuePublisher jobQueuePublisher;
+    private final JobDispatcher jobDispatcher;
     private final JobEventPublisher jobEventPublisher;
     private final JobExportProperties exportProperties;
+    private final ReplayService replayService;
+    private final ReplayThumbnailService thumbnailService;
+    private final ExportResultCache exportResultCache;
+    private final TransactionTemplate transactionTemplate;
     private Path exportBasePath;
     private Path exportBaseRealPath;
 
-    public JobService(JobRepository jobRepository, ReplayRepository replayRepository,
-            UserRepository userRepository, JobQueuePublisher jobQueuePublisher,
-            JobEventPublisher jobEventPublisher, JobExportProperties exportProperties) {
+    public JobService(JobRepository jobRepository, JobSegmentRepository segmentRepository,
+            ReplayRepository replayRepository,
+            UserRepository userRepository, JobDispatcher jobDispatcher,
+            JobEventPublisher jobEventPublisher, JobExportProperties exportProperties, ReplayService replayService,
+            ReplayThumbnailService thumbnailService, ExportResultCache exportResultCache,
+            TransactionTemplate transactionTemplate) {
         this.jobRepository = jobRepository;
+        this.segmentRepository = segmentRepository;
         this.replayRepository = replayRepository;
         this.userRepository = userRepository;
-        this.jobQueuePublisher = jobQueuePublisher;
+        this.jobDispatcher = jobDispatcher;
         this.jobEventPublisher = jobEventPublisher;
         this.exportProperties = exportProperties;
+        this.replayService = replayService;
+        this.thumbnailService = thumbnailService;
+        this.exportResultCache = exportResultCache;
+        this.transactionTemplate = transactionTemplate;
     }
 
     @PostConstruct
@@ -63,14 +126,71 @@ public class JobService {
         }
     }
 
+    /**
+     * 설명:
+     *   - MP4 내보내기 잡을 만든다. 경기가 jobs.export.segment-ms보다 길면 구간으로 나눠 구간마다 요청을 발행해
+     *     여러 워커가 동시에 렌더링하게 한다. 구간 요청은 시간 색인으로 찾은 입력 바이트 범위만 읽게 한다.
+     *   - 캐시에 결과가 있거나 같은 결과를 렌더링 중인 잡이 있으면 요청을 발행하지 않는다.
+     */
     @Transactional
     public JobCreateResponse requestMp4(Long ownerId, Long replayId) {
-        return createAndDispatch(ownerId, replayId, JobType.REPLAY_EXPORT_MP4);
+        User owner = findOwner(ownerId);
+        Replay replay = replayRepository.findByIdAndOwner(replayId, owner)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "리플레이를 찾을 수 없습니다."));
+        Job job = jobRepository.save(new Job(JobType.REPLAY_EXPORT_MP4, owner, replay));
+        if (shareCachedResult(job)) {
+            return new JobCreateResponse(job.getId());
+        }
+        Path eventsFile = replayService.resolveEventsFile(replay);
+        Map<String, String> options = baseOptions(job);
+        options.put("inputPath", pinInput(job, eventsFile).toString());
+        options.put("durationMs", String.valueOf(replay.getDurationMs()));
+
+        List<JobSegment> segments = JobSegment.plan(job, replay.getDurationMs(), exportProperties.getSegmentMs(),
+                exportProperties.getMaxSegments());
+        if (segments.isEmpty()) {
+            options.put("outputPath", buildOutputPath(job));
+            jobDispatcher.enqueue(job, new JobRequestMessage(job.getId(), job.getJobType(), replay.getId(), options),
+                    null, JobDispatch.PRIORITY_RENDER);
+            return new JobCreateResponse(job.getId());
+        }
+        job.splitInto(segments.size());
+        segmentRepository.saveAll(segments);
+        for (JobSegment segment : segments) {
+            long[] range = replayService.eventsByteRange(replay, eventsFile, segment.getStartMs(), segment.getEndMs());
+            Map<String, String> segmentOptions = new HashMap<>(options);
+            segmentOptions.put("outputPath", segmentOutputPath(job, segment.getSegmentIndex()).toString());
+            segmentOptions.put("segmentIndex", String.valueOf(segment.getSegmentIndex()));
+            segmentOptions.put("segmentCount", String.valueOf(segments.size()));
+            segmentOptions.put("startMs", String.valueOf(segment.getStartMs()));
+            segmentOptions.put("endMs", String.valueOf(segment.getEndMs()));
+            segmentOptions.put("inputOffset", String.valueOf(range[0]));
+            segmentOptions.put("inputLength", String.valueOf(range[1] - range[0]));
+            jobDispatcher.enqueue(job, new JobRequestMessage(job.getId(), job.getJobType(), replay.getId(),
+                    segmentOptions), segment.getSegmentIndex(), JobDispatch.PRIORITY_RENDER);
+        }
+        return new JobCreateResponse(job.getId());
     }
 
+    /**
+     * 설명:
+     *   - 썸네일 잡을 만들고, 커밋 뒤 서버 내 렌더러로 경기 중간 시점을 그려 결과 파일로 저장한다.
+     *   - 완료/실패 알림은 워커 결과와 같은 handleResult 경로(WebSocket 포함)로 보낸다.
+     */
     @Transactional
     public JobCreateResponse requestThumbnail(Long ownerId, Long replayId) {
-        return createAndDispatch(ownerId, replayId, JobType.REPLAY_THUMBNAIL);
+        User owner = findOwner(ownerId);
+        Replay replay = replayRepository.findByIdAndOwner(replayId, owner)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "리플레이를 찾을 수 없습니다."));
+        Job job = jobRepository.save(new Job(JobType.REPLAY_THUMBNAIL, owner, replay));
+        Long jobId = job.getId();
+        if (shareCachedResult(job)) {
+            return new JobCreateResponse(jobId);
+        }
+        Path outputPath = Paths.get(buildOutputPath(job));
+        runAfterCommit(() -> thumbnailService.renderAsync(ownerId, replayId, null)
+                .whenComplete((png, error) -> completeThumbnail(jobId, outputPath, png, error)));
+        return new JobCreateResponse(jobId);
     }
 
     @Transactional(readOnly = true)
@@ -111,9 +231,12 @@ public class JobService {
         User owner = findOwner(ownerId);
         Job job = jobRepository.findByIdAndOwner(jobId, owner)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "잡을 찾을 수 없습니다."));
-        if (job.getStatus() != JobStatus.SUCCEEDED || job.getResultUri() == null) {
+        if (job.getStatus() != JobStatus.SUCCEEDED) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "완료된 잡만 다운로드할 수 있습니다.");
         }
+        if (job.getResultUri() == null) {
+            throw new ResponseStatusException(HttpStatus.GONE, "보존 기간이 지나 결과 파일이 삭제되었습니다.");
+        }
         Path path = Paths.get(job.getResultUri()).toAbsolutePath().normalize();
         if (!isWithinExportRoot(path)) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "허용된 경로 밖의 파일은 제공하지 않습니다.");
@@ -126,67 +249,414 @@ public class JobService {
 
     @Transactional
     public void handleProgress(JobProgressMessage message) {
-        jobRepository.findById(message.jobId()).ifPresent(job -> {
-            if (isTerminal(job.getStatus())) {
+        handleProgressBatch(List.of(message));
+    }
+
+    /**
+     * 설명:
+     *   - 진행률 스트림에서 한 번에 읽은 레코드를 한 트랜잭션으로 반영한다.
+     *   - 같은 잡(구간 분할 잡은 같은 구간)의 메시지는 마지막 값만 남긴다. 잡·구간·붙은 잡은 묶음 조회로 읽고,
+     *     바뀐 행은 커밋 시 JDBC 배치 UPDATE로 한 번에 나간다. 알림도 잡마다 마지막 값 하나만 보낸다.
+     *   - 착수(QUEUE) 메시지는 뒤 메시지에 덮여도 레인 대기 시간을 빠짐없이 기록한다.
+     */
+    @Transactional
+    public void handleProgressBatch(List<JobProgressMessage> messages) {
+        Map<Long, Map<Integer, JobProgressMessage>> latest = new LinkedHashMap<>();
+        for (JobProgressMessage message : messages) {
+            if (QUEUE_PHASE.equals(message.phase())) {
+                jobDispatcher.markStarted(message.jobId(), message.segmentIndex());
+            }
+            Map<Integer, JobProgressMessage> steps = latest.computeIfAbsent(message.jobId(),
+                    jobId -> new LinkedHashMap<>());
+            steps.remove(message.segmentIndex());
+            steps.put(message.segmentIndex(), message);
+        }
+        Map<Long, Job> jobs = jobRepository.findAllById(latest.keySet()).stream()
+                .filter(job -> !isTerminal(job.getStatus()))
+                .collect(Collectors.toMap(Job::getId, job -> job));
+        Map<Long, List<JobSegment>> segments = segmentsOf(jobs.values());
+        Map<Long, JobProgressMessage> published = new LinkedHashMap<>();
+        latest.forEach((jobId, steps) -> {
+            Job job = jobs.get(jobId);
+            if (job == null) {
                 return;
             }
-            job.markRunning(message.progress());
-            jobRepository.save(job);
-            jobEventPublisher.publishProgress(job.getOwner().getId(), message);
+            for (JobProgressMessage message : steps.values()) {
+                JobProgressMessage aggregated = job.isSegmented()
+                        ? aggregateProgress(job, segments.getOrDefault(jobId, List.of()), message)
+                        : message;
+                job.markRunning(aggregated.progress());
+                published.put(jobId, aggregated);
+            }
         });
+        published.forEach((jobId, message) ->
+                jobEventPublisher.publishProgress(jobs.get(jobId).getOwner().getId(), message));
+        List<Long> leaderIds = published.keySet().stream()
+                .map(jobs::get)
+                .filter(job -> job.getCacheKey() != null && !job.isFollower())
+                .map(Job::getId)
+                .toList();
+        if (leaderIds.isEmpty()) {
+            return;
+        }
+        for (Job follower : jobRepository.findByLeaderJobIdInAndStatusIn(leaderIds, ACTIVE_STATUSES)) {
+            JobProgressMessage leader = published.get(follower.getLeaderJobId());
+            follower.markRunning(leader.progress());
+            jobEventPublisher.publishProgress(follower.getOwner().getId(), new JobProgressMessage(
+                    follower.getId(), leader.progress(), leader.phase(), leader.message()));
+        }
     }
 
+    /**
+     * 설명:
+     *   - 워커 결과를 반영한다. 구간 결과(segmentIndex 포함)는 잡 행을 잠그고 구간 상태만 바꾸며,
+     *     마지막 구간이 끝나면 이어 붙이기 단계를 발행한다. 잡 전체 결과는 기존 상태 전이를 따른다.
+     *   - 잡 행을 잠그므로 같은 키로 붙으려는 요청은 이 결과가 커밋된 뒤 캐시를 보거나, 커밋 전에 붙어 결과를 함께 받는다.
+     */
     @Transactional
     public void handleResult(JobResultMessage message) {
-        jobRepository.findById(message.jobId()).ifPresent(job -> {
+        if (message.segmentIndex() != null) {
+            handleSegmentResult(message);
+            return;
+        }
+        jobRepository.findByIdForUpdate(message.jobId()).ifPresent(job -> {
             if (isTerminal(job.getStatus())) {
                 return;
             }
-            if (message.status() == JobStatus.SUCCEEDED) {
-                Path resultPath = Paths.get(message.resultUri()).toAbsolutePath().normalize();
-                if (!isWithinExportRoot(resultPath)) {
-                    JobResultMessage rejected = new JobResultMessage(message.jobId(), JobStatus.FAILED,
-                            resultPath.toString(), message.checksum(), "INVALID_OUTPUT_PATH",
-                            "허용된 출력 루트 밖의 결과입니다.");
-                    job.fail(rejected.errorCode(), rejected.errorMessage());
-                    jobRepository.save(job);
-                    jobEventPublisher.publishFailed(job.getOwner().getId(), rejected);
-                    return;
-                }
-                job.succeed(resultPath.toString(), message.checksum());
-                jobRepository.save(job);
-                jobEventPublisher.publishCompleted(job.getOwner().getId(), message);
+            applyResult(job, message);
+            if (job.isSegmented()) {
+                discardSegmentFiles(job);
+            }
+        });
+    }
+
+    private void applyResult(Job job, JobResultMessage message) {
+        JobResultMessage outcome = message;
+        if (message.status() == JobStatus.SUCCEEDED) {
+            Path resultPath = Paths.get(message.resultUri()).toAbsolutePath().normalize();
+            if (isWithinExportRoot(resultPath)) {
+                storeResult(job, resultPath, message.checksum());
+            } else {
+                outcome = new JobResultMessage(message.jobId(), JobStatus.FAILED, resultPath.toString(),
+                        message.checksum(), "INVALID_OUTPUT_PATH", "허용된 출력 루트 밖의 결과입니다.");
+            }
+        }
+        if (outcome.status() == JobStatus.SUCCEEDED) {
+            jobRepository.save(job);
+            jobEventPublisher.publishCompleted(job.getOwner().getId(), outcome);
+        } else if (outcome.status() == JobStatus.CANCELLED) {
+            job.cancel(outcome.errorCode(), outcome.errorMessage());
+            jobRepository.save(job);
+            jobEventPublisher.publishFailed(job.getOwner().getId(), outcome);
+        } else {
+            job.fail(outcome.errorCode(), outcome.errorMessage());
+            jobRepository.save(job);
+            jobEventPublisher.publishFailed(job.getOwner().getId(), outcome);
+        }
+        jobDispatcher.completeJob(job.getId());
+        discardInput(job);
+        settleFollowers(job, outcome);
+    }
+
+    /**
+     * 설명:
+     *   - 성공 결과를 잡에 기록한다. 캐시 대상 잡은 결과를 캐시에 등록하고, 캐시가 돌려준 경로를 결과로 쓴다.
+     */
+    private void storeResult(Job job, Path resultPath, String checksum) {
+        Long bytes = sizeOf(resultPath);
+        if (job.getCacheKey() == null) {
+            job.succeed(resultPath.toString(), checksum, bytes);
+            return;
+        }
+        ExportResult shared = exportResultCache.record(job.getCacheKey(), resultPath.toString(), checksum,
+                bytes == null ? 0 : bytes);
+        job.succeed(shared.getResultUri(), shared.getResultChecksum(), shared.getSizeBytes());
+    }
+
+    /**
+     * 설명:
+     *   - 잡을 만들 때 캐시를 확인한다. 같은 키로 렌더링 중인 잡이 있으면 붙이고, 완료된 결과가 있으면 바로 완료한다.
+     *   - 대표 잡 행을 잠가 상태를 다시 본다. 그 사이 끝났다면 결과가 이미 캐시에 커밋되어 있다.
+     *   - true면 호출자는 렌더링 요청을 발행하지 않는다.
+     */
+    private boolean shareCachedResult(Job job) {
+        String cacheKey = exportResultCache.keyFor(job.getTargetReplay().getChecksum(), job.getJobType());
+        if (cacheKey == null) {
+            return false;
+        }
+        job.shareResultsAs(cacheKey);
+        Optional<Job> leader = jobRepository.findLeaders(cacheKey, job.getId(), ACTIVE_STATUSES, PageRequest.of(0, 1))
+                .stream()
+                .findFirst()
+                .flatMap(candidate -> jobRepository.findByIdForUpdate(candidate.getId()))
+                .filter(candidate -> !isTerminal(candidate.getStatus()));
+        if (leader.isPresent()) {
+            job.follow(leader.get().getId());
+            if (leader.get().getStatus() == JobStatus.RUNNING) {
+                job.markRunning(leader.get().getProgress());
+            }
+            jobRepository.save(job);
+            return true;
+        }
+        Optional<ExportResult> cached = exportResultCache.acquire(cacheKey);
+        if (cached.isEmpty()) {
+            jobRepository.save(job);
+            return false;
+        }
+        ExportResult result = cached.get();
+        job.succeed(result.getResultUri(), result.getResultChecksum(), result.getSizeBytes());
+        jobRepository.save(job);
+        Long ownerId = job.getOwner().getId();
+        JobResultMessage completed = new JobResultMessage(job.getId(), JobStatus.SUCCEEDED, result.getResultUri(),
+                Objects.requireNonNullElse(result.getResultChecksum(), ""), null, null);
+        runAfterCommit(() -> jobEventPublisher.publishCompleted(ownerId, completed));
+        return true;
+    }
+
+    /**
+     * 설명:
+     *   - 대표 잡의 최종 상태를 붙은 잡들에 그대로 옮기고 각 소유자에게 알린다. 성공이면 붙은 잡 수만큼 캐시 참조를 늘린다.
+     */
+    private void settleFollowers(Job leader, JobResultMessage outcome) {
+        List<Job> followers = followersOf(leader);
+        if (followers.isEmpty()) {
+            return;
+        }
+        if (leader.getStatus() == JobStatus.SUCCEEDED) {
+            exportResultCache.addReferences(leader.getCacheKey(), followers.size());
+        }
+        for (Job follower : followers) {
+            JobResultMessage shared = new JobResultMessage(follower.getId(), leader.getStatus(),
+                    leader.getResultUri(), Objects.requireNonNullElse(leader.getResultChecksum(), ""),
+                    outcome.errorCode(), outcome.errorMessage());
+            if (leader.getStatus() == JobStatus.SUCCEEDED) {
+                follower.succeed(leader.getResultUri(), leader.getResultChecksum(), leader.getResultBytes());
+                jobRepository.save(follower);
+                jobEventPublisher.publishCompleted(follower.getOwner().getId(), shared);
+            } else if (leader.getStatus() == JobStatus.CANCELLED) {
+                follower.cancel(outcome.errorCode(), outcome.errorMessage());
+                jobRepository.save(follower);
+                jobEventPublisher.publishFailed(follower.getOwner().getId(), shared);
+            } else {
+                follower.fail(outcome.errorCode(), outcome.errorMessage());
+                jobRepository.save(follower);
+                jobEventPublisher.publishFailed(follower.getOwner().getId(), shared);
+            }
+        }
+    }
+
+    private List<Job> followersOf(Job job) {
+        if (job.getCacheKey() == null || job.isFollower()) {
+            return List.of();
+        }
+        return jobRepository.findByLeaderJobIdAndStatusIn(job.getId(), ACTIVE_STATUSES);
+    }
+
+    private void handleSegmentResult(JobResultMessage message) {
+        jobRepository.findByIdForUpdate(message.jobId()).ifPresent(job -> {
+            jobDispatcher.completeSegment(job.getId(), message.segmentIndex());
+            if (isTerminal(job.getStatus())) {
+                // 다른 구간 실패 등으로 이미 끝난 잡이면 늦게 도착한 부분 파일만 치운다.
+                discardSegmentFiles(job);
                 return;
             }
-            if (message.status() == JobStatus.CANCELLED) {
-                job.cancel(message.errorCode(), message.errorMessage());
-                jobRepository.save(job);
-                jobEventPublisher.publishFailed(job.getOwner().getId(), message);
+            List<JobSegment> segments = segmentRepository.findByJobIdOrderBySegmentIndex(job.getId());
+            JobSegment segment = segments.stream()
+                    .filter(candidate -> candidate.getSegmentIndex() == message.segmentIndex())
+                    .findFirst()
+                    .orElse(null);
+            if (segment == null || segment.getStatus() == JobStatus.SUCCEEDED) {
                 return;
             }
-            job.fail(message.errorCode(), message.errorMessage());
+            if (message.status() != JobStatus.SUCCEEDED) {
+                applyResult(job, new JobResultMessage(job.getId(), message.status(), null, null, message.errorCode(),
+                        "구간 " + (segment.getSegmentIndex() + 1) + "/" + segments.size() + ": "
+                                + message.errorMessage()));
+                discardSegmentFiles(job);
+                return;
+            }
+            Path partPath = Paths.get(message.resultUri()).toAbsolutePath().normalize();
+            if (!isWithinExportRoot(partPath)) {
+                applyResult(job, new JobResultMessage(job.getId(), JobStatus.FAILED, null, null,
+                        "INVALID_OUTPUT_PATH", "허용된 출력 루트 밖의 결과입니다."));
+                discardSegmentFiles(job);
+                return;
+            }
+            segment.succeed(partPath.toString());
+            long done = segments.stream().filter(candidate -> candidate.getStatus() == JobStatus.SUCCEEDED).count();
+            JobProgressMessage progress = new JobProgressMessage(job.getId(), segmentProgress(segments), "ENCODE",
+                    "구간 " + done + "/" + segments.size() + " 완료");
+            job.markRunning(progress.progress());
             jobRepository.save(job);
-            jobEventPublisher.publishFailed(job.getOwner().getId(), message);
+            jobEventPublisher.publishProgress(job.getOwner().getId(), progress);
+            if (done == segments.size()) {
+                discardInput(job);
+                dispatchConcat(job, segments);
+            }
         });
     }
 
-    private JobCreateResponse createAndDispatch(Long ownerId, Long replayId, JobType jobType) {
-        User owner = findOwner(ownerId);
-        Replay replay = replayRepository.findByIdAndOwner(replayId, owner)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "리플레이를 찾을 수 없습니다."));
-        Job job = jobRepository.save(new Job(jobType, owner, replay));
-        String outputPath = buildOutputPath(job);
+    /**
+     * 설명:
+     *   - 구간 진행률을 잡 진행률로 모은다. 구간 메시지는 구간 평균을 SEGMENT_PROGRESS_SHARE까지로 환산하고,
+     *     이어 붙이기 단계 메시지(segmentIndex 없음)는 나머지 몫으로 환산한다. 잡 진행률은 줄어들지 않는다.
+     */
+    private JobProgressMessage aggregateProgress(Job job, List<JobSegment> segments, JobProgressMessage message) {
+        if (message.segmentIndex() == null) {
+            int progress = SEGMENT_PROGRESS_SHARE
+                    + message.progress() * (100 - SEGMENT_PROGRESS_SHARE) / 100;
+            return new JobProgressMessage(job.getId(), Math.max(job.getProgress(), Math.min(99, progress)),
+                    CONCAT_STEP, message.message());
+        }
+        segments.stream()
+                .filter(segment -> segment.getSegmentIndex() == message.segmentIndex())
+                .forEach(segment -> segment.updateProgress(message.progress()));
+        return new JobProgressMessage(job.getId(), Math.max(job.getProgress(), segmentProgress(segments)),
+                message.phase(), "구간 " + (message.segmentIndex() + 1) + "/" + segments.size() + " "
+                        + message.message());
+    }
+
+    private Map<Long, List<JobSegment>> segmentsOf(Collection<Job> jobs) {
+        List<Long> segmentedIds = jobs.stream().filter(Job::isSegmented).map(Job::getId).toList();
+        if (segmentedIds.isEmpty()) {
+            return Map.of();
+        }
+        return segmentRepository.findByJobIdInOrderBySegmentIndex(segmentedIds).stream()
+                .collect(Collectors.groupingBy(segment -> segment.getJob().getId()));
+    }
+
+    private int segmentProgress(List<JobSegment> segments) {
+        int sum = segments.stream().mapToInt(JobSegment::getProgress).sum();
+        return sum * SEGMENT_PROGRESS_SHARE / (100 * segments.size());
+    }
+
+    private void dispatchConcat(Job job, List<JobSegment> segments) {
+        Map<String, String> options = baseOptions(job);
+        options.put("step", CONCAT_STEP);
+        options.put("segmentPaths", segments.stream()
+                .map(JobSegment::getResultUri)
+                .collect(Collectors.joining("\n")));
+        options.put("outputPath", buildOutputPath(job));
+        jobDispatcher.enqueue(job, new JobRequestMessage(job.getId(), job.getJobType(),
+                job.getTargetReplay().getId(), options), null, JobDispatch.PRIORITY_FINISH);
+    }
+
+    private Map<String, String> baseOptions(Job job) {
         Map<String, String> options = new HashMap<>();
-        options.put("inputPath", replay.getStorageUri());
-        options.put("outputPath", outputPath);
-        options.put("durationMs", String.valueOf(replay.getDurationMs()));
-        options.put("ownerId", String.valueOf(owner.getId()));
+        options.put("ownerId", String.valueOf(job.getOwner().getId()));
         LocalDateTime created = Optional.ofNullable(job.getCreatedAt())
                 .orElseGet(() -> LocalDateTime.now(ZoneId.of("Asia/Seoul")));
         ZonedDateTime createdAt = created.atZone(ZoneId.of("Asia/Seoul"));
         options.put("createdAt", createdAt.toString());
-        jobQueuePublisher.publish(new JobRequestMessage(job.getId(), jobType, replay.getId(), options));
-        return new JobCreateResponse(job.getId());
+        return options;
+    }
+
+    /**
+     * 설명:
+     *   - 구간 부분 파일(과 워커 임시 파일)을 지운다. 이어 붙이기 성공 시 워커가 먼저 지우므로 대개 할 일이 없다.
+     */
+    private void discardSegmentFiles(Job job) {
+        for (int index = 0; index < job.getSegmentCount(); index++) {
+            Path part = segmentOutputPath(job, index);
+            try {
+                Files.deleteIfExists(part);
+                Files.deleteIfExists(part.resolveSibling(part.getFileName() + ".tmp"));
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 워커 입력을 잡 전용 경로 `{export}/inputs/job-{id}.input`에 고정한다. 같은 파일 시스템이면 하드 링크, 아니면 복사다.
+     *   - 요청이 큐에서 기다리는 동안 티어 이전이 핫 파일을 지우거나 로컬 캐시가 콜드 사본을 내보내도 입력이 남는다.
+     *   - 트랜잭션이 롤백되면 바로 지우고, 잡이 끝나거나 구간이 모두 끝나면 discardInput이 지운다.
+     */
+    private Path pinInput(Job job, Path eventsFile) {
+        Path pinned = inputPath(job);
+        try {
+            Files.createDirectories(pinned.getParent());
+            Files.deleteIfExists(pinned);
+            try {
+                Files.createLink(pinned, eventsFile);
+            } catch (IOException | UnsupportedOperationException ex) {
+                Path temp = Files.createTempFile(pinned.getParent(), "pin-", ".tmp");
+                try {
+                    Files.copy(eventsFile, temp, StandardCopyOption.REPLACE_EXISTING);
+                    Files.move(temp, pinned, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            }
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "내보내기 입력을 준비하지 못했습니다.", ex);
+        }
+        runAfterRollback(() -> discardInput(job));
+        return pinned;
+    }
+
+    private void discardInput(Job job) {
+        try {
+            Files.deleteIfExists(inputPath(job));
+        } catch (IOException ignored) {
+        }
+    }
+
+    private void completeThumbnail(Long jobId, Path outputPath, byte[] png, Throwable error) {
+        JobResultMessage message;
+        if (error != null) {
+            Throwable cause = error.getCause() != null ? error.getCause() : error;
+            message = new JobResultMessage(jobId, JobStatus.FAILED, null, null, "THUMBNAIL_RENDER_FAILED",
+                    Objects.requireNonNullElse(cause.getMessage(), cause.getClass().getSimpleName()));
+        } else {
+            try {
+                Path temp = outputPath.resolveSibling(outputPath.getFileName() + ".tmp");
+                Files.write(temp, png);
+                Files.move(temp, outputPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                message = new JobResultMessage(jobId, JobStatus.SUCCEEDED, outputPath.toString(), sha256(png), null,
+                        null);
+            } catch (IOException ex) {
+                message = new JobResultMessage(jobId, JobStatus.FAILED, null, null, "THUMBNAIL_WRITE_FAILED",
+                        Objects.requireNonNullElse(ex.getMessage(), ex.getClass().getSimpleName()));
+            }
+        }
+        JobResultMessage result = message;
+        transactionTemplate.executeWithoutResult(status -> handleResult(result));
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void runAfterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("해시 알고리즘을 찾을 수 없습니다.", ex);
+        }
     }
 
     private User findOwner(Long ownerId) {
@@ -198,6 +668,14 @@ public class JobService {
         return status == JobStatus.SUCCEEDED || status == JobStatus.FAILED || status == JobStatus.CANCELLED;
     }
 
+    private Long sizeOf(Path path) {
+        try {
+            return Files.size(path);
+        } catch (Exception ignored) {
+            return null;
+        }
+    }
+
     private boolean isWithinExportRoot(Path path) {
         try {
             Path normalized = path.toAbsolutePath().normalize();
@@ -219,4 +697,12 @@ public class JobService {
         String extension = job.getJobType() == JobType.REPLAY_EXPORT_MP4 ? ".mp4" : ".png";
         return exportBasePath.resolve("job-" + job.getId() + extension).toString();
     }
+
+    private Path inputPath(Job job) {
+        return exportBasePath.resolve(INPUT_DIR).resolve("job-" + job.getId() + ".input");
+    }
+
+    private Path segmentOutputPath(Job job, int segmentIndex) {
+        return exportBasePath.resolve("job-" + job.getId() + ".part-" + segmentIndex + ".mp4");
+    }
 }
@@ -1,16 +1,29 @@
 package com.codexpong.backend.observability;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * [헬퍼] backend/src/main/java/com/codexpong/backend/observability/ObservabilityMetrics.java
  * 설명:
  *   - v1.2.0에서 요구하는 핵심 메트릭(WS 연결, 매치 시작, tick loop 지터)을 기록한다.
  *   - MeterRegistry가 없는 테스트에서도 안전하도록 no-op 인스턴스를 제공한다.
+ *   - 틱 휠별 1회 순회 소요 시간과 프레임 초과(overrun) 횟수를 지터 옆에 함께 노출한다.
  * 버전: v1.2.0
+ * 변경 이력:
+ *   - v1.2.0: 틱 휠 소요 시간/overrun 메트릭 추가
+ *   - v1.2.0: 경기 종료 처리 파이프라인 큐 깊이/완료 지연 메트릭 추가
+ *   - v1.2.0: 리플레이 저장 티어(로컬 캐시 적중/미스/사용량, 콜드 이전) 메트릭 추가
+ *   - v1.2.0: 보존 정책 정리(삭제 건수/회수 바이트) 메트릭 추가
+ *   - v1.2.0: 잡 레인별 대기 요청 수/대기 시간 백분위 메트릭 추가
+ *   - v1.2.0: 아웃박스 미발행 이벤트 수/기록부터 발행까지 지연 메트릭 추가
+ *   - v1.2.0: 아웃박스 소비자별 잔여 이벤트 수/처리 지연 메트릭으로 분리
  */
 public class ObservabilityMetrics {
 
@@ -19,8 +32,10 @@ public class ObservabilityMetrics {
     private final Counter matchStartSuccess;
     private final Counter matchStartFailure;
     private final io.micrometer.core.instrument.DistributionSummary tickJitter;
+    private final MeterRegistry registry;
 
     public ObservabilityMetrics(MeterRegistry registry) {
+        this.registry = registry;
         this.wsSuccess = Counter.builder("realtime.ws.connections")
                 .description("웹소켓 연결 성공 횟수")
                 .tag("status", "success")
@@ -67,4 +82,159 @@ public class ObservabilityMetrics {
     public void recordTickJitter(Duration jitter) {
         tickJitter.record(jitter.toMillis());
     }
+
+    /**
+     * 설명:
+     *   - 틱 휠 하나가 사용할 메트릭 핸들을 생성한다. 틱마다 레지스트리 조회를 하지 않도록 휠이 보관한다.
+     */
+    public WheelMeters wheelMeters(String wheelId) {
+        Timer duration = Timer.builder("realtime.tick.wheel.duration")
+                .description("틱 휠 1회 순회 소요 시간")
+                .tag("wheel", wheelId)
+                .publishPercentileHistogram()
+                .register(registry);
+        Counter overrun = Counter.builder("realtime.tick.wheel.overrun")
+                .description("틱 휠 순회가 프레임 간격을 초과한 횟수")
+                .tag("wheel", wheelId)
+                .register(registry);
+        return new WheelMeters(duration, overrun);
+    }
+
+    public record WheelMeters(Timer duration, Counter overrun) {
+
+        public void record(long elapsedNanos, long frameNanos) {
+            duration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            if (elapsedNanos > frameNanos) {
+                overrun.increment();
+            }
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 틱 스레드에서 넘겨받은 경기 종료 처리의 대기열 깊이, 완료 지연, 거절 횟수 메트릭을 등록한다.
+     */
+    public CompletionMeters completionMeters(Supplier<Number> queueDepth) {
+        Gauge.builder("realtime.match.completion.queue", queueDepth)
+                .description("경기 종료 처리 대기열 깊이")
+                .register(registry);
+        Timer latency = Timer.builder("realtime.match.completion.latency")
+                .description("틱 스레드 인계부터 결과 저장/최종 브로드캐스트 완료까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+        Counter rejected = Counter.builder("realtime.match.completion.rejected")
+                .description("대기열이 가득 차 다음 틱으로 미뤄진 인계 횟수")
+                .register(registry);
+        return new CompletionMeters(latency, rejected);
+    }
+
+    public record CompletionMeters(Timer latency, Counter rejected) {
+    }
+
+    /**
+     * 설명:
+     *   - 리플레이 콜드 티어 읽기 캐시와 티어 이전 메트릭을 등록한다.
+     */
+    public ReplayStorageMeters replayStorageMeters(Supplier<Number> cacheBytes) {
+        Gauge.builder("replay.cache.bytes", cacheBytes)
+                .description("콜드 리플레이 로컬 캐시 사용량")
+                .baseUnit("bytes")
+                .register(registry);
+        Counter hit = Counter.builder("replay.cache.requests")
+                .description("콜드 리플레이 로컬 캐시 조회 횟수")
+                .tag("result", "hit")
+                .register(registry);
+        Counter miss = Counter.builder("replay.cache.requests")
+                .description("콜드 리플레이 로컬 캐시 조회 횟수")
+                .tag("result", "miss")
+                .register(registry);
+        Counter migrated = Counter.builder("replay.tier.migrated")
+                .description("핫 티어에서 콜드 티어로 옮긴 리플레이 파일 수")
+                .register(registry);
+        return new ReplayStorageMeters(hit, miss, migrated);
+    }
+
+    public record ReplayStorageMeters(Counter cacheHit, Counter cacheMiss, Counter migrated) {
+    }
+
+    /**
+     * 설명:
+     *   - 보존 정책으로 지운 리플레이/내보내기 결과 수와 회수한 디스크 바이트 메트릭을 등록한다.
+     *   - 여러 컴포넌트가 호출해도 같은 미터를 돌려받는다.
+     */
+    public RetentionMeters retentionMeters() {
+        return new RetentionMeters(retentionDeleted("replay"), retentionReclaimed("replay"),
+                retentionDeleted("export"), retentionReclaimed("export"));
+    }
+
+    private Counter retentionDeleted(String kind) {
+        return Counter.builder("retention.deleted")
+                .description("보존 정책으로 지운 항목 수")
+                .tag("kind", kind)
+                .register(registry);
+    }
+
+    private Counter retentionReclaimed(String kind) {
+        return Counter.builder("retention.reclaimed.bytes")
+                .description("보존 정책으로 회수한 디스크 용량")
+                .baseUnit("bytes")
+                .tag("kind", kind)
+                .register(registry);
+    }
+
+    public record RetentionMeters(Counter replaysDeleted, Counter replayBytes, Counter exportsDeleted,
+            Counter exportBytes) {
+    }
+
+    /**
+     * 설명:
+     *   - 잡 레인 하나의 백엔드 대기 요청 수와, 요청 생성부터 워커 착수까지의 대기 시간(p50/p95/p99) 메트릭을 등록한다.
+     */
+    public JobLaneMeters jobLaneMeters(String lane, Supplier<Number> pending) {
+        Gauge.builder("jobs.queue.pending", pending)
+                .description("소유자별 상한 때문에 레인 스트림에 아직 넣지 않은 요청 수")
+                .tag("lane", lane)
+                .register(registry);
+        Timer queueWait = Timer.builder("jobs.queue.wait")
+                .description("잡 요청 생성부터 워커가 착수를 알릴 때까지 걸린 시간")
+                .tag("lane", lane)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+        return new JobLaneMeters(queueWait);
+    }
+
+    public record JobLaneMeters(Timer queueWait) {
+    }
+
+    /**
+     * 설명:
+     *   - 아웃박스 미발행(PENDING) 이벤트 수를 등록한다. 모든 소비자 커서가 지나가야 발행으로 센다.
+     */
+    public void registerOutboxBacklog(Supplier<Number> backlog) {
+        Gauge.builder("outbox.backlog", backlog)
+                .description("아직 모든 소비자가 처리하지 않은 아웃박스 이벤트 수")
+                .register(registry);
+    }
+
+    /**
+     * 설명:
+     *   - 소비자 하나의 커서 뒤에 남은 이벤트 수와, 이벤트 기록부터 그 소비자 처리 완료까지의 지연(p50/p95/p99)을 등록한다.
+     */
+    public OutboxMeters outboxMeters(String consumer, Supplier<Number> backlog) {
+        Gauge.builder("outbox.consumer.backlog", backlog)
+                .description("소비자 커서 뒤에 남은 아웃박스 이벤트 수")
+                .tag("consumer", consumer)
+                .register(registry);
+        Timer lag = Timer.builder("outbox.relay.lag")
+                .description("아웃박스 이벤트 기록부터 소비자 처리 완료까지 걸린 시간")
+                .tag("consumer", consumer)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+        return new OutboxMeters(lag);
+    }
+
+    public record OutboxMeters(Timer lag) {
+    }
 }
@@ -0,0 +1,120 @@
+package com.codexpong.backend.replay;
+
+import com.codexpong.backend.game.engine.DeterministicEngine;
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.InputChange;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * [모델] backend/src/main/java/com/codexpong/backend/replay/InputReplay.java
+ * 설명:
+ *   - REPLAY_INPUTS_V2 포맷 리플레이. 결정적 엔진의 시드/틱 길이/총 틱 수와 입력 변화만 보관한다.
+ *   - 파일은 JSON Lines이며 첫 줄은 헤더 객체, 이후 줄은 [tick, left, right] 배열이다(줄당 20바이트 안팎).
+ *   - events()는 DeterministicEngine으로 재시뮬레이션해 JSONL_V1과 같은 모양(offsetMs, snapshot)의 이벤트를 지연 생성한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-replay-input-log.md
+ */
+public record InputReplay(
+        Header header,
+        List<InputChange> changes
+) {
+
+    public static final String FORMAT = "REPLAY_INPUTS_V2";
+
+    public record Header(
+            String format,
+            String roomId,
+            long seed,
+            long tickMillis,
+            long ticks
+    ) {
+    }
+
+    public void write(Path path, ObjectMapper objectMapper) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write(objectMapper.writeValueAsString(header));
+            writer.newLine();
+            for (InputChange change : changes) {
+                writer.write(objectMapper.writeValueAsString(
+                        new Object[] {change.tick(), change.left(), change.right()}));
+                writer.newLine();
+            }
+        }
+    }
+
+    public static InputReplay read(Path path, ObjectMapper objectMapper) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String first = reader.readLine();
+            if (first == null) {
+                throw new IOException("리플레이 헤더가 없습니다: " + path);
+            }
+            Header header = objectMapper.readValue(first, Header.class);
+            if (!FORMAT.equals(header.format())) {
+                throw new IOException("지원하지 않는 리플레이 포맷입니다: " + header.format());
+            }
+            List<InputChange> changes = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    JsonNode change = objectMapper.readTree(line);
+                    changes.add(new InputChange(change.get(0).asLong(), PaddleInput.valueOf(change.get(1).asText()),
+                            PaddleInput.valueOf(change.get(2).asText())));
+                }
+            }
+            return new InputReplay(header, changes);
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 초기 상태(offset 0)와 매 틱 진행 후 상태를 차례로 돌려준다. 이벤트 수는 ticks + 1이다.
+     */
+    public Iterator<ReplayEventRecord> events() {
+        return new Iterator<>() {
+            private final DeterministicEngine engine = new DeterministicEngine(header.roomId(), header.seed(),
+                    header.tickMillis());
+            private int nextChange;
+            private PaddleInput left = PaddleInput.STAY;
+            private PaddleInput right = PaddleInput.STAY;
+            private boolean initialEmitted;
+
+            @Override
+            public boolean hasNext() {
+                return !initialEmitted || engine.tickIndex() < header.ticks();
+            }
+
+            @Override
+            public ReplayEventRecord next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (!initialEmitted) {
+                    initialEmitted = true;
+                    return new ReplayEventRecord(0, engine.forceSnapshot());
+                }
+                while (nextChange < changes.size() && changes.get(nextChange).tick() <= engine.tickIndex()) {
+                    InputChange change = changes.get(nextChange++);
+                    left = change.left();
+                    right = change.right();
+                }
+                engine.stage(left, right);
+                engine.step();
+                GameSnapshot snapshot = engine.forceSnapshot();
+                return new ReplayEventRecord(engine.tickIndex() * header.tickMillis(), snapshot);
+            }
+        };
+    }
+}
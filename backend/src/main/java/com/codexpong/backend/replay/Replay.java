@@ -7,6 +7,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -19,12 +20,15 @@ import java.time.ZoneId;
  * 설명:
  *   - v0.11.0 리플레이 녹화 결과를 영속화하는 엔티티다.
  *   - 매치(GameResult)와 사용자 소유자, 저장 위치/체크섬 메타데이터를 포함한다.
- * 버전: v0.11.0
+ *   - 보존 정책이 소유자별 최신순으로 잘라 읽으므로 (owner_user_id, created_at) 색인을 둔다.
+ * 버전: v1.2.0
  * 관련 설계문서:
  *   - design/backend/v0.11.0-replay-recording-and-storage.md
+ *   - design/backend/v1.2.0-replay-content-addressing.md
  */
 @Entity
-@Table(name = "replays")
+@Table(name = "replays",
+        indexes = @Index(name = "idx_replays_owner_created", columnList = "owner_user_id, created_at"))
 public class Replay {
 
     @Id
@@ -0,0 +1,85 @@
+package com.codexpong.backend.replay;
+
+import com.codexpong.backend.common.KstDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * [엔티티] backend/src/main/java/com/codexpong/backend/replay/ReplayBlob.java
+ * 설명:
+ *   - 체크섬(SHA-256)으로 주소가 매겨진 리플레이 파일 하나와 그 파일을 가리키는 Replay 행 수(refCount)를 보관한다.
+ *   - refCount가 0이 되는 순간 orphanedAt을 기록하고, ReplayBlobSweeper가 유예 시간 뒤 파일과 행을 함께 지운다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-replay-content-addressing.md
+ */
+@Entity
+@Table(name = "replay_blobs", indexes = {
+        @Index(name = "idx_replay_blobs_orphaned_at", columnList = "orphaned_at"),
+        @Index(name = "idx_replay_blobs_created_at", columnList = "created_at")})
+public class ReplayBlob {
+
+    @Id
+    @Column(length = 128)
+    private String checksum;
+
+    @Column(nullable = false, length = 500)
+    private String storageUri;
+
+    @Column(nullable = false)
+    private long sizeBytes;
+
+    @Column(nullable = false)
+    private int refCount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime orphanedAt;
+
+    protected ReplayBlob() {
+    }
+
+    public ReplayBlob(String checksum, String storageUri, long sizeBytes, int refCount) {
+        this.checksum = checksum;
+        this.storageUri = storageUri;
+        this.sizeBytes = sizeBytes;
+        this.refCount = refCount;
+    }
+
+    @PrePersist
+    void onCreate() {
+        if (createdAt == null) {
+            createdAt = KstDateTime.now();
+        }
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public String getStorageUri() {
+        return storageUri;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public int getRefCount() {
+        return refCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getOrphanedAt() {
+        return orphanedAt;
+    }
+}
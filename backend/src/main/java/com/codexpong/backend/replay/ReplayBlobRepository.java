@@ -0,0 +1,65 @@
+package com.codexpong.backend.replay;
+
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * [저장소] backend/src/main/java/com/codexpong/backend/replay/ReplayBlobRepository.java
+ * 설명:
+ *   - 리플레이 파일 참조 수를 기본 키(체크섬) 한 행 갱신으로 늘리고 줄인다.
+ *   - release는 마지막 참조가 사라질 때 orphanedAt을 함께 기록한다. orphanedAt 대입을 refCount보다 먼저 두어
+ *     MySQL/MariaDB처럼 SET 절을 왼쪽부터 평가하는 DB에서도 감소 전 값을 보게 한다.
+ *   - 전역 용량 정책을 위한 살아 있는 블롭 합계/오래된 순 스캔을 제공한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-replay-content-addressing.md
+ *   - design/backend/v1.2.0-retention-compactor.md
+ */
+@Repository
+public interface ReplayBlobRepository extends JpaRepository<ReplayBlob, String> {
+
+    @Modifying
+    @Query("update ReplayBlob b set b.orphanedAt = null, b.refCount = b.refCount + :count "
+            + "where b.checksum = :checksum")
+    int addReferences(@Param("checksum") String checksum, @Param("count") int count);
+
+    @Modifying
+    @Query("update ReplayBlob b set b.orphanedAt = case when b.refCount <= 1 then :now else b.orphanedAt end, "
+            + "b.refCount = b.refCount - 1 where b.checksum = :checksum")
+    int release(@Param("checksum") String checksum, @Param("now") LocalDateTime now);
+
+    @Query("select b from ReplayBlob b where b.refCount <= 0 and b.orphanedAt < :cutoff order by b.orphanedAt")
+    List<ReplayBlob> findOrphans(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Query("select coalesce(sum(b.sizeBytes), 0) from ReplayBlob b where b.refCount > 0")
+    long sumLiveBytes();
+
+    /**
+     * 참조가 남은 블롭을 오래된 순(생성 시각, 체크섬)으로 커서 뒤부터 읽는다. 전역 용량 정책이 사용한다.
+     */
+    @Query("select b from ReplayBlob b where b.refCount > 0 and (b.createdAt > :createdAt "
+            + "or (b.createdAt = :createdAt and b.checksum > :checksum)) order by b.createdAt, b.checksum")
+    List<ReplayBlob> findLiveAfter(@Param("createdAt") LocalDateTime createdAt, @Param("checksum") String checksum,
+            Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from ReplayBlob b where b.checksum = :checksum")
+    Optional<ReplayBlob> findByChecksumForUpdate(@Param("checksum") String checksum);
+
+    @Modifying
+    @Query("delete from ReplayBlob b where b.checksum = :checksum and b.refCount <= 0")
+    int deleteIfOrphan(@Param("checksum") String checksum);
+
+    @Modifying
+    @Query("update ReplayBlob b set b.storageUri = :target where b.storageUri = :source")
+    int updateStorageUri(@Param("source") String source, @Param("target") String target);
+}
@@ -0,0 +1,90 @@
+package com.codexpong.backend.replay;
+
+import com.codexpong.backend.common.KstDateTime;
+import com.codexpong.backend.observability.ObservabilityMetrics;
+import com.codexpong.backend.observability.ObservabilityMetrics.RetentionMeters;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * [작업] backend/src/main/java/com/codexpong/backend/replay/ReplayBlobSweeper.java
+ * 설명:
+ *   - 참조 수가 0이 된 뒤 유예 시간(grace-seconds)이 지난 리플레이 블롭을 배치로 모아 파일과 행을 지운다.
+ *   - 블롭마다 행을 잠가 다시 읽고, 여전히 참조가 없으면 조건부 삭제(refCount <= 0)로 행을 지운다.
+ *     파일은 커밋이 끝난 뒤 그때 읽은 storageUri로 지운다(RetentionCompactor와 같은 순서).
+ *     커밋이 실패하면 행과 파일이 함께 남고, 그 사이 티어 이전으로 바뀐 URI도 잠근 행에서 읽으므로 엉뚱한 사본을 지우지 않는다.
+ *     같은 체크섬 경기가 그 사이 완료되면 참조 증가가 0행을 갱신하므로 새 파일을 다시 쓴다.
+ *   - 경기 종료 경로는 참조 감소만 하고 파일 I/O를 하지 않는다.
+ *   - 지운 블롭 크기를 retention.reclaimed.bytes{kind=replay}로 기록한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-replay-content-addressing.md
+ */
+@Component
+public class ReplayBlobSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplayBlobSweeper.class);
+
+    private final ReplayBlobRepository blobRepository;
+    private final ReplayService replayService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long graceSeconds;
+    private final RetentionMeters meters;
+
+    public ReplayBlobSweeper(ReplayBlobRepository blobRepository, ReplayService replayService,
+            TransactionTemplate transactionTemplate, ObservabilityMetrics metrics,
+            @Value("${replay.blob.sweep-batch-size:200}") int batchSize,
+            @Value("${replay.blob.sweep-grace-seconds:60}") long graceSeconds) {
+        this.blobRepository = blobRepository;
+        this.replayService = replayService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.graceSeconds = graceSeconds;
+        this.meters = metrics.retentionMeters();
+    }
+
+    @Scheduled(fixedDelayString = "${replay.blob.sweep-interval-millis:60000}",
+            initialDelayString = "${replay.blob.sweep-interval-millis:60000}")
+    public void scheduledSweep() {
+        sweepOrphanedBefore(KstDateTime.now().minusSeconds(graceSeconds));
+    }
+
+    /**
+     * 설명:
+     *   - cutoff 이전에 참조가 0이 된 블롭을 최대 배치 크기만큼 정리한다.
+     * 출력:
+     *   - 지운 블롭 수
+     */
+    public int sweepOrphanedBefore(LocalDateTime cutoff) {
+        List<ReplayBlob> orphans = blobRepository.findOrphans(cutoff, PageRequest.of(0, batchSize));
+        int swept = 0;
+        for (ReplayBlob blob : orphans) {
+            try {
+                ReplayBlob deleted = transactionTemplate.execute(status ->
+                        blobRepository.findByChecksumForUpdate(blob.getChecksum())
+                                .filter(current -> current.getRefCount() <= 0)
+                                .filter(current -> blobRepository.deleteIfOrphan(current.getChecksum()) > 0)
+                                .orElse(null));
+                if (deleted != null) {
+                    replayService.deleteStoredFiles(deleted.getStorageUri());
+                    swept++;
+                    meters.replayBytes().increment(deleted.getSizeBytes());
+                }
+            } catch (RuntimeException ex) {
+                log.warn("[REPLAY_BLOB_SWEEP_FAILED] checksum={} reason={}", blob.getChecksum(), ex.getMessage());
+            }
+        }
+        if (swept > 0) {
+            log.info("[REPLAY_BLOB_SWEPT] blobs={} cutoff={}", swept, cutoff);
+        }
+        return swept;
+    }
+}
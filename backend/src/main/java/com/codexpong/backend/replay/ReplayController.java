@@ -1,13 +1,14 @@
 package com.codexpong.backend.replay;
 
 import com.codexpong.backend.auth.model.AuthenticatedUser;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -16,9 +17,14 @@ import org.springframework.web.bind.annotation.RestController;
  * 설명:
  *   - v0.11.0 리플레이 목록/상세 조회와 이벤트 파일 스트리밍 API를 제공한다.
  *   - 모든 엔드포인트는 소유자 인증을 요구하며, 관리자 예외 정책은 추후 버전에서 별도 정의한다.
- * 버전: v0.11.0
+ * 버전: v1.2.0
  * 관련 설계문서:
  *   - design/backend/v0.11.0-replay-recording-and-storage.md
+ *   - design/backend/v1.2.0-seekable-replay.md
+ *   - design/backend/v1.2.0-compressed-replay.md
+ * 변경 이력:
+ *   - v1.2.0: 이벤트 스트리밍에 fromMs/toMs 구간 조회와 HTTP Range(206) 응답 추가
+ *   - v1.2.0: 압축 저장 리플레이는 gzip을 받는 클라이언트에 Content-Encoding: gzip으로 그대로 전송
  */
 @RestController
 public class ReplayController {
@@ -63,14 +69,40 @@ public class ReplayController {
     /**
      * 설명:
      *   - JSON Lines 포맷으로 저장된 리플레이 이벤트 파일을 스트리밍한다.
+     *   - fromMs/toMs로 시간 구간만 받을 수 있고, Range 헤더를 보내면 응답 본문 중 해당 바이트만 206으로 받는다.
+     *   - 압축 저장된 리플레이는 Accept-Encoding에 gzip이 있으면 압축 바이트를 그대로 보낸다(Range도 압축 바이트 기준).
      */
     @GetMapping("/api/replays/{replayId}/events")
-    public ResponseEntity<InputStreamResource> streamReplay(@AuthenticationPrincipal AuthenticatedUser user,
-            @PathVariable Long replayId) {
-        InputStreamResource resource = replayService.streamEvents(user.id(), replayId);
-        return ResponseEntity.ok()
+    public ResponseEntity<Resource> streamReplay(@AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable Long replayId,
+            @RequestParam(required = false) Long fromMs,
+            @RequestParam(required = false) Long toMs,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ReplayEventsBody body = replayService.openEvents(user.id(), replayId, fromMs, toMs,
+                acceptsGzip(acceptEncoding));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"replay-" + replayId + ".jsonl\"")
-                .contentType(MediaType.valueOf("application/x-ndjson"))
-                .body(resource);
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.valueOf("application/x-ndjson"));
+        if (body.contentEncoding() != null) {
+            response.header(HttpHeaders.CONTENT_ENCODING, body.contentEncoding());
+        }
+        return response.body(body.resource());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            boolean rejected = parts.length > 1 && parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            return !rejected;
+        }
+        return false;
     }
 }
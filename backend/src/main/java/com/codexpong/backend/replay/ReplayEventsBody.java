@@ -0,0 +1,18 @@
+package com.codexpong.backend.replay;
+
+import org.springframework.core.io.Resource;
+
+/**
+ * [응답 모델] backend/src/main/java/com/codexpong/backend/replay/ReplayEventsBody.java
+ * 설명:
+ *   - 이벤트 스트리밍 응답 본문과, 본문이 이미 압축되어 있을 때의 Content-Encoding 값을 함께 전달한다.
+ *   - contentEncoding이 null이면 본문은 평문 JSONL이다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-compressed-replay.md
+ */
+record ReplayEventsBody(
+        Resource resource,
+        String contentEncoding
+) {
+}
@@ -0,0 +1,149 @@
+package com.codexpong.backend.replay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+/**
+ * [모델] backend/src/main/java/com/codexpong/backend/replay/ReplayIndex.java
+ * 설명:
+ *   - JSONL 리플레이의 희소 시간 → 바이트 위치 색인이다. INTERVAL_MS마다 그 시점 이후 첫 이벤트 줄의 시작 위치를 남긴다.
+ *   - 녹화 중 ReplayRecorder가 채우고 완료 시 `{리플레이 파일}.idx`로 함께 저장한다.
+ *   - 파일 포맷: "RIDX" | u8 버전 | i32 개수 | (i64 offsetMs, i64 bytePosition) × 개수 (빅엔디언)
+ *   - 색인이 없는 예전 리플레이는 build로 한 번 훑어 만들 수 있다.
+ *   - 블록 압축 리플레이(JSONL_GZ_V1)는 색인 항목마다 새 gzip 멤버를 시작하므로 위치가 곧 압축 블록 경계다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-seekable-replay.md
+ *   - design/backend/v1.2.0-compressed-replay.md
+ */
+final class ReplayIndex {
+
+    static final long INTERVAL_MS = 1_000;
+    static final String SUFFIX = ".idx";
+    private static final int MAGIC = 0x52494458;
+    private static final byte VERSION = 1;
+
+    private final long intervalMs;
+    private long[] offsets = new long[16];
+    private long[] positions = new long[16];
+    private int size;
+    private long nextOffsetMs;
+
+    ReplayIndex() {
+        this(INTERVAL_MS);
+    }
+
+    ReplayIndex(long intervalMs) {
+        this.intervalMs = intervalMs;
+    }
+
+    /**
+     * 설명:
+     *   - 이 오프셋의 이벤트가 새 색인 항목을 시작하는지 알려준다. 압축 녹화기는 이때 블록을 닫는다.
+     */
+    boolean startsEntry(long offsetMs) {
+        return size == 0 || offsetMs >= nextOffsetMs;
+    }
+
+    /**
+     * 설명:
+     *   - 이벤트 줄을 쓰기 직전에 호출한다. 다음 색인 시점에 도달한 첫 이벤트만 기록한다.
+     */
+    void observe(long offsetMs, long bytePosition) {
+        if (!startsEntry(offsetMs)) {
+            return;
+        }
+        add(offsetMs, bytePosition);
+    }
+
+    private void add(long offsetMs, long bytePosition) {
+        if (size == offsets.length) {
+            offsets = Arrays.copyOf(offsets, size * 2);
+            positions = Arrays.copyOf(positions, size * 2);
+        }
+        offsets[size] = offsetMs;
+        positions[size] = bytePosition;
+        size++;
+        nextOffsetMs = (offsetMs / intervalMs + 1) * intervalMs;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 설명:
+     *   - [fromMs, toMs] 구간의 이벤트를 모두 포함하는 바이트 범위를 반환한다. 경계는 색인 간격 단위로 넓어진다.
+     * 출력:
+     *   - {시작 위치, 끝 위치(제외)}
+     */
+    long[] slice(long fromMs, long toMs, long fileSize) {
+        long start = 0;
+        long end = fileSize;
+        for (int i = 0; i < size; i++) {
+            if (offsets[i] <= fromMs) {
+                start = positions[i];
+            }
+            if (offsets[i] > toMs) {
+                end = positions[i];
+                break;
+            }
+        }
+        return new long[] {start, Math.max(start, end)};
+    }
+
+    void write(Path path) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(temp))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                out.writeLong(offsets[i]);
+                out.writeLong(positions[i]);
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static ReplayIndex read(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(path))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                throw new IOException("리플레이 색인 형식이 올바르지 않습니다: " + path);
+            }
+            int count = in.readInt();
+            ReplayIndex index = new ReplayIndex();
+            for (int i = 0; i < count; i++) {
+                index.add(in.readLong(), in.readLong());
+            }
+            return index;
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 색인 없이 저장된 JSONL 리플레이를 한 번 훑어 색인을 만든다. 줄 구분자는 1바이트(\n)로 가정한다.
+     */
+    static ReplayIndex build(Path jsonl, ObjectMapper objectMapper) throws IOException {
+        ReplayIndex index = new ReplayIndex();
+        long position = 0;
+        try (BufferedReader reader = Files.newBufferedReader(jsonl, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    index.observe(objectMapper.readTree(line).path("offsetMs").asLong(), position);
+                }
+                position += line.getBytes(StandardCharsets.UTF_8).length + 1;
+            }
+        }
+        return index;
+    }
+}
@@ -0,0 +1,251 @@
+package com.codexpong.backend.replay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * [모듈] backend/src/main/java/com/codexpong/backend/replay/ReplayRecorder.java
+ * 설명:
+ *   - 경기 하나의 JSONL_V1 이벤트를 틱마다 임시 파일에 바로 이어 쓰는 녹화기다.
+ *   - 고정 크기 ByteBuffer로 모아 FileChannel에 쓰고, 쓰는 바이트로 SHA-256을 증분 갱신한다.
+ *     방당 힙 사용량은 버퍼 크기와 초당 16바이트 색인 항목뿐이다.
+ *   - 완료 시 버퍼를 비우고 최종 경로로 원자적 이동만 한다. 파일을 다시 읽지 않는다.
+ *   - 쓰는 동안 희소 시간 색인(ReplayIndex)을 함께 채워 완료 시 `{최종 경로}.idx`로 저장한다.
+ *   - 압축 모드(openCompressed)는 CHUNK_INTERVAL_MS 분량의 줄을 모아 독립된 gzip 멤버 하나로 쓴다.
+ *     색인 항목 = 블록 시작 위치라 구간 조회가 그대로 동작하고, 이어 붙인 멤버는 그 자체로 유효한 gzip 스트림이다.
+ *     이 경우 방당 힙에 블록 하나 분량(약 20KB)의 원문 버퍼가 더해진다.
+ *   - 입력 로그(REPLAY_INPUTS_V2) 녹화 방은 파일을 열지 않고 시작 시각만 보관한다.
+ *   - 틱 스레드(append)와 종료 처리 워커(complete/discard)가 접근하므로 메서드는 동기화되어 있다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-streaming-replay-writer.md
+ *   - design/backend/v1.2.0-seekable-replay.md
+ *   - design/backend/v1.2.0-compressed-replay.md
+ */
+class ReplayRecorder {
+
+    static final int BUFFER_BYTES = 8 * 1024;
+    static final long CHUNK_INTERVAL_MS = 5_000;
+    private static final byte[] NEWLINE_BYTES = {(byte) '\n'};
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    /**
+     * Deflater는 네이티브 메모리를 크게 잡으므로 방마다 두지 않고 블록을 닫는 스레드(틱 휠/종료 워커)마다 재사용한다.
+     */
+    private static final ThreadLocal<ChunkCompressor> COMPRESSORS = ThreadLocal.withInitial(ChunkCompressor::new);
+
+    private final long startedAtMs;
+    private final boolean inputsOnly;
+    private final Path partPath;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final MessageDigest digest;
+    private final ReplayIndex index;
+    private final boolean compressed;
+    private byte[] chunk;
+    private int chunkLength;
+    private long position;
+    private long eventCount;
+    private long lastOffsetMs;
+    private boolean closed;
+
+    private ReplayRecorder(long startedAtMs, boolean inputsOnly, Path partPath, FileChannel channel,
+            boolean compressed) {
+        this.startedAtMs = startedAtMs;
+        this.inputsOnly = inputsOnly;
+        this.partPath = partPath;
+        this.channel = channel;
+        this.compressed = compressed;
+        this.buffer = inputsOnly ? null : ByteBuffer.allocate(BUFFER_BYTES);
+        this.digest = inputsOnly ? null : sha256();
+        this.index = inputsOnly ? null : new ReplayIndex(compressed ? CHUNK_INTERVAL_MS : ReplayIndex.INTERVAL_MS);
+        this.chunk = compressed ? new byte[BUFFER_BYTES] : null;
+    }
+
+    static ReplayRecorder open(Path partPath, long startedAtMs) throws IOException {
+        return new ReplayRecorder(startedAtMs, false, partPath, openChannel(partPath), false);
+    }
+
+    static ReplayRecorder openCompressed(Path partPath, long startedAtMs) throws IOException {
+        return new ReplayRecorder(startedAtMs, false, partPath, openChannel(partPath), true);
+    }
+
+    static ReplayRecorder inputsOnly(long startedAtMs) {
+        return new ReplayRecorder(startedAtMs, true, null, null, false);
+    }
+
+    private static FileChannel openChannel(Path partPath) throws IOException {
+        Files.createDirectories(partPath.getParent());
+        return FileChannel.open(partPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    long startedAtMs() {
+        return startedAtMs;
+    }
+
+    boolean inputsOnly() {
+        return inputsOnly;
+    }
+
+    boolean compressed() {
+        return compressed;
+    }
+
+    synchronized long eventCount() {
+        return eventCount;
+    }
+
+    synchronized long lastOffsetMs() {
+        return lastOffsetMs;
+    }
+
+    synchronized void append(ReplayEventRecord event, ObjectMapper objectMapper) throws IOException {
+        if (inputsOnly || closed) {
+            return;
+        }
+        byte[] line = objectMapper.writeValueAsBytes(event);
+        if (compressed) {
+            if (index.startsEntry(event.offsetMs())) {
+                flushChunk();
+            }
+            index.observe(event.offsetMs(), position);
+            appendToChunk(line, line.length);
+            appendToChunk(NEWLINE_BYTES, 1);
+        } else {
+            index.observe(event.offsetMs(), position);
+            write(line, line.length);
+            write(NEWLINE_BYTES, 1);
+        }
+        eventCount++;
+        lastOffsetMs = event.offsetMs();
+    }
+
+    /**
+     * 설명:
+     *   - 남은 버퍼를 쓰고 파일을 닫은 뒤 target으로 원자적으로 옮기고, 시간 색인을 target.idx로 저장한다.
+     * 출력:
+     *   - 기록한 전체 바이트의 SHA-256 (16진수)
+     */
+    synchronized String complete(Path target) throws IOException {
+        if (inputsOnly || closed) {
+            throw new IOException("이미 종료된 녹화입니다.");
+        }
+        if (compressed) {
+            flushChunk();
+        }
+        drain();
+        channel.force(false);
+        channel.close();
+        closed = true;
+        index.write(target.resolveSibling(target.getFileName() + ReplayIndex.SUFFIX));
+        Files.move(partPath, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 설명:
+     *   - 결과 저장 없이 끝난 방의 임시 파일을 정리한다.
+     */
+    synchronized void discard() {
+        if (inputsOnly || closed) {
+            return;
+        }
+        closed = true;
+        try {
+            channel.close();
+            Files.deleteIfExists(partPath);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private void write(byte[] bytes, int length) throws IOException {
+        digest.update(bytes, 0, length);
+        position += length;
+        int offset = 0;
+        while (offset < length) {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+            int chunk = Math.min(buffer.remaining(), length - offset);
+            buffer.put(bytes, offset, chunk);
+            offset += chunk;
+        }
+    }
+
+    private void appendToChunk(byte[] bytes, int length) {
+        if (chunkLength + length > chunk.length) {
+            chunk = Arrays.copyOf(chunk, Math.max(chunk.length * 2, chunkLength + length));
+        }
+        System.arraycopy(bytes, 0, chunk, chunkLength, length);
+        chunkLength += length;
+    }
+
+    /**
+     * 설명:
+     *   - 모인 줄을 gzip 멤버 하나(헤더 + raw deflate + CRC32/ISIZE 트레일러)로 압축해 파일에 쓴다.
+     */
+    private void flushChunk() throws IOException {
+        if (chunkLength == 0) {
+            return;
+        }
+        ChunkCompressor compressor = COMPRESSORS.get();
+        write(GZIP_HEADER, GZIP_HEADER.length);
+        Deflater deflater = compressor.deflater;
+        deflater.reset();
+        deflater.setInput(chunk, 0, chunkLength);
+        deflater.finish();
+        while (!deflater.finished()) {
+            int produced = deflater.deflate(compressor.output);
+            write(compressor.output, produced);
+        }
+        compressor.crc.reset();
+        compressor.crc.update(chunk, 0, chunkLength);
+        writeIntLittleEndian(compressor.trailer, 0, (int) compressor.crc.getValue());
+        writeIntLittleEndian(compressor.trailer, 4, chunkLength);
+        write(compressor.trailer, compressor.trailer.length);
+        chunkLength = 0;
+    }
+
+    private static void writeIntLittleEndian(byte[] target, int offset, int value) {
+        target[offset] = (byte) value;
+        target[offset + 1] = (byte) (value >>> 8);
+        target[offset + 2] = (byte) (value >>> 16);
+        target[offset + 3] = (byte) (value >>> 24);
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("해시 알고리즘을 찾을 수 없습니다.", ex);
+        }
+    }
+
+    private static final class ChunkCompressor {
+        private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        private final CRC32 crc = new CRC32();
+        private final byte[] output = new byte[BUFFER_BYTES];
+        private final byte[] trailer = new byte[8];
+    }
+}
@@ -1,11 +1,16 @@
 package com.codexpong.backend.replay;
 
 import com.codexpong.backend.user.domain.User;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -13,9 +18,13 @@ import org.springframework.stereotype.Repository;
  * 설명:
  *   - 리플레이 메타데이터를 조회/저장하기 위한 JPA 리포지토리다.
  *   - 소유자별 조회와 스토리지 URI 기반 참조 수 계산을 제공한다.
- * 버전: v0.11.0
+ *   - v1.2.0부터 티어 이전 대상 조회와 storageUri 일괄 갱신, 보존 정책 키셋 스캔을 제공한다.
+ * 버전: v1.2.0
  * 관련 설계문서:
  *   - design/backend/v0.11.0-replay-recording-and-storage.md
+ *   - design/backend/v1.2.0-tiered-replay-storage.md
+ *   - design/backend/v1.2.0-replay-content-addressing.md
+ *   - design/backend/v1.2.0-retention-compactor.md
  */
 @Repository
 public interface ReplayRepository extends JpaRepository<Replay, Long> {
@@ -28,5 +37,31 @@ public interface ReplayRepository extends JpaRepository<Replay, Long> {
 
     List<Replay> findByOwnerOrderByCreatedAtDesc(User owner);
 
+    /**
+     * 보존 정책 스캔용 조회다. (소유자, 생성 시각 내림차순, id 내림차순) 커서 뒤부터 읽어
+     * (owner_user_id, created_at) 색인을 그대로 탄다.
+     */
+    @Query("select new com.codexpong.backend.replay.ReplayRetentionRow(r.id, r.owner.id, r.createdAt, b.sizeBytes) "
+            + "from Replay r left join ReplayBlob b on b.checksum = r.checksum where r.owner.id > :ownerId "
+            + "or (r.owner.id = :ownerId and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id))) "
+            + "order by r.owner.id, r.createdAt desc, r.id desc")
+    List<ReplayRetentionRow> findRetentionRowsAfter(@Param("ownerId") Long ownerId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("select r.id from Replay r where r.checksum in :checksums")
+    List<Long> findIdsByChecksumIn(@Param("checksums") Collection<String> checksums);
+
     long countByStorageUri(String storageUri);
+
+    /**
+     * cutoff 이전에 만들어졌고 아직 콜드 티어(coldPattern)로 옮기지 않은 리플레이 파일 URI를 반환한다.
+     */
+    @Query("select distinct r.storageUri from Replay r where r.createdAt < :cutoff "
+            + "and r.storageUri not like :coldPattern")
+    List<String> findHotStorageUrisCreatedBefore(@Param("cutoff") LocalDateTime cutoff,
+            @Param("coldPattern") String coldPattern, Pageable pageable);
+
+    @Modifying
+    @Query("update Replay r set r.storageUri = :target where r.storageUri = :source")
+    int updateStorageUri(@Param("source") String source, @Param("target") String target);
 }
@@ -0,0 +1,19 @@
+package com.codexpong.backend.replay;
+
+import java.time.LocalDateTime;
+
+/**
+ * [모델] backend/src/main/java/com/codexpong/backend/replay/ReplayRetentionRow.java
+ * 설명:
+ *   - 보존 정책 스캔이 리플레이를 판정하는 데 필요한 열만 담은 프로젝션이다.
+ *   - 크기는 ReplayBlob에서 읽으며, 블롭 행이 없는 이전 리플레이는 0바이트로 계산한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-retention-compactor.md
+ */
+public record ReplayRetentionRow(Long id, Long ownerId, LocalDateTime createdAt, Long blobBytes) {
+
+    public long sizeBytes() {
+        return blobBytes == null ? 0 : blobBytes;
+    }
+}
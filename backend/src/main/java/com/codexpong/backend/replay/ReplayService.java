@@ -1,27 +1,41 @@
 package com.codexpong.backend.replay;
 
+import com.codexpong.backend.common.KstDateTime;
 import com.codexpong.backend.game.GameResult;
 import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.engine.DeterministicEngine;
 import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.replay.store.TieredReplayStorage;
 import com.codexpong.backend.user.domain.User;
 import com.codexpong.backend.user.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.io.BufferedWriter;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,34 +45,79 @@ import org.springframework.web.server.ResponseStatusException;
  * [서비스] backend/src/main/java/com/codexpong/backend/replay/ReplayService.java
  * 설명:
  *   - v0.11.0 리플레이 녹화/저장/조회 흐름을 담당한다.
- *   - 게임 방 생성 시 버퍼를 준비해 틱마다 스냅샷을 누적하고, 종료 시 파일을 생성한 뒤 메타데이터를 저장한다.
- *   - 소유자별 조회/다운로드 권한을 검증하고, 보존 정책에 따라 오래된 리플레이를 정리한다.
- * 버전: v0.11.0
+ *   - 게임 방 생성 시 ReplayRecorder를 열어 틱마다 스냅샷을 임시 파일에 이어 쓰고, 종료 시 원자적 이동 후 메타데이터를 저장한다.
+ *   - 소유자별 조회/다운로드 권한을 검증한다. 보존 정책은 RetentionCompactor가 주기적으로 적용하며,
+ *     경기 종료 경로에는 보존 정책 비용이 없다.
+ *   - 결정적 엔진으로 진행한 방은 스냅샷 대신 시드와 입력 변화만 REPLAY_INPUTS_V2로 저장하고,
+ *     스트리밍/내보내기 시 재시뮬레이션해 JSONL_V1과 같은 이벤트를 만든다.
+ *   - JSONL_V1은 녹화 시 함께 저장한 시간 색인(.idx)으로 fromMs~toMs 구간의 바이트만 읽어 보낸다.
+ *   - replay.storage.compression=gzip이면 5초 단위 gzip 블록(JSONL_GZ_V1)으로 저장하고,
+ *     gzip을 받는 클라이언트에는 저장된 압축 바이트를 Content-Encoding: gzip으로 그대로 보낸다.
+ *   - 파일 위치는 TieredReplayStorage가 storageUri로 해석한다. 콜드 티어로 옮겨진 리플레이는 로컬 캐시를 거쳐 읽는다.
+ *   - 완료된 녹화는 체크섬 이름(`{sha256}{확장자}`)으로 저장하고 ReplayBlob 참조 수로 공유한다. 리플레이 삭제는
+ *     리플레이당 기본 키 감소 한 번으로 끝나며, 참조가 0이 된 파일은 ReplayBlobSweeper가 모아서 지운다.
+ * 버전: v1.2.0
  * 관련 설계문서:
  *   - design/backend/v0.11.0-replay-recording-and-storage.md
+ *   - design/backend/v1.2.0-replay-input-log.md
+ *   - design/backend/v1.2.0-seekable-replay.md
+ *   - design/backend/v1.2.0-compressed-replay.md
+ *   - design/backend/v1.2.0-tiered-replay-storage.md
+ *   - design/backend/v1.2.0-replay-content-addressing.md
+ *   - design/backend/v1.2.0-retention-compactor.md
+ * 변경 이력:
+ *   - v1.2.0: 입력 로그 리플레이(REPLAY_INPUTS_V2) 저장과 온디맨드 재시뮬레이션 추가
+ *   - v1.2.0: 경기 전체를 힙에 모으던 RecordingBuffer를 스트리밍 녹화기(ReplayRecorder)로 교체
+ *   - v1.2.0: 시간 색인 기반 구간 스트리밍(fromMs/toMs)과 길이가 알려진 Resource 반환(HTTP Range 지원)
+ *   - v1.2.0: 블록 압축 저장(JSONL_GZ_V1)과 압축 바이트 그대로 전송
+ *   - v1.2.0: 저장 티어(핫 로컬 디스크/콜드 오브젝트 스토리지) 추상화 도입
+ *   - v1.2.0: 체크섬 주소 저장과 참조 수(ReplayBlob) 기반 보존 정책, 파일 삭제는 백그라운드 스위퍼로 이동
+ *   - v1.2.0: 경기 종료 시 보존 정책 적용 제거(RetentionCompactor로 이동)
+ *   - v1.2.0: 구간 분할 내보내기용 이벤트 파일 바이트 범위 조회(eventsByteRange)
  */
 @Service
 public class ReplayService {
 
+    private static final Logger log = LoggerFactory.getLogger(ReplayService.class);
     private static final String EVENT_FORMAT = "JSONL_V1";
+    static final String COMPRESSED_EVENT_FORMAT = "JSONL_GZ_V1";
+    private static final String GZIP = "gzip";
+    private static final String RESIMULATED_DIR = "resimulated";
+    private static final String RECORDING_DIR = ".recording";
+    private static final String PLAIN_SUFFIX = ".jsonl";
+    private static final String COMPRESSED_SUFFIX = ".jsonl.gz";
+    private static final String INPUT_LOG_SUFFIX = ".inputs.jsonl";
+    private static final int REFERENCES_PER_MATCH = 2;
 
-    private final Map<String, RecordingBuffer> buffers = new ConcurrentHashMap<>();
+    private final Map<String, ReplayRecorder> recorders = new ConcurrentHashMap<>();
 
     private final ReplayRepository replayRepository;
+    private final ReplayBlobRepository blobRepository;
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
     private final Path storageDir;
-    private final int retentionLimit;
+    private final boolean compressReplays;
+    private final TieredReplayStorage storage;
 
-    public ReplayService(ReplayRepository replayRepository,
+    public ReplayService(ReplayRepository replayRepository, ReplayBlobRepository blobRepository,
+            UserRepository userRepository, ObjectMapper objectMapper, String storagePath) {
+        this(replayRepository, blobRepository, userRepository, objectMapper, storagePath, "none",
+                TieredReplayStorage.forDirectory(Paths.get(storagePath)));
+    }
+
+    @Autowired
+    public ReplayService(ReplayRepository replayRepository, ReplayBlobRepository blobRepository,
             UserRepository userRepository, ObjectMapper objectMapper,
             @Value("${replay.storage.path}") String storagePath,
-            @Value("${replay.retention.max-per-user:20}") int retentionLimit) {
+            @Value("${replay.storage.compression:gzip}") String compression,
+            TieredReplayStorage storage) {
         this.replayRepository = replayRepository;
+        this.blobRepository = blobRepository;
         this.userRepository = userRepository;
         this.objectMapper = objectMapper;
         this.storageDir = Paths.get(storagePath);
-        this.retentionLimit = retentionLimit;
+        this.compressReplays = GZIP.equalsIgnoreCase(compression);
+        this.storage = storage;
         try {
             Files.createDirectories(storageDir);
         } catch (IOException ignored) {
@@ -67,50 +126,106 @@ public class ReplayService {
 
     /**
      * 설명:
-     *   - 경기 방이 생성될 때 초기 스냅샷을 기록하기 위해 버퍼를 준비한다.
+     *   - 경기 방이 생성될 때 녹화기를 열고 초기 스냅샷을 기록한다.
+     *   - 입력 로그로 녹화하는 방은 파일을 열지 않는다.
      */
     public void startRecording(GameRoom room) {
-        RecordingBuffer buffer = new RecordingBuffer(System.currentTimeMillis());
-        buffer.append(new ReplayEventRecord(0, room.currentSnapshot()));
-        buffers.put(room.getRoomId(), buffer);
+        long startedAtMs = System.currentTimeMillis();
+        if (room.getDeterministicEngine().isPresent()) {
+            recorders.put(room.getRoomId(), ReplayRecorder.inputsOnly(startedAtMs));
+            return;
+        }
+        try {
+            Path part = partPath(room.getRoomId());
+            ReplayRecorder recorder = compressReplays ? ReplayRecorder.openCompressed(part, startedAtMs)
+                    : ReplayRecorder.open(part, startedAtMs);
+            recorder.append(new ReplayEventRecord(0, room.currentSnapshot()), objectMapper);
+            ReplayRecorder previous = recorders.put(room.getRoomId(), recorder);
+            if (previous != null) {
+                previous.discard();
+            }
+        } catch (IOException ex) {
+            log.warn("[REPLAY_RECORD_FAILED] roomId={} reason={}", room.getRoomId(), ex.getMessage());
+        }
     }
 
     /**
      * 설명:
-     *   - 틱마다 전달된 스냅샷을 시간 오프셋과 함께 버퍼에 누적한다.
+     *   - 이 방의 녹화가 틱 스냅샷을 받는지 알려준다. 입력 로그로 녹화하거나 녹화가 없으면 false다.
+     */
+    public boolean recordsSnapshots(String roomId) {
+        ReplayRecorder recorder = recorders.get(roomId);
+        return recorder != null && !recorder.inputsOnly();
+    }
+
+    /**
+     * 설명:
+     *   - 틱마다 전달된 스냅샷을 시간 오프셋과 함께 녹화 파일에 이어 쓴다.
+     *   - 입력 로그로 녹화하는 방은 스냅샷을 기록하지 않는다.
      */
     public void appendSnapshot(String roomId, GameSnapshot snapshot) {
-        RecordingBuffer buffer = buffers.get(roomId);
-        if (buffer == null) {
+        ReplayRecorder recorder = recorders.get(roomId);
+        if (recorder == null || recorder.inputsOnly()) {
             return;
         }
-        long offset = System.currentTimeMillis() - buffer.startedAtMs();
-        buffer.append(new ReplayEventRecord(Math.max(offset, 0), snapshot));
+        long offset = System.currentTimeMillis() - recorder.startedAtMs();
+        try {
+            recorder.append(new ReplayEventRecord(Math.max(offset, 0), snapshot), objectMapper);
+        } catch (IOException ex) {
+            log.warn("[REPLAY_RECORD_FAILED] roomId={} reason={}", roomId, ex.getMessage());
+            recorders.remove(roomId, recorder);
+            recorder.discard();
+        }
     }
 
     /**
      * 설명:
-     *   - 경기 종료 시 녹화 버퍼를 파일로 직렬화하고 두 플레이어 소유 리플레이를 생성한다.
+     *   - 결과 저장 없이 정리되는 방의 녹화 임시 파일을 지운다. 이미 완료된 방이면 아무 일도 하지 않는다.
+     */
+    public void discardRecording(String roomId) {
+        ReplayRecorder recorder = recorders.remove(roomId);
+        if (recorder != null) {
+            recorder.discard();
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 경기 종료 시 녹화 파일을 체크섬 주소로 옮기고 두 플레이어 소유 리플레이를 생성한다.
+     *   - 체크섬은 녹화 중 증분 계산된 값을 쓰므로 파일을 다시 읽지 않는다.
+     *   - 같은 체크섬의 파일이 이미 있으면 새 파일은 버리고 기존 파일의 참조 수만 늘린다.
+     *   - 결정적 엔진 방은 시드/틱 수/입력 변화만 기록하므로 파일이 수 KB 이하다.
      */
     @Transactional
     public List<Replay> completeRecording(GameRoom room, GameResult result) {
-        RecordingBuffer buffer = buffers.remove(room.getRoomId());
-        if (buffer == null || buffer.events().isEmpty()) {
+        ReplayRecorder recorder = recorders.remove(room.getRoomId());
+        if (recorder == null || (!recorder.inputsOnly() && recorder.eventCount() == 0)) {
             return Collections.emptyList();
         }
         try {
-            Path filePath = writeFile(room.getRoomId(), result.getId(), buffer.events());
-            String checksum = checksum(filePath);
-            long durationMs = calculateDuration(buffer, result);
-            Replay replayA = new Replay(result, result.getPlayerA(), durationMs, EVENT_FORMAT,
-                    filePath.toString(), checksum);
-            Replay replayB = new Replay(result, result.getPlayerB(), durationMs, EVENT_FORMAT,
-                    filePath.toString(), checksum);
-            List<Replay> saved = replayRepository.saveAll(List.of(replayA, replayB));
-            enforceRetention(result.getPlayerA());
-            enforceRetention(result.getPlayerB());
-            return saved;
+            Optional<DeterministicEngine> engine = room.getDeterministicEngine();
+            String format;
+            String extension;
+            Path staged;
+            String checksum;
+            if (engine.isPresent()) {
+                format = InputReplay.FORMAT;
+                extension = INPUT_LOG_SUFFIX;
+                staged = writeInputFile(room, result.getId(), engine.get());
+                checksum = checksum(staged);
+            } else {
+                format = recorder.compressed() ? COMPRESSED_EVENT_FORMAT : EVENT_FORMAT;
+                extension = recorder.compressed() ? COMPRESSED_SUFFIX : PLAIN_SUFFIX;
+                staged = stagedPath(room.getRoomId() + "-" + result.getId() + extension);
+                checksum = recorder.complete(staged);
+            }
+            String storageUri = storeByContent(staged, checksum, extension);
+            long durationMs = calculateDuration(recorder, result);
+            Replay replayA = new Replay(result, result.getPlayerA(), durationMs, format, storageUri, checksum);
+            Replay replayB = new Replay(result, result.getPlayerB(), durationMs, format, storageUri, checksum);
+            return replayRepository.saveAll(List.of(replayA, replayB));
         } catch (IOException ex) {
+            recorder.discard();
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "리플레이 저장에 실패했습니다.", ex);
         }
     }
@@ -118,7 +233,7 @@ public class ReplayService {
     @Transactional(readOnly = true)
     public ReplayPageResponse listMyReplays(Long ownerId, int page, int size) {
         User owner = findOwner(ownerId);
-        var pageable = org.springframework.data.domain.PageRequest.of(page, size);
+        var pageable = PageRequest.of(page, size);
         var result = replayRepository.findByOwnerOrderByCreatedAtDesc(owner, pageable)
                 .map(entity -> ReplaySummaryResponse.from(entity, owner));
         return new ReplayPageResponse(result.getContent(), result.getNumber(), result.getSize(),
@@ -142,89 +257,247 @@ public class ReplayService {
     }
 
     @Transactional(readOnly = true)
-    public InputStreamResource streamEvents(Long ownerId, Long replayId) {
+    public Resource streamEvents(Long ownerId, Long replayId) {
+        return streamEvents(ownerId, replayId, null, null);
+    }
+
+    /**
+     * 설명:
+     *   - 리플레이 이벤트를 평문 JSONL로 스트리밍한다. fromMs/toMs가 주어지면 그 구간을 포함하는 이벤트만 보낸다.
+     */
+    @Transactional(readOnly = true)
+    public Resource streamEvents(Long ownerId, Long replayId, Long fromMs, Long toMs) {
+        return openEvents(ownerId, replayId, fromMs, toMs, false).resource();
+    }
+
+    /**
+     * 설명:
+     *   - 리플레이 이벤트 응답 본문을 연다.
+     *   - JSONL_V1/JSONL_GZ_V1은 색인으로 찾은 바이트 구간만 읽으며, 구간 경계는 색인 간격(평문 1초, 압축 5초) 단위로
+     *     넓어질 수 있다. 본문은 길이가 알려진 Resource라 HTTP Range 요청도 그대로 처리된다.
+     *   - JSONL_GZ_V1은 acceptGzip이면 저장된 gzip 블록을 그대로 돌려주고, 아니면 서버에서 풀어 평문으로 보낸다.
+     */
+    @Transactional(readOnly = true)
+    public ReplayEventsBody openEvents(Long ownerId, Long replayId, Long fromMs, Long toMs, boolean acceptGzip) {
+        long from = fromMs == null ? 0 : Math.max(fromMs, 0);
+        long to = toMs == null ? Long.MAX_VALUE : toMs;
+        if (from > to) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "fromMs는 toMs보다 클 수 없습니다.");
+        }
         User owner = findOwner(ownerId);
         Replay replay = replayRepository.findByIdAndOwner(replayId, owner)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "리플레이를 찾을 수 없습니다."));
-        Path path = Paths.get(replay.getStorageUri());
         try {
-            return new InputStreamResource(Files.newInputStream(path));
+            Path path = storage.localPath(replay.getStorageUri());
+            if (InputReplay.FORMAT.equals(replay.getEventFormat())) {
+                return new ReplayEventsBody(new InputStreamResource(new ResimulatedEventStream(
+                        InputReplay.read(path, objectMapper), objectMapper, from, to)), null);
+            }
+            boolean compressed = COMPRESSED_EVENT_FORMAT.equals(replay.getEventFormat());
+            Resource stored;
+            if (fromMs == null && toMs == null) {
+                stored = new FileSystemResource(path);
+            } else {
+                long[] range = loadIndex(path, compressed).slice(from, to, Files.size(path));
+                stored = new ReplaySliceResource(path, range[0], range[1] - range[0]);
+            }
+            if (!compressed) {
+                return new ReplayEventsBody(stored, null);
+            }
+            if (acceptGzip) {
+                return new ReplayEventsBody(stored, GZIP);
+            }
+            return new ReplayEventsBody(new InputStreamResource(new GZIPInputStream(stored.getInputStream())), null);
         } catch (IOException ex) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "리플레이 파일을 읽을 수 없습니다.");
         }
     }
 
+    /**
+     * 설명:
+     *   - 내보내기 워커가 읽을 JSONL 이벤트 파일 경로를 반환한다. JSONL_GZ_V1은 워커가 gzip으로 직접 읽는다.
+     *   - 콜드 티어 리플레이는 로컬 캐시로 받아 둔 경로를 넘긴다.
+     *   - REPLAY_INPUTS_V2는 처음 요청될 때 재시뮬레이션 결과를 resimulated 디렉터리에 한 번 기록해 재사용한다.
+     */
+    public Path resolveEventsFile(Replay replay) {
+        boolean inputLog = InputReplay.FORMAT.equals(replay.getEventFormat());
+        Path target = resimulatedPath(replay.getStorageUri());
+        if (inputLog && Files.exists(target)) {
+            return target;
+        }
+        try {
+            Path path = storage.localPath(replay.getStorageUri());
+            if (!inputLog) {
+                return path;
+            }
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), "resimulate-", ".tmp");
+            try (InputStream in = new ResimulatedEventStream(InputReplay.read(path, objectMapper), objectMapper)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return target;
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "리플레이 파일을 준비하지 못했습니다.",
+                    ex);
+        }
+    }
+
+    /**
+     * 설명:
+     *   - resolveEventsFile이 돌려준 파일에서 [fromMs, toMs] 구간 이벤트를 모두 포함하는 바이트 범위를 색인으로 찾는다.
+     *   - 구간 분할 내보내기 워커가 이 범위만 읽는다. JSONL_GZ_V1은 범위 경계가 gzip 멤버 경계라 그대로 풀 수 있다.
+     * 출력:
+     *   - {시작 위치, 끝 위치(제외)}
+     */
+    public long[] eventsByteRange(Replay replay, Path eventsFile, long fromMs, long toMs) {
+        boolean compressed = COMPRESSED_EVENT_FORMAT.equals(replay.getEventFormat());
+        try {
+            return loadIndex(eventsFile, compressed).slice(fromMs, toMs, Files.size(eventsFile));
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "리플레이 색인을 읽을 수 없습니다.", ex);
+        }
+    }
+
     private User findOwner(Long ownerId) {
         return userRepository.findById(ownerId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
     }
 
-    private Path writeFile(String roomId, Long matchId, List<ReplayEventRecord> events) throws IOException {
-        String filename = roomId + "-" + matchId + ".jsonl";
-        Path filePath = storageDir.resolve(filename).toAbsolutePath().normalize();
-        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
-            for (ReplayEventRecord event : events) {
-                writer.write(objectMapper.writeValueAsString(event));
-                writer.newLine();
-            }
+    private Path stagedPath(String filename) {
+        return storageDir.resolve(RECORDING_DIR).resolve(filename).toAbsolutePath().normalize();
+    }
+
+    /**
+     * 설명:
+     *   - 임시 경로에 완성된 파일(과 .idx)을 `{checksum}{extension}`으로 옮기고 ReplayBlob 참조를 두 소유자 몫만큼 늘린다.
+     *   - 같은 체크섬의 블롭이 이미 있으면(콜드 티어로 옮겨졌거나 정리 대기 중이어도) 임시 파일을 지우고 그 위치를 재사용한다.
+     * 출력:
+     *   - 리플레이 행에 기록할 storageUri
+     */
+    private String storeByContent(Path staged, String checksum, String extension) throws IOException {
+        Optional<ReplayBlob> existing = blobRepository.findById(checksum);
+        if (existing.isPresent() && blobRepository.addReferences(checksum, REFERENCES_PER_MATCH) > 0) {
+            Files.deleteIfExists(indexPath(staged));
+            Files.deleteIfExists(staged);
+            return existing.get().getStorageUri();
+        }
+        Path target = storageDir.resolve(checksum + extension).toAbsolutePath().normalize();
+        if (Files.exists(indexPath(staged))) {
+            Files.move(indexPath(staged), indexPath(target), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
         }
+        Files.move(staged, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        blobRepository.save(new ReplayBlob(checksum, target.toString(), Files.size(target), REFERENCES_PER_MATCH));
+        return target.toString();
+    }
+
+    private Path partPath(String roomId) {
+        return storageDir.resolve(RECORDING_DIR).resolve(roomId + ".jsonl.part").toAbsolutePath().normalize();
+    }
+
+    /**
+     * 설명:
+     *   - 녹화 시 저장한 색인을 읽는다. 색인 이전에 저장된 리플레이는 파일을 한 번 훑어 만들고 옆에 저장해 둔다.
+     *   - 압축 리플레이는 항상 색인과 함께 저장되므로, 색인이 없으면 빈 색인(파일 전체)으로 대신한다.
+     */
+    private ReplayIndex loadIndex(Path path, boolean compressed) throws IOException {
+        Path indexPath = indexPath(path);
+        if (Files.exists(indexPath)) {
+            return ReplayIndex.read(indexPath);
+        }
+        if (compressed) {
+            return new ReplayIndex();
+        }
+        ReplayIndex index = ReplayIndex.build(path, objectMapper);
+        try {
+            index.write(indexPath);
+        } catch (IOException ex) {
+            log.warn("[REPLAY_INDEX_WRITE_FAILED] path={} reason={}", indexPath, ex.getMessage());
+        }
+        return index;
+    }
+
+    private Path indexPath(Path replayPath) {
+        return replayPath.resolveSibling(replayPath.getFileName() + ReplayIndex.SUFFIX);
+    }
+
+    private Path writeInputFile(GameRoom room, Long matchId, DeterministicEngine engine) throws IOException {
+        Path filePath = stagedPath(room.getRoomId() + "-" + matchId + INPUT_LOG_SUFFIX);
+        Files.createDirectories(filePath.getParent());
+        InputReplay.Header header = new InputReplay.Header(InputReplay.FORMAT, room.getRoomId(), engine.seed(),
+                engine.tickMillis(), engine.tickIndex());
+        new InputReplay(header, room.getInputLog()).write(filePath, objectMapper);
         return filePath;
     }
 
-    private long calculateDuration(RecordingBuffer buffer, GameResult result) {
+    private Path resimulatedPath(String storageUri) {
+        return storageDir.resolve(RESIMULATED_DIR).resolve(storage.fileName(storageUri) + ".events.jsonl")
+                .toAbsolutePath().normalize();
+    }
+
+    private long calculateDuration(ReplayRecorder recorder, GameResult result) {
         if (result.getFinishedAt() != null && result.getStartedAt() != null) {
             return Math.max(0, ChronoUnit.MILLIS.between(result.getStartedAt(), result.getFinishedAt()));
         }
-        return buffer.events().isEmpty() ? 0 : buffer.events().get(buffer.events().size() - 1).offsetMs();
+        return recorder.lastOffsetMs();
     }
 
     private String checksum(Path path) throws IOException {
         try {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] bytes = Files.readAllBytes(path);
-            byte[] hashed = digest.digest(bytes);
-            StringBuilder sb = new StringBuilder();
-            for (byte b : hashed) {
-                sb.append(String.format("%02x", b));
-            }
-            return sb.toString();
+            return HexFormat.of().formatHex(digest.digest(Files.readAllBytes(path)));
         } catch (NoSuchAlgorithmException ex) {
             throw new IllegalStateException("해시 알고리즘을 찾을 수 없습니다.", ex);
         }
     }
 
-    private void enforceRetention(User owner) {
-        List<Replay> all = replayRepository.findByOwnerOrderByCreatedAtDesc(owner);
-        if (all.size() <= retentionLimit) {
-            return;
+    /**
+     * 설명:
+     *   - 리플레이 행을 일괄 삭제하고 파일 참조를 하나씩 줄인다. 파일 삭제는 하지 않는다.
+     *   - 참조가 0이 된 블롭은 ReplayBlobSweeper가 유예 시간 뒤 정리한다.
+     *   - 블롭 행이 없는 이전 리플레이(고유 파일명 저장)는 참조하는 행이 더 없을 때 그 storageUri를 돌려준다.
+     *     호출자가 커밋 뒤 deleteStoredFiles로 지운다.
+     * 출력:
+     *   - 바로 지워도 되는 이전 리플레이 파일 URI 목록
+     */
+    @Transactional
+    public List<String> deleteReplays(Collection<Long> replayIds) {
+        List<Replay> replays = replayRepository.findAllById(replayIds);
+        if (replays.isEmpty()) {
+            return List.of();
         }
-        List<Replay> toRemove = new ArrayList<>(all.subList(retentionLimit, all.size()));
-        for (Replay replay : toRemove) {
-            replayRepository.delete(replay);
-            cleanupStorageIfOrphan(replay.getStorageUri());
+        replayRepository.deleteAllInBatch(replays);
+        LocalDateTime now = KstDateTime.now();
+        List<String> unreferenced = new ArrayList<>();
+        for (Replay replay : replays) {
+            if (blobRepository.release(replay.getChecksum(), now) == 0
+                    && !unreferenced.contains(replay.getStorageUri())
+                    && replayRepository.countByStorageUri(replay.getStorageUri()) == 0) {
+                unreferenced.add(replay.getStorageUri());
+            }
         }
+        return unreferenced;
     }
 
-    private void cleanupStorageIfOrphan(String storageUri) {
-        long count = replayRepository.countByStorageUri(storageUri);
-        if (count > 0) {
-            return;
-        }
-        Path path = Paths.get(storageUri);
+    /**
+     * 설명:
+     *   - 리플레이 파일과 색인, 재시뮬레이션 캐시를 지운다. 참조가 남지 않았음을 확인한 호출자만 사용한다.
+     * 출력:
+     *   - 회수한 핫 티어 바이트 수(콜드 티어 객체는 0으로 센다)
+     */
+    public long deleteStoredFiles(String storageUri) {
+        long reclaimed = 0;
         try {
-            Files.deleteIfExists(path);
-        } catch (IOException ignored) {
-        }
-    }
-
-    private record RecordingBuffer(long startedAtMs, List<ReplayEventRecord> events) {
-
-        RecordingBuffer(long startedAtMs) {
-            this(startedAtMs, Collections.synchronizedList(new ArrayList<>()));
-        }
-
-        void append(ReplayEventRecord event) {
-            events.add(event);
+            if (!storage.isCold(storageUri)) {
+                Path path = storage.localPath(storageUri);
+                reclaimed = Files.exists(path) ? Files.size(path) : 0;
+            }
+            storage.delete(storageUri);
+            Files.deleteIfExists(resimulatedPath(storageUri));
+        } catch (IOException ex) {
+            log.warn("[REPLAY_CLEANUP_FAILED] storageUri={} reason={}", storageUri, ex.getMessage());
         }
+        return reclaimed;
     }
 }
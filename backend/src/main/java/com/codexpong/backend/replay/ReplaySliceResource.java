@@ -0,0 +1,115 @@
+package com.codexpong.backend.replay;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.springframework.core.io.AbstractResource;
+
+/**
+ * [리소스] backend/src/main/java/com/codexpong/backend/replay/ReplaySliceResource.java
+ * 설명:
+ *   - 리플레이 파일의 [start, start + length) 구간만 노출하는 Resource다.
+ *   - 길이를 알 수 있으므로 Spring MVC가 이 구간 위에 HTTP Range(206)를 그대로 적용할 수 있다.
+ *   - 읽기는 지정 위치로 이동한 FileChannel에서 시작해, 앞부분을 읽지 않는다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-seekable-replay.md
+ */
+class ReplaySliceResource extends AbstractResource {
+
+    private final Path path;
+    private final long start;
+    private final long length;
+
+    ReplaySliceResource(Path path, long start, long length) {
+        this.path = path;
+        this.start = start;
+        this.length = length;
+    }
+
+    @Override
+    public String getDescription() {
+        return "replay slice [" + path + " " + start + "+" + length + "]";
+    }
+
+    @Override
+    public boolean exists() {
+        return path.toFile().exists();
+    }
+
+    @Override
+    public long contentLength() {
+        return length;
+    }
+
+    @Override
+    public ReadableByteChannel readableChannel() throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        channel.position(start);
+        return new BoundedChannel(channel, length);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return Channels.newInputStream(readableChannel());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ReplaySliceResource slice && slice.path.equals(path) && slice.start == start
+                && slice.length == length;
+    }
+
+    @Override
+    public int hashCode() {
+        return path.hashCode() * 31 + Long.hashCode(start);
+    }
+
+    /**
+     * 남은 길이만큼만 읽고 EOF를 반환하는 채널.
+     */
+    private static final class BoundedChannel implements ReadableByteChannel {
+        private final FileChannel delegate;
+        private long remaining;
+
+        private BoundedChannel(FileChannel delegate, long remaining) {
+            this.delegate = delegate;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public int read(ByteBuffer target) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int limit = target.limit();
+            if (target.remaining() > remaining) {
+                target.limit(target.position() + (int) remaining);
+            }
+            try {
+                int read = delegate.read(target);
+                if (read > 0) {
+                    remaining -= read;
+                }
+                return read;
+            } finally {
+                target.limit(limit);
+            }
+        }
+
+        @Override
+        public boolean isOpen() {
+            return delegate.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.codexpong.backend.replay;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * [스트림] backend/src/main/java/com/codexpong/backend/replay/ResimulatedEventStream.java
+ * 설명:
+ *   - InputReplay를 재시뮬레이션하며 JSONL_V1 줄을 읽히는 만큼만 만들어 내보낸다.
+ *   - 전체 스냅샷을 메모리나 디스크에 펼치지 않고 ReplayController 응답으로 바로 흘려보낸다.
+ *   - 구간을 지정하면 fromMs 이전 이벤트는 직렬화 없이 건너뛰고, toMs를 넘는 첫 이벤트에서 멈춘다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-replay-input-log.md
+ *   - design/backend/v1.2.0-seekable-replay.md
+ */
+class ResimulatedEventStream extends InputStream {
+
+    private final Iterator<ReplayEventRecord> events;
+    private final ObjectMapper objectMapper;
+    private final long fromMs;
+    private final long toMs;
+    private byte[] line = new byte[0];
+    private int position;
+
+    ResimulatedEventStream(InputReplay replay, ObjectMapper objectMapper) {
+        this(replay, objectMapper, 0, Long.MAX_VALUE);
+    }
+
+    ResimulatedEventStream(InputReplay replay, ObjectMapper objectMapper, long fromMs, long toMs) {
+        this.events = replay.events();
+        this.objectMapper = objectMapper;
+        this.fromMs = fromMs;
+        this.toMs = toMs;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return line[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] target, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int copied = Math.min(length, line.length - position);
+        System.arraycopy(line, position, target, offset, copied);
+        position += copied;
+        return copied;
+    }
+
+    private boolean fill() throws IOException {
+        if (position < line.length) {
+            return true;
+        }
+        ReplayEventRecord next = null;
+        while (events.hasNext()) {
+            ReplayEventRecord candidate = events.next();
+            if (candidate.offsetMs() > toMs) {
+                break;
+            }
+            if (candidate.offsetMs() >= fromMs) {
+                next = candidate;
+                break;
+            }
+        }
+        if (next == null) {
+            return false;
+        }
+        try {
+            line = (objectMapper.writeValueAsString(next) + "\n").getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException ex) {
+            throw new IOException("리플레이 이벤트 직렬화에 실패했습니다.", ex);
+        }
+        position = 0;
+        return true;
+    }
+}
@@ -0,0 +1,65 @@
+package com.codexpong.backend.replay.store;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.OptionalLong;
+
+/**
+ * [모듈] backend/src/main/java/com/codexpong/backend/replay/store/FileSystemObjectStorageClient.java
+ * 설명:
+ *   - `{root}/{bucket}/{key}` 레이아웃으로 S3 호환 API를 흉내 내는 파일시스템 스탠드인이다.
+ *   - 테스트와 단일 노드 환경에서 쓰며, 네트워크 볼륨(NFS, s3fs 등)에 root를 두면 노드 간에 공유할 수 있다.
+ *   - PUT은 같은 디렉터리의 임시 파일에 쓴 뒤 원자적으로 옮겨, 올리는 중인 오브젝트가 읽히지 않게 한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-tiered-replay-storage.md
+ */
+public class FileSystemObjectStorageClient implements ObjectStorageClient {
+
+    private final Path root;
+
+    public FileSystemObjectStorageClient(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void putObject(String bucket, String key, Path source) throws IOException {
+        Path target = resolve(bucket, key);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".put-", ".tmp");
+        try {
+            Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public InputStream getObject(String bucket, String key) throws IOException {
+        return Files.newInputStream(resolve(bucket, key));
+    }
+
+    @Override
+    public OptionalLong headObject(String bucket, String key) throws IOException {
+        Path path = resolve(bucket, key);
+        return Files.isRegularFile(path) ? OptionalLong.of(Files.size(path)) : OptionalLong.empty();
+    }
+
+    @Override
+    public void deleteObject(String bucket, String key) throws IOException {
+        Files.deleteIfExists(resolve(bucket, key));
+    }
+
+    private Path resolve(String bucket, String key) {
+        Path bucketRoot = root.resolve(bucket).normalize();
+        Path path = bucketRoot.resolve(key).normalize();
+        if (!bucketRoot.startsWith(root) || !path.startsWith(bucketRoot) || path.equals(bucketRoot)) {
+            throw new IllegalArgumentException("허용되지 않는 오브젝트 키입니다: " + bucket + "/" + key);
+        }
+        return path;
+    }
+}
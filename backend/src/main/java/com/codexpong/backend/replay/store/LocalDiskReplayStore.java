@@ -0,0 +1,57 @@
+package com.codexpong.backend.replay.store;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * [모듈] backend/src/main/java/com/codexpong/backend/replay/store/LocalDiskReplayStore.java
+ * 설명:
+ *   - 녹화 직후 리플레이가 놓이는 핫 티어다. storageUri는 v0.11.0부터 쓰던 절대 파일 경로 그대로다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-tiered-replay-storage.md
+ */
+public class LocalDiskReplayStore implements ReplayStore {
+
+    private final Path directory;
+
+    public LocalDiskReplayStore(Path directory) {
+        this.directory = directory.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public boolean owns(String storageUri) {
+        return !storageUri.contains("://");
+    }
+
+    @Override
+    public String put(String name, Path source) throws IOException {
+        Path target = directory.resolve(name).normalize();
+        Files.createDirectories(target.getParent());
+        Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        return target.toString();
+    }
+
+    @Override
+    public InputStream open(String storageUri) throws IOException {
+        return Files.newInputStream(path(storageUri));
+    }
+
+    @Override
+    public boolean exists(String storageUri) {
+        return Files.isRegularFile(path(storageUri));
+    }
+
+    @Override
+    public void delete(String storageUri) throws IOException {
+        Files.deleteIfExists(path(storageUri));
+    }
+
+    public Path path(String storageUri) {
+        return Paths.get(storageUri);
+    }
+}
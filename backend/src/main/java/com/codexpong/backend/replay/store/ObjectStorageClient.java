@@ -0,0 +1,39 @@
+package com.codexpong.backend.replay.store;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+
+/**
+ * [모듈] backend/src/main/java/com/codexpong/backend/replay/store/ObjectStorageClient.java
+ * 설명:
+ *   - 콜드 티어가 쓰는 S3 호환 오브젝트 스토리지의 최소 API(PUT/GET/HEAD/DELETE)다.
+ *   - 키는 '/'로 구분된 이름이며, PUT은 완료 전까지 다른 읽기에 보이지 않는다(S3와 같은 원자적 가시성).
+ *   - 기본 구현은 파일시스템 스탠드인(FileSystemObjectStorageClient)이며, 실제 S3/MinIO 클라이언트는 이 인터페이스로 연결한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-tiered-replay-storage.md
+ */
+public interface ObjectStorageClient {
+
+    /**
+     * source 파일 내용을 bucket/key 오브젝트로 올린다. 같은 키가 있으면 덮어쓴다.
+     */
+    void putObject(String bucket, String key, Path source) throws IOException;
+
+    /**
+     * 오브젝트 본문을 연다. 없으면 NoSuchFileException을 던진다.
+     */
+    InputStream getObject(String bucket, String key) throws IOException;
+
+    /**
+     * 오브젝트 크기를 반환한다. 없으면 빈 값이다.
+     */
+    OptionalLong headObject(String bucket, String key) throws IOException;
+
+    /**
+     * 오브젝트를 지운다. 없어도 실패하지 않는다.
+     */
+    void deleteObject(String bucket, String key) throws IOException;
+}
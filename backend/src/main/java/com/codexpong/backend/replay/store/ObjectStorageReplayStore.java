@@ -0,0 +1,65 @@
+package com.codexpong.backend.replay.store;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * [모듈] backend/src/main/java/com/codexpong/backend/replay/store/ObjectStorageReplayStore.java
+ * 설명:
+ *   - 오래된 리플레이를 옮겨 두는 콜드 티어다. storageUri는 `s3://{bucket}/{key}` 형식이다.
+ *   - 오브젝트 API는 ObjectStorageClient로 추상화되어 있어 S3 호환 스토리지나 파일시스템 스탠드인을 꽂아 쓴다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-tiered-replay-storage.md
+ */
+public class ObjectStorageReplayStore implements ReplayStore {
+
+    public static final String SCHEME = "s3://";
+
+    private final ObjectStorageClient client;
+    private final String bucket;
+    private final String prefix;
+
+    public ObjectStorageReplayStore(ObjectStorageClient client, String bucket) {
+        this.client = client;
+        this.bucket = bucket;
+        this.prefix = SCHEME + bucket + "/";
+    }
+
+    @Override
+    public boolean owns(String storageUri) {
+        return storageUri.startsWith(prefix);
+    }
+
+    @Override
+    public String put(String name, Path source) throws IOException {
+        client.putObject(bucket, name, source);
+        return prefix + name;
+    }
+
+    @Override
+    public InputStream open(String storageUri) throws IOException {
+        return client.getObject(bucket, key(storageUri));
+    }
+
+    @Override
+    public boolean exists(String storageUri) throws IOException {
+        return client.headObject(bucket, key(storageUri)).isPresent();
+    }
+
+    @Override
+    public void delete(String storageUri) throws IOException {
+        client.deleteObject(bucket, key(storageUri));
+    }
+
+    /**
+     * storageUri에서 오브젝트 키를 꺼낸다. 로컬 캐시 파일 이름으로도 쓴다.
+     */
+    public String key(String storageUri) {
+        if (!owns(storageUri)) {
+            throw new IllegalArgumentException("콜드 티어 URI가 아닙니다: " + storageUri);
+        }
+        return storageUri.substring(prefix.length());
+    }
+}
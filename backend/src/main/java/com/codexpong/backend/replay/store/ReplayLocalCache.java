@@ -0,0 +1,140 @@
+package com.codexpong.backend.replay.store;
+
+import com.codexpong.backend.observability.ObservabilityMetrics.ReplayStorageMeters;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * [모듈] backend/src/main/java/com/codexpong/backend/replay/store/ReplayLocalCache.java
+ * 설명:
+ *   - 콜드 티어 리플레이를 로컬 디스크에 받아 두는 읽기 관통(read-through) LRU 캐시다.
+ *   - 항목은 본문과 부가 파일(색인 등)을 묶어 관리하며, 전체 바이트가 maxBytes를 넘으면 가장 오래 쓰지 않은 항목부터 지운다.
+ *   - 캐시는 재시작 시 비운다. 목록을 영속화하지 않으므로 남은 파일을 신뢰하지 않는다.
+ *   - 같은 항목을 동시에 처음 요청하면 각자 내려받을 수 있다. Loader는 임시 파일 + 원자적 이동으로 써야 한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-tiered-replay-storage.md
+ */
+public class ReplayLocalCache {
+
+    private final Path directory;
+    private final long maxBytes;
+    private final ReplayStorageMeters meters;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    public ReplayLocalCache(Path directory, long maxBytes, ReplayStorageMeters meters) {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.maxBytes = maxBytes;
+        this.meters = meters;
+        clearDirectory();
+    }
+
+    /**
+     * 설명:
+     *   - name 항목의 본문 경로를 반환한다. 없으면 loader로 받아 캐시에 넣는다.
+     */
+    public Path fetch(String name, Loader loader) throws IOException {
+        Path target = resolve(name);
+        synchronized (this) {
+            if (entries.get(name) != null && Files.exists(target)) {
+                meters.cacheHit().increment();
+                return target;
+            }
+        }
+        meters.cacheMiss().increment();
+        Files.createDirectories(directory);
+        List<Path> files = loader.load(target);
+        long bytes = 0;
+        for (Path file : files) {
+            bytes += Files.size(file);
+        }
+        synchronized (this) {
+            Entry previous = entries.put(name, new Entry(files, bytes));
+            if (previous != null) {
+                totalBytes -= previous.bytes();
+            }
+            totalBytes += bytes;
+            evictOverflow(name);
+        }
+        return target;
+    }
+
+    public synchronized void evict(String name) {
+        Entry entry = entries.remove(name);
+        if (entry != null) {
+            totalBytes -= entry.bytes();
+            deleteFiles(entry);
+        }
+    }
+
+    public synchronized boolean contains(String name) {
+        return entries.containsKey(name);
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    private void evictOverflow(String justAdded) {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Entry> eldest = iterator.next();
+            if (eldest.getKey().equals(justAdded)) {
+                continue;
+            }
+            iterator.remove();
+            totalBytes -= eldest.getValue().bytes();
+            deleteFiles(eldest.getValue());
+        }
+    }
+
+    private void deleteFiles(Entry entry) {
+        for (Path file : entry.files()) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private Path resolve(String name) {
+        Path path = directory.resolve(name).normalize();
+        if (!path.startsWith(directory) || path.equals(directory)) {
+            throw new IllegalArgumentException("허용되지 않는 캐시 이름입니다: " + name);
+        }
+        return path;
+    }
+
+    private void clearDirectory() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(Files::isRegularFile).forEach(file -> {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException ignored) {
+                }
+            });
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * target에 본문을, 같은 디렉터리에 부가 파일을 쓰고 쓴 파일 전체(본문 포함)를 반환한다.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        List<Path> load(Path target) throws IOException;
+    }
+
+    private record Entry(List<Path> files, long bytes) {
+    }
+}
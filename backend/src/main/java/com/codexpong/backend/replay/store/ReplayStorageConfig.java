@@ -0,0 +1,53 @@
+package com.codexpong.backend.replay.store;
+
+import com.codexpong.backend.observability.ObservabilityMetrics;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * [설정] backend/src/main/java/com/codexpong/backend/replay/store/ReplayStorageConfig.java
+ * 설명:
+ *   - 리플레이 저장 티어 빈을 구성한다.
+ *   - ObjectStorageClient 빈을 따로 등록하면(S3/MinIO 등) 파일시스템 스탠드인 대신 그 구현이 콜드 티어가 된다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-tiered-replay-storage.md
+ */
+@Configuration
+public class ReplayStorageConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ObjectStorageClient objectStorageClient(@Value("${replay.storage.path}") String storagePath,
+            ReplayStorageProperties properties) {
+        return new FileSystemObjectStorageClient(orDefault(properties.getColdPath(), storagePath, "cold"));
+    }
+
+    @Bean
+    public TieredReplayStorage tieredReplayStorage(@Value("${replay.storage.path}") String storagePath,
+            ReplayStorageProperties properties, ObjectStorageClient objectStorageClient,
+            ObservabilityMetrics metrics) {
+        AtomicReference<ReplayLocalCache> cacheRef = new AtomicReference<>();
+        ObservabilityMetrics.ReplayStorageMeters meters = metrics.replayStorageMeters(() -> {
+            ReplayLocalCache cache = cacheRef.get();
+            return cache == null ? 0 : cache.totalBytes();
+        });
+        ReplayLocalCache cache = new ReplayLocalCache(orDefault(properties.getCachePath(), storagePath, "cache"),
+                properties.getCacheMaxBytes(), meters);
+        cacheRef.set(cache);
+        return new TieredReplayStorage(new LocalDiskReplayStore(Paths.get(storagePath)),
+                new ObjectStorageReplayStore(objectStorageClient, properties.getColdBucket()), cache, meters);
+    }
+
+    private static Path orDefault(String configured, String storagePath, String child) {
+        if (configured == null || configured.isBlank()) {
+            return Paths.get(storagePath).resolve(child);
+        }
+        return Paths.get(configured);
+    }
+}
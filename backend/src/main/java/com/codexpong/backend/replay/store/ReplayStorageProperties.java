@@ -0,0 +1,80 @@
+package com.codexpong.backend.replay.store;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * [설정] backend/src/main/java/com/codexpong/backend/replay/store/ReplayStorageProperties.java
+ * 설명:
+ *   - 리플레이 콜드 티어 위치, 로컬 캐시 크기, 핫 → 콜드 이전 주기를 설정한다.
+ *   - 경로를 비워 두면 replay.storage.path 아래 cold/, cache/를 쓴다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-tiered-replay-storage.md
+ */
+@ConfigurationProperties(prefix = "replay.tier")
+public class ReplayStorageProperties {
+
+    private String coldPath;
+    private String coldBucket = "replays";
+    private String cachePath;
+    private long cacheMaxBytes = 512L * 1024 * 1024;
+    private boolean migrationEnabled;
+    private long migrateAfterHours = 24;
+    private int migrationBatchSize = 100;
+
+    public String getColdPath() {
+        return coldPath;
+    }
+
+    public void setColdPath(String coldPath) {
+        this.coldPath = coldPath;
+    }
+
+    public String getColdBucket() {
+        return coldBucket;
+    }
+
+    public void setColdBucket(String coldBucket) {
+        this.coldBucket = coldBucket;
+    }
+
+    public String getCachePath() {
+        return cachePath;
+    }
+
+    public void setCachePath(String cachePath) {
+        this.cachePath = cachePath;
+    }
+
+    public long getCacheMaxBytes() {
+        return cacheMaxBytes;
+    }
+
+    public void setCacheMaxBytes(long cacheMaxBytes) {
+        this.cacheMaxBytes = cacheMaxBytes;
+    }
+
+    public boolean isMigrationEnabled() {
+        return migrationEnabled;
+    }
+
+    public void setMigrationEnabled(boolean migrationEnabled) {
+        this.migrationEnabled = migrationEnabled;
+    }
+
+    public long getMigrateAfterHours() {
+        return migrateAfterHours;
+    }
+
+    public void setMigrateAfterHours(long migrateAfterHours) {
+        this.migrateAfterHours = migrateAfterHours;
+    }
+
+    public int getMigrationBatchSize() {
+        return migrationBatchSize;
+    }
+
+    public void setMigrationBatchSize(int migrationBatchSize) {
+        this.migrationBatchSize = migrationBatchSize;
+    }
+}
@@ -0,0 +1,34 @@
+package com.codexpong.backend.replay.store;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * [모듈] backend/src/main/java/com/codexpong/backend/replay/store/ReplayStore.java
+ * 설명:
+ *   - 리플레이 파일을 보관하는 저장 티어의 SPI다. Replay.storageUri는 이 중 하나가 발급한 URI다.
+ *   - 핫 티어(LocalDiskReplayStore)는 절대 경로를, 콜드 티어(ObjectStorageReplayStore)는 `s3://{bucket}/{key}`를 쓴다.
+ *   - 색인 등 부가 파일은 `{storageUri}{접미사}` URI로 같은 티어에 함께 둔다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-tiered-replay-storage.md
+ */
+public interface ReplayStore {
+
+    /**
+     * 이 티어가 발급한 URI인지 판별한다.
+     */
+    boolean owns(String storageUri);
+
+    /**
+     * source 파일을 name으로 저장하고 새 storageUri를 반환한다. source는 그대로 둔다.
+     */
+    String put(String name, Path source) throws IOException;
+
+    InputStream open(String storageUri) throws IOException;
+
+    boolean exists(String storageUri) throws IOException;
+
+    void delete(String storageUri) throws IOException;
+}
@@ -0,0 +1,112 @@
+package com.codexpong.backend.replay.store;
+
+import com.codexpong.backend.common.KstDateTime;
+import com.codexpong.backend.replay.ReplayBlobRepository;
+import com.codexpong.backend.replay.ReplayRepository;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * [작업] backend/src/main/java/com/codexpong/backend/replay/store/ReplayTierMigrator.java
+ * 설명:
+ *   - migrate-after-hours보다 오래된 핫 티어 리플레이를 콜드 티어로 옮긴다.
+ *   - 파일 단위(같은 storageUri를 공유하는 두 소유자 리플레이를 한 번에)로 처리한다.
+ *     콜드 업로드 → storageUri 갱신 커밋 → 핫 파일 삭제 순서라 중간에 실패해도 읽을 수 있는 사본이 항상 남는다.
+ *   - 리플레이 행과 ReplayBlob 행의 storageUri를 같은 트랜잭션에서 바꾼다.
+ *   - replay.tier.migration-enabled=true일 때만 주기 실행된다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-tiered-replay-storage.md
+ *   - design/backend/v1.2.0-replay-content-addressing.md
+ */
+@Component
+public class ReplayTierMigrator {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplayTierMigrator.class);
+
+    private final ReplayRepository replayRepository;
+    private final ReplayBlobRepository blobRepository;
+    private final TieredReplayStorage storage;
+    private final ReplayStorageProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReplayTierMigrator(ReplayRepository replayRepository, ReplayBlobRepository blobRepository,
+            TieredReplayStorage storage, ReplayStorageProperties properties, TransactionTemplate transactionTemplate) {
+        this.replayRepository = replayRepository;
+        this.blobRepository = blobRepository;
+        this.storage = storage;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${replay.tier.migration-interval-millis:600000}",
+            initialDelayString = "${replay.tier.migration-interval-millis:600000}")
+    public void scheduledMigrate() {
+        if (!properties.isMigrationEnabled()) {
+            return;
+        }
+        migrateCreatedBefore(KstDateTime.now().minusHours(properties.getMigrateAfterHours()));
+    }
+
+    /**
+     * 설명:
+     *   - cutoff 이전에 만들어진 핫 리플레이 파일을 최대 배치 크기만큼 옮긴다.
+     * 출력:
+     *   - 옮긴 파일 수
+     */
+    public int migrateCreatedBefore(LocalDateTime cutoff) {
+        List<String> storageUris = replayRepository.findHotStorageUrisCreatedBefore(cutoff,
+                storage.coldUriPrefix() + "%", PageRequest.of(0, properties.getMigrationBatchSize()));
+        int migrated = 0;
+        for (String storageUri : storageUris) {
+            if (migrate(storageUri)) {
+                migrated++;
+            }
+        }
+        if (migrated > 0) {
+            log.info("[REPLAY_TIER_MIGRATED] files={} cutoff={}", migrated, cutoff);
+        }
+        return migrated;
+    }
+
+    private boolean migrate(String storageUri) {
+        String coldUri;
+        try {
+            coldUri = storage.archive(storageUri);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("[REPLAY_TIER_MIGRATE_FAILED] storageUri={} reason={}", storageUri, ex.getMessage());
+            return false;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                replayRepository.updateStorageUri(storageUri, coldUri);
+                blobRepository.updateStorageUri(storageUri, coldUri);
+            });
+        } catch (RuntimeException ex) {
+            log.warn("[REPLAY_TIER_MIGRATE_FAILED] storageUri={} reason={}", storageUri, ex.getMessage());
+            deleteQuietly(coldUri);
+            return false;
+        }
+        try {
+            storage.deleteHot(storageUri);
+        } catch (IOException ex) {
+            log.warn("[REPLAY_TIER_HOT_CLEANUP_FAILED] storageUri={} reason={}", storageUri, ex.getMessage());
+        }
+        storage.recordMigrated();
+        return true;
+    }
+
+    private void deleteQuietly(String coldUri) {
+        try {
+            storage.delete(coldUri);
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.codexpong.backend.replay.store;
+
+import com.codexpong.backend.observability.ObservabilityMetrics;
+import com.codexpong.backend.observability.ObservabilityMetrics.ReplayStorageMeters;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * [모듈] backend/src/main/java/com/codexpong/backend/replay/store/TieredReplayStorage.java
+ * 설명:
+ *   - 핫(로컬 디스크)과 콜드(오브젝트 스토리지) 티어를 묶어 ReplayService/JobService가 storageUri만으로 파일을 다루게 한다.
+ *   - 콜드 리플레이는 localPath 호출 시 로컬 LRU 캐시로 받아 두고 경로를 돌려준다. 재생/구간 조회/내보내기는
+ *     티어와 무관하게 로컬 파일을 읽는다.
+ *   - 색인(ReplayIndex, `.idx`) 같은 부가 파일은 본문과 함께 이전/캐시/삭제한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-tiered-replay-storage.md
+ */
+public class TieredReplayStorage {
+
+    /**
+     * 본문 옆에 함께 두는 부가 파일 접미사. ReplayIndex.SUFFIX와 같아야 한다.
+     */
+    static final List<String> SIDECAR_SUFFIXES = List.of(".idx");
+
+    private final LocalDiskReplayStore hot;
+    private final ObjectStorageReplayStore cold;
+    private final ReplayLocalCache cache;
+    private final ReplayStorageMeters meters;
+
+    public TieredReplayStorage(LocalDiskReplayStore hot, ObjectStorageReplayStore cold, ReplayLocalCache cache,
+            ReplayStorageMeters meters) {
+        this.hot = hot;
+        this.cold = cold;
+        this.cache = cache;
+        this.meters = meters;
+    }
+
+    /**
+     * 설명:
+     *   - storageDir 아래 cold/, cache/를 쓰는 기본 구성을 만든다. 스프링 없이 ReplayService를 만드는 테스트에서 쓴다.
+     */
+    public static TieredReplayStorage forDirectory(Path storageDir) {
+        ReplayStorageMeters meters = ObservabilityMetrics.noop().replayStorageMeters(() -> 0);
+        return new TieredReplayStorage(new LocalDiskReplayStore(storageDir),
+                new ObjectStorageReplayStore(new FileSystemObjectStorageClient(storageDir.resolve("cold")), "replays"),
+                new ReplayLocalCache(storageDir.resolve("cache"), 512L * 1024 * 1024, meters), meters);
+    }
+
+    public boolean isCold(String storageUri) {
+        return cold.owns(storageUri);
+    }
+
+    /**
+     * 설명:
+     *   - storageUri 본문을 읽을 수 있는 로컬 경로를 반환한다. 부가 파일은 `{경로}{접미사}`에 함께 있다.
+     */
+    public Path localPath(String storageUri) throws IOException {
+        if (!cold.owns(storageUri)) {
+            return hot.path(storageUri);
+        }
+        return cache.fetch(cold.key(storageUri), target -> download(storageUri, target));
+    }
+
+    /**
+     * 설명:
+     *   - 핫 티어 파일(부가 파일 포함)을 콜드 티어로 복사하고 콜드 URI를 반환한다. 핫 파일은 지우지 않는다.
+     */
+    public String archive(String storageUri) throws IOException {
+        if (cold.owns(storageUri)) {
+            return storageUri;
+        }
+        Path source = hot.path(storageUri);
+        String name = fileName(storageUri);
+        for (String suffix : SIDECAR_SUFFIXES) {
+            Path sidecar = source.resolveSibling(source.getFileName() + suffix);
+            if (Files.exists(sidecar)) {
+                cold.put(name + suffix, sidecar);
+            }
+        }
+        return cold.put(name, source);
+    }
+
+    void recordMigrated() {
+        meters.migrated().increment();
+    }
+
+    /**
+     * 설명:
+     *   - 티어 이전이 끝난 핫 파일을 지운다.
+     */
+    public void deleteHot(String storageUri) throws IOException {
+        if (cold.owns(storageUri)) {
+            return;
+        }
+        for (String suffix : SIDECAR_SUFFIXES) {
+            hot.delete(storageUri + suffix);
+        }
+        hot.delete(storageUri);
+    }
+
+    /**
+     * 설명:
+     *   - 리플레이 파일을 소속 티어에서 지우고, 콜드라면 로컬 캐시에서도 뺀다.
+     */
+    public void delete(String storageUri) throws IOException {
+        ReplayStore store = cold.owns(storageUri) ? cold : hot;
+        for (String suffix : SIDECAR_SUFFIXES) {
+            store.delete(storageUri + suffix);
+        }
+        store.delete(storageUri);
+        if (store == cold) {
+            cache.evict(cold.key(storageUri));
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 티어와 무관하게 storageUri의 마지막 이름(파일명 또는 오브젝트 키의 마지막 조각)을 반환한다.
+     */
+    public String fileName(String storageUri) {
+        String normalized = storageUri.replace('\\', '/');
+        return normalized.substring(normalized.lastIndexOf('/') + 1);
+    }
+
+    public String coldUriPrefix() {
+        return ObjectStorageReplayStore.SCHEME;
+    }
+
+    ReplayLocalCache cache() {
+        return cache;
+    }
+
+    private List<Path> download(String storageUri, Path target) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (String suffix : SIDECAR_SUFFIXES) {
+            if (cold.exists(storageUri + suffix)) {
+                Path sidecar = target.resolveSibling(target.getFileName() + suffix);
+                copy(storageUri + suffix, sidecar);
+                files.add(sidecar);
+            }
+        }
+        copy(storageUri, target);
+        files.add(target);
+        return files;
+    }
+
+    private void copy(String storageUri, Path target) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), ".fetch-", ".tmp");
+        try (InputStream in = cold.open(storageUri)) {
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.codexpong.backend.replay.thumbnail;
+
+import com.codexpong.backend.auth.model.AuthenticatedUser;
+import java.time.Duration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * [컨트롤러] backend/src/main/java/com/codexpong/backend/replay/thumbnail/ReplayThumbnailController.java
+ * 설명:
+ *   - 리플레이 한 시점의 PNG 썸네일을 요청 스레드에서 바로 그려 돌려준다. 잡/워커를 거치지 않는다.
+ *   - 같은 리플레이/오프셋은 바뀌지 않으므로 브라우저 캐시(private)를 허용한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-replay-thumbnail-renderer.md
+ */
+@RestController
+public class ReplayThumbnailController {
+
+    private final ReplayThumbnailService thumbnailService;
+
+    public ReplayThumbnailController(ReplayThumbnailService thumbnailService) {
+        this.thumbnailService = thumbnailService;
+    }
+
+    @GetMapping("/api/replays/{replayId}/thumbnail")
+    public ResponseEntity<byte[]> thumbnail(@AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable Long replayId,
+            @RequestParam(required = false) Long offsetMs) {
+        byte[] png = thumbnailService.render(user.id(), replayId, offsetMs);
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_PNG)
+                .cacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePrivate())
+                .body(png);
+    }
+}
@@ -0,0 +1,153 @@
+package com.codexpong.backend.replay.thumbnail;
+
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.replay.ReplayEventRecord;
+import com.codexpong.backend.replay.ReplayService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * [서비스] backend/src/main/java/com/codexpong/backend/replay/thumbnail/ReplayThumbnailService.java
+ * 설명:
+ *   - 리플레이의 한 시점(offsetMs, 생략 시 경기 길이의 절반)을 PNG 썸네일로 만든다. 워커를 거치지 않는다.
+ *   - 스냅샷은 시간 색인 구간 조회(streamEvents fromMs/toMs)로 그 시점 앞뒤 1초만 읽어 찾는다.
+ *   - 결과는 (replayId, offsetMs) 키의 바이트 상한 LRU 캐시에 둔다. 소유권은 캐시 조회 전에 항상 확인한다.
+ *   - 동기 호출(render)과 작은 전용 풀(renderAsync) 둘 다 제공한다. 풀이 가득 차면 호출 스레드가 직접 그린다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-replay-thumbnail-renderer.md
+ */
+@Service
+public class ReplayThumbnailService {
+
+    static final long SNAPSHOT_WINDOW_MS = 1_000;
+    private static final int QUEUE_CAPACITY = 64;
+
+    private final ReplayService replayService;
+    private final ObjectMapper objectMapper;
+    private final long cacheMaxBytes;
+    private final LinkedHashMap<CacheKey, byte[]> cache = new LinkedHashMap<>(64, 0.75f, true);
+    private final ThreadPoolExecutor executor;
+    private long cachedBytes;
+
+    public ReplayThumbnailService(ReplayService replayService, ObjectMapper objectMapper,
+            @Value("${replay.thumbnail.cache-max-bytes:16777216}") long cacheMaxBytes,
+            @Value("${replay.thumbnail.workers:2}") int workers) {
+        this.replayService = replayService;
+        this.objectMapper = objectMapper;
+        this.cacheMaxBytes = cacheMaxBytes;
+        AtomicInteger sequence = new AtomicInteger();
+        int poolSize = Math.max(1, workers);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "replay-thumbnail-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 설명:
+     *   - 소유자의 리플레이 한 시점을 PNG로 그려 반환한다. 같은 (replayId, offsetMs)는 캐시에서 바로 돌려준다.
+     */
+    public byte[] render(Long ownerId, Long replayId, Long offsetMs) {
+        long durationMs = replayService.getReplay(ownerId, replayId).summary().durationMs();
+        long offset = offsetMs == null ? durationMs / 2 : Math.max(0, offsetMs);
+        CacheKey key = new CacheKey(replayId, offset);
+        synchronized (this) {
+            byte[] cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        byte[] png = ThumbnailRasterizer.renderPng(snapshotAt(ownerId, replayId, offset));
+        store(key, png);
+        return png;
+    }
+
+    public CompletableFuture<byte[]> renderAsync(Long ownerId, Long replayId, Long offsetMs) {
+        return CompletableFuture.supplyAsync(() -> render(ownerId, replayId, offsetMs), executor);
+    }
+
+    synchronized long cachedBytes() {
+        return cachedBytes;
+    }
+
+    /**
+     * 설명:
+     *   - offset 이하의 마지막 이벤트 스냅샷을 찾는다. 앞뒤 1초 구간에 없으면(경기 길이를 넘는 오프셋 등)
+     *     전체를 한 번 읽어 가장 가까운 이전 이벤트를 쓴다.
+     */
+    private GameSnapshot snapshotAt(Long ownerId, Long replayId, long offset) {
+        GameSnapshot snapshot = scan(replayService.streamEvents(ownerId, replayId,
+                Math.max(0, offset - SNAPSHOT_WINDOW_MS), offset + SNAPSHOT_WINDOW_MS), offset);
+        if (snapshot == null) {
+            snapshot = scan(replayService.streamEvents(ownerId, replayId), offset);
+        }
+        if (snapshot == null) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "리플레이 이벤트가 비어 있습니다.");
+        }
+        return snapshot;
+    }
+
+    private GameSnapshot scan(Resource events, long offset) {
+        GameSnapshot before = null;
+        GameSnapshot after = null;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(events.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                ReplayEventRecord event = objectMapper.readValue(line, ReplayEventRecord.class);
+                if (event.offsetMs() <= offset) {
+                    before = event.snapshot();
+                } else {
+                    after = after == null ? event.snapshot() : after;
+                    break;
+                }
+            }
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "리플레이 파일을 읽을 수 없습니다.", ex);
+        }
+        return before != null ? before : after;
+    }
+
+    private synchronized void store(CacheKey key, byte[] png) {
+        byte[] previous = cache.put(key, png);
+        cachedBytes += png.length - (previous == null ? 0 : previous.length);
+        var iterator = cache.entrySet().iterator();
+        while (cachedBytes > cacheMaxBytes && iterator.hasNext()) {
+            var eldest = iterator.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+            cachedBytes -= eldest.getValue().length;
+            iterator.remove();
+        }
+    }
+
+    private record CacheKey(Long replayId, long offsetMs) {
+    }
+}
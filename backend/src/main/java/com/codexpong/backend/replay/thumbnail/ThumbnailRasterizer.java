@@ -0,0 +1,147 @@
+package com.codexpong.backend.replay.thumbnail;
+
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import javax.imageio.ImageIO;
+
+/**
+ * [모듈] backend/src/main/java/com/codexpong/backend/replay/thumbnail/ThumbnailRasterizer.java
+ * 설명:
+ *   - GameSnapshot 한 장을 워커(render_frame)와 같은 배치/색상의 1280x720 PNG로 그린다.
+ *   - 사각형/원은 BufferedImage 픽셀 배열에 직접 스캔라인으로 채운다. 점수는 3x5 비트맵 글꼴로 그려
+ *     서버에 글꼴이 없어도(헤드리스 컨테이너) 같은 결과가 나온다.
+ *   - 상태가 없으므로 여러 스레드에서 동시에 호출해도 된다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-replay-thumbnail-renderer.md
+ */
+final class ThumbnailRasterizer {
+
+    static final int WIDTH = 1280;
+    static final int HEIGHT = 720;
+    static final int BACKGROUND = 0x0C121C;
+    static final int PADDLE_COLOR = 0xE6E6E6;
+    static final int BALL_COLOR = 0xFFB45A;
+    private static final int CENTER_LINE_COLOR = 0x3C4655;
+    private static final int TEXT_COLOR = 0xF0F0F0;
+    private static final int FINISH_COLOR = 0xC8FFC8;
+    private static final double COURT_WIDTH = 800;
+    private static final double COURT_HEIGHT = 480;
+    private static final double PADDLE_HEIGHT = 80;
+    private static final double PADDLE_WIDTH = 12;
+    private static final double PADDLE_INSET = 24;
+    private static final double BALL_SIZE = 12;
+    private static final int GLYPH_SCALE = 4;
+    private static final int GLYPH_ADVANCE = 4 * GLYPH_SCALE;
+
+    /**
+     * 3x5 글리프. 한 줄에 3비트씩 위에서 아래로 5줄(상위 비트가 윗줄 왼쪽)이다.
+     */
+    private static final String GLYPH_CHARS = "0123456789:()FINSH";
+    private static final int[] GLYPHS = {
+        0b111_101_101_101_111, 0b010_110_010_010_111, 0b111_001_111_100_111, 0b111_001_111_001_111,
+        0b101_101_111_001_001, 0b111_100_111_001_111, 0b111_100_111_101_111, 0b111_001_001_001_001,
+        0b111_101_111_101_111, 0b111_101_111_001_111, 0b000_010_000_010_000, 0b001_010_010_010_001,
+        0b100_010_010_010_100, 0b111_100_110_100_100, 0b111_010_010_010_111, 0b101_111_111_101_101,
+        0b111_100_111_001_111, 0b101_101_111_101_101,
+    };
+
+    private ThumbnailRasterizer() {
+    }
+
+    static BufferedImage rasterize(GameSnapshot snapshot) {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        Arrays.fill(pixels, BACKGROUND);
+
+        double scale = Math.min(WIDTH / COURT_WIDTH, HEIGHT / COURT_HEIGHT);
+        double offsetX = (WIDTH - COURT_WIDTH * scale) / 2;
+        double offsetY = (HEIGHT - COURT_HEIGHT * scale) / 2;
+        int centerX = WIDTH / 2;
+        fillRect(pixels, centerX - 2, 0, centerX + 2, HEIGHT, CENTER_LINE_COLOR);
+
+        double paddleHeight = PADDLE_HEIGHT * scale;
+        double leftTop = snapshot.leftPaddleY() * scale + offsetY;
+        double rightTop = snapshot.rightPaddleY() * scale + offsetY;
+        fillRect(pixels, offsetX + PADDLE_INSET, leftTop, offsetX + PADDLE_INSET + PADDLE_WIDTH,
+                leftTop + paddleHeight, PADDLE_COLOR);
+        fillRect(pixels, WIDTH - offsetX - PADDLE_INSET - PADDLE_WIDTH, rightTop, WIDTH - offsetX - PADDLE_INSET,
+                rightTop + paddleHeight, PADDLE_COLOR);
+
+        fillCircle(pixels, snapshot.ballX() * scale + offsetX, snapshot.ballY() * scale + offsetY, BALL_SIZE / 2,
+                BALL_COLOR);
+
+        String score = snapshot.leftScore() + " : " + snapshot.rightScore() + " (" + snapshot.targetScore() + ")";
+        drawText(pixels, 10, 10, score, TEXT_COLOR);
+        if (snapshot.finished()) {
+            drawText(pixels, WIDTH / 2 - 40, 20, "FINISH", FINISH_COLOR);
+        }
+        return image;
+    }
+
+    static byte[] renderPng(GameSnapshot snapshot) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 * 1024);
+        try {
+            ImageIO.write(rasterize(snapshot), "png", out);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 설명:
+     *   - [x0, x1) × [y0, y1) 영역을 화면 안으로 잘라 채운다. 좌표는 반올림한다.
+     */
+    private static void fillRect(int[] pixels, double x0, double y0, double x1, double y1, int color) {
+        int left = clamp((int) Math.round(x0), WIDTH);
+        int right = clamp((int) Math.round(x1), WIDTH);
+        int top = clamp((int) Math.round(y0), HEIGHT);
+        int bottom = clamp((int) Math.round(y1), HEIGHT);
+        for (int y = top; y < bottom; y++) {
+            int row = y * WIDTH;
+            Arrays.fill(pixels, row + left, row + Math.max(left, right), color);
+        }
+    }
+
+    private static void fillCircle(int[] pixels, double centerX, double centerY, double radius, int color) {
+        int top = (int) Math.floor(centerY - radius);
+        int bottom = (int) Math.ceil(centerY + radius);
+        for (int y = top; y < bottom; y++) {
+            double dy = y + 0.5 - centerY;
+            double half = radius * radius - dy * dy;
+            if (half <= 0) {
+                continue;
+            }
+            double span = Math.sqrt(half);
+            fillRect(pixels, centerX - span, y, centerX + span, y + 1, color);
+        }
+    }
+
+    private static void drawText(int[] pixels, int x, int y, String text, int color) {
+        int cursor = x;
+        for (int i = 0; i < text.length(); i++) {
+            int index = GLYPH_CHARS.indexOf(text.charAt(i));
+            if (index >= 0) {
+                int glyph = GLYPHS[index];
+                for (int bit = 0; bit < 15; bit++) {
+                    if ((glyph & (1 << (14 - bit))) != 0) {
+                        int gx = cursor + (bit % 3) * GLYPH_SCALE;
+                        int gy = y + (bit / 3) * GLYPH_SCALE;
+                        fillRect(pixels, gx, gy, gx + GLYPH_SCALE, gy + GLYPH_SCALE, color);
+                    }
+                }
+            }
+            cursor += GLYPH_ADVANCE;
+        }
+    }
+
+    private static int clamp(int value, int limit) {
+        return Math.max(0, Math.min(limit, value));
+    }
+}
@@ -0,0 +1,351 @@
+package com.codexpong.backend.retention;
+
+import com.codexpong.backend.common.KstDateTime;
+import com.codexpong.backend.job.ExportResultCache;
+import com.codexpong.backend.job.JobRepository;
+import com.codexpong.backend.job.JobRetentionRow;
+import com.codexpong.backend.observability.ObservabilityMetrics;
+import com.codexpong.backend.observability.ObservabilityMetrics.RetentionMeters;
+import com.codexpong.backend.replay.ReplayBlob;
+import com.codexpong.backend.replay.ReplayBlobRepository;
+import com.codexpong.backend.replay.ReplayRepository;
+import com.codexpong.backend.replay.ReplayRetentionRow;
+import com.codexpong.backend.replay.ReplayService;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * [작업] backend/src/main/java/com/codexpong/backend/retention/RetentionCompactor.java
+ * 설명:
+ *   - 리플레이와 내보내기 결과에 보존 정책을 주기적으로 적용한다. 경기 종료/잡 완료 경로에서는 정리를 하지 않는다.
+ *   - 소유자별 정책은 (소유자, 최신순, id) 키셋 페이지로 한 번 훑으며 개수/누적 용량/나이를 판정한다.
+ *     전역 용량 정책은 합계를 한 번 구한 뒤 오래된 순 키셋 페이지로 초과분만큼만 고른다.
+ *   - 행 정리는 배치마다 짧은 트랜잭션으로 커밋하고, 파일 삭제는 커밋 뒤 io-concurrency 크기의 전용 풀에서 병렬로 한다.
+ *   - 리플레이를 지우면 그 리플레이를 대상으로 한 잡과 결과 파일도 함께 지운다.
+ *     체크섬 주소 리플레이 파일은 참조만 줄이고, 실제 삭제는 ReplayBlobSweeper가 맡는다.
+ *   - 내보내기 결과는 파일만 지우고 잡 행의 resultUri를 비워 이력은 남긴다.
+ *     결과 캐시가 소유한 결과(cacheKey 있음)는 파일 대신 캐시 참조를 반납하고, 파일은 캐시 축출 단계가 지운다.
+ *     전역 용량 정책은 캐시 밖 결과에만 적용하고, 캐시 용량은 jobs.export.cache-max-bytes로 따로 맞춘다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-retention-compactor.md
+ *   - design/backend/v1.2.0-export-result-cache.md
+ */
+@Component
+public class RetentionCompactor {
+
+    private static final Logger log = LoggerFactory.getLogger(RetentionCompactor.class);
+    private static final LocalDateTime CURSOR_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ReplayRepository replayRepository;
+    private final ReplayBlobRepository blobRepository;
+    private final JobRepository jobRepository;
+    private final ExportResultCache exportResultCache;
+    private final ReplayService replayService;
+    private final TransactionTemplate transactionTemplate;
+    private final RetentionProperties properties;
+    private final RetentionMeters meters;
+    private final ExecutorService ioExecutor;
+
+    public RetentionCompactor(ReplayRepository replayRepository, ReplayBlobRepository blobRepository,
+            JobRepository jobRepository, ExportResultCache exportResultCache, ReplayService replayService,
+            TransactionTemplate transactionTemplate, RetentionProperties properties, ObservabilityMetrics metrics) {
+        this.replayRepository = replayRepository;
+        this.blobRepository = blobRepository;
+        this.jobRepository = jobRepository;
+        this.exportResultCache = exportResultCache;
+        this.replayService = replayService;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.meters = metrics.retentionMeters();
+        AtomicInteger sequence = new AtomicInteger();
+        this.ioExecutor = Executors.newFixedThreadPool(Math.max(1, properties.getIoConcurrency()), runnable -> {
+            Thread thread = new Thread(runnable, "retention-io-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${retention.interval-millis:300000}",
+            initialDelayString = "${retention.interval-millis:300000}")
+    public void scheduledCompact() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        compact();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ioExecutor.shutdownNow();
+    }
+
+    /**
+     * 설명:
+     *   - 리플레이(소유자별 → 전역)와 내보내기 결과(소유자별 → 전역 → 캐시 축출) 순으로 정책을 한 번 적용한다.
+     */
+    public synchronized RetentionReport compact() {
+        LocalDateTime now = KstDateTime.now();
+        Tally tally = new Tally();
+        compactReplaysPerUser(now, tally);
+        compactReplaysGlobally(tally);
+        compactExportsPerUser(now, tally);
+        compactExportsGlobally(tally);
+        evictExportCache(tally);
+        if (tally.replays > 0 || tally.exports > 0) {
+            log.info("[RETENTION_COMPACTED] replays={} exports={} reclaimedBytes={}", tally.replays, tally.exports,
+                    tally.bytes);
+        }
+        return new RetentionReport(tally.replays, tally.exports, tally.bytes);
+    }
+
+    private void compactReplaysPerUser(LocalDateTime now, Tally tally) {
+        RetentionProperties.Policy policy = properties.getReplays();
+        if (!policy.hasPerUserOrAgeLimit()) {
+            return;
+        }
+        LocalDateTime ageCutoff = policy.getMaxAgeHours() > 0 ? now.minusHours(policy.getMaxAgeHours()) : null;
+        OwnerWindow window = new OwnerWindow();
+        Long ownerId = Long.MIN_VALUE;
+        LocalDateTime createdAt = CURSOR_START;
+        Long id = Long.MAX_VALUE;
+        while (true) {
+            List<ReplayRetentionRow> page = replayRepository.findRetentionRowsAfter(ownerId, createdAt, id,
+                    PageRequest.of(0, properties.getBatchSize()));
+            if (page.isEmpty()) {
+                return;
+            }
+            List<Long> expired = new ArrayList<>();
+            for (ReplayRetentionRow row : page) {
+                window.add(row.ownerId(), row.sizeBytes());
+                if (policy.exceedsPerUser(window.count, window.bytes)
+                        || (ageCutoff != null && row.createdAt().isBefore(ageCutoff))) {
+                    expired.add(row.id());
+                }
+            }
+            deleteReplays(expired, tally);
+            ReplayRetentionRow last = page.get(page.size() - 1);
+            ownerId = last.ownerId();
+            createdAt = last.createdAt();
+            id = last.id();
+            if (page.size() < properties.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    private void compactReplaysGlobally(Tally tally) {
+        long maxTotalBytes = properties.getReplays().getMaxTotalBytes();
+        if (maxTotalBytes <= 0) {
+            return;
+        }
+        long excess = blobRepository.sumLiveBytes() - maxTotalBytes;
+        LocalDateTime createdAt = CURSOR_START;
+        String checksum = "";
+        while (excess > 0) {
+            List<ReplayBlob> page = blobRepository.findLiveAfter(createdAt, checksum,
+                    PageRequest.of(0, properties.getBatchSize()));
+            if (page.isEmpty()) {
+                return;
+            }
+            List<String> checksums = new ArrayList<>();
+            for (ReplayBlob blob : page) {
+                checksums.add(blob.getChecksum());
+                createdAt = blob.getCreatedAt();
+                checksum = blob.getChecksum();
+                excess -= blob.getSizeBytes();
+                if (excess <= 0) {
+                    break;
+                }
+            }
+            deleteReplays(replayRepository.findIdsByChecksumIn(checksums), tally);
+        }
+    }
+
+    private void compactExportsPerUser(LocalDateTime now, Tally tally) {
+        RetentionProperties.Policy policy = properties.getExports();
+        if (!policy.hasPerUserOrAgeLimit()) {
+            return;
+        }
+        LocalDateTime ageCutoff = policy.getMaxAgeHours() > 0 ? now.minusHours(policy.getMaxAgeHours()) : null;
+        OwnerWindow window = new OwnerWindow();
+        Long ownerId = Long.MIN_VALUE;
+        LocalDateTime endedAt = CURSOR_START;
+        Long id = Long.MAX_VALUE;
+        while (true) {
+            List<JobRetentionRow> page = jobRepository.findResultRowsAfter(ownerId, endedAt, id,
+                    PageRequest.of(0, properties.getBatchSize()));
+            if (page.isEmpty()) {
+                return;
+            }
+            List<JobRetentionRow> expired = new ArrayList<>();
+            for (JobRetentionRow row : page) {
+                window.add(row.ownerId(), row.sizeBytes());
+                if (policy.exceedsPerUser(window.count, window.bytes)
+                        || (ageCutoff != null && row.endedAt() != null && row.endedAt().isBefore(ageCutoff))) {
+                    expired.add(row);
+                }
+            }
+            expireExports(expired, tally);
+            JobRetentionRow last = page.get(page.size() - 1);
+            ownerId = last.ownerId();
+            endedAt = last.endedAt();
+            id = last.id();
+            if (page.size() < properties.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    private void compactExportsGlobally(Tally tally) {
+        long maxTotalBytes = properties.getExports().getMaxTotalBytes();
+        if (maxTotalBytes <= 0) {
+            return;
+        }
+        long excess = jobRepository.sumResultBytes() - maxTotalBytes;
+        LocalDateTime endedAt = CURSOR_START;
+        Long id = 0L;
+        while (excess > 0) {
+            List<JobRetentionRow> page = jobRepository.findOldestResultRowsAfter(endedAt, id,
+                    PageRequest.of(0, properties.getBatchSize()));
+            if (page.isEmpty()) {
+                return;
+            }
+            List<JobRetentionRow> expired = new ArrayList<>();
+            for (JobRetentionRow row : page) {
+                expired.add(row);
+                endedAt = row.endedAt();
+                id = row.id();
+                excess -= row.sizeBytes();
+                if (excess <= 0) {
+                    break;
+                }
+            }
+            expireExports(expired, tally);
+        }
+    }
+
+    private void evictExportCache(Tally tally) {
+        ExportResultCache.Eviction eviction = exportResultCache.evict();
+        tally.exports += eviction.entries();
+        tally.bytes += eviction.bytes();
+        meters.exportsDeleted().increment(eviction.entries());
+        meters.exportBytes().increment(eviction.bytes());
+    }
+
+    private void deleteReplays(List<Long> replayIds, Tally tally) {
+        if (replayIds.isEmpty()) {
+            return;
+        }
+        Removal removal = transactionTemplate.execute(status -> {
+            List<String> exportUris = jobRepository.findResultUrisByTargetReplayIdIn(replayIds);
+            exportResultCache.release(countByKey(jobRepository.findResultCacheKeysByTargetReplayIdIn(replayIds)));
+            jobRepository.deleteByTargetReplayIdIn(replayIds);
+            return new Removal(replayService.deleteReplays(replayIds), exportUris);
+        });
+        tally.replays += replayIds.size();
+        meters.replaysDeleted().increment(replayIds.size());
+        long replayBytes = deleteFiles(removal.replayUris(), replayService::deleteStoredFiles);
+        long exportBytes = deleteFiles(removal.exportUris(), this::deleteExportFile);
+        meters.replayBytes().increment(replayBytes);
+        meters.exportBytes().increment(exportBytes);
+        tally.bytes += replayBytes + exportBytes;
+    }
+
+    private void expireExports(List<JobRetentionRow> rows, Tally tally) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<Long> ids = rows.stream().map(JobRetentionRow::id).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            jobRepository.clearResults(ids);
+            exportResultCache.release(countByKey(rows.stream()
+                    .filter(JobRetentionRow::isCached)
+                    .map(JobRetentionRow::cacheKey)
+                    .toList()));
+        });
+        long bytes = deleteFiles(rows.stream()
+                .filter(row -> !row.isCached())
+                .map(JobRetentionRow::resultUri)
+                .toList(), this::deleteExportFile);
+        tally.exports += rows.size();
+        tally.bytes += bytes;
+        meters.exportsDeleted().increment(rows.size());
+        meters.exportBytes().increment(bytes);
+    }
+
+    /**
+     * 설명:
+     *   - 파일 삭제를 I/O 풀에 나눠 맡기고 모두 끝날 때까지 기다린다. 풀 크기가 곧 동시 삭제 상한이다.
+     */
+    private long deleteFiles(List<String> uris, ToLongFunction<String> deleter) {
+        if (uris.isEmpty()) {
+            return 0;
+        }
+        List<CompletableFuture<Long>> futures = uris.stream()
+                .map(uri -> CompletableFuture.supplyAsync(() -> deleter.applyAsLong(uri), ioExecutor))
+                .toList();
+        return futures.stream().mapToLong(CompletableFuture::join).sum();
+    }
+
+    private static Map<String, Long> countByKey(List<String> cacheKeys) {
+        return cacheKeys.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+
+    private long deleteExportFile(String resultUri) {
+        try {
+            Path path = Paths.get(resultUri);
+            long size = Files.exists(path) ? Files.size(path) : 0;
+            Files.deleteIfExists(path);
+            return size;
+        } catch (IOException ex) {
+            log.warn("[RETENTION_EXPORT_DELETE_FAILED] resultUri={} reason={}", resultUri, ex.getMessage());
+            return 0;
+        }
+    }
+
+    private record Removal(List<String> replayUris, List<String> exportUris) {
+    }
+
+    private static final class OwnerWindow {
+        private Long ownerId;
+        private int count;
+        private long bytes;
+
+        void add(Long rowOwnerId, long rowBytes) {
+            if (!rowOwnerId.equals(ownerId)) {
+                ownerId = rowOwnerId;
+                count = 0;
+                bytes = 0;
+            }
+            count++;
+            bytes += rowBytes;
+        }
+    }
+
+    private static final class Tally {
+        private int replays;
+        private int exports;
+        private long bytes;
+    }
+}
@@ -0,0 +1,124 @@
+package com.codexpong.backend.retention;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * [설정] backend/src/main/java/com/codexpong/backend/retention/RetentionProperties.java
+ * 설명:
+ *   - 리플레이와 내보내기 결과(jobs.export.path)의 보존 정책과 정리 주기/배치/파일 I/O 동시성을 설정한다.
+ *   - 정책 값이 0이면 그 조건은 적용하지 않는다. 소유자별 조건(개수/용량)과 전역 조건(나이/전체 용량)을 함께 쓸 수 있다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-retention-compactor.md
+ */
+@ConfigurationProperties(prefix = "retention")
+public class RetentionProperties {
+
+    private boolean enabled = true;
+    private int batchSize = 500;
+    private int ioConcurrency = 4;
+    private Policy replays = new Policy(20, 0, 0, 0);
+    private Policy exports = new Policy(20, 0, 168, 10L * 1024 * 1024 * 1024);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getIoConcurrency() {
+        return ioConcurrency;
+    }
+
+    public void setIoConcurrency(int ioConcurrency) {
+        this.ioConcurrency = ioConcurrency;
+    }
+
+    public Policy getReplays() {
+        return replays;
+    }
+
+    public void setReplays(Policy replays) {
+        this.replays = replays;
+    }
+
+    public Policy getExports() {
+        return exports;
+    }
+
+    public void setExports(Policy exports) {
+        this.exports = exports;
+    }
+
+    public static class Policy {
+
+        private int maxPerUser;
+        private long maxBytesPerUser;
+        private long maxAgeHours;
+        private long maxTotalBytes;
+
+        public Policy() {
+        }
+
+        public Policy(int maxPerUser, long maxBytesPerUser, long maxAgeHours, long maxTotalBytes) {
+            this.maxPerUser = maxPerUser;
+            this.maxBytesPerUser = maxBytesPerUser;
+            this.maxAgeHours = maxAgeHours;
+            this.maxTotalBytes = maxTotalBytes;
+        }
+
+        /**
+         * 설명:
+         *   - 최신순으로 센 소유자별 개수/누적 용량이 한도를 넘었는지 판단한다.
+         */
+        boolean exceedsPerUser(int count, long bytes) {
+            return (maxPerUser > 0 && count > maxPerUser) || (maxBytesPerUser > 0 && bytes > maxBytesPerUser);
+        }
+
+        boolean hasPerUserOrAgeLimit() {
+            return maxPerUser > 0 || maxBytesPerUser > 0 || maxAgeHours > 0;
+        }
+
+        public int getMaxPerUser() {
+            return maxPerUser;
+        }
+
+        public void setMaxPerUser(int maxPerUser) {
+            this.maxPerUser = maxPerUser;
+        }
+
+        public long getMaxBytesPerUser() {
+            return maxBytesPerUser;
+        }
+
+        public void setMaxBytesPerUser(long maxBytesPerUser) {
+            this.maxBytesPerUser = maxBytesPerUser;
+        }
+
+        public long getMaxAgeHours() {
+            return maxAgeHours;
+        }
+
+        public void setMaxAgeHours(long maxAgeHours) {
+            this.maxAgeHours = maxAgeHours;
+        }
+
+        public long getMaxTotalBytes() {
+            return maxTotalBytes;
+        }
+
+        public void setMaxTotalBytes(long maxTotalBytes) {
+            this.maxTotalBytes = maxTotalBytes;
+        }
+    }
+}
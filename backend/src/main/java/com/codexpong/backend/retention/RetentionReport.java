@@ -0,0 +1,13 @@
+package com.codexpong.backend.retention;
+
+/**
+ * [모델] backend/src/main/java/com/codexpong/backend/retention/RetentionReport.java
+ * 설명:
+ *   - 정리 1회 실행 결과다. 리플레이 바이트는 블롭 행이 없는 이전 리플레이 파일만 포함한다.
+ *     체크섬 주소 파일은 ReplayBlobSweeper가 유예 시간 뒤 지우면서 따로 기록한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-retention-compactor.md
+ */
+public record RetentionReport(int replaysDeleted, int exportsDeleted, long reclaimedBytes) {
+}
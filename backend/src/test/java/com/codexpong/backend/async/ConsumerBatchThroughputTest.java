@@ -0,0 +1,117 @@
+package com.codexpong.backend.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.async.consumer.PlayerMatchStats;
+import com.codexpong.backend.async.consumer.PlayerMatchStatsRepository;
+import com.codexpong.backend.async.consumer.RankingEventConsumer;
+import com.codexpong.backend.async.consumer.RankingProjection;
+import com.codexpong.backend.async.consumer.RankingProjectionRepository;
+import com.codexpong.backend.async.consumer.StatsEventConsumer;
+import com.codexpong.backend.async.event.DomainEvent;
+import com.codexpong.backend.async.event.MatchResultEventPayload;
+import com.codexpong.backend.async.event.OutboxEventType;
+import com.codexpong.backend.async.outbox.OutboxRelayProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * [통합 테스트] backend/src/test/java/com/codexpong/backend/async/ConsumerBatchThroughputTest.java
+ * 설명:
+ *   - MATCH_RESULT_RECORDED 이벤트를 릴레이 묶음 크기대로 consumeBatch에 재생해,
+ *     통계/랭킹 프로젝션이 이벤트를 하나씩 반영한 결과와 같은지 검증하고 처리량을 남긴다.
+ *   - 기본 실행은 2천 건으로 정확성만 본다. 처리량은 -PconsumerReplayEvents=100000으로 늘려 따로 잰다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ConsumerBatchThroughputTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ConsumerBatchThroughputTest.class);
+    private static final int EVENTS = Integer.getInteger("consumer.replay.events", 2_000);
+    private static final int PLAYERS = 200;
+    private static final long USER_BASE = 9_000_000L;
+
+    @Autowired
+    private StatsEventConsumer statsEventConsumer;
+
+    @Autowired
+    private RankingEventConsumer rankingEventConsumer;
+
+    @Autowired
+    private PlayerMatchStatsRepository statsRepository;
+
+    @Autowired
+    private RankingProjectionRepository rankingProjectionRepository;
+
+    @Autowired
+    private OutboxRelayProperties outboxRelayProperties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        statsRepository.deleteAll();
+        rankingProjectionRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("매치 결과를 묶음으로 재생해도 사용자별 승/패/무와 마지막 레이팅이 정확하다")
+    void replaysMatchResultsInBatches() {
+        List<DomainEvent> events = new ArrayList<>(EVENTS);
+        Map<Long, int[]> expectedStats = new HashMap<>();
+        Map<Long, Integer> expectedRating = new HashMap<>();
+        for (int i = 0; i < EVENTS; i++) {
+            long playerA = USER_BASE + i % PLAYERS;
+            long playerB = USER_BASE + (i % PLAYERS + 1 + (i / PLAYERS) % (PLAYERS - 1)) % PLAYERS;
+            int scoreA = i % 3 == 1 ? 5 : i % 3 == 2 ? 2 : 3;
+            int scoreB = i % 3 == 1 ? 3 : i % 3 == 2 ? 5 : 3;
+            int ratingA = 1000 + i % 400;
+            int ratingB = 1400 - i % 400;
+            String eventId = UUID.randomUUID().toString();
+            MatchResultEventPayload payload = new MatchResultEventPayload(eventId, (long) i, "room-replay-" + i,
+                    playerA, playerB, scoreA, scoreB, "RANKED", 0, 0, ratingA, ratingB, null, null);
+            events.add(new DomainEvent(eventId, OutboxEventType.MATCH_RESULT_RECORDED,
+                    objectMapper.valueToTree(payload)));
+            int outcome = Integer.compare(scoreA, scoreB);
+            expectedStats.computeIfAbsent(playerA, userId -> new int[3])[1 - outcome] += 1;
+            expectedStats.computeIfAbsent(playerB, userId -> new int[3])[1 + outcome] += 1;
+            expectedRating.put(playerA, ratingA);
+            expectedRating.put(playerB, ratingB);
+        }
+
+        int batchSize = outboxRelayProperties.getBatchSize();
+        long started = System.nanoTime();
+        for (int from = 0; from < EVENTS; from += batchSize) {
+            List<DomainEvent> batch = events.subList(from, Math.min(from + batchSize, EVENTS));
+            statsEventConsumer.consumeBatch(batch);
+            rankingEventConsumer.consumeBatch(batch);
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        log.info("consumer batch replay events={} batchSize={} elapsedMs={} eventsPerSecond={}", EVENTS, batchSize,
+                elapsedMillis, EVENTS * 1000L / elapsedMillis);
+
+        List<PlayerMatchStats> stats = statsRepository.findAll();
+        assertThat(stats).hasSize(PLAYERS).allSatisfy(row -> {
+            int[] expected = expectedStats.get(row.getUserId());
+            assertThat(new int[] {row.getWins(), row.getDraws(), row.getLosses()}).containsExactly(expected);
+            assertThat(row.getTotalMatches()).isEqualTo(expected[0] + expected[1] + expected[2]);
+        });
+        assertThat(stats.stream().mapToInt(PlayerMatchStats::getTotalMatches).sum()).isEqualTo(EVENTS * 2);
+        List<RankingProjection> rankings = rankingProjectionRepository.findAll();
+        assertThat(rankings).hasSize(PLAYERS).allSatisfy(row ->
+                assertThat(row.getRating()).isEqualTo(expectedRating.get(row.getUserId())));
+    }
+}
@@ -6,6 +6,9 @@ import com.codexpong.backend.async.event.MatchResultEventPayload;
 import com.codexpong.backend.async.event.OutboxEventType;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Profile;
@@ -14,11 +17,15 @@ import org.springframework.context.annotation.Profile;
  * [테스트 설정] backend/src/test/java/com/codexpong/backend/async/FailingTestConsumerConfig.java
  * 설명:
  *   - DLQ 경로를 검증하기 위해 특정 roomId에 대해 실패를 유도하는 소비자를 주입한다.
+ *   - DLQ 재전달 검증을 위해 실패 원인이 해결된 상황(RECOVERED)과 처리한 eventId(CONSUMED)를 열어 둔다.
  */
 @TestConfiguration
 @Profile("test")
 public class FailingTestConsumerConfig {
 
+    public static final AtomicBoolean RECOVERED = new AtomicBoolean();
+    public static final List<String> CONSUMED = new CopyOnWriteArrayList<>();
+
     @Bean
     public DomainEventConsumer failingDomainEventConsumer(ObjectMapper objectMapper) {
         return new DomainEventConsumer() {
@@ -36,9 +43,10 @@ public class FailingTestConsumerConfig {
             public void consume(DomainEvent event) {
                 try {
                     MatchResultEventPayload payload = objectMapper.treeToValue(event.payload(), MatchResultEventPayload.class);
-                    if (payload.roomId().contains("dlq")) {
+                    if (payload.roomId().contains("dlq") && !RECOVERED.get()) {
                         throw new IllegalStateException("테스트용 강제 실패");
                     }
+                    CONSUMED.add(event.eventId());
                 } catch (JsonProcessingException e) {
                     throw new IllegalStateException("페이로드 파싱 실패", e);
                 }
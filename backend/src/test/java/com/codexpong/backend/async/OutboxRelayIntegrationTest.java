@@ -9,19 +9,33 @@ import com.codexpong.backend.async.consumer.NotificationLogRepository;
 import com.codexpong.backend.async.consumer.PlayerMatchStats;
 import com.codexpong.backend.async.consumer.PlayerMatchStatsRepository;
 import com.codexpong.backend.async.consumer.RankingProjectionRepository;
-import com.codexpong.backend.async.consumer.EventConsumptionRepository;
+import com.codexpong.backend.async.outbox.ConsumerCursorRepository;
+import com.codexpong.backend.async.outbox.ConsumerGap;
+import com.codexpong.backend.async.outbox.ConsumerGapRepository;
+import com.codexpong.backend.async.outbox.DeadLetterEvent;
 import com.codexpong.backend.async.outbox.DeadLetterEventRepository;
 import com.codexpong.backend.async.outbox.OutboxEvent;
 import com.codexpong.backend.async.outbox.OutboxEventRepository;
 import com.codexpong.backend.async.outbox.OutboxRelayService;
 import com.codexpong.backend.async.outbox.OutboxRelayProperties;
 import com.codexpong.backend.async.outbox.OutboxStatus;
+import com.codexpong.backend.async.outbox.OutboxWakeup;
 import com.codexpong.backend.game.GameResultRepository;
 import com.codexpong.backend.game.GameResultService;
 import com.codexpong.backend.game.domain.MatchType;
 import com.codexpong.backend.user.domain.User;
 import com.codexpong.backend.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,12 +44,18 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * [통합 테스트] backend/src/test/java/com/codexpong/backend/async/OutboxRelayIntegrationTest.java
  * 설명:
  *   - 아웃박스와 소비자/릴레이의 트랜잭션 결합, 멱등성, DLQ 경로를 검증한다.
+ *   - 한 소비자가 실패해도 다른 소비자 커서는 앞으로 가고, DLQ에 실패한 소비자 이름이 남는지 검증한다.
+ *   - DLQ 재전달이 커서를 되감지 않고 포기한 소비자에게 그 이벤트 하나만 다시 보내는지 검증한다.
+ *   - 여러 릴레이 워커가 동시에 커서를 선점해도 소비자마다 이벤트를 정확히 한 번 처리하는지 검증한다.
+ *   - 아웃박스 기록 트랜잭션이 커밋될 때만 릴레이를 한 번 깨우고, 커서가 아직 커밋 전일 수 있는 id 틈 앞에서 기다리는지 검증한다.
+ *   - 커서가 건너뛴 id에 늦게 커밋된 이벤트도 소비자마다 전달하고, 모두 전달하기 전에는 PUBLISHED로 표시하지 않는지 검증한다.
  */
 @SpringBootTest
 @ActiveProfiles("test")
@@ -76,11 +96,23 @@ class OutboxRelayIntegrationTest {
     private AbuseSignalRepository abuseSignalRepository;
 
     @Autowired
-    private EventConsumptionRepository consumptionRepository;
+    private ConsumerCursorRepository cursorRepository;
+
+    @Autowired
+    private ConsumerGapRepository gapRepository;
 
     @Autowired
     private TransactionTemplate transactionTemplate;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private OutboxWakeup outboxWakeup;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @DynamicPropertySource
     static void overrideRelayAttempts(DynamicPropertyRegistry registry) {
         registry.add("outbox.relay.max-attempts", () -> 2);
@@ -88,12 +120,14 @@ class OutboxRelayIntegrationTest {
 
     @BeforeEach
     void setUp() {
+        FailingTestConsumerConfig.RECOVERED.set(false);
+        FailingTestConsumerConfig.CONSUMED.clear();
         notificationLogRepository.deleteAll();
         rankingProjectionRepository.deleteAll();
         statsRepository.deleteAll();
         abuseSignalRepository.deleteAll();
-        consumptionRepository.deleteAll();
         deadLetterEventRepository.deleteAll();
+        gapRepository.deleteAll();
         outboxEventRepository.deleteAll();
         gameResultRepository.deleteAll();
         userRepository.deleteAll();
@@ -150,6 +184,11 @@ class OutboxRelayIntegrationTest {
         OutboxEvent firstAttempt = outboxEventRepository.findAll().getFirst();
         assertThat(firstAttempt.getAttempts()).isEqualTo(1);
         assertThat(firstAttempt.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(statsRepository.findByUserId(playerA.getId())).isPresent();
+        assertThat(cursorRepository.findById("stats").orElseThrow().getLastEventId())
+                .isEqualTo(firstAttempt.getId());
+        assertThat(cursorRepository.findById("test-failing").orElseThrow().getLastEventId())
+                .isLessThan(firstAttempt.getId());
 
         int maxAttempts = outboxRelayProperties.getMaxAttempts();
         for (int i = 1; i < maxAttempts; i++) {
@@ -158,7 +197,171 @@ class OutboxRelayIntegrationTest {
 
         OutboxEvent failed = outboxEventRepository.findById(firstAttempt.getId()).orElseThrow();
         assertThat(failed.getAttempts()).isGreaterThanOrEqualTo(maxAttempts);
-        assertThat(failed.getStatus()).isEqualTo(OutboxStatus.FAILED);
-        assertThat(deadLetterEventRepository.findAll()).hasSize(1);
+        // 실패는 실패한 소비자의 DLQ 행에만 남는다. 다른 소비자가 모두 받았으므로 이벤트는 발행 완료다.
+        assertThat(failed.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+        assertThat(deadLetterEventRepository.findAll()).hasSize(1)
+                .extracting(DeadLetterEvent::getConsumerName).containsExactly("test-failing");
+        assertThat(cursorRepository.findById("test-failing").orElseThrow().getLastEventId())
+                .isEqualTo(firstAttempt.getId());
+    }
+
+    @Test
+    void redeliversDeadLetterToItsConsumerWithoutRewindingCursor() {
+        User playerA = userRepository.save(new User("alice", "pw", "Alice", ""));
+        User playerB = userRepository.save(new User("bob", "pw", "Bob", ""));
+        gameResultService.recordResult("room-redeliver-dlq", playerA, playerB, 5, 3, MatchType.NORMAL,
+                LocalDateTime.now().minusMinutes(2), LocalDateTime.now());
+        for (int i = 0; i < outboxRelayProperties.getMaxAttempts(); i++) {
+            outboxRelayService.publishPending();
+        }
+        gameResultService.recordResult("room-redeliver-after", playerA, playerB, 5, 3, MatchType.NORMAL,
+                LocalDateTime.now().minusMinutes(2), LocalDateTime.now());
+        outboxRelayService.publishPending();
+        DeadLetterEvent deadLetter = deadLetterEventRepository.findAll().getFirst();
+        long cursorBefore = cursorRepository.findById("test-failing").orElseThrow().getLastEventId();
+        assertThat(FailingTestConsumerConfig.CONSUMED).hasSize(1);
+
+        FailingTestConsumerConfig.RECOVERED.set(true);
+        outboxRelayService.redeliverDeadLetter(deadLetter.getId());
+        outboxRelayService.publishPending();
+        outboxRelayService.publishPending();
+
+        assertThat(FailingTestConsumerConfig.CONSUMED).hasSize(2).endsWith(deadLetter.getEventId());
+        assertThat(cursorRepository.findById("test-failing").orElseThrow().getLastEventId()).isEqualTo(cursorBefore);
+        assertThat(statsRepository.findByUserId(playerA.getId()).orElseThrow().getWins()).isEqualTo(2);
+        assertThat(deadLetterEventRepository.findAll()).isEmpty();
+        assertThat(gapRepository.findAll()).isEmpty();
+        assertThat(outboxEventRepository.findAll())
+                .allSatisfy(event -> assertThat(event.getStatus()).isEqualTo(OutboxStatus.PUBLISHED));
+    }
+
+    @Test
+    void concurrentRelayWorkersDeliverEachEventOncePerConsumer() throws Exception {
+        User playerA = userRepository.save(new User("alice", "pw", "Alice", ""));
+        User playerB = userRepository.save(new User("bob", "pw", "Bob", ""));
+        int total = 30;
+        for (int i = 0; i < total; i++) {
+            gameResultService.recordResult("room-concurrency-" + i, playerA, playerB, 5, 3, MatchType.NORMAL,
+                    LocalDateTime.now().minusMinutes(2), LocalDateTime.now());
+        }
+        Timer lag = meterRegistry.get("outbox.relay.lag").tag("consumer", "stats").timer();
+        long lagBefore = lag.count();
+        int defaultBatchSize = outboxRelayProperties.getBatchSize();
+        outboxRelayProperties.setBatchSize(4);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                workers.add(pool.submit(() -> {
+                    while (outboxEventRepository.countByStatus(OutboxStatus.PENDING) > 0
+                            && System.nanoTime() < deadline) {
+                        outboxRelayService.publishPending();
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+            outboxRelayProperties.setBatchSize(defaultBatchSize);
+        }
+
+        assertThat(outboxEventRepository.findAll()).hasSize(total)
+                .allSatisfy(event -> assertThat(event.getStatus()).isEqualTo(OutboxStatus.PUBLISHED));
+        assertThat(statsRepository.findByUserId(playerA.getId()).orElseThrow().getWins()).isEqualTo(total);
+        assertThat(statsRepository.findByUserId(playerB.getId()).orElseThrow().getLosses()).isEqualTo(total);
+        assertThat(notificationLogRepository.findAll()).hasSize(total * 2);
+        assertThat(cursorRepository.findAll()).allSatisfy(cursor -> assertThat(cursor.getLeaseOwner()).isNull());
+        assertThat(lag.count()).isEqualTo(lagBefore + total);
+        assertThat(meterRegistry.get("outbox.consumer.backlog").tag("consumer", "stats").gauge().value()).isZero();
+        assertThat(meterRegistry.get("outbox.backlog").gauge().value()).isZero();
+    }
+
+    @Test
+    void wakesRelayOnceAfterCommitAndNotOnRollback() {
+        User playerA = userRepository.save(new User("alice", "pw", "Alice", ""));
+        User playerB = userRepository.save(new User("bob", "pw", "Bob", ""));
+        AtomicInteger wakeups = new AtomicInteger();
+        Runnable listener = wakeups::incrementAndGet;
+        outboxWakeup.addListener(listener);
+        try {
+            assertThrows(RuntimeException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+                gameResultService.recordResult("room-wake-rollback", playerA, playerB, 5, 3, MatchType.RANKED,
+                        LocalDateTime.now().minusMinutes(5), LocalDateTime.now());
+                throw new RuntimeException("강제 롤백");
+            }));
+            assertThat(wakeups.get()).isZero();
+
+            transactionTemplate.executeWithoutResult(status -> {
+                gameResultService.recordResult("room-wake-1", playerA, playerB, 5, 3, MatchType.RANKED,
+                        LocalDateTime.now().minusMinutes(5), LocalDateTime.now());
+                gameResultService.recordResult("room-wake-2", playerA, playerB, 5, 3, MatchType.RANKED,
+                        LocalDateTime.now().minusMinutes(5), LocalDateTime.now());
+                assertThat(wakeups.get()).isZero();
+            });
+            assertThat(wakeups.get()).isEqualTo(1);
+        } finally {
+            outboxWakeup.removeListener(listener);
+        }
+    }
+
+    @Test
+    void holdsCursorBeforeIdGapThenDeliversLateCommitToEveryConsumer() {
+        User playerA = userRepository.save(new User("alice", "pw", "Alice", ""));
+        User playerB = userRepository.save(new User("bob", "pw", "Bob", ""));
+        for (int i = 0; i < 3; i++) {
+            // 가운데 경기만 실패 소비자가 한 번 거절한다.
+            String roomId = i == 1 ? "room-gap-dlq" : "room-gap-" + i;
+            gameResultService.recordResult(roomId, playerA, playerB, 5, 3, MatchType.RANKED,
+                    LocalDateTime.now().minusMinutes(5), LocalDateTime.now());
+        }
+        List<OutboxEvent> events = new ArrayList<>(outboxEventRepository.findAll());
+        events.sort(Comparator.comparing(OutboxEvent::getId));
+        jdbcTemplate.update("update outbox_consumer_cursors set last_event_id = ?", events.getFirst().getId() - 1);
+        // 가운데 id를 아직 커밋 전인 트랜잭션이 잡고 있는 것처럼 비운다.
+        OutboxEvent late = events.get(1);
+        outboxEventRepository.deleteById(late.getId());
+        long defaultDelay = outboxRelayProperties.getVisibilityDelayMillis();
+        try {
+            outboxRelayProperties.setVisibilityDelayMillis(60_000);
+            outboxRelayService.publishPending();
+            assertThat(statsRepository.findByUserId(playerA.getId()).orElseThrow().getWins()).isEqualTo(1);
+            assertThat(cursorRepository.findById("stats").orElseThrow().getLastEventId())
+                    .isEqualTo(events.getFirst().getId());
+
+            outboxRelayProperties.setVisibilityDelayMillis(0);
+            outboxRelayService.publishPending();
+            assertThat(statsRepository.findByUserId(playerA.getId()).orElseThrow().getWins()).isEqualTo(2);
+            assertThat(cursorRepository.findById("stats").orElseThrow().getLastEventId())
+                    .isEqualTo(events.getLast().getId());
+        } finally {
+            outboxRelayProperties.setVisibilityDelayMillis(defaultDelay);
+        }
+
+        // 커서가 모두 지나간 뒤에 건너뛴 id가 커밋된다.
+        jdbcTemplate.update("insert into outbox_events (id, event_id, type, payload, status, attempts, created_at, "
+                        + "updated_at) values (?, ?, ?, ?, 'PENDING', 0, ?, ?)", late.getId(), late.getEventId(),
+                late.getType(), late.getPayload(), late.getCreatedAt(), late.getUpdatedAt());
+        outboxRelayService.publishPending();
+
+        assertThat(statsRepository.findByUserId(playerA.getId()).orElseThrow().getWins()).isEqualTo(3);
+        assertThat(statsRepository.findByUserId(playerB.getId()).orElseThrow().getLosses()).isEqualTo(3);
+        assertThat(notificationLogRepository.findAll()).hasSize(6);
+        // 실패 소비자가 아직 받지 못했으므로 PUBLISHED가 아니다.
+        assertThat(outboxEventRepository.findById(late.getId()).orElseThrow().getStatus())
+                .isEqualTo(OutboxStatus.PENDING);
+        assertThat(gapRepository.findAll()).extracting(ConsumerGap::getConsumerName)
+                .containsExactly("test-failing");
+
+        outboxRelayService.publishPending();
+
+        assertThat(deadLetterEventRepository.findAll()).extracting(DeadLetterEvent::getConsumerName)
+                .containsExactly("test-failing");
+        assertThat(gapRepository.findAll()).isEmpty();
+        assertThat(statsRepository.findByUserId(playerA.getId()).orElseThrow().getWins()).isEqualTo(3);
+        assertThat(outboxEventRepository.findAll())
+                .allSatisfy(event -> assertThat(event.getStatus()).isEqualTo(OutboxStatus.PUBLISHED));
     }
 }
@@ -0,0 +1,196 @@
+package com.codexpong.backend.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.async.consumer.DomainEventConsumer;
+import com.codexpong.backend.async.event.DomainEvent;
+import com.codexpong.backend.async.outbox.ConsumerCursor;
+import com.codexpong.backend.async.outbox.ConsumerCursorRepository;
+import com.codexpong.backend.async.outbox.DeadLetterEvent;
+import com.codexpong.backend.async.outbox.DeadLetterEventRepository;
+import com.codexpong.backend.async.outbox.OutboxEventRepository;
+import com.codexpong.backend.async.outbox.OutboxPurgeReport;
+import com.codexpong.backend.async.outbox.OutboxPurger;
+import com.codexpong.backend.async.outbox.OutboxRetentionProperties;
+import com.codexpong.backend.async.outbox.OutboxStatus;
+import com.codexpong.backend.common.KstDateTime;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * [통합 테스트] backend/src/test/java/com/codexpong/backend/async/OutboxRetentionTest.java
+ * 설명:
+ *   - 아웃박스/DLQ 테이블에 (status, created_at)·failed_at 인덱스가 만들어지고, 이력이 100배로 늘어도
+ *     릴레이 조회가 읽는 행 수(H2 EXPLAIN ANALYZE scanCount)가 그대로인지 검증한다.
+ *   - 정리 작업이 보존 기간이 지나고 모든 소비자 커서가 지나간 이벤트와 오래된 DLQ 행만 여러 배치에 걸쳐 지우는지 검증한다.
+ *     DLQ 행이 남은 이벤트는 재전달을 위해 남기는지 검증한다.
+ *     없어진 소비자의 커서가 뒤처져 있어도 정리가 멈추지 않는지 검증한다.
+ *   - 커서는 이 테스트가 만든 것만 쓰고 지운다. 공유 DB의 다른 소비자 커서는 건드리지 않는다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OutboxRetentionTest {
+
+    private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+    private static final String CURSOR_NAME = "retention-test";
+    private static final String RETIRED_CURSOR_NAME = "retention-retired";
+
+    @Autowired
+    private OutboxRetentionProperties properties;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private DeadLetterEventRepository deadLetterEventRepository;
+
+    @Autowired
+    private ConsumerCursorRepository cursorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private OutboxPurger outboxPurger;
+    private int defaultBatchSize;
+
+    @BeforeEach
+    void setUp() {
+        outboxPurger = new OutboxPurger(outboxEventRepository, deadLetterEventRepository, cursorRepository,
+                List.of(new CursorOnlyConsumer(CURSOR_NAME)), properties);
+        defaultBatchSize = properties.getBatchSize();
+        deadLetterEventRepository.deleteAll();
+        outboxEventRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        properties.setBatchSize(defaultBatchSize);
+        cursorRepository.deleteAllById(List.of(CURSOR_NAME, RETIRED_CURSOR_NAME));
+        deadLetterEventRepository.deleteAll();
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("이력이 100배로 늘어도 릴레이 조회가 읽는 행 수는 그대로다")
+    void relayQueriesStayFlatAsHistoryGrows() {
+        assertThat(indexColumns("OUTBOX_EVENTS")).containsEntry("IDX_OUTBOX_EVENTS_STATUS_CREATED",
+                List.of("STATUS", "CREATED_AT"));
+        assertThat(indexColumns("DEAD_LETTER_EVENTS"))
+                .containsEntry("IDX_DEAD_LETTER_EVENTS_EVENT_CONSUMER", List.of("EVENT_ID", "CONSUMER_NAME"))
+                .containsEntry("IDX_DEAD_LETTER_EVENTS_FAILED_AT", List.of("FAILED_AT"));
+
+        LocalDateTime old = KstDateTime.now().minusDays(30);
+        insertEvents("h1-", 200, OutboxStatus.PUBLISHED, old);
+        List<Long> small = relayScanCounts();
+        insertEvents("h2-", 20_000, OutboxStatus.PUBLISHED, old);
+        List<Long> large = relayScanCounts();
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지나고 모든 소비자 커서가 지나간 이벤트와 오래된 DLQ 행만 배치로 나눠 지운다")
+    void purgesExpiredRowsBehindEveryCursorInBatches() {
+        properties.setBatchSize(50);
+        LocalDateTime now = KstDateTime.now();
+        // JdbcTemplate으로 넣은 시각은 세션 시간대 차이만큼 밀릴 수 있어 보존 기간 경계에서 하루씩 떨어뜨린다.
+        LocalDateTime pastPublishedRetention = now.minusHours(properties.getPublishedMaxAgeHours() + 24);
+        LocalDateTime pastDeadLetterRetention = now.minusHours(properties.getDeadLetterMaxAgeHours() + 24);
+        insertEvents("old-", 120, OutboxStatus.PUBLISHED, pastPublishedRetention);
+        insertEvents("recent-", 10, OutboxStatus.PUBLISHED, now);
+        insertEvents("failed-old-", 3, OutboxStatus.FAILED, pastDeadLetterRetention);
+        insertEvents("failed-new-", 2, OutboxStatus.FAILED, pastPublishedRetention);
+        long through = outboxEventRepository.findMaxId();
+        cursorRepository.save(new ConsumerCursor(CURSOR_NAME, through));
+        cursorRepository.save(new ConsumerCursor(RETIRED_CURSOR_NAME, 0));
+        insertEvents("ahead-", 4, OutboxStatus.FAILED, pastDeadLetterRetention);
+        insertEvents("pending-", 5, OutboxStatus.PENDING, pastDeadLetterRetention);
+        List<DeadLetterEvent> deadLetters = deadLetterEventRepository.saveAll(List.of(
+                new DeadLetterEvent("dlq-old-1", "MATCH_RESULT_RECORDED", "stats", "{}", 3, "boom"),
+                new DeadLetterEvent("dlq-old-2", "MATCH_RESULT_RECORDED", "ranking", "{}", 3, "boom"),
+                new DeadLetterEvent("dlq-new", "MATCH_RESULT_RECORDED", "stats", "{}", 3, "boom"),
+                // 재전달할 수 있도록 DLQ 행이 남은 이벤트는 보존 기간이 지나도 지우지 않는다.
+                new DeadLetterEvent("old-1", "MATCH_RESULT_RECORDED", "ranking", "{}", 3, "boom")));
+        jdbcTemplate.update("update dead_letter_events set failed_at = ? where id in (?, ?)", pastDeadLetterRetention,
+                deadLetters.get(0).getId(), deadLetters.get(1).getId());
+
+        OutboxPurgeReport report = outboxPurger.purge();
+
+        assertThat(report).isEqualTo(new OutboxPurgeReport(119, 3, 2));
+        assertThat(outboxEventRepository.countByStatus(OutboxStatus.PUBLISHED)).isEqualTo(11);
+        assertThat(outboxEventRepository.countByStatus(OutboxStatus.FAILED)).isEqualTo(6);
+        assertThat(outboxEventRepository.countByStatus(OutboxStatus.PENDING)).isEqualTo(5);
+        assertThat(deadLetterEventRepository.findAll()).extracting(DeadLetterEvent::getEventId)
+                .containsExactlyInAnyOrder("dlq-new", "old-1");
+        assertThat(outboxPurger.purge()).isEqualTo(new OutboxPurgeReport(0, 0, 0));
+    }
+
+    /**
+     * 설명:
+     *   - 커서 뒤 읽기, 미발행 수, 가장 오래된 미발행 id, 발행 표시 대상 조회를 릴레이와 같은 모양으로 실행한다.
+     *     커서는 이력 끝에 두고, 그 뒤에 미발행 이벤트 5건을 둔다.
+     */
+    private List<Long> relayScanCounts() {
+        long position = outboxEventRepository.findMaxId();
+        insertEvents("tail-" + position + "-", 5, OutboxStatus.PENDING, KstDateTime.now());
+        List<Long> counts = List.of(
+                scanCount("select * from outbox_events where id > " + position + " order by id limit 100"),
+                scanCount("select count(*) from outbox_events where status = 'PENDING'"),
+                scanCount("select min(id) from outbox_events where status = 'PENDING'"),
+                scanCount("select id from outbox_events where id <= " + (position + 5) + " and status = 'PENDING'"));
+        jdbcTemplate.update("update outbox_events set status = 'PUBLISHED' where status = 'PENDING'");
+        return counts;
+    }
+
+    private long scanCount(String sql) {
+        String plan = jdbcTemplate.queryForObject("explain analyze " + sql, String.class);
+        Matcher matcher = SCAN_COUNT.matcher(plan);
+        long total = 0;
+        while (matcher.find()) {
+            total += Long.parseLong(matcher.group(1));
+        }
+        return total;
+    }
+
+    private Map<String, List<String>> indexColumns(String table) {
+        return jdbcTemplate.queryForList("select index_name, column_name from information_schema.index_columns "
+                        + "where table_name = ? order by index_name, ordinal_position", table).stream()
+                .collect(Collectors.groupingBy(row -> (String) row.get("INDEX_NAME"),
+                        Collectors.mapping(row -> (String) row.get("COLUMN_NAME"),
+                                Collectors.toList())));
+    }
+
+    private void insertEvents(String prefix, int count, OutboxStatus status, LocalDateTime createdAt) {
+        jdbcTemplate.update("insert into outbox_events (event_id, type, payload, status, attempts, created_at, "
+                        + "updated_at) select ? || x, 'MATCH_RESULT_RECORDED', '{}', ?, 0, ?, ? from system_range(1, ?)",
+                prefix, status.name(), createdAt, createdAt, count);
+    }
+
+    /**
+     * 정리 작업이 커서를 읽을 소비자 이름만 제공한다. 이벤트를 받지는 않는다.
+     */
+    private record CursorOnlyConsumer(String name) implements DomainEventConsumer {
+
+        @Override
+        public boolean supports(String eventType) {
+            return false;
+        }
+
+        @Override
+        public void consume(DomainEvent event) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
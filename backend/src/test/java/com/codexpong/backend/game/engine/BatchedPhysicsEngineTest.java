@@ -0,0 +1,107 @@
+package com.codexpong.backend.game.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.MutableGameState;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/engine/BatchedPhysicsEngineTest.java
+ * 설명:
+ *   - 배치 엔진이 GameEngineTest와 같은 동작을 하고, 블록 단위 진행 결과가 방별 GameEngine과 비트 단위로 같은지 검증한다.
+ *   - 슬롯 할당/해제와 비활성 슬롯 보존을 확인한다.
+ * 버전: v1.2.0
+ */
+class BatchedPhysicsEngineTest {
+
+    private static final PaddleInput[] INPUTS = PaddleInput.values();
+
+    @Test
+    @DisplayName("공이 이동하고 점수가 누적된다")
+    void ballMovesAndScores() {
+        BatchedPhysicsEngine.Slot slot = new BatchedPhysicsEngine(4).allocate();
+
+        slot.step(0.1);
+        assertThat(slot.forceSnapshot().ballX()).isNotEqualTo(0);
+
+        slot.step(2);
+        GameSnapshot scored = slot.forceSnapshot();
+        assertThat(scored.leftScore() + scored.rightScore()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("블록 진행 결과는 방별 GameEngine과 비트 단위로 같다")
+    void blockStepMatchesObjectEngines() {
+        int rooms = 200;
+        BatchedPhysicsEngine batch = new BatchedPhysicsEngine(rooms);
+        List<GameEngine> engines = new ArrayList<>();
+        List<BatchedPhysicsEngine.Slot> slots = new ArrayList<>();
+        for (int i = 0; i < rooms; i++) {
+            engines.add(new GameEngine());
+            BatchedPhysicsEngine.Slot slot = batch.allocate();
+            slot.activate();
+            slots.add(slot);
+        }
+        Random random = new Random(42);
+        MutableGameState expected = new MutableGameState();
+        MutableGameState actual = new MutableGameState();
+
+        for (int tick = 0; tick < 3_000; tick++) {
+            for (int i = 0; i < rooms; i++) {
+                PaddleInput left = INPUTS[random.nextInt(INPUTS.length)];
+                PaddleInput right = INPUTS[random.nextInt(INPUTS.length)];
+                if (!engines.get(i).isFinished()) {
+                    engines.get(i).tick(0.05, left, right, expected);
+                }
+                slots.get(i).stage(left, right);
+            }
+            batch.step(0.05);
+            for (int i = 0; i < rooms; i++) {
+                engines.get(i).copyInto(expected);
+                slots.get(i).copyInto(actual);
+                GameSnapshot want = withoutRoomId(expected);
+                GameSnapshot got = withoutRoomId(actual);
+                if (!got.equals(want)) {
+                    assertThat(got).as("tick=%d room=%d", tick, i).isEqualTo(want);
+                }
+            }
+        }
+        assertThat(slots).anySatisfy(slot -> assertThat(slot.isFinished()).isTrue());
+    }
+
+    @Test
+    @DisplayName("활성화하지 않은 슬롯은 블록 진행에서 움직이지 않고, 해제한 슬롯은 재사용된다")
+    void inactiveSlotsStayPutAndSlotsAreReused() {
+        BatchedPhysicsEngine batch = new BatchedPhysicsEngine(2);
+        BatchedPhysicsEngine.Slot waiting = batch.allocate();
+        BatchedPhysicsEngine.Slot playing = batch.allocate();
+        playing.activate();
+        GameSnapshot initial = waiting.forceSnapshot();
+
+        waiting.stage(PaddleInput.UP, PaddleInput.DOWN);
+        batch.step(0.05);
+
+        assertThat(waiting.forceSnapshot()).isEqualTo(initial);
+        assertThat(playing.forceSnapshot().ballX()).isNotEqualTo(initial.ballX());
+        assertThat(batch.allocate()).isNull();
+
+        playing.release();
+        assertThat(batch.freeSlotCount()).isEqualTo(1);
+        BatchedPhysicsEngine.Slot reused = batch.allocate();
+        assertThat(reused).isNotNull();
+        assertThat(reused.forceSnapshot().ballX()).isEqualTo(initial.ballX());
+        assertThat(reused.forceSnapshot().roomId()).isNotEqualTo(initial.roomId());
+    }
+
+    private static GameSnapshot withoutRoomId(MutableGameState state) {
+        return new GameSnapshot(null, state.ballX(), state.ballY(), state.ballVelocityX(), state.ballVelocityY(),
+                state.leftPaddleY(), state.rightPaddleY(), state.leftScore(), state.rightScore(),
+                state.targetScore(), state.finished());
+    }
+}
@@ -0,0 +1,90 @@
+package com.codexpong.backend.game.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/engine/DeterministicEngineTest.java
+ * 설명:
+ *   - 시드와 틱 번호별 입력 변화만으로 경기 전체가 같은 스냅샷 순서로 재현되는지 검증한다.
+ *   - 시드가 다르면 서브가 달라지고, step 인자(초)가 결과에 영향을 주지 않는지 확인한다.
+ * 버전: v1.2.0
+ */
+class DeterministicEngineTest {
+
+    private static final long TICK_MILLIS = 50;
+    private static final int MAX_TICKS = 200_000;
+
+    @Test
+    @DisplayName("시드와 입력 변화 기록만으로 경기 전체가 그대로 재현된다")
+    void matchIsReproducedFromSeedAndInputChanges() {
+        DeterministicEngine live = new DeterministicEngine("room", 42L, TICK_MILLIS);
+        Random players = new Random(7);
+        TreeMap<Long, PaddleInput[]> changes = new TreeMap<>();
+        List<GameSnapshot> recorded = new ArrayList<>();
+        PaddleInput[] current = {PaddleInput.STAY, PaddleInput.STAY};
+        while (!live.isFinished() && live.tickIndex() < MAX_TICKS) {
+            if (players.nextInt(8) == 0) {
+                current = new PaddleInput[] {randomInput(players), randomInput(players)};
+                changes.put(live.tickIndex(), current);
+            }
+            live.stage(current[0], current[1]);
+            live.step(TICK_MILLIS / 1000.0);
+            recorded.add(live.forceSnapshot());
+        }
+        assertThat(live.isFinished()).isTrue();
+
+        DeterministicEngine replay = new DeterministicEngine("room", live.seed(), live.tickMillis());
+        PaddleInput[] replayInput = {PaddleInput.STAY, PaddleInput.STAY};
+        for (GameSnapshot expected : recorded) {
+            PaddleInput[] changed = changes.get(replay.tickIndex());
+            replayInput = changed == null ? replayInput : changed;
+            replay.stage(replayInput[0], replayInput[1]);
+            replay.step();
+            assertThat(replay.forceSnapshot()).isEqualTo(expected);
+        }
+        assertThat(replay.isFinished()).isTrue();
+        assertThat(changes.size()).isLessThan(recorded.size() / 4);
+    }
+
+    @Test
+    @DisplayName("시드가 다르면 서브 궤적이 달라지고 같으면 같다")
+    void seedControlsServe() {
+        DeterministicEngine first = new DeterministicEngine("room", 1L, TICK_MILLIS);
+        DeterministicEngine same = new DeterministicEngine("room", 1L, TICK_MILLIS);
+        DeterministicEngine other = new DeterministicEngine("room", 2L, TICK_MILLIS);
+
+        assertThat(first.forceSnapshot()).isEqualTo(same.forceSnapshot());
+        assertThat(first.forceSnapshot().ballVelocityY()).isNotEqualTo(other.forceSnapshot().ballVelocityY());
+        assertThat(first.forceSnapshot().ballVelocityX()).isEqualTo(GameEngine.BALL_SPEED);
+    }
+
+    @Test
+    @DisplayName("시간은 틱 번호로만 흐르며 step 인자는 결과에 영향을 주지 않는다")
+    void stepIgnoresWallClockSeconds() {
+        DeterministicEngine regular = new DeterministicEngine("room", 9L, TICK_MILLIS);
+        DeterministicEngine jittered = new DeterministicEngine("room", 9L, TICK_MILLIS);
+        for (int i = 0; i < 500; i++) {
+            regular.step(0.05);
+            jittered.step(i % 2 == 0 ? 0.047 : 0.061);
+            GameSnapshot snapshot = regular.forceSnapshot();
+            assertThat(jittered.forceSnapshot()).isEqualTo(snapshot);
+            assertThat(snapshot.ballY()).isBetween(0.0, GameEngine.COURT_HEIGHT);
+        }
+        assertThat(regular.tickIndex()).isEqualTo(500);
+        assertThatThrownBy(() -> new DeterministicEngine("room", 1L, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static PaddleInput randomInput(Random random) {
+        return PaddleInput.values()[random.nextInt(PaddleInput.values().length)];
+    }
+}
@@ -0,0 +1,72 @@
+package com.codexpong.backend.game.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.MutableGameState;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/engine/GameEngineAllocationTest.java
+ * 설명:
+ *   - 호출자 버퍼를 쓰는 tick이 기존 스냅샷 반환 tick과 같은 상태를 만들고, 예열 후 객체를 할당하지 않는지 검증한다.
+ *   - 정밀한 B/op 수치는 src/jmh의 GameEngineTickBenchmark(-prof gc)로 확인한다.
+ * 버전: v1.2.0
+ */
+class GameEngineAllocationTest {
+
+    private static final int TICKS = 200_000;
+
+    @Test
+    @DisplayName("버퍼 tick과 스냅샷 tick은 같은 상태를 만든다")
+    void bufferTickMatchesSnapshotTick() {
+        GameEngine snapshotEngine = new GameEngine();
+        GameEngine bufferEngine = new GameEngine();
+        MutableGameState buffer = new MutableGameState();
+
+        for (int tick = 0; tick < 2_000; tick++) {
+            PaddleInput left = tick % 40 < 20 ? PaddleInput.UP : PaddleInput.DOWN;
+            PaddleInput right = tick % 30 < 10 ? PaddleInput.STAY : PaddleInput.DOWN;
+            GameSnapshot expected = snapshotEngine.tick(Duration.ofMillis(50), left, right);
+            bufferEngine.tick(0.05, left, right, buffer);
+
+            assertThat(buffer.toSnapshot()).usingRecursiveComparison().ignoringFields("roomId").isEqualTo(expected);
+        }
+        assertThat(bufferEngine.isFinished()).isEqualTo(snapshotEngine.forceSnapshot().finished());
+    }
+
+    @Test
+    @DisplayName("예열 후 버퍼 tick은 할당하지 않는다")
+    void bufferTickDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        GameEngine engine = new GameEngine();
+        MutableGameState buffer = new MutableGameState();
+        runRally(engine, buffer, TICKS);
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        runRally(engine, buffer, TICKS);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertThat(buffer.finished()).isFalse();
+        assertThat(allocated).isLessThan(1_024);
+    }
+
+    private static void runRally(GameEngine engine, MutableGameState buffer, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            engine.tick(0.05, track(buffer.leftPaddleY(), buffer.ballY()),
+                    track(buffer.rightPaddleY(), buffer.ballY()), buffer);
+        }
+    }
+
+    private static PaddleInput track(double paddleY, double ballY) {
+        double center = paddleY + 40;
+        if (ballY < center - 10) {
+            return PaddleInput.UP;
+        }
+        return ballY > center + 10 ? PaddleInput.DOWN : PaddleInput.STAY;
+    }
+}
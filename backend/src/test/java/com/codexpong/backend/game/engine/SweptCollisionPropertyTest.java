@@ -0,0 +1,161 @@
+package com.codexpong.backend.game.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import java.time.Duration;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/engine/SweptCollisionPropertyTest.java
+ * 설명:
+ *   - 고정 시드로 만든 무작위 공 상태 500개에 대해 SweptCollision 한 스텝 결과를 아주 잘게 나눈 참조 시뮬레이션과 비교한다.
+ *   - 패들 모서리를 스치는 경우는 참조 시뮬레이션의 판정 해상도 밖이라 제외한다.
+ *   - 10Hz 틱과 고속 공에서도 벽/패들을 통과하지 않는지, 틱 간격이 달라도 경기 결과가 같은지 확인한다.
+ * 버전: v1.2.0
+ */
+class SweptCollisionPropertyTest {
+
+    private static final long SEED = 20_261_018L;
+    private static final int CASES = 500;
+    private static final int REFERENCE_SUBSTEPS = 2_000;
+    private static final double W = GameEngine.COURT_WIDTH;
+    private static final double H = GameEngine.COURT_HEIGHT;
+    private static final double INSET = GameEngine.PADDLE_INSET;
+    private static final double PADDLE = GameEngine.PADDLE_HEIGHT;
+
+    static Stream<double[]> randomCases() {
+        Random random = new Random(SEED);
+        return IntStream.range(0, CASES).mapToObj(i -> {
+            double speed = 200 + random.nextDouble() * 3_800;
+            double angle = random.nextDouble() * 2 * Math.PI;
+            return new double[] {
+                    1 + random.nextDouble() * (W - 2),
+                    random.nextDouble() * H,
+                    speed * Math.cos(angle),
+                    speed * Math.sin(angle),
+                    random.nextDouble() * (H - PADDLE),
+                    random.nextDouble() * (H - PADDLE),
+                    random.nextBoolean() ? 0.05 : 0.1
+            };
+        });
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomCases")
+    @DisplayName("한 스텝 결과가 잘게 나눈 참조 시뮬레이션과 일치한다")
+    void matchesFineStepReference(double[] input) {
+        double[] expected = {input[0], input[1], input[2], input[3]};
+        Reference reference = simulateReference(expected, input[4], input[5], input[6]);
+        if (reference.grazed) {
+            return;
+        }
+        double[] actual = {input[0], input[1], input[2], input[3]};
+
+        int outcome = SweptCollision.advance(actual, input[6], W, H, INSET, PADDLE, input[4], input[5]);
+
+        assertThat(outcome).isEqualTo(reference.outcome);
+        if (outcome == SweptCollision.NO_GOAL) {
+            assertThat(actual[SweptCollision.X]).isCloseTo(expected[SweptCollision.X], within(1e-6));
+            assertThat(actual[SweptCollision.Y]).isCloseTo(expected[SweptCollision.Y], within(1e-6));
+            assertThat(actual[SweptCollision.VX]).isEqualTo(expected[SweptCollision.VX]);
+            assertThat(actual[SweptCollision.VY]).isEqualTo(expected[SweptCollision.VY]);
+            assertThat(actual[SweptCollision.Y]).isBetween(0.0, H);
+        }
+    }
+
+    @Test
+    @DisplayName("10Hz 틱에서 고속 공도 패들을 통과하지 않고 한 틱에 여러 번 튕긴다")
+    void fastBallDoesNotTunnelAtTenHertz() {
+        double[] ball = {100, 240, -3_000, 0};
+
+        int outcome = SweptCollision.advance(ball, 0.1, W, H, INSET, PADDLE, 200, 200);
+
+        assertThat(outcome).isEqualTo(SweptCollision.NO_GOAL);
+        assertThat(ball[SweptCollision.X]).isCloseTo(280, within(1e-9));
+        assertThat(ball[SweptCollision.VX]).isEqualTo(3_000);
+
+        double[] zigzag = {400, 240, 0, 7_200};
+        SweptCollision.advance(zigzag, 0.1, W, H, INSET, PADDLE, 200, 200);
+        assertThat(zigzag[SweptCollision.Y]).isCloseTo(0, within(1e-9));
+        assertThat(zigzag[SweptCollision.VY]).isEqualTo(7_200);
+    }
+
+    @Test
+    @DisplayName("패들이 멈춰 있으면 틱 간격이 달라도 같은 점수 순서로 경기가 끝난다")
+    void tickRateDoesNotChangeOutcome() {
+        assertThat(playToEnd(Duration.ofMillis(100))).isEqualTo(playToEnd(Duration.ofMillis(10)));
+    }
+
+    private static String playToEnd(Duration tick) {
+        GameEngine engine = new GameEngine();
+        StringBuilder history = new StringBuilder();
+        int total = 0;
+        GameSnapshot snapshot = engine.forceSnapshot();
+        while (!snapshot.finished()) {
+            snapshot = engine.tick(tick, PaddleInput.STAY, PaddleInput.STAY);
+            if (snapshot.leftScore() + snapshot.rightScore() != total) {
+                total = snapshot.leftScore() + snapshot.rightScore();
+                history.append(snapshot.leftScore()).append(':').append(snapshot.rightScore()).append(' ');
+            }
+        }
+        return history.toString();
+    }
+
+    /**
+     * 벽은 거울 반사로, 패들은 작은 서브스텝마다 면 통과 여부로 판정하는 참조 구현.
+     */
+    private static Reference simulateReference(double[] ball, double leftPaddleY, double rightPaddleY,
+            double seconds) {
+        double dt = seconds / REFERENCE_SUBSTEPS;
+        double margin = Math.hypot(ball[2], ball[3]) * dt * 2;
+        boolean grazed = false;
+        for (int step = 0; step < REFERENCE_SUBSTEPS; step++) {
+            double previousX = ball[0];
+            ball[0] += ball[2] * dt;
+            ball[1] += ball[3] * dt;
+            if (ball[1] < 0) {
+                ball[1] = -ball[1];
+                ball[3] = -ball[3];
+            } else if (ball[1] > H) {
+                ball[1] = 2 * H - ball[1];
+                ball[3] = -ball[3];
+            }
+            if (ball[2] < 0 && previousX >= INSET && ball[0] < INSET) {
+                grazed |= nearEdge(ball[1], leftPaddleY, margin);
+                if (ball[1] >= leftPaddleY && ball[1] <= leftPaddleY + PADDLE) {
+                    ball[0] = 2 * INSET - ball[0];
+                    ball[2] = -ball[2];
+                }
+            } else if (ball[2] > 0 && previousX <= W - INSET && ball[0] > W - INSET) {
+                grazed |= nearEdge(ball[1], rightPaddleY, margin);
+                if (ball[1] >= rightPaddleY && ball[1] <= rightPaddleY + PADDLE) {
+                    ball[0] = 2 * (W - INSET) - ball[0];
+                    ball[2] = -ball[2];
+                }
+            }
+            if (ball[0] < 0) {
+                return new Reference(SweptCollision.RIGHT_SCORED, grazed);
+            }
+            if (ball[0] > W) {
+                return new Reference(SweptCollision.LEFT_SCORED, grazed);
+            }
+        }
+        return new Reference(SweptCollision.NO_GOAL, grazed);
+    }
+
+    private static boolean nearEdge(double y, double paddleY, double margin) {
+        return Math.abs(y - paddleY) < margin || Math.abs(y - paddleY - PADDLE) < margin;
+    }
+
+    private record Reference(int outcome, boolean grazed) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.codexpong.backend.game.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/protocol/BinaryStateFrameTest.java
+ * 설명:
+ *   - 바이너리 STATE 프레임의 고정 레이아웃(little-endian)과 왕복 인코딩을 검증한다.
+ * 버전: v1.2.0
+ */
+class BinaryStateFrameTest {
+
+    @Test
+    @DisplayName("스냅샷은 68바이트 little-endian 프레임으로 왕복 변환된다")
+    void roundTrip() {
+        GameSnapshot snapshot = new GameSnapshot("room-1", 400.5, 240.25, -280, 140, 200, 180.75, 3, 4, 5, true);
+
+        byte[] frame = BinaryStateFrame.encode(snapshot, 7);
+
+        assertThat(frame).hasSize(BinaryStateFrame.SIZE);
+        ByteBuffer raw = ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(raw.get(0)).isEqualTo(BinaryStateFrame.TYPE_STATE);
+        assertThat(raw.get(1)).isEqualTo((byte) 1);
+        assertThat(raw.getDouble(4)).isEqualTo(400.5);
+        assertThat(raw.getInt(52)).isEqualTo(3);
+        assertThat(BinaryStateFrame.decode("room-1", ByteBuffer.wrap(frame))).isEqualTo(snapshot);
+        assertThat(BinaryStateFrame.spectatorCount(ByteBuffer.wrap(frame))).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("잘린 프레임은 거부한다")
+    void rejectsTruncatedFrame() {
+        assertThatThrownBy(() -> BinaryStateFrame.decode("room-1", ByteBuffer.allocate(10)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
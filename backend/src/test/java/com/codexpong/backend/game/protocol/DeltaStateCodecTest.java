@@ -0,0 +1,77 @@
+package com.codexpong.backend.game.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/protocol/DeltaStateCodecTest.java
+ * 설명:
+ *   - 키프레임 주기, 양자화 오차 범위, 시퀀스 단절 시 재동기화 동작을 검증한다.
+ * 버전: v1.2.0
+ */
+class DeltaStateCodecTest {
+
+    private static final double PRECISION = 0.01;
+
+    @Test
+    @DisplayName("키프레임 이후 델타만으로 precision 범위 안에서 상태를 복원한다")
+    void reconstructsWithinPrecision() {
+        DeltaStateEncoder encoder = new DeltaStateEncoder(PRECISION, 4);
+        DeltaStateDecoder decoder = new DeltaStateDecoder("room-1");
+
+        for (int tick = 0; tick < 12; tick++) {
+            GameSnapshot snapshot = snapshot(400 + tick * 14.0123, 240 - tick * 7.0061, tick / 6, 3);
+            byte[] frame = encoder.encode(snapshot, 3);
+
+            assertThat(DeltaStateEncoder.isKeyframe(frame)).isEqualTo(tick % 4 == 0);
+            GameSnapshot decoded = decoder.apply(ByteBuffer.wrap(frame)).orElseThrow();
+            assertThat(decoded.ballX()).isCloseTo(snapshot.ballX(), within(PRECISION));
+            assertThat(decoded.ballY()).isCloseTo(snapshot.ballY(), within(PRECISION));
+            assertThat(decoded.leftScore()).isEqualTo(snapshot.leftScore());
+            assertThat(decoded.targetScore()).isEqualTo(5);
+            assertThat(decoder.spectatorCount()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("변하지 않은 필드는 델타에 싣지 않는다")
+    void unchangedFieldsAreOmitted() {
+        DeltaStateEncoder encoder = new DeltaStateEncoder(PRECISION, 100);
+        encoder.encode(snapshot(400, 240, 0, 0), 0);
+
+        byte[] idle = encoder.encode(snapshot(400, 240, 0, 0), 0);
+        byte[] moving = encoder.encode(snapshot(414, 247, 0, 0), 0);
+
+        assertThat(idle).hasSize(5);
+        assertThat(moving.length).isLessThanOrEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("시퀀스가 끊기면 델타를 버리고, 같은 시퀀스의 즉시 키프레임으로 재동기화한다")
+    void resyncsFromOnDemandKeyframe() {
+        DeltaStateEncoder encoder = new DeltaStateEncoder(PRECISION, 100);
+        DeltaStateDecoder decoder = new DeltaStateDecoder("room-1");
+        decoder.apply(ByteBuffer.wrap(encoder.encode(snapshot(400, 240, 0, 0), 0)));
+        encoder.encode(snapshot(410, 240, 0, 0), 0);
+
+        byte[] afterGap = encoder.encode(snapshot(420, 240, 1, 0), 2);
+        assertThat(decoder.apply(ByteBuffer.wrap(afterGap))).isEmpty();
+
+        Optional<GameSnapshot> resynced = decoder.apply(ByteBuffer.wrap(encoder.keyframe()));
+        assertThat(resynced).isPresent();
+        assertThat(resynced.get().ballX()).isCloseTo(420, within(PRECISION));
+        assertThat(resynced.get().leftScore()).isEqualTo(1);
+        assertThat(decoder.spectatorCount()).isEqualTo(2);
+        assertThat(decoder.apply(ByteBuffer.wrap(encoder.encode(snapshot(430, 240, 1, 0), 2)))).isPresent();
+    }
+
+    private GameSnapshot snapshot(double ballX, double ballY, int leftScore, int rightScore) {
+        return new GameSnapshot("room-1", ballX, ballY, 280, 140, 200, 200, leftScore, rightScore, 5, false);
+    }
+}
@@ -0,0 +1,131 @@
+package com.codexpong.backend.game.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.codexpong.backend.game.GameResult;
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.game.service.GameRoomService.AudienceRole;
+import com.codexpong.backend.game.service.GameRoomService.GameServerMessage;
+import com.codexpong.backend.replay.Replay;
+import com.codexpong.backend.replay.ReplayBlobRepository;
+import com.codexpong.backend.replay.ReplayEventRecord;
+import com.codexpong.backend.replay.ReplayRepository;
+import com.codexpong.backend.replay.ReplayService;
+import com.codexpong.backend.user.domain.User;
+import com.codexpong.backend.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * [벤치마크 테스트] backend/src/test/java/com/codexpong/backend/game/protocol/DeltaStateStreamBenchmarkTest.java
+ * 설명:
+ *   - ReplayService로 실제 경기 한 판을 JSONL로 녹화한 뒤, 그 파일을 입력으로 틱당 전송 바이트를 비교한다.
+ *   - JSON STATE / 고정 바이너리 / 키프레임+델타 세 방식을 [DELTA_BENCH] 로그로 출력한다.
+ *   - 델타 스트림이 JSON 대비 10배 이상 작고, 복원 오차가 precision 이내인지 확인한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.2.0-delta-state-stream.md
+ */
+class DeltaStateStreamBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DeltaStateStreamBenchmarkTest.class);
+    private static final double PRECISION = 0.01;
+    private static final int KEYFRAME_INTERVAL = 20;
+    private static final int MAX_TICKS = 6_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path storageDir;
+
+    @Test
+    @DisplayName("녹화된 리플레이 기준 델타 스트림은 JSON STATE 대비 틱당 바이트가 10배 이상 작다")
+    void deltaStreamShrinksBytesPerTick() throws Exception {
+        List<ReplayEventRecord> events = recordMatch();
+        DeltaStateEncoder encoder = new DeltaStateEncoder(PRECISION, KEYFRAME_INTERVAL);
+        DeltaStateDecoder decoder = new DeltaStateDecoder(events.get(0).snapshot().roomId());
+        long jsonBytes = 0;
+        long binaryBytes = 0;
+        long deltaBytes = 0;
+
+        for (ReplayEventRecord event : events) {
+            GameSnapshot snapshot = event.snapshot();
+            GameServerMessage message = new GameServerMessage("STATE", snapshot, MatchType.NORMAL.name(), null,
+                    AudienceRole.SPECTATOR.name(), 12);
+            jsonBytes += objectMapper.writeValueAsString(message).getBytes(StandardCharsets.UTF_8).length;
+            binaryBytes += BinaryStateFrame.encode(snapshot, 12).length;
+            byte[] frame = encoder.encode(snapshot, 12);
+            deltaBytes += frame.length;
+
+            GameSnapshot decoded = decoder.apply(ByteBuffer.wrap(frame)).orElseThrow();
+            assertThat(decoded.ballX()).isCloseTo(snapshot.ballX(), within(PRECISION));
+            assertThat(decoded.rightPaddleY()).isCloseTo(snapshot.rightPaddleY(), within(PRECISION));
+            assertThat(decoded.rightScore()).isEqualTo(snapshot.rightScore());
+        }
+
+        int ticks = events.size();
+        log.info("delta state stream ticks={} jsonBytesPerTick={} binaryBytesPerTick={} deltaBytesPerTick={}", ticks,
+                jsonBytes / ticks, binaryBytes / ticks, deltaBytes / ticks);
+        assertThat(ticks).isGreaterThan(KEYFRAME_INTERVAL * 5);
+        assertThat(deltaBytes * 10).isLessThanOrEqualTo(jsonBytes);
+    }
+
+    private List<ReplayEventRecord> recordMatch() throws Exception {
+        ReplayRepository replayRepository = mock(ReplayRepository.class);
+        when(replayRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        ReplayService replayService = new ReplayService(replayRepository, mock(ReplayBlobRepository.class),
+                mock(UserRepository.class), objectMapper, storageDir.toString());
+        User left = user(1L, "left");
+        User right = user(2L, "right");
+        GameRoom room = new GameRoom(left, right, MatchType.NORMAL);
+        replayService.startRecording(room);
+
+        for (int tick = 0; tick < MAX_TICKS && !room.isFinished(); tick++) {
+            room.updateInput(left.getId(), tick % 40 < 20 ? PaddleInput.UP : PaddleInput.DOWN);
+            room.updateInput(right.getId(), tick % 30 < 10 ? PaddleInput.STAY : PaddleInput.DOWN);
+            replayService.appendSnapshot(room.getRoomId(), room.tick(Duration.ofMillis(50)));
+        }
+
+        GameResult result = mock(GameResult.class);
+        when(result.getId()).thenReturn(1L);
+        when(result.getPlayerA()).thenReturn(left);
+        when(result.getPlayerB()).thenReturn(right);
+        List<Replay> replays = replayService.completeRecording(room, result);
+        return Files.readAllLines(Paths.get(replays.get(0).getStorageUri())).stream()
+                .map(line -> read(line))
+                .toList();
+    }
+
+    private ReplayEventRecord read(String line) {
+        try {
+            return objectMapper.readValue(line, ReplayEventRecord.class);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private User user(Long id, String name) {
+        User user = new User(name, "pass", name, null);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,139 @@
+package com.codexpong.backend.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codexpong.backend.game.GameResultService;
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.protocol.DeltaStateDecoder;
+import com.codexpong.backend.game.protocol.DeltaStateEncoder;
+import com.codexpong.backend.game.protocol.GameFrameEncoding;
+import com.codexpong.backend.observability.ObservabilityMetrics;
+import com.codexpong.backend.replay.ReplayService;
+import com.codexpong.backend.user.domain.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/service/GameRoomServiceBroadcastTest.java
+ * 설명:
+ *   - 같은 방에서 encoding=binary 세션은 BinaryMessage, 기존 세션은 JSON TextMessage를 받는지 검증한다.
+ *   - encoding=delta 세션은 키프레임을 먼저 받고 이후 델타 프레임으로 상태를 복원하는지 검증한다.
+ *   - 배치 물리 엔진 모드(블록 크기 2, 방 3개 → 블록 2개)에서도 방이 진행되는지 확인한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.2.0-binary-state-frames.md
+ *   - design/realtime/v1.2.0-delta-state-stream.md
+ */
+class GameRoomServiceBroadcastTest {
+
+    private GameRoomService roomService;
+
+    @AfterEach
+    void tearDown() {
+        if (roomService != null) {
+            roomService.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("바이너리 옵트인 세션과 JSON 세션이 한 방에 공존한다")
+    void binaryAndJsonSessionsCoexist() throws Exception {
+        roomService = new GameRoomService(mock(GameResultService.class), mock(ReplayService.class),
+                new ObjectMapper());
+        User left = new User("left", "pass", "왼쪽", null);
+        User right = new User("right", "pass", "오른쪽", null);
+        ReflectionTestUtils.setField(left, "id", 1L);
+        ReflectionTestUtils.setField(right, "id", 2L);
+        GameRoom room = roomService.createRoom(left, right, MatchType.NORMAL);
+
+        WebSocketSession binarySession = session("binary", GameFrameEncoding.BINARY);
+        WebSocketSession jsonSession = session("json", GameFrameEncoding.JSON);
+        roomService.registerSession(room, left.getId(), binarySession);
+        roomService.registerSession(room, right.getId(), jsonSession);
+
+        verify(binarySession, timeout(2_000).atLeastOnce()).sendMessage(any(BinaryMessage.class));
+        verify(jsonSession, timeout(2_000).atLeastOnce()).sendMessage(any(TextMessage.class));
+        verify(jsonSession, never()).sendMessage(any(BinaryMessage.class));
+    }
+
+    @Test
+    @DisplayName("델타 세션은 키프레임부터 받고 이어지는 델타로 상태를 복원한다")
+    void deltaSessionStartsFromKeyframe() throws Exception {
+        roomService = new GameRoomService(mock(GameResultService.class), mock(ReplayService.class),
+                new ObjectMapper());
+        User left = new User("left", "pass", "왼쪽", null);
+        User right = new User("right", "pass", "오른쪽", null);
+        ReflectionTestUtils.setField(left, "id", 1L);
+        ReflectionTestUtils.setField(right, "id", 2L);
+        GameRoom room = roomService.createRoom(left, right, MatchType.NORMAL);
+
+        WebSocketSession deltaSession = session("delta", GameFrameEncoding.DELTA);
+        roomService.registerSession(room, left.getId(), deltaSession);
+        roomService.registerSession(room, right.getId(), session("json", GameFrameEncoding.JSON));
+
+        ArgumentCaptor<BinaryMessage> captor = ArgumentCaptor.forClass(BinaryMessage.class);
+        verify(deltaSession, timeout(2_000).atLeast(3)).sendMessage(captor.capture());
+        List<BinaryMessage> frames = captor.getAllValues();
+        assertThat(DeltaStateEncoder.isKeyframe(frames.get(0).getPayload().array())).isTrue();
+        assertThat(DeltaStateEncoder.isKeyframe(frames.get(1).getPayload().array())).isFalse();
+        DeltaStateDecoder decoder = new DeltaStateDecoder(room.getRoomId());
+        for (BinaryMessage frame : frames) {
+            assertThat(decoder.apply(frame.getPayload())).isPresent();
+        }
+    }
+
+    @Test
+    @DisplayName("배치 물리 엔진 모드에서도 방이 진행되고 STATE가 전송된다")
+    void batchedPhysicsModeBroadcastsState() throws Exception {
+        RealtimeProperties properties = new RealtimeProperties();
+        properties.getTick().setWheels(1);
+        properties.getEngine().setMode(RealtimeProperties.EngineMode.BATCHED);
+        properties.getEngine().setBatchSize(2);
+        roomService = new GameRoomService(mock(GameResultService.class), mock(ReplayService.class),
+                new ObjectMapper(), ObservabilityMetrics.noop(), properties);
+        GameRoom first = null;
+        for (long id = 1; id <= 6; id += 2) {
+            User left = new User("left" + id, "pass", "왼쪽" + id, null);
+            User right = new User("right" + id, "pass", "오른쪽" + id, null);
+            ReflectionTestUtils.setField(left, "id", id);
+            ReflectionTestUtils.setField(right, "id", id + 1);
+            GameRoom room = roomService.createRoom(left, right, MatchType.NORMAL);
+            first = first == null ? room : first;
+            roomService.registerSession(room, left.getId(), session("left-" + id, GameFrameEncoding.JSON));
+            roomService.registerSession(room, right.getId(), session("right-" + id, GameFrameEncoding.BINARY));
+        }
+
+        WebSocketSession late = session("late", GameFrameEncoding.JSON);
+        roomService.registerSpectatorSession(first, "late", late);
+        verify(late, timeout(2_000).atLeast(2)).sendMessage(any(TextMessage.class));
+        assertThat(first.currentSnapshot().ballX()).isNotEqualTo(400.0);
+    }
+
+    private WebSocketSession session(String id, GameFrameEncoding encoding) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        Map<String, Object> attributes = new ConcurrentHashMap<>();
+        attributes.put(GameFrameEncoding.SESSION_ATTRIBUTE, encoding);
+        when(session.getId()).thenReturn(id);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getAttributes()).thenReturn(attributes);
+        return session;
+    }
+}
@@ -0,0 +1,139 @@
+package com.codexpong.backend.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.observability.ObservabilityMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/service/GameTickSchedulerTest.java
+ * 설명:
+ *   - 틱 휠이 방을 고르게 분산하고, 느린 방/예외 방이 다른 방의 진행을 막지 않는지 검증한다.
+ *   - 예외를 던진 방은 첫 예외에서 휠에서 내려지고 실패 처리기가 한 번만 호출되는지 확인한다.
+ *   - 휠별 소요 시간/overrun 메트릭이 지터 메트릭과 함께 등록되는지 확인한다.
+ *   - 종료는 진행 중인 프레임을 끊지 않고 끝날 때까지 기다리는지 확인한다.
+ * 버전: v1.2.0
+ */
+class GameTickSchedulerTest {
+
+    private GameTickScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("방은 가장 한가한 휠부터 고르게 배치된다")
+    void roomsAreSpreadAcrossWheels() {
+        scheduler = new GameTickScheduler(4, Duration.ofMillis(50), Duration.ofMillis(10), ObservabilityMetrics.noop());
+
+        for (int i = 0; i < 8; i++) {
+            assertThat(scheduler.register("room-" + i, () -> { })).isTrue();
+        }
+        assertThat(scheduler.register("room-0", () -> { })).isFalse();
+
+        Map<String, Integer> perWheel = new HashMap<>();
+        for (int i = 0; i < 8; i++) {
+            perWheel.merge(scheduler.wheelOf("room-" + i), 1, Integer::sum);
+        }
+        assertThat(perWheel).hasSize(4).allSatisfy((wheel, count) -> assertThat(count).isEqualTo(2));
+
+        scheduler.unregister("room-0");
+        assertThat(scheduler.isRegistered("room-0")).isFalse();
+    }
+
+    @Test
+    @DisplayName("느린 방은 격리 휠로 옮겨지고 같은 휠의 다른 방은 계속 진행된다")
+    void slowRoomIsIsolated() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        scheduler = new GameTickScheduler(1, Duration.ofMillis(10), Duration.ofMillis(2),
+                new ObservabilityMetrics(registry));
+        AtomicInteger fastTicks = new AtomicInteger();
+        AtomicInteger failingTicks = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        scheduler.register("slow", () -> sleepQuietly(15));
+        scheduler.register("fast", fastTicks::incrementAndGet);
+        scheduler.register("failing", () -> {
+            failingTicks.incrementAndGet();
+            throw new IllegalStateException("boom");
+        }, ex -> {
+            failures.incrementAndGet();
+            failure.set(ex);
+        });
+
+        long deadline = System.currentTimeMillis() + 3_000;
+        while (!"isolated".equals(scheduler.wheelOf("slow")) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(scheduler.wheelOf("slow")).isEqualTo("isolated");
+        assertThat(scheduler.wheelOf("fast")).isEqualTo("0");
+
+        int before = fastTicks.get();
+        Thread.sleep(200);
+        assertThat(fastTicks.get() - before).isGreaterThanOrEqualTo(10);
+        assertThat(failingTicks.get()).isEqualTo(1);
+        assertThat(failures.get()).isEqualTo(1);
+        assertThat(failure.get()).hasMessage("boom");
+        assertThat(scheduler.isRegistered("failing")).isFalse();
+
+        assertThat(registry.get("realtime.tick.wheel.duration").tag("wheel", "0").timer().count()).isPositive();
+        assertThat(registry.get("realtime.tick.wheel.overrun").tag("wheel", "0").counter().count()).isPositive();
+        assertThat(registry.get("realtime.tick.jitter").summary().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("종료는 진행 중인 틱을 인터럽트하지 않고 끝날 때까지 기다린다")
+    void shutdownWaitsForRunningFrame() throws Exception {
+        scheduler = new GameTickScheduler(1, Duration.ofMillis(10), Duration.ofSeconds(1), ObservabilityMetrics.noop());
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean finished = new AtomicBoolean();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        AtomicInteger ticks = new AtomicInteger();
+        scheduler.register("room", () -> {
+            if (ticks.incrementAndGet() > 1) {
+                return;
+            }
+            started.countDown();
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException ex) {
+                interrupted.set(true);
+                Thread.currentThread().interrupt();
+            }
+            finished.set(true);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        scheduler.shutdown();
+
+        assertThat(finished.get()).isTrue();
+        assertThat(interrupted.get()).isFalse();
+        int afterShutdown = ticks.get();
+        Thread.sleep(50);
+        assertThat(ticks.get()).isEqualTo(afterShutdown);
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
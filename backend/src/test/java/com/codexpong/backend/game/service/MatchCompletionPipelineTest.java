@@ -0,0 +1,184 @@
+package com.codexpong.backend.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.observability.ObservabilityMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/service/MatchCompletionPipelineTest.java
+ * 설명:
+ *   - 500개 경기가 같은 프레임에 끝나도 틱 휠 순회 시간이 프레임 간격 안에 머무는지 검증한다.
+ *   - 대기열이 가득 차면 submit이 블로킹 없이 거절되는지(back-pressure) 확인한다.
+ *   - 종료는 처리 중인 항목을 인터럽트하지 않고 끝날 때까지 기다린 뒤 남은 항목을 처리하는지 확인한다.
+ *   - 종료와 겹친 인계도 받아들여진 것은 모두 처리되는지 확인한다.
+ * 버전: v1.2.0
+ */
+class MatchCompletionPipelineTest {
+
+    private static final int FINISHING_ROOMS = 500;
+    private static final int LIVE_ROOMS = 50;
+
+    @Test
+    @DisplayName("500개 경기가 동시에 끝나도 틱 순회 시간이 프레임 안에 머문다")
+    void tickLatencyStaysFlatWhileMatchesFinish() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ObservabilityMetrics metrics = new ObservabilityMetrics(registry);
+        CountDownLatch completed = new CountDownLatch(FINISHING_ROOMS);
+        MatchCompletionPipeline<String> pipeline = new MatchCompletionPipeline<>(1024, 8, roomId -> {
+            sleepQuietly(20);
+            completed.countDown();
+        }, metrics);
+        GameTickScheduler scheduler = new GameTickScheduler(1, Duration.ofMillis(50), Duration.ofSeconds(1), metrics);
+        try {
+            AtomicInteger liveTicks = new AtomicInteger();
+            for (int i = 0; i < LIVE_ROOMS; i++) {
+                scheduler.register("live-" + i, liveTicks::incrementAndGet);
+            }
+            for (int i = 0; i < FINISHING_ROOMS; i++) {
+                String roomId = "finishing-" + i;
+                scheduler.register(roomId, () -> {
+                    if (pipeline.submit(roomId)) {
+                        scheduler.unregister(roomId);
+                    }
+                });
+            }
+
+            assertThat(completed.await(30, TimeUnit.SECONDS)).isTrue();
+            int liveTicksAfterBurst = liveTicks.get();
+            Thread.sleep(200);
+
+            assertThat(registry.get("realtime.tick.wheel.overrun").tag("wheel", "0").counter().count()).isZero();
+            assertThat(registry.get("realtime.tick.wheel.duration").tag("wheel", "0").timer()
+                    .max(TimeUnit.MILLISECONDS)).isLessThan(50);
+            assertThat(liveTicks.get()).isGreaterThan(liveTicksAfterBurst);
+            assertThat(registry.get("realtime.match.completion.latency").timer().count())
+                    .isEqualTo(FINISHING_ROOMS);
+            assertThat(registry.get("realtime.match.completion.queue").gauge().value()).isZero();
+        } finally {
+            scheduler.shutdown();
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 submit은 블로킹 없이 거절된다")
+    void fullQueueRejectsWithoutBlocking() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger handled = new AtomicInteger();
+        MatchCompletionPipeline<Integer> pipeline = new MatchCompletionPipeline<>(1, 1, item -> {
+            started.countDown();
+            awaitQuietly(release);
+            handled.incrementAndGet();
+        }, new ObservabilityMetrics(registry));
+
+        assertThat(pipeline.submit(1)).isTrue();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(pipeline.submit(2)).isTrue();
+        assertThat(pipeline.submit(3)).isFalse();
+        assertThat(pipeline.queueDepth()).isEqualTo(1);
+        assertThat(registry.get("realtime.match.completion.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        pipeline.shutdown();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (handled.get() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(handled.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("종료는 처리 중인 항목을 끊지 않고 기다린 뒤 남은 항목을 하나씩 처리한다")
+    void shutdownWaitsForInFlightItemBeforeDraining() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        AtomicInteger handled = new AtomicInteger();
+        MatchCompletionPipeline<Integer> pipeline = new MatchCompletionPipeline<>(8, 1, item -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            started.countDown();
+            if (item == 1) {
+                try {
+                    Thread.sleep(300);
+                } catch (InterruptedException ex) {
+                    interrupted.set(true);
+                    Thread.currentThread().interrupt();
+                }
+            }
+            handled.incrementAndGet();
+            active.decrementAndGet();
+        }, ObservabilityMetrics.noop());
+
+        assertThat(pipeline.submit(1)).isTrue();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(pipeline.submit(2)).isTrue();
+        assertThat(pipeline.submit(3)).isTrue();
+        pipeline.shutdown();
+
+        assertThat(handled.get()).isEqualTo(3);
+        assertThat(interrupted.get()).isFalse();
+        assertThat(maxActive.get()).isEqualTo(1);
+        assertThat(pipeline.submit(4)).isFalse();
+    }
+
+    @Test
+    @DisplayName("종료와 동시에 들어온 인계도 받아들여졌다면 모두 처리된다")
+    void acceptedItemsSurviveConcurrentShutdown() throws Exception {
+        AtomicInteger handled = new AtomicInteger();
+        AtomicInteger accepted = new AtomicInteger();
+        MatchCompletionPipeline<Integer> pipeline = new MatchCompletionPipeline<>(64, 2,
+                item -> handled.incrementAndGet(), ObservabilityMetrics.noop());
+        CountDownLatch submitting = new CountDownLatch(4);
+        Thread[] submitters = new Thread[4];
+        for (int i = 0; i < submitters.length; i++) {
+            submitters[i] = Thread.ofPlatform().start(() -> {
+                submitting.countDown();
+                int rejectedInRow = 0;
+                while (rejectedInRow < 10_000) {
+                    if (pipeline.submit(1)) {
+                        accepted.incrementAndGet();
+                        rejectedInRow = 0;
+                    } else {
+                        rejectedInRow++;
+                    }
+                }
+            });
+        }
+        assertThat(submitting.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(20);
+        pipeline.shutdown();
+        for (Thread submitter : submitters) {
+            submitter.join();
+        }
+
+        assertThat(accepted.get()).isPositive();
+        assertThat(handled.get()).isEqualTo(accepted.get());
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
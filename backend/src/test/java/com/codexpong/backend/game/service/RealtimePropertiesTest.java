@@ -0,0 +1,53 @@
+package com.codexpong.backend.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/service/RealtimePropertiesTest.java
+ * 설명:
+ *   - realtime.* 설정이 기존 키 이름 그대로 묶이고, 비운 값은 기본값을 쓰는지 검증한다.
+ *   - 알 수 없는 엔진 모드는 object로 바뀌지 않고 바인딩 오류가 나는지 확인한다.
+ * 버전: v1.2.0
+ */
+class RealtimePropertiesTest {
+
+    @Test
+    @DisplayName("기존 realtime.* 키가 그대로 묶이고 엔진 모드는 대소문자를 가리지 않는다")
+    void bindsExistingKeys() {
+        RealtimeProperties properties = bind(Map.of(
+                "realtime.tick.interval-millis", "40",
+                "realtime.completion.workers", "2",
+                "realtime.delta.keyframe-interval", "10",
+                "realtime.engine.mode", "batched",
+                "realtime.engine.batch-size", "32"));
+
+        assertThat(properties.getTick().getIntervalMillis()).isEqualTo(40);
+        assertThat(properties.getTick().getSlowRoomThresholdMillis()).isEqualTo(10);
+        assertThat(properties.getCompletion().getWorkers()).isEqualTo(2);
+        assertThat(properties.getCompletion().getQueueCapacity()).isEqualTo(1024);
+        assertThat(properties.getDelta().getKeyframeInterval()).isEqualTo(10);
+        assertThat(properties.getEngine().getMode()).isEqualTo(RealtimeProperties.EngineMode.BATCHED);
+        assertThat(properties.getEngine().getBatchSize()).isEqualTo(32);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 엔진 모드는 기동 시 바인딩 오류가 난다")
+    void rejectsUnknownEngineMode() {
+        assertThatThrownBy(() -> bind(Map.of("realtime.engine.mode", "batchd")))
+                .isInstanceOf(BindException.class)
+                .hasMessageContaining("realtime.engine.mode");
+    }
+
+    private RealtimeProperties bind(Map<String, String> values) {
+        return new Binder(new MapConfigurationPropertySource(values))
+                .bindOrCreate("realtime", RealtimeProperties.class);
+    }
+}
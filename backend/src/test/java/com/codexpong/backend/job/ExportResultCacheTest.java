@@ -0,0 +1,245 @@
+package com.codexpong.backend.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.codexpong.backend.chat.repository.ChatMessageRepository;
+import com.codexpong.backend.chat.repository.ChatMuteRepository;
+import com.codexpong.backend.game.GameResult;
+import com.codexpong.backend.game.GameResultRepository;
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.replay.Replay;
+import com.codexpong.backend.replay.ReplayBlobRepository;
+import com.codexpong.backend.replay.ReplayRepository;
+import com.codexpong.backend.replay.ReplayService;
+import com.codexpong.backend.retention.RetentionCompactor;
+import com.codexpong.backend.user.domain.User;
+import com.codexpong.backend.user.repository.UserRepository;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * [통합 테스트] backend/src/test/java/com/codexpong/backend/job/ExportResultCacheTest.java
+ * 설명:
+ *   - 두 선수가 같은 경기를 내보내면 한 번만 렌더링하고, 뒤에 온 잡이 진행 중인 잡에 붙어 진행률과 결과를 받는지 검증한다.
+ *   - 완료된 결과는 캐시에서 바로 내주고 참조 수를 늘리며, 대표 잡 실패는 붙은 잡에도 전파되는지 확인한다.
+ *   - 파일이 사라진 항목은 캐시 미스로 보고, 캐시 용량을 넘으면 참조 없는 항목 → 오래 안 쓴 항목 순으로 지우는지 확인한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-export-result-cache.md
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ExportResultCacheTest {
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ExportResultRepository exportResultRepository;
+
+    @Autowired
+    private ExportResultCache exportResultCache;
+
+    @Autowired
+    private JobExportProperties exportProperties;
+
+    @Autowired
+    private RetentionCompactor compactor;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ReplayService replayService;
+
+    @Autowired
+    private ReplayRepository replayRepository;
+
+    @Autowired
+    private ReplayBlobRepository blobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameResultRepository gameResultRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ChatMuteRepository chatMuteRepository;
+
+    private long defaultCacheMaxBytes;
+
+    @BeforeEach
+    void cleanUp() {
+        defaultCacheMaxBytes = exportProperties.getCacheMaxBytes();
+        jobRepository.deleteAll();
+        exportResultRepository.deleteAll();
+        replayRepository.deleteAll();
+        blobRepository.deleteAll();
+        gameResultRepository.deleteAll();
+        chatMessageRepository.deleteAll();
+        chatMuteRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @AfterEach
+    void restoreProperties() {
+        exportProperties.setCacheMaxBytes(defaultCacheMaxBytes);
+    }
+
+    @Test
+    @DisplayName("상대의 같은 경기 내보내기는 진행 중인 잡에 붙고, 완료 뒤 요청은 캐시에서 바로 끝난다")
+    void sharesRenderBetweenPlayers() throws Exception {
+        Match match = recordMatch("cache-share");
+        Long leaderId = jobService.requestMp4(match.owner().getId(), match.ownerReplay().getId()).jobId();
+        Long followerId = jobService.requestMp4(match.opponent().getId(), match.opponentReplay().getId()).jobId();
+
+        Job follower = jobRepository.findById(followerId).orElseThrow();
+        assertThat(follower.getLeaderJobId()).isEqualTo(leaderId);
+        assertThat(follower.getCacheKey()).isEqualTo(jobRepository.findById(leaderId).orElseThrow().getCacheKey());
+
+        jobService.handleProgress(new JobProgressMessage(leaderId, 40, "ENCODE", "인코딩 진행 중"));
+        assertThat(jobRepository.findById(followerId).orElseThrow().getStatus()).isEqualTo(JobStatus.RUNNING);
+        assertThat(jobRepository.findById(followerId).orElseThrow().getProgress()).isEqualTo(40);
+
+        Path output = writeFile("job-" + leaderId + ".mp4");
+        jobService.handleResult(new JobResultMessage(leaderId, JobStatus.SUCCEEDED, output.toString(), "abc", "", ""));
+
+        Job shared = jobRepository.findById(followerId).orElseThrow();
+        assertThat(shared.getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(shared.getResultUri()).isEqualTo(output.toString());
+        assertThat(jobService.resolveResultPath(match.opponent().getId(), followerId)).isEqualTo(output);
+        ExportResult entry = exportResultRepository.findById(shared.getCacheKey()).orElseThrow();
+        assertThat(entry.getRefCount()).isEqualTo(2);
+        assertThat(entry.getSizeBytes()).isEqualTo(4L);
+
+        Long hitId = jobService.requestMp4(match.owner().getId(), match.ownerReplay().getId()).jobId();
+        Job hit = jobRepository.findById(hitId).orElseThrow();
+        assertThat(hit.getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(hit.getResultUri()).isEqualTo(output.toString());
+        assertThat(hit.getLeaderJobId()).isNull();
+        assertThat(exportResultRepository.findById(shared.getCacheKey()).orElseThrow().getRefCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("대표 잡이 실패하면 붙은 잡도 실패하고, 다음 요청은 새로 렌더링한다")
+    void propagatesLeaderFailure() {
+        Match match = recordMatch("cache-fail");
+        Long leaderId = jobService.requestMp4(match.owner().getId(), match.ownerReplay().getId()).jobId();
+        Long followerId = jobService.requestMp4(match.opponent().getId(), match.opponentReplay().getId()).jobId();
+
+        jobService.handleResult(new JobResultMessage(leaderId, JobStatus.FAILED, "", "", "FFMPEG_FAILED", "boom"));
+
+        Job follower = jobRepository.findById(followerId).orElseThrow();
+        assertThat(follower.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(follower.getErrorCode()).isEqualTo("FFMPEG_FAILED");
+        Long retryId = jobService.requestMp4(match.opponent().getId(), match.opponentReplay().getId()).jobId();
+        Job retry = jobRepository.findById(retryId).orElseThrow();
+        assertThat(retry.getStatus()).isEqualTo(JobStatus.QUEUED);
+        assertThat(retry.getLeaderJobId()).isNull();
+        assertThat(exportResultRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("결과 파일이 사라진 캐시 항목은 미스로 보고 지운다")
+    void missingFileIsCacheMiss() throws Exception {
+        Match match = recordMatch("cache-missing");
+        Long leaderId = jobService.requestMp4(match.owner().getId(), match.ownerReplay().getId()).jobId();
+        Path output = writeFile("job-" + leaderId + ".mp4");
+        jobService.handleResult(new JobResultMessage(leaderId, JobStatus.SUCCEEDED, output.toString(), "abc", "", ""));
+        Files.delete(output);
+
+        Long nextId = jobService.requestMp4(match.opponent().getId(), match.opponentReplay().getId()).jobId();
+
+        assertThat(jobRepository.findById(nextId).orElseThrow().getStatus()).isEqualTo(JobStatus.QUEUED);
+        assertThat(jobRepository.findById(leaderId).orElseThrow().getResultUri()).isNull();
+        assertThat(exportResultRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("보존 정책은 참조만 반납하고, 캐시 용량을 넘으면 참조 없는 항목부터 LRU로 지운다")
+    void evictsUnreferencedThenLeastRecentlyUsed() throws Exception {
+        Match first = recordMatch("cache-evict-a");
+        Match second = recordMatch("cache-evict-b");
+        Long firstId = completeExport(first);
+        Long secondId = completeExport(second);
+        Job firstJob = jobRepository.findById(firstId).orElseThrow();
+        Path firstFile = Path.of(firstJob.getResultUri());
+        Path secondFile = Path.of(jobRepository.findById(secondId).orElseThrow().getResultUri());
+
+        transactionTemplate.executeWithoutResult(
+                status -> exportResultCache.release(Map.of(firstJob.getCacheKey(), 1L)));
+        exportProperties.setCacheMaxBytes(4);
+        compactor.compact();
+
+        assertThat(exportResultRepository.findById(firstJob.getCacheKey())).isEmpty();
+        assertThat(firstFile).doesNotExist();
+        assertThat(secondFile).exists();
+        assertThat(jobRepository.findById(secondId).orElseThrow().getResultUri()).isNotNull();
+
+        exportProperties.setCacheMaxBytes(1);
+        compactor.compact();
+
+        assertThat(exportResultRepository.count()).isZero();
+        assertThat(secondFile).doesNotExist();
+        assertThatThrownBy(() -> jobService.resolveResultPath(second.owner().getId(), secondId))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.GONE));
+    }
+
+    private Long completeExport(Match match) throws Exception {
+        Long jobId = jobService.requestMp4(match.owner().getId(), match.ownerReplay().getId()).jobId();
+        Path output = writeFile("job-" + jobId + ".mp4");
+        jobService.handleResult(new JobResultMessage(jobId, JobStatus.SUCCEEDED, output.toString(), "abc", "", ""));
+        return jobId;
+    }
+
+    private Match recordMatch(String prefix) {
+        User owner = userRepository.save(new User(prefix + "-" + System.nanoTime(), "password123", "소유자", null));
+        User opponent = userRepository.save(new User(prefix + "-opp-" + System.nanoTime(), "password123", "상대",
+                null));
+        GameRoom room = new GameRoom(owner, opponent, MatchType.NORMAL);
+        replayService.startRecording(room);
+        replayService.appendSnapshot(room.getRoomId(), room.currentSnapshot());
+        replayService.appendSnapshot(room.getRoomId(),
+                new GameSnapshot(room.getRoomId(), 0, 0, 0, 0, 10, 20, 5, 3, 5, true));
+        LocalDateTime finishedAt = LocalDateTime.now();
+        GameResult result = gameResultRepository.save(new GameResult(owner, opponent, 5, 3, room.getRoomId(),
+                MatchType.NORMAL, 0, 0, owner.getRating(), opponent.getRating(), finishedAt.minusSeconds(10),
+                finishedAt));
+        replayService.completeRecording(room, result);
+        return new Match(owner, opponent, replayRepository.findByOwnerOrderByCreatedAtDesc(owner).get(0),
+                replayRepository.findByOwnerOrderByCreatedAtDesc(opponent).get(0));
+    }
+
+    private Path writeFile(String name) throws Exception {
+        Path path = Path.of(exportProperties.getPath()).toAbsolutePath().normalize().resolve(name);
+        Files.createDirectories(path.getParent());
+        Files.write(path, new byte[] {'f', 't', 'y', 'p'});
+        return path;
+    }
+
+    private record Match(User owner, User opponent, Replay ownerReplay, Replay opponentReplay) {
+    }
+}
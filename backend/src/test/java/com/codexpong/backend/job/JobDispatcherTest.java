@@ -0,0 +1,213 @@
+package com.codexpong.backend.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.chat.repository.ChatMessageRepository;
+import com.codexpong.backend.chat.repository.ChatMuteRepository;
+import com.codexpong.backend.game.GameResult;
+import com.codexpong.backend.game.GameResultRepository;
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.replay.Replay;
+import com.codexpong.backend.replay.ReplayBlobRepository;
+import com.codexpong.backend.replay.ReplayRepository;
+import com.codexpong.backend.replay.ReplayService;
+import com.codexpong.backend.user.domain.User;
+import com.codexpong.backend.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * [통합 테스트] backend/src/test/java/com/codexpong/backend/job/JobDispatcherTest.java
+ * 설명:
+ *   - 한 소유자가 MP4를 몰아 요청해도 소유자별 상한만큼만 레인에 나가고, 다른 소유자의 요청은 바로 나가는지 검증한다.
+ *   - 결과가 오면 자리가 비어 다음 요청이 나가고, 워커 착수(QUEUE) 시 레인 대기 시간이 기록되는지 확인한다.
+ *   - 커밋 뒤 드레인은 요청 스레드가 아니라 전용 스레드에서 돌아 발행되는지 확인한다.
+ *   - 상한에 닿은 소유자가 대기 페이지를 채워도 다음 페이지의 다른 소유자 요청이 나가는지 확인한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-job-lanes-and-fair-share.md
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class JobDispatcherTest {
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobDispatcher jobDispatcher;
+
+    @Autowired
+    private JobDispatchProperties dispatchProperties;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobDispatchRepository dispatchRepository;
+
+    @Autowired
+    private ExportResultRepository exportResultRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReplayService replayService;
+
+    @Autowired
+    private ReplayRepository replayRepository;
+
+    @Autowired
+    private ReplayBlobRepository blobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameResultRepository gameResultRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ChatMuteRepository chatMuteRepository;
+
+    private int defaultMaxInFlight;
+    private int defaultBatchSize;
+
+    @BeforeEach
+    void cleanUp() {
+        defaultMaxInFlight = dispatchProperties.getMaxInFlightPerOwner();
+        defaultBatchSize = dispatchProperties.getBatchSize();
+        jobRepository.deleteAll();
+        exportResultRepository.deleteAll();
+        replayRepository.deleteAll();
+        blobRepository.deleteAll();
+        gameResultRepository.deleteAll();
+        chatMessageRepository.deleteAll();
+        chatMuteRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @AfterEach
+    void restoreProperties() {
+        dispatchProperties.setMaxInFlightPerOwner(defaultMaxInFlight);
+        dispatchProperties.setBatchSize(defaultBatchSize);
+    }
+
+    @Test
+    @DisplayName("소유자별 상한을 넘는 요청은 대기하고, 다른 소유자 요청은 바로 나가며, 결과가 오면 다음 요청이 나간다")
+    void capsInFlightPerOwner() throws Exception {
+        dispatchProperties.setMaxInFlightPerOwner(2);
+        User heavy = userRepository.save(new User("dispatch-heavy-" + System.nanoTime(), "password123", "헤비", null));
+        User light = userRepository.save(new User("dispatch-light-" + System.nanoTime(), "password123", "라이트", null));
+        List<Long> heavyJobs = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Replay replay = recordReplay(heavy, light);
+            heavyJobs.add(jobService.requestMp4(heavy.getId(), replay.getId()).jobId());
+        }
+        Long lightJob = jobService.requestMp4(light.getId(), recordReplay(light, heavy).getId()).jobId();
+
+        awaitDispatched(heavyJobs.get(0), heavyJobs.get(1), lightJob);
+
+        jobService.handleResult(new JobResultMessage(heavyJobs.get(0), JobStatus.FAILED, "", "", "FFMPEG_FAILED",
+                "boom"));
+
+        awaitDispatched(heavyJobs.get(1), heavyJobs.get(2), lightJob);
+        assertThat(dispatchRepository.countPending(JobLane.MP4)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("워커가 착수를 알리면 레인 대기 시간을 한 번만 기록한다")
+    void recordsQueueWaitOnce() {
+        User owner = userRepository.save(new User("dispatch-wait-" + System.nanoTime(), "password123", "소유자", null));
+        User opponent = userRepository.save(new User("dispatch-wait-opp-" + System.nanoTime(), "password123", "상대",
+                null));
+        Long jobId = jobService.requestMp4(owner.getId(), recordReplay(owner, opponent).getId()).jobId();
+        Timer timer = meterRegistry.get("jobs.queue.wait").tag("lane", JobLane.MP4.key()).timer();
+        long before = timer.count();
+
+        jobService.handleProgress(new JobProgressMessage(jobId, 10, "QUEUE", "워커가 작업을 시작했습니다"));
+        jobService.handleProgress(new JobProgressMessage(jobId, 10, "QUEUE", "워커가 작업을 시작했습니다"));
+
+        assertThat(timer.count()).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("상한에 닿은 소유자의 대기 요청이 페이지를 채워도 다른 소유자의 요청이 나간다")
+    void skipsSaturatedOwnersAcrossPages() {
+        dispatchProperties.setMaxInFlightPerOwner(1);
+        dispatchProperties.setBatchSize(2);
+        User heavy = userRepository.save(new User("dispatch-page-" + System.nanoTime(), "password123", "헤비", null));
+        User light = userRepository.save(new User("dispatch-page-l-" + System.nanoTime(), "password123", "라이트",
+                null));
+        List<Long> heavyJobs = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            heavyJobs.add(jobService.requestMp4(heavy.getId(), recordReplay(heavy, light).getId()).jobId());
+        }
+        Long lightJob = jobService.requestMp4(light.getId(), recordReplay(light, heavy).getId()).jobId();
+        jobDispatcher.drain();
+
+        assertThat(dispatchedJobIds()).containsExactlyInAnyOrder(heavyJobs.get(0), lightJob);
+    }
+
+    /**
+     * 커밋 뒤 드레인은 전용 스레드에서 돌므로 발행 결과를 잠시 기다린다.
+     */
+    private void awaitDispatched(Long... jobIds) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!Set.copyOf(dispatchedJobIds()).equals(Set.of(jobIds)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(dispatchedJobIds()).containsExactlyInAnyOrder(jobIds);
+    }
+
+    private List<Long> dispatchedJobIds() {
+        return jobRepository.findAll().stream()
+                .map(Job::getId)
+                .filter(jobId -> dispatchRepository.findAll().stream()
+                        .anyMatch(dispatch -> dispatch.getDispatchedAt() != null
+                                && jobIdOf(dispatch).equals(jobId)))
+                .toList();
+    }
+
+    private Long jobIdOf(JobDispatch dispatch) {
+        try {
+            return objectMapper.readTree(dispatch.getPayload()).get("jobId").asLong();
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private Replay recordReplay(User owner, User opponent) {
+        GameRoom room = new GameRoom(owner, opponent, MatchType.NORMAL);
+        replayService.startRecording(room);
+        replayService.appendSnapshot(room.getRoomId(), room.currentSnapshot());
+        replayService.appendSnapshot(room.getRoomId(),
+                new GameSnapshot(room.getRoomId(), 0, 0, 0, 0, 10, 20, 5, 3, 5, true));
+        LocalDateTime finishedAt = LocalDateTime.now();
+        GameResult result = gameResultRepository.save(new GameResult(owner, opponent, 5, 3, room.getRoomId(),
+                MatchType.NORMAL, 0, 0, owner.getRating(), opponent.getRating(), finishedAt.minusSeconds(10),
+                finishedAt));
+        replayService.completeRecording(room, result);
+        return replayRepository.findByMatchIdAndOwner(result.getId(), owner).orElseThrow();
+    }
+}
@@ -0,0 +1,194 @@
+package com.codexpong.backend.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codexpong.backend.chat.repository.ChatMessageRepository;
+import com.codexpong.backend.chat.repository.ChatMuteRepository;
+import com.codexpong.backend.game.GameResult;
+import com.codexpong.backend.game.GameResultRepository;
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.replay.Replay;
+import com.codexpong.backend.replay.ReplayBlobRepository;
+import com.codexpong.backend.replay.ReplayRepository;
+import com.codexpong.backend.replay.ReplayService;
+import com.codexpong.backend.user.domain.User;
+import com.codexpong.backend.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [통합 테스트] backend/src/test/java/com/codexpong/backend/job/JobProgressBatchTest.java
+ * 설명:
+ *   - 진행률 묶음을 반영하면 잡마다 마지막 값만 저장·알림되고, 덮인 착수(QUEUE) 메시지도 대기 시간으로 기록되는지 검증한다.
+ *   - 잡별 진행률 알림이 간격 안에서는 한 번만 나가고, 간격이 지나면 보관된 마지막 값이 나가는지 확인한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-batched-progress-ingestion.md
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class JobProgressBatchTest {
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobEventPublisher jobEventPublisher;
+
+    @Autowired
+    private JobQueueProperties queueProperties;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ExportResultRepository exportResultRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ReplayService replayService;
+
+    @Autowired
+    private ReplayRepository replayRepository;
+
+    @Autowired
+    private ReplayBlobRepository blobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameResultRepository gameResultRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ChatMuteRepository chatMuteRepository;
+
+    private long defaultInterval;
+
+    @BeforeEach
+    void cleanUp() {
+        defaultInterval = queueProperties.getProgressPublishIntervalMillis();
+        jobRepository.deleteAll();
+        exportResultRepository.deleteAll();
+        replayRepository.deleteAll();
+        blobRepository.deleteAll();
+        gameResultRepository.deleteAll();
+        chatMessageRepository.deleteAll();
+        chatMuteRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @AfterEach
+    void restoreProperties() {
+        queueProperties.setProgressPublishIntervalMillis(defaultInterval);
+    }
+
+    @Test
+    @DisplayName("진행률 묶음은 잡마다 마지막 값만 저장하고 한 번만 알리며, 덮인 착수 메시지도 대기 시간으로 기록한다")
+    void coalescesBatchPerJob() throws Exception {
+        User owner = userRepository.save(new User("progress-owner-" + System.nanoTime(), "password123", "소유자", null));
+        User opponent = userRepository.save(new User("progress-opp-" + System.nanoTime(), "password123", "상대", null));
+        Long first = jobService.requestMp4(owner.getId(), recordReplay(owner, opponent).getId()).jobId();
+        Long second = jobService.requestMp4(owner.getId(), recordReplay(owner, opponent).getId()).jobId();
+        Timer queueWait = meterRegistry.get("jobs.queue.wait").tag("lane", JobLane.MP4.key()).timer();
+        long waitsBefore = queueWait.count();
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.isOpen()).thenReturn(true);
+        jobEventPublisher.register(owner.getId(), session);
+
+        try {
+            jobService.handleProgressBatch(List.of(
+                    new JobProgressMessage(first, 0, "QUEUE", "워커가 작업을 시작했습니다"),
+                    new JobProgressMessage(second, 10, "ENCODE", "인코딩 진행 중"),
+                    new JobProgressMessage(first, 30, "ENCODE", "인코딩 진행 중"),
+                    new JobProgressMessage(first, 20, "ENCODE", "인코딩 진행 중"),
+                    new JobProgressMessage(second, 50, "ENCODE", "인코딩 진행 중")));
+        } finally {
+            jobEventPublisher.unregister(owner.getId(), session);
+        }
+
+        assertThat(jobRepository.findById(first).orElseThrow().getProgress()).isEqualTo(20);
+        assertThat(jobRepository.findById(second).orElseThrow().getProgress()).isEqualTo(50);
+        assertThat(jobRepository.findById(first).orElseThrow().getStatus()).isEqualTo(JobStatus.RUNNING);
+        assertThat(queueWait.count()).isEqualTo(waitsBefore + 1);
+        ArgumentCaptor<TextMessage> sent = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session, atLeastOnce()).sendMessage(sent.capture());
+        assertThat(sent.getAllValues()).extracting(TextMessage::getPayload)
+                .filteredOn(payload -> payload.contains("job.progress"))
+                .hasSize(2)
+                .anySatisfy(payload -> assertThat(payload).contains("\"jobId\":" + first).contains("\"progress\":20"))
+                .anySatisfy(payload -> assertThat(payload).contains("\"jobId\":" + second).contains("\"progress\":50"));
+    }
+
+    @Test
+    @DisplayName("잡별 진행률 알림은 간격 안에서 한 번만 나가고, 간격이 지나면 마지막 값이 나간다")
+    void throttlesProgressPerJob() throws Exception {
+        Long userId = -System.nanoTime();
+        Long jobId = System.nanoTime();
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.isOpen()).thenReturn(true);
+        jobEventPublisher.register(userId, session);
+        queueProperties.setProgressPublishIntervalMillis(60_000);
+
+        try {
+            jobEventPublisher.publishProgress(userId, new JobProgressMessage(jobId, 10, "ENCODE", "인코딩 진행 중"));
+            jobEventPublisher.publishProgress(userId, new JobProgressMessage(jobId, 20, "ENCODE", "인코딩 진행 중"));
+            jobEventPublisher.publishProgress(userId, new JobProgressMessage(jobId, 30, "ENCODE", "인코딩 진행 중"));
+            jobEventPublisher.flushProgress();
+            verify(session, times(1)).sendMessage(any());
+
+            queueProperties.setProgressPublishIntervalMillis(0);
+            jobEventPublisher.flushProgress();
+            ArgumentCaptor<TextMessage> sent = ArgumentCaptor.forClass(TextMessage.class);
+            verify(session, timeout(1000).times(2)).sendMessage(sent.capture());
+            assertThat(sent.getAllValues()).extracting(TextMessage::getPayload)
+                    .satisfiesExactly(
+                            payload -> assertThat(payload).contains("\"progress\":10"),
+                            payload -> assertThat(payload).contains("\"progress\":30"));
+        } finally {
+            jobEventPublisher.publishCompleted(userId, new JobResultMessage(jobId, JobStatus.CANCELLED, "", "", "",
+                    ""));
+            jobEventPublisher.unregister(userId, session);
+        }
+    }
+
+    private Replay recordReplay(User owner, User opponent) {
+        GameRoom room = new GameRoom(owner, opponent, MatchType.NORMAL);
+        replayService.startRecording(room);
+        replayService.appendSnapshot(room.getRoomId(), room.currentSnapshot());
+        replayService.appendSnapshot(room.getRoomId(),
+                new GameSnapshot(room.getRoomId(), 0, 0, 0, 0, 10, 20, 5, 3, 5, true));
+        LocalDateTime finishedAt = LocalDateTime.now();
+        GameResult result = gameResultRepository.save(new GameResult(owner, opponent, 5, 3, room.getRoomId(),
+                MatchType.NORMAL, 0, 0, owner.getRating(), opponent.getRating(), finishedAt.minusSeconds(10),
+                finishedAt));
+        replayService.completeRecording(room, result);
+        return replayRepository.findByMatchIdAndOwner(result.getId(), owner).orElseThrow();
+    }
+}
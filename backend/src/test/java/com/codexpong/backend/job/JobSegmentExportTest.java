@@ -0,0 +1,255 @@
+package com.codexpong.backend.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codexpong.backend.chat.repository.ChatMessageRepository;
+import com.codexpong.backend.chat.repository.ChatMuteRepository;
+import com.codexpong.backend.game.GameResult;
+import com.codexpong.backend.game.GameResultRepository;
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.replay.Replay;
+import com.codexpong.backend.replay.ReplayBlobRepository;
+import com.codexpong.backend.replay.ReplayRepository;
+import com.codexpong.backend.replay.ReplayService;
+import com.codexpong.backend.user.domain.User;
+import com.codexpong.backend.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [통합 테스트] backend/src/test/java/com/codexpong/backend/job/JobSegmentExportTest.java
+ * 설명:
+ *   - 긴 리플레이의 MP4 내보내기가 1초 경계 구간으로 나뉘어 저장되는지, 짧은 리플레이는 나누지 않는지 검증한다.
+ *   - 구간 진행률이 잡 진행률(구간 평균의 95%)로 모이고 뒤로 가지 않는지, WebSocket으로 집계값이 나가는지 확인한다.
+ *   - 구간이 모두 끝난 뒤 이어 붙이기 결과로 잡이 완료되고, 한 구간 실패 시 잡이 실패하며 부분 파일이 지워지는지 확인한다.
+ *   - 워커 입력이 잡마다 고정되어 원본이 지워져도 남고, 잡이 끝나면 지워지는지 확인한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-segmented-mp4-export.md
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class JobSegmentExportTest {
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobSegmentRepository segmentRepository;
+
+    @Autowired
+    private ExportResultRepository exportResultRepository;
+
+    @Autowired
+    private JobEventPublisher jobEventPublisher;
+
+    @Autowired
+    private JobExportProperties exportProperties;
+
+    @Autowired
+    private JobDispatchRepository dispatchRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReplayService replayService;
+
+    @Autowired
+    private ReplayRepository replayRepository;
+
+    @Autowired
+    private ReplayBlobRepository blobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameResultRepository gameResultRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ChatMuteRepository chatMuteRepository;
+
+    @BeforeEach
+    void cleanUp() {
+        jobRepository.deleteAll();
+        exportResultRepository.deleteAll();
+        replayRepository.deleteAll();
+        blobRepository.deleteAll();
+        gameResultRepository.deleteAll();
+        chatMessageRepository.deleteAll();
+        chatMuteRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("구간 계획은 최대 구간 수를 지키고 1초 경계로 경기 전체를 덮는다")
+    void plansSegmentsOnSecondBoundaries() {
+        List<JobSegment> segments = JobSegment.plan(null, 150_500, 60_000, 8);
+        assertThat(segments).extracting(JobSegment::getStartMs).containsExactly(0L, 51_000L, 102_000L);
+        assertThat(segments).extracting(JobSegment::getEndMs).containsExactly(51_000L, 102_000L, 150_500L);
+
+        assertThat(JobSegment.plan(null, 600_000, 60_000, 4)).hasSize(4);
+        assertThat(JobSegment.plan(null, 30_000, 60_000, 8)).isEmpty();
+        assertThat(JobSegment.plan(null, 600_000, 60_000, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("구간 진행률을 모아 알리고, 모든 구간 뒤 이어 붙이기 결과로 잡이 완료된다")
+    void aggregatesSegmentsAndCompletesAfterConcat() throws Exception {
+        User owner = userRepository.save(new User("segment-owner-" + System.nanoTime(), "password123", "소유자", null));
+        User opponent = userRepository.save(new User("segment-opp-" + System.nanoTime(), "password123", "상대", null));
+        Replay replay = recordReplay(owner, opponent, 150_000);
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.isOpen()).thenReturn(true);
+        jobEventPublisher.register(owner.getId(), session);
+
+        Long jobId;
+        try {
+            jobId = jobService.requestMp4(owner.getId(), replay.getId()).jobId();
+            assertThat(jobRepository.findById(jobId).orElseThrow().getSegmentCount()).isEqualTo(3);
+            assertThat(segmentRepository.findByJobIdOrderBySegmentIndex(jobId)).hasSize(3);
+
+            jobService.handleProgress(new JobProgressMessage(jobId, 60, "ENCODE", "인코딩 진행 중", 0));
+            jobService.handleProgress(new JobProgressMessage(jobId, 5, "PREPARE", "ffmpeg 준비 중", 0));
+            assertThat(jobRepository.findById(jobId).orElseThrow().getProgress()).isEqualTo(19);
+
+            for (int index = 0; index < 3; index++) {
+                Path part = writeFile("job-" + jobId + ".part-" + index + ".mp4");
+                jobService.handleResult(new JobResultMessage(jobId, JobStatus.SUCCEEDED, part.toString(), "", "", "",
+                        index));
+            }
+            jobService.handleResult(new JobResultMessage(jobId, JobStatus.SUCCEEDED,
+                    exportRoot().resolve("job-" + jobId + ".part-0.mp4").toString(), "", "", "", 0));
+            Job encoded = jobRepository.findById(jobId).orElseThrow();
+            assertThat(encoded.getStatus()).isEqualTo(JobStatus.RUNNING);
+            assertThat(encoded.getProgress()).isEqualTo(JobService.SEGMENT_PROGRESS_SHARE);
+
+            Path output = writeFile("job-" + jobId + ".mp4");
+            jobService.handleResult(new JobResultMessage(jobId, JobStatus.SUCCEEDED, output.toString(), "abc", "",
+                    ""));
+        } finally {
+            jobEventPublisher.unregister(owner.getId(), session);
+        }
+
+        Job done = jobRepository.findById(jobId).orElseThrow();
+        assertThat(done.getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(done.getResultBytes()).isEqualTo(4L);
+        assertThat(exportRoot().resolve("job-" + jobId + ".part-1.mp4")).doesNotExist();
+        ArgumentCaptor<TextMessage> sent = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session, atLeastOnce()).sendMessage(sent.capture());
+        assertThat(sent.getAllValues()).extracting(TextMessage::getPayload)
+                .anySatisfy(payload -> assertThat(payload).contains("\"progress\":19").contains("구간 1/3"))
+                .anySatisfy(payload -> assertThat(payload).contains("job.completed"));
+        Files.deleteIfExists(exportRoot().resolve("job-" + jobId + ".mp4"));
+    }
+
+    @Test
+    @DisplayName("한 구간이 실패하면 잡이 실패하고 부분 파일과 늦게 끝난 구간 파일이 지워진다")
+    void failsJobWhenSegmentFails() throws Exception {
+        User owner = userRepository.save(new User("segment-fail-" + System.nanoTime(), "password123", "소유자", null));
+        User opponent = userRepository.save(new User("segment-fail-opp-" + System.nanoTime(), "password123", "상대",
+                null));
+        Replay replay = recordReplay(owner, opponent, 150_000);
+        Long jobId = jobService.requestMp4(owner.getId(), replay.getId()).jobId();
+
+        Path first = writeFile("job-" + jobId + ".part-0.mp4");
+        jobService.handleResult(new JobResultMessage(jobId, JobStatus.SUCCEEDED, first.toString(), "", "", "", 0));
+        jobService.handleResult(new JobResultMessage(jobId, JobStatus.FAILED, "", "", "FFMPEG_FAILED", "boom", 1));
+        Path late = writeFile("job-" + jobId + ".part-2.mp4");
+        jobService.handleResult(new JobResultMessage(jobId, JobStatus.SUCCEEDED, late.toString(), "", "", "", 2));
+
+        Job failed = jobRepository.findById(jobId).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(failed.getErrorCode()).isEqualTo("FFMPEG_FAILED");
+        assertThat(failed.getErrorMessage()).startsWith("구간 2/3");
+        assertThat(first).doesNotExist();
+        assertThat(late).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("구간 길이보다 짧은 리플레이는 나누지 않는다")
+    void shortReplayIsNotSegmented() {
+        User owner = userRepository.save(new User("segment-short-" + System.nanoTime(), "password123", "소유자", null));
+        User opponent = userRepository.save(new User("segment-short-opp-" + System.nanoTime(), "password123", "상대",
+                null));
+        Replay replay = recordReplay(owner, opponent, 10_000);
+
+        Long jobId = jobService.requestMp4(owner.getId(), replay.getId()).jobId();
+
+        assertThat(jobRepository.findById(jobId).orElseThrow().getSegmentCount()).isNull();
+        assertThat(segmentRepository.findByJobIdOrderBySegmentIndex(jobId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대기 중인 요청의 입력은 원본 리플레이 파일이 지워져도 남고, 잡이 끝나면 지워진다")
+    void pinsWorkerInputUntilJobEnds() throws Exception {
+        User owner = userRepository.save(new User("segment-pin-" + System.nanoTime(), "password123", "소유자", null));
+        User opponent = userRepository.save(new User("segment-pin-opp-" + System.nanoTime(), "password123", "상대",
+                null));
+        Replay replay = recordReplay(owner, opponent, 10_000);
+        Path original = replayService.resolveEventsFile(replay);
+        byte[] content = Files.readAllBytes(original);
+
+        Long jobId = jobService.requestMp4(owner.getId(), replay.getId()).jobId();
+        JobDispatch dispatch = dispatchRepository.findUnstarted(jobId).get(0);
+        Path input = Path.of(objectMapper.readTree(dispatch.getPayload()).get("inputPath").asText());
+        assertThat(input).isNotEqualTo(original).startsWith(exportRoot());
+
+        Files.delete(original);
+        assertThat(Files.readAllBytes(input)).isEqualTo(content);
+
+        jobService.handleResult(new JobResultMessage(jobId, JobStatus.FAILED, "", "", "FFMPEG_FAILED", "boom"));
+        assertThat(input).doesNotExist();
+    }
+
+    private Replay recordReplay(User owner, User opponent, long durationMs) {
+        GameRoom room = new GameRoom(owner, opponent, MatchType.NORMAL);
+        replayService.startRecording(room);
+        replayService.appendSnapshot(room.getRoomId(), room.currentSnapshot());
+        replayService.appendSnapshot(room.getRoomId(),
+                new GameSnapshot(room.getRoomId(), 0, 0, 0, 0, 10, 20, 5, 3, 5, true));
+        LocalDateTime finishedAt = LocalDateTime.now();
+        GameResult result = gameResultRepository.save(new GameResult(owner, opponent, 5, 3, room.getRoomId(),
+                MatchType.NORMAL, 0, 0, owner.getRating(), opponent.getRating(),
+                finishedAt.minusNanos(durationMs * 1_000_000), finishedAt));
+        replayService.completeRecording(room, result);
+        return replayRepository.findByOwnerOrderByCreatedAtDesc(owner).get(0);
+    }
+
+    private Path exportRoot() {
+        return Path.of(exportProperties.getPath()).toAbsolutePath().normalize();
+    }
+
+    private Path writeFile(String name) throws Exception {
+        Path path = exportRoot().resolve(name);
+        Files.createDirectories(path.getParent());
+        Files.write(path, new byte[] {'f', 't', 'y', 'p'});
+        return path;
+    }
+}
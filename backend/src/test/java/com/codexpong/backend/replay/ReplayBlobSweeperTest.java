@@ -0,0 +1,126 @@
+package com.codexpong.backend.replay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.chat.repository.ChatMessageRepository;
+import com.codexpong.backend.chat.repository.ChatMuteRepository;
+import com.codexpong.backend.game.GameResult;
+import com.codexpong.backend.game.GameResultRepository;
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.engine.DeterministicEngine;
+import com.codexpong.backend.job.JobRepository;
+import com.codexpong.backend.user.domain.User;
+import com.codexpong.backend.user.repository.UserRepository;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * [통합 테스트] backend/src/test/java/com/codexpong/backend/replay/ReplayBlobSweeperTest.java
+ * 설명:
+ *   - 내용이 같은 경기 두 개가 체크섬 이름 파일 하나를 공유하고 ReplayBlob 참조 수가 4가 되는지 검증한다.
+ *   - 리플레이가 지워질 때 참조 수만 줄고 파일은 남으며, 0이 된 블롭은 유예 시간이 지난 뒤
+ *     스위퍼가 파일과 행을 함께 지우는지 확인한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-replay-content-addressing.md
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReplayBlobSweeperTest {
+
+    @Autowired
+    private ReplayBlobSweeper sweeper;
+
+    @Autowired
+    private ReplayService replayService;
+
+    @Autowired
+    private ReplayRepository replayRepository;
+
+    @Autowired
+    private ReplayBlobRepository blobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameResultRepository gameResultRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ChatMuteRepository chatMuteRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @BeforeEach
+    void cleanUp() {
+        jobRepository.deleteAll();
+        replayRepository.deleteAll();
+        blobRepository.deleteAll();
+        gameResultRepository.deleteAll();
+        chatMessageRepository.deleteAll();
+        chatMuteRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 내용의 경기는 파일 하나를 공유하고, 참조가 0이 된 파일은 스위퍼가 지운다")
+    void sharesContentAndSweepsOrphans() {
+        String suffix = String.valueOf(System.nanoTime());
+        User left = userRepository.save(new User("blob-left-" + suffix, "password123", "왼쪽", null));
+        User right = userRepository.save(new User("blob-right-" + suffix, "password123", "오른쪽", null));
+
+        List<Replay> first = record(left, right, "blob-dup-" + suffix, 7L);
+        List<Replay> second = record(left, right, "blob-dup-" + suffix, 7L);
+        record(left, right, "blob-other-" + suffix, 8L);
+        String storageUri = first.get(0).getStorageUri();
+        String checksum = first.get(0).getChecksum();
+        assertThat(second).allSatisfy(replay -> assertThat(replay.getStorageUri()).isEqualTo(storageUri));
+        assertThat(Path.of(storageUri).getFileName().toString()).isEqualTo(checksum + ".inputs.jsonl");
+        assertThat(blobRepository.findById(checksum).orElseThrow().getRefCount()).isEqualTo(4);
+
+        assertThat(replayService.deleteReplays(ids(first))).isEmpty();
+        ReplayBlob shared = blobRepository.findById(checksum).orElseThrow();
+        assertThat(shared.getRefCount()).isEqualTo(2);
+        assertThat(shared.getOrphanedAt()).isNull();
+
+        replayService.deleteReplays(ids(second));
+        ReplayBlob orphan = blobRepository.findById(checksum).orElseThrow();
+        assertThat(orphan.getRefCount()).isZero();
+        assertThat(orphan.getOrphanedAt()).isNotNull();
+        assertThat(replayRepository.countByStorageUri(storageUri)).isZero();
+        assertThat(Files.exists(Path.of(storageUri))).isTrue();
+
+        assertThat(sweeper.sweepOrphanedBefore(LocalDateTime.now().minusYears(1))).isZero();
+        assertThat(sweeper.sweepOrphanedBefore(LocalDateTime.now().plusYears(1))).isEqualTo(1);
+        assertThat(blobRepository.findById(checksum)).isEmpty();
+        assertThat(Files.exists(Path.of(storageUri))).isFalse();
+        assertThat(blobRepository.findAll()).singleElement()
+                .satisfies(blob -> assertThat(blob.getRefCount()).isEqualTo(2));
+    }
+
+    private List<Long> ids(List<Replay> replays) {
+        return replays.stream().map(Replay::getId).toList();
+    }
+
+    private List<Replay> record(User left, User right, String roomId, long seed) {
+        GameRoom room = new GameRoom(left, right, MatchType.NORMAL, new DeterministicEngine(roomId, seed, 50));
+        replayService.startRecording(room);
+        GameResult result = gameResultRepository.save(new GameResult(left, right, 5, 3, room.getRoomId(),
+                MatchType.NORMAL, 0, 0, left.getRating(), right.getRating(),
+                LocalDateTime.now(), LocalDateTime.now()));
+        return replayService.completeRecording(room, result);
+    }
+}
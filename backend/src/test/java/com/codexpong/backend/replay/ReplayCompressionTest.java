@@ -0,0 +1,119 @@
+package com.codexpong.backend.replay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.user.domain.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/replay/ReplayCompressionTest.java
+ * 설명:
+ *   - 실제 엔진으로 진행한 경기를 평문/블록 압축으로 함께 녹화해 압축본이 10배 이상 작은지 검증한다.
+ *   - 압축 파일 전체가 하나의 gzip 스트림으로 평문과 같은 내용으로 풀리는지 확인한다.
+ *   - 색인으로 잘라낸 압축 구간도 독립적으로 풀리며 요청 구간의 이벤트를 포함하는지 확인한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-compressed-replay.md
+ */
+class ReplayCompressionTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplayCompressionTest.class);
+    private static final long TICK_MS = 50;
+    private static final int MAX_TICKS = 12_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("블록 압축 리플레이는 평문보다 10배 이상 작고 같은 내용으로 풀린다")
+    void compressedReplayIsTenTimesSmaller() throws Exception {
+        Path plain = dir.resolve("room-1.jsonl");
+        Path compressed = dir.resolve("room-1.jsonl.gz");
+        recordMatch(plain, compressed);
+
+        long plainBytes = Files.size(plain);
+        long compressedBytes = Files.size(compressed);
+        log.info("compressed replay plainBytes={} compressedBytes={}", plainBytes, compressedBytes);
+        assertThat(compressedBytes * 10).isLessThanOrEqualTo(plainBytes);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(compressed))) {
+            assertThat(in.readAllBytes()).isEqualTo(Files.readAllBytes(plain));
+        }
+    }
+
+    @Test
+    @DisplayName("색인으로 잘라낸 압축 구간은 독립적으로 풀리고 요청 구간을 포함한다")
+    void compressedSliceDecodesIndependently() throws Exception {
+        Path plain = dir.resolve("room-2.jsonl");
+        Path compressed = dir.resolve("room-2.jsonl.gz");
+        long lastOffset = recordMatch(plain, compressed);
+        long fromMs = lastOffset / 2;
+        long toMs = fromMs + 2_000;
+
+        ReplayIndex index = ReplayIndex.read(compressed.resolveSibling(compressed.getFileName() + ReplayIndex.SUFFIX));
+        long[] range = index.slice(fromMs, toMs, Files.size(compressed));
+        ReplaySliceResource slice = new ReplaySliceResource(compressed, range[0], range[1] - range[0]);
+        List<Long> offsets;
+        try (InputStream in = new GZIPInputStream(slice.getInputStream())) {
+            offsets = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines()
+                    .map(line -> readOffset(line))
+                    .toList();
+        }
+
+        assertThat(slice.contentLength()).isLessThan(Files.size(compressed) / 4);
+        assertThat(offsets.get(0)).isLessThanOrEqualTo(fromMs);
+        assertThat(offsets.get(offsets.size() - 1)).isGreaterThanOrEqualTo(toMs);
+        assertThat(offsets.get(offsets.size() - 1) - offsets.get(0))
+                .isLessThan(toMs - fromMs + 2 * ReplayRecorder.CHUNK_INTERVAL_MS);
+    }
+
+    private long recordMatch(Path plainTarget, Path compressedTarget) throws Exception {
+        User left = user(1L, "left");
+        User right = user(2L, "right");
+        GameRoom room = new GameRoom(left, right, MatchType.NORMAL);
+        ReplayRecorder plain = ReplayRecorder.open(dir.resolve(".recording/plain.part"), 0);
+        ReplayRecorder compressed = ReplayRecorder.openCompressed(dir.resolve(".recording/compressed.part"), 0);
+        long offset = 0;
+        for (int tick = 0; tick < MAX_TICKS && !room.isFinished(); tick++) {
+            room.updateInput(left.getId(), tick % 40 < 20 ? PaddleInput.UP : PaddleInput.DOWN);
+            room.updateInput(right.getId(), tick % 30 < 10 ? PaddleInput.STAY : PaddleInput.DOWN);
+            offset = tick * TICK_MS;
+            ReplayEventRecord event = new ReplayEventRecord(offset, room.advance(TICK_MS / 1000.0).toSnapshot());
+            plain.append(event, objectMapper);
+            compressed.append(event, objectMapper);
+        }
+        plain.complete(plainTarget);
+        compressed.complete(compressedTarget);
+        return offset;
+    }
+
+    private long readOffset(String line) {
+        try {
+            return objectMapper.readTree(line).path("offsetMs").asLong();
+        } catch (Exception ex) {
+            throw new AssertionError("압축 구간 경계가 줄 경계와 어긋났습니다: " + line, ex);
+        }
+    }
+
+    private static User user(Long id, String username) {
+        User user = new User(username, "pass", username, null);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
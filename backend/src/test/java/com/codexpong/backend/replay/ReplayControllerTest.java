@@ -3,6 +3,7 @@ package com.codexpong.backend.replay;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.codexpong.backend.game.GameResult;
@@ -16,8 +17,12 @@ import com.codexpong.backend.job.JobRepository;
 import com.codexpong.backend.user.domain.User;
 import com.codexpong.backend.user.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,7 +38,9 @@ import org.springframework.test.web.servlet.MockMvc;
  * 설명:
  *   - v0.11.0 리플레이 목록/상세/이벤트 스트림 API의 권한 및 응답 형식을 검증한다.
  *   - 소유자만 접근 가능하도록 제한하며 녹화 버퍼로 생성한 JSONL 파일을 내려받을 수 있는지 확인한다.
- * 버전: v0.11.0
+ *   - Range 요청은 206 부분 응답, fromMs/toMs는 구간 조회, 뒤집힌 구간은 400인지 확인한다.
+ *   - 압축 저장된 리플레이는 gzip을 받는 클라이언트에 Content-Encoding: gzip으로, 아니면 평문으로 내려가는지 확인한다.
+ * 버전: v1.2.0
  * 관련 설계문서:
  *   - design/backend/v0.11.0-replay-recording-and-storage.md
  */
@@ -101,6 +108,7 @@ class ReplayControllerTest {
                 LocalDateTime.now(), LocalDateTime.now()));
         replayService.completeRecording(room, result);
         Replay replay = replayRepository.findByOwnerOrderByCreatedAtDesc(owner).get(0);
+        assertThat(replay.getEventFormat()).isEqualTo(ReplayService.COMPRESSED_EVENT_FORMAT);
 
         mockMvc.perform(get("/api/replays")
                         .header("Authorization", "Bearer " + ownerToken))
@@ -122,7 +130,41 @@ class ReplayControllerTest {
                         .header("Authorization", "Bearer " + ownerToken))
                 .andExpect(status().isOk())
                 .andExpect(mvcResult -> assertThat(mvcResult.getResponse().getContentType())
-                        .isEqualTo("application/x-ndjson"));
+                        .isEqualTo("application/x-ndjson"))
+                .andExpect(mvcResult -> assertThat(mvcResult.getResponse().getHeader("Content-Encoding")).isNull())
+                .andExpect(mvcResult -> assertThat(mvcResult.getResponse().getContentAsString())
+                        .contains("\"finished\":true"));
+
+        byte[] gzipped = mockMvc.perform(get("/api/replays/" + replay.getId() + "/events")
+                        .header("Authorization", "Bearer " + ownerToken)
+                        .header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8).lines()).hasSize(3);
+        }
+
+        mockMvc.perform(get("/api/replays/" + replay.getId() + "/events")
+                        .header("Authorization", "Bearer " + ownerToken)
+                        .header("Accept-Encoding", "gzip")
+                        .header("Range", "bytes=0-9"))
+                .andExpect(status().isPartialContent())
+                .andExpect(mvcResult -> assertThat(mvcResult.getResponse().getContentAsByteArray()).hasSize(10));
+
+        mockMvc.perform(get("/api/replays/" + replay.getId() + "/events")
+                        .param("fromMs", "0")
+                        .param("toMs", "0")
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isOk())
+                .andExpect(mvcResult -> assertThat(mvcResult.getResponse().getContentAsString())
+                        .contains("\"offsetMs\":0"));
+
+        mockMvc.perform(get("/api/replays/" + replay.getId() + "/events")
+                        .param("fromMs", "10")
+                        .param("toMs", "5")
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isBadRequest());
     }
 
     private String obtainToken(String username) throws Exception {
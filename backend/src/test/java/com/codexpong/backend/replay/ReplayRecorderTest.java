@@ -0,0 +1,70 @@
+package com.codexpong.backend.replay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/replay/ReplayRecorderTest.java
+ * 설명:
+ *   - 녹화 중 이벤트가 버퍼 크기 이상 힙에 쌓이지 않고 임시 파일로 바로 흘러가는지 검증한다.
+ *   - 증분 계산한 SHA-256이 최종 파일 전체 해시와 같고, 완료/폐기 후 임시 파일이 남지 않는지 확인한다.
+ * 버전: v1.2.0
+ */
+class ReplayRecorderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("이벤트는 파일로 바로 흘러가고 증분 체크섬은 최종 파일 해시와 같다")
+    void streamsEventsAndChecksumsIncrementally() throws Exception {
+        Path part = dir.resolve(".recording/room.jsonl.part");
+        ReplayRecorder recorder = ReplayRecorder.open(part, 0);
+        long written = 0;
+        for (int tick = 0; tick < 5_000; tick++) {
+            ReplayEventRecord event = new ReplayEventRecord(tick * 50L, snapshot(tick));
+            written += objectMapper.writeValueAsBytes(event).length + 1;
+            recorder.append(event, objectMapper);
+            assertThat(Files.size(part)).isGreaterThan(written - ReplayRecorder.BUFFER_BYTES - 1);
+        }
+        assertThat(recorder.eventCount()).isEqualTo(5_000);
+        assertThat(recorder.lastOffsetMs()).isEqualTo(4_999 * 50L);
+
+        Path target = dir.resolve("room-1.jsonl");
+        String checksum = recorder.complete(target);
+
+        byte[] bytes = Files.readAllBytes(target);
+        assertThat(bytes).hasSize((int) written);
+        assertThat(checksum).isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes)));
+        assertThat(Files.exists(part)).isFalse();
+        assertThat(Files.readAllLines(target)).hasSize(5_000);
+    }
+
+    @Test
+    @DisplayName("폐기된 녹화는 임시 파일을 남기지 않는다")
+    void discardRemovesPartFile() throws Exception {
+        Path part = dir.resolve(".recording/abandoned.jsonl.part");
+        ReplayRecorder recorder = ReplayRecorder.open(part, 0);
+        recorder.append(new ReplayEventRecord(0, snapshot(0)), objectMapper);
+
+        recorder.discard();
+        recorder.append(new ReplayEventRecord(50, snapshot(1)), objectMapper);
+
+        assertThat(Files.exists(part)).isFalse();
+    }
+
+    private static GameSnapshot snapshot(int tick) {
+        return new GameSnapshot("room", 400 + tick % 300, 240, 280, 140, 200, 200, tick / 1_000, 0, 5, false);
+    }
+}
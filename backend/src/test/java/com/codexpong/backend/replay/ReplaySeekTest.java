@@ -0,0 +1,112 @@
+package com.codexpong.backend.replay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/replay/ReplaySeekTest.java
+ * 설명:
+ *   - 녹화 시 저장한 시간 색인으로 10분 경기의 1초 구간만 읽을 때, 읽는 바이트가 구간 크기에 비례하는지 검증한다.
+ *   - 잘라낸 구간이 줄 경계에서 시작/끝나고 요청 구간의 이벤트를 빠짐없이 포함하는지 확인한다.
+ *   - 색인 없는 예전 리플레이를 훑어 만든 색인이 녹화 시 색인과 같은 구간을 돌려주는지 확인한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-seekable-replay.md
+ */
+class ReplaySeekTest {
+
+    private static final long TICK_MS = 50;
+    private static final int TICKS = 12_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("3분 지점 1초 구간은 색인 간격만큼의 바이트만 읽어 돌려준다")
+    void sliceReadsOnlyTheRequestedWindow() throws Exception {
+        Path target = record();
+        long fileSize = Files.size(target);
+        ReplayIndex index = ReplayIndex.read(target.resolveSibling(target.getFileName() + ReplayIndex.SUFFIX));
+        assertThat(index.size()).isEqualTo((int) (TICKS * TICK_MS / ReplayIndex.INTERVAL_MS));
+
+        long[] range = index.slice(180_000, 181_000, fileSize);
+        ReplaySliceResource slice = new ReplaySliceResource(target, range[0], range[1] - range[0]);
+        List<ReplayEventRecord> events = readAll(slice);
+
+        assertThat(slice.contentLength()).isLessThan(fileSize / 100);
+        assertThat(events).extracting(ReplayEventRecord::offsetMs)
+                .contains(180_000L, 181_000L)
+                .allSatisfy(offset -> assertThat(offset).isBetween(180_000L, 181_000L + ReplayIndex.INTERVAL_MS));
+    }
+
+    @Test
+    @DisplayName("구간이 파일 끝을 넘으면 마지막 이벤트까지 돌려준다")
+    void sliceBeyondEndStopsAtFileEnd() throws Exception {
+        Path target = record();
+        long fileSize = Files.size(target);
+        ReplayIndex index = ReplayIndex.read(target.resolveSibling(target.getFileName() + ReplayIndex.SUFFIX));
+
+        long[] range = index.slice(599_500, Long.MAX_VALUE, fileSize);
+        List<ReplayEventRecord> events = readAll(new ReplaySliceResource(target, range[0], range[1] - range[0]));
+
+        assertThat(range[1]).isEqualTo(fileSize);
+        assertThat(events.get(events.size() - 1).offsetMs()).isEqualTo((TICKS - 1) * TICK_MS);
+    }
+
+    @Test
+    @DisplayName("색인 없는 리플레이는 한 번 훑어 같은 색인을 만든다")
+    void buildMatchesRecordedIndex() throws Exception {
+        Path target = record();
+        long fileSize = Files.size(target);
+        ReplayIndex recorded = ReplayIndex.read(target.resolveSibling(target.getFileName() + ReplayIndex.SUFFIX));
+        ReplayIndex rebuilt = ReplayIndex.build(target, objectMapper);
+
+        assertThat(rebuilt.size()).isEqualTo(recorded.size());
+        for (long from = 0; from < TICKS * TICK_MS; from += 37_123) {
+            assertThat(rebuilt.slice(from, from + 5_000, fileSize))
+                    .containsExactly(recorded.slice(from, from + 5_000, fileSize));
+        }
+    }
+
+    private Path record() throws Exception {
+        ReplayRecorder recorder = ReplayRecorder.open(dir.resolve(".recording/room.jsonl.part"), 0);
+        for (int tick = 0; tick < TICKS; tick++) {
+            recorder.append(new ReplayEventRecord(tick * TICK_MS, snapshot(tick)), objectMapper);
+        }
+        Path target = dir.resolve("room-1.jsonl");
+        recorder.complete(target);
+        return target;
+    }
+
+    private List<ReplayEventRecord> readAll(ReplaySliceResource slice) throws Exception {
+        try (InputStream in = slice.getInputStream()) {
+            String text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(text).endsWith("\n");
+            return text.lines()
+                    .map(line -> {
+                        try {
+                            return objectMapper.readValue(line, ReplayEventRecord.class);
+                        } catch (Exception ex) {
+                            throw new AssertionError("줄 경계가 어긋났습니다: " + line, ex);
+                        }
+                    })
+                    .toList();
+        }
+    }
+
+    private static GameSnapshot snapshot(int tick) {
+        return new GameSnapshot("room", 400 + tick % 300, 240, 280, 140, 200, 200, tick / 1_000, 0, 5, false);
+    }
+}
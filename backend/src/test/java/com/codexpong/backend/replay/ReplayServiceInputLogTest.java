@@ -0,0 +1,118 @@
+package com.codexpong.backend.replay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.codexpong.backend.game.GameResult;
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.engine.DeterministicEngine;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.user.domain.User;
+import com.codexpong.backend.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/replay/ReplayServiceInputLogTest.java
+ * 설명:
+ *   - 결정적 엔진 경기를 REPLAY_INPUTS_V2로 저장하고, 스트리밍/내보내기 시 재시뮬레이션한 이벤트가
+ *     실제 경기 틱 스냅샷과 같은지 검증한다.
+ *   - 같은 경기를 JSONL_V1로 저장했을 때보다 파일이 100배 이상 작은지 확인한다.
+ * 버전: v1.2.0
+ */
+class ReplayServiceInputLogTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplayServiceInputLogTest.class);
+    private static final long TICK_MILLIS = 50;
+    private static final int MAX_TICKS = 200_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path storageDir;
+
+    @Test
+    @DisplayName("입력 로그 리플레이는 재시뮬레이션으로 경기 스냅샷을 그대로 복원하고 100배 이상 작다")
+    void inputLogReplayResimulatesMatch() throws Exception {
+        ReplayRepository replayRepository = mock(ReplayRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(replayRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        ReplayService replayService = new ReplayService(replayRepository, mock(ReplayBlobRepository.class),
+                userRepository, objectMapper, storageDir.toString());
+        User left = user(1L, "left");
+        User right = user(2L, "right");
+        GameRoom room = new GameRoom(left, right, MatchType.NORMAL,
+                new DeterministicEngine("room-v2", 1234L, TICK_MILLIS));
+        replayService.startRecording(room);
+
+        List<ReplayEventRecord> live = new ArrayList<>();
+        live.add(new ReplayEventRecord(0, room.currentSnapshot()));
+        for (int tick = 0; tick < MAX_TICKS && !room.isFinished(); tick++) {
+            room.updateInput(left.getId(), tick % 40 < 20 ? PaddleInput.UP : PaddleInput.DOWN);
+            room.updateInput(right.getId(), tick % 30 < 10 ? PaddleInput.STAY : PaddleInput.DOWN);
+            var snapshot = room.advance(TICK_MILLIS / 1000.0).toSnapshot();
+            replayService.appendSnapshot(room.getRoomId(), snapshot);
+            live.add(new ReplayEventRecord((tick + 1) * TICK_MILLIS, snapshot));
+        }
+        assertThat(room.isFinished()).isTrue();
+
+        GameResult result = mock(GameResult.class);
+        when(result.getId()).thenReturn(7L);
+        when(result.getPlayerA()).thenReturn(left);
+        when(result.getPlayerB()).thenReturn(right);
+        List<Replay> replays = replayService.completeRecording(room, result);
+        Replay replay = replays.get(0);
+        ReflectionTestUtils.setField(replay, "id", 70L);
+        assertThat(replay.getEventFormat()).isEqualTo(InputReplay.FORMAT);
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(left));
+        when(replayRepository.findByIdAndOwner(eq(70L), any())).thenReturn(Optional.of(replay));
+        List<String> streamed;
+        try (InputStream in = replayService.streamEvents(1L, 70L).getInputStream()) {
+            streamed = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+        }
+        List<String> expected = live.stream().map(this::write).toList();
+        assertThat(streamed).isEqualTo(expected);
+
+        Path exported = replayService.resolveEventsFile(replay);
+        assertThat(Files.readAllLines(exported)).isEqualTo(expected);
+
+        long inputBytes = Files.size(Paths.get(replay.getStorageUri()));
+        long snapshotBytes = Files.size(exported);
+        log.info("input log replay ticks={} inputBytes={} snapshotBytes={}", live.size() - 1, inputBytes,
+                snapshotBytes);
+        assertThat(inputBytes * 100).isLessThan(snapshotBytes);
+    }
+
+    private String write(ReplayEventRecord event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private User user(Long id, String name) {
+        User user = new User(name, "pass", name, null);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,127 @@
+package com.codexpong.backend.replay.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.chat.repository.ChatMessageRepository;
+import com.codexpong.backend.chat.repository.ChatMuteRepository;
+import com.codexpong.backend.game.GameResult;
+import com.codexpong.backend.game.GameResultRepository;
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.job.JobRepository;
+import com.codexpong.backend.replay.Replay;
+import com.codexpong.backend.replay.ReplayBlobRepository;
+import com.codexpong.backend.replay.ReplayRepository;
+import com.codexpong.backend.replay.ReplayService;
+import com.codexpong.backend.user.domain.User;
+import com.codexpong.backend.user.repository.UserRepository;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * [통합 테스트] backend/src/test/java/com/codexpong/backend/replay/store/ReplayTierMigratorTest.java
+ * 설명:
+ *   - 기준 시각보다 오래된 핫 리플레이가 콜드 티어로 옮겨지고 두 소유자 행의 storageUri가 함께 바뀌는지 검증한다.
+ *   - 옮긴 뒤 핫 파일은 지워지고, 스트리밍과 내보내기 경로 해석은 로컬 캐시를 거쳐 같은 내용을 돌려주는지 확인한다.
+ *   - 기준 시각 이후 리플레이는 옮기지 않는지, ReplayBlob의 storageUri도 함께 바뀌는지 확인한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-tiered-replay-storage.md
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReplayTierMigratorTest {
+
+    @Autowired
+    private ReplayTierMigrator migrator;
+
+    @Autowired
+    private ReplayService replayService;
+
+    @Autowired
+    private ReplayRepository replayRepository;
+
+    @Autowired
+    private ReplayBlobRepository blobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameResultRepository gameResultRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ChatMuteRepository chatMuteRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @BeforeEach
+    void cleanUp() {
+        jobRepository.deleteAll();
+        replayRepository.deleteAll();
+        blobRepository.deleteAll();
+        gameResultRepository.deleteAll();
+        chatMessageRepository.deleteAll();
+        chatMuteRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("오래된 핫 리플레이는 콜드 티어로 옮겨지고 캐시를 거쳐 그대로 재생된다")
+    void migratesOldReplaysToColdTier() throws Exception {
+        String suffix = String.valueOf(System.nanoTime());
+        User owner = userRepository.save(new User("tier-owner-" + suffix, "password123", "소유자", null));
+        User opponent = userRepository.save(new User("tier-opponent-" + suffix, "password123", "상대", null));
+        Replay replay = recordReplay(owner, opponent);
+        String hotUri = replay.getStorageUri();
+        String before = readEvents(owner, replay);
+
+        assertThat(migrator.migrateCreatedBefore(LocalDateTime.now().minusYears(1))).isZero();
+        int migrated = migrator.migrateCreatedBefore(LocalDateTime.now().plusYears(1));
+
+        assertThat(migrated).isEqualTo(1);
+        List<Replay> rows = replayRepository.findAll();
+        assertThat(rows).hasSize(2).allSatisfy(row -> assertThat(row.getStorageUri()).startsWith("s3://"));
+        assertThat(blobRepository.findById(replay.getChecksum()).orElseThrow().getStorageUri())
+                .isEqualTo(rows.get(0).getStorageUri());
+        assertThat(Files.exists(Path.of(hotUri))).isFalse();
+        assertThat(readEvents(owner, replay)).isEqualTo(before);
+        Path exported = replayService.resolveEventsFile(replayRepository.findById(replay.getId()).orElseThrow());
+        assertThat(exported).exists();
+        assertThat(migrator.migrateCreatedBefore(LocalDateTime.now().plusYears(1))).isZero();
+    }
+
+    private Replay recordReplay(User owner, User opponent) {
+        GameRoom room = new GameRoom(owner, opponent, MatchType.NORMAL);
+        replayService.startRecording(room);
+        replayService.appendSnapshot(room.getRoomId(), room.currentSnapshot());
+        replayService.appendSnapshot(room.getRoomId(),
+                new GameSnapshot(room.getRoomId(), 0, 0, 0, 0, 10, 20, 5, 3, 5, true));
+        GameResult result = gameResultRepository.save(new GameResult(owner, opponent, 5, 3, room.getRoomId(),
+                MatchType.NORMAL, 0, 0, owner.getRating(), opponent.getRating(),
+                LocalDateTime.now(), LocalDateTime.now()));
+        replayService.completeRecording(room, result);
+        return replayRepository.findByOwnerOrderByCreatedAtDesc(owner).get(0);
+    }
+
+    private String readEvents(User owner, Replay replay) throws Exception {
+        try (InputStream in = replayService.streamEvents(owner.getId(), replay.getId()).getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
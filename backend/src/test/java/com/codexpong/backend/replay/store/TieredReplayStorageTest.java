@@ -0,0 +1,136 @@
+package com.codexpong.backend.replay.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.codexpong.backend.observability.ObservabilityMetrics;
+import com.codexpong.backend.observability.ObservabilityMetrics.ReplayStorageMeters;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/replay/store/TieredReplayStorageTest.java
+ * 설명:
+ *   - 핫 리플레이를 파일시스템 오브젝트 스토리지 스탠드인(콜드)으로 옮긴 뒤 로컬 캐시를 거쳐 같은 내용으로 읽히는지 검증한다.
+ *   - 캐시는 두 번째 읽기부터 적중하고, 용량을 넘으면 가장 오래 쓰지 않은 항목부터 지우는지 확인한다.
+ *   - 콜드 삭제가 오브젝트와 캐시를 함께 정리하고, 버킷 밖을 가리키는 키는 거절되는지 확인한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-tiered-replay-storage.md
+ */
+class TieredReplayStorageTest {
+
+    private static final int FILE_BYTES = 1_000;
+
+    @TempDir
+    Path dir;
+
+    private SimpleMeterRegistry registry;
+    private ReplayStorageMeters meters;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        meters = new ObservabilityMetrics(registry).replayStorageMeters(() -> 0);
+    }
+
+    @Test
+    @DisplayName("콜드로 옮긴 리플레이는 캐시를 거쳐 색인과 함께 같은 내용으로 읽힌다")
+    void archivedReplayReadsThroughCache() throws Exception {
+        TieredReplayStorage storage = storage(10 * FILE_BYTES);
+        String hotUri = hotReplay("room-1.jsonl.gz", 'a');
+
+        String coldUri = storage.archive(hotUri);
+        storage.deleteHot(hotUri);
+
+        assertThat(coldUri).isEqualTo("s3://replays/room-1.jsonl.gz");
+        assertThat(storage.isCold(coldUri)).isTrue();
+        assertThat(Files.exists(Path.of(hotUri))).isFalse();
+        assertThat(Files.exists(Path.of(hotUri + ".idx"))).isFalse();
+
+        Path local = storage.localPath(coldUri);
+        assertThat(Files.readString(local)).isEqualTo("a".repeat(FILE_BYTES));
+        assertThat(Files.readString(local.resolveSibling(local.getFileName() + ".idx"))).isEqualTo("index");
+        assertThat(storage.localPath(coldUri)).isEqualTo(local);
+
+        assertThat(cacheRequests("miss")).isEqualTo(1);
+        assertThat(cacheRequests("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시가 용량을 넘으면 가장 오래 쓰지 않은 리플레이부터 지운다")
+    void cacheEvictsLeastRecentlyUsed() throws Exception {
+        TieredReplayStorage storage = storage(2 * FILE_BYTES + 500);
+        String first = storage.archive(hotReplayWithoutIndex("first.jsonl", 'a'));
+        String second = storage.archive(hotReplayWithoutIndex("second.jsonl", 'b'));
+        String third = storage.archive(hotReplayWithoutIndex("third.jsonl", 'c'));
+
+        Path firstLocal = storage.localPath(first);
+        storage.localPath(second);
+        storage.localPath(first);
+        storage.localPath(third);
+
+        ReplayLocalCache cache = storage.cache();
+        assertThat(cache.contains("first.jsonl")).isTrue();
+        assertThat(cache.contains("second.jsonl")).isFalse();
+        assertThat(cache.contains("third.jsonl")).isTrue();
+        assertThat(cache.totalBytes()).isEqualTo(2L * FILE_BYTES);
+        assertThat(Files.exists(firstLocal)).isTrue();
+
+        assertThat(Files.readString(storage.localPath(second))).isEqualTo("b".repeat(FILE_BYTES));
+        assertThat(cacheRequests("miss")).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("콜드 리플레이를 지우면 오브젝트와 캐시 파일이 함께 사라진다")
+    void deleteColdReplayClearsObjectAndCache() throws Exception {
+        TieredReplayStorage storage = storage(10 * FILE_BYTES);
+        String coldUri = storage.archive(hotReplay("gone.jsonl.gz", 'z'));
+        Path local = storage.localPath(coldUri);
+
+        storage.delete(coldUri);
+
+        assertThat(Files.exists(dir.resolve("cold/replays/gone.jsonl.gz"))).isFalse();
+        assertThat(Files.exists(dir.resolve("cold/replays/gone.jsonl.gz.idx"))).isFalse();
+        assertThat(Files.exists(local)).isFalse();
+        assertThat(storage.cache().contains("gone.jsonl.gz")).isFalse();
+    }
+
+    @Test
+    @DisplayName("버킷 밖을 가리키는 오브젝트 키는 거절한다")
+    void objectKeysCannotEscapeBucket() {
+        FileSystemObjectStorageClient client = new FileSystemObjectStorageClient(dir.resolve("cold"));
+
+        assertThatThrownBy(() -> client.headObject("replays", "../other/secret"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private TieredReplayStorage storage(long cacheMaxBytes) {
+        return new TieredReplayStorage(new LocalDiskReplayStore(dir.resolve("hot")),
+                new ObjectStorageReplayStore(new FileSystemObjectStorageClient(dir.resolve("cold")), "replays"),
+                new ReplayLocalCache(dir.resolve("cache"), cacheMaxBytes, meters), meters);
+    }
+
+    private String hotReplay(String name, char fill) throws Exception {
+        String uri = hotReplayWithoutIndex(name, fill);
+        Files.writeString(Path.of(uri + ".idx"), "index", StandardCharsets.UTF_8);
+        return uri;
+    }
+
+    private String hotReplayWithoutIndex(String name, char fill) throws Exception {
+        Path file = dir.resolve("hot").resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, String.valueOf(fill).repeat(FILE_BYTES), StandardCharsets.UTF_8);
+        return file.toAbsolutePath().toString();
+    }
+
+    private double cacheRequests(String result) {
+        return registry.get("replay.cache.requests").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,199 @@
+package com.codexpong.backend.replay.thumbnail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.codexpong.backend.chat.repository.ChatMessageRepository;
+import com.codexpong.backend.chat.repository.ChatMuteRepository;
+import com.codexpong.backend.game.GameResult;
+import com.codexpong.backend.game.GameResultRepository;
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.job.Job;
+import com.codexpong.backend.job.JobRepository;
+import com.codexpong.backend.job.JobStatus;
+import com.codexpong.backend.replay.Replay;
+import com.codexpong.backend.replay.ReplayBlobRepository;
+import com.codexpong.backend.replay.ReplayRepository;
+import com.codexpong.backend.replay.ReplayService;
+import com.codexpong.backend.user.domain.User;
+import com.codexpong.backend.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * [통합 테스트] backend/src/test/java/com/codexpong/backend/replay/thumbnail/ReplayThumbnailServiceTest.java
+ * 설명:
+ *   - 녹화된 리플레이의 썸네일 API가 PNG를 돌려주고, 같은 시점 재요청은 캐시에서 같은 바이트를 주는지 검증한다.
+ *   - 다른 사용자는 캐시에 있더라도 404를 받는지 확인한다.
+ *   - 썸네일 잡이 워커 없이 서버 내 렌더러로 SUCCEEDED까지 가고 결과 파일이 남는지 확인한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-replay-thumbnail-renderer.md
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReplayThumbnailServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReplayThumbnailService thumbnailService;
+
+    @Autowired
+    private ReplayService replayService;
+
+    @Autowired
+    private ReplayRepository replayRepository;
+
+    @Autowired
+    private ReplayBlobRepository blobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameResultRepository gameResultRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ChatMuteRepository chatMuteRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @BeforeEach
+    void cleanUp() {
+        jobRepository.deleteAll();
+        replayRepository.deleteAll();
+        blobRepository.deleteAll();
+        gameResultRepository.deleteAll();
+        chatMessageRepository.deleteAll();
+        chatMuteRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("썸네일 API는 PNG를 돌려주고 같은 시점 재요청은 캐시를 쓰며 타인은 404를 받는다")
+    void rendersThumbnailForOwnerOnly() throws Exception {
+        String suffix = String.valueOf(System.nanoTime());
+        String ownerToken = obtainToken("thumb-owner-" + suffix);
+        String otherToken = obtainToken("thumb-other-" + suffix);
+        Replay replay = recordReplay(userRepository.findByUsername("thumb-owner-" + suffix).orElseThrow(),
+                userRepository.findByUsername("thumb-other-" + suffix).orElseThrow());
+
+        byte[] first = mockMvc.perform(get("/api/replays/" + replay.getId() + "/thumbnail")
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.IMAGE_PNG_VALUE))
+                .andReturn().getResponse().getContentAsByteArray();
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(first));
+        assertThat(image.getWidth()).isEqualTo(1280);
+        assertThat(image.getHeight()).isEqualTo(720);
+        long cached = thumbnailService.cachedBytes();
+        assertThat(cached).isGreaterThanOrEqualTo(first.length);
+
+        byte[] second = mockMvc.perform(get("/api/replays/" + replay.getId() + "/thumbnail")
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(second).isEqualTo(first);
+        assertThat(thumbnailService.cachedBytes()).isEqualTo(cached);
+
+        mockMvc.perform(get("/api/replays/" + replay.getId() + "/thumbnail")
+                        .header("Authorization", "Bearer " + otherToken))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("썸네일 잡은 워커 없이 서버에서 그려져 SUCCEEDED와 결과 파일로 끝난다")
+    void thumbnailJobCompletesInProcess() throws Exception {
+        String suffix = String.valueOf(System.nanoTime());
+        String ownerToken = obtainToken("thumb-job-" + suffix);
+        obtainToken("thumb-job-opponent-" + suffix);
+        Replay replay = recordReplay(userRepository.findByUsername("thumb-job-" + suffix).orElseThrow(),
+                userRepository.findByUsername("thumb-job-opponent-" + suffix).orElseThrow());
+
+        var response = mockMvc.perform(post("/api/replays/" + replay.getId() + "/exports/thumbnail")
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        Long jobId = ((Number) objectMapper.readValue(response, Map.class).get("jobId")).longValue();
+
+        Job job = jobRepository.findById(jobId).orElseThrow();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (job.getStatus() != JobStatus.SUCCEEDED && job.getStatus() != JobStatus.FAILED
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            job = jobRepository.findById(jobId).orElseThrow();
+        }
+
+        assertThat(job.getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(job.getResultChecksum()).hasSize(64);
+        assertThat(Files.size(Path.of(job.getResultUri()))).isEqualTo(job.getResultBytes());
+        Files.deleteIfExists(Path.of(job.getResultUri()));
+    }
+
+    private Replay recordReplay(User owner, User opponent) {
+        GameRoom room = new GameRoom(owner, opponent, MatchType.NORMAL);
+        replayService.startRecording(room);
+        replayService.appendSnapshot(room.getRoomId(), room.currentSnapshot());
+        replayService.appendSnapshot(room.getRoomId(),
+                new GameSnapshot(room.getRoomId(), 0, 0, 0, 0, 10, 20, 5, 3, 5, true));
+        GameResult result = gameResultRepository.save(new GameResult(owner, opponent, 5, 3, room.getRoomId(),
+                MatchType.NORMAL, 0, 0, owner.getRating(), opponent.getRating(),
+                LocalDateTime.now(), LocalDateTime.now()));
+        replayService.completeRecording(room, result);
+        return replayRepository.findByOwnerOrderByCreatedAtDesc(owner).get(0);
+    }
+
+    private String obtainToken(String username) throws Exception {
+        Map<String, String> registerPayload = Map.of(
+                "username", username,
+                "password", "password123",
+                "nickname", "사용자",
+                "avatarUrl", ""
+        );
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerPayload)))
+                .andExpect(status().isOk());
+
+        var loginResult = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "username", username,
+                                "password", "password123"
+                        ))))
+                .andExpect(status().isOk())
+                .andReturn();
+        Map<String, Object> response = objectMapper.readValue(loginResult.getResponse().getContentAsString(), Map.class);
+        return (String) response.get("token");
+    }
+}
@@ -0,0 +1,53 @@
+package com.codexpong.backend.replay.thumbnail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/replay/thumbnail/ThumbnailRasterizerTest.java
+ * 설명:
+ *   - 스냅샷의 공/패들 좌표가 워커와 같은 배율(1.5배, 가로 여백 40px)로 픽셀에 찍히는지 검증한다.
+ *   - PNG 인코딩 결과가 1280x720 이미지로 다시 읽히는지 확인한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-replay-thumbnail-renderer.md
+ */
+class ThumbnailRasterizerTest {
+
+    private static final GameSnapshot SNAPSHOT =
+            new GameSnapshot("room", 300, 300, 0, 0, 200, 100, 3, 2, 5, false);
+
+    @Test
+    @DisplayName("공과 두 패들, 중앙선을 스냅샷 좌표에 맞춰 그린다")
+    void drawsEntitiesAtScaledPositions() {
+        BufferedImage image = ThumbnailRasterizer.rasterize(SNAPSHOT);
+
+        assertThat(rgb(image, 490, 450)).isEqualTo(ThumbnailRasterizer.BALL_COLOR);
+        assertThat(rgb(image, 70, 360)).isEqualTo(ThumbnailRasterizer.PADDLE_COLOR);
+        assertThat(rgb(image, 1210, 200)).isEqualTo(ThumbnailRasterizer.PADDLE_COLOR);
+        assertThat(rgb(image, 70, 200)).isEqualTo(ThumbnailRasterizer.BACKGROUND);
+        assertThat(rgb(image, 900, 600)).isEqualTo(ThumbnailRasterizer.BACKGROUND);
+        assertThat(rgb(image, 640, 600)).isNotEqualTo(ThumbnailRasterizer.BACKGROUND);
+    }
+
+    @Test
+    @DisplayName("PNG로 인코딩한 결과를 1280x720 이미지로 다시 읽을 수 있다")
+    void encodesDecodablePng() throws Exception {
+        byte[] png = ThumbnailRasterizer.renderPng(SNAPSHOT);
+
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(png));
+        assertThat(decoded.getWidth()).isEqualTo(ThumbnailRasterizer.WIDTH);
+        assertThat(decoded.getHeight()).isEqualTo(ThumbnailRasterizer.HEIGHT);
+        assertThat(rgb(decoded, 490, 450)).isEqualTo(ThumbnailRasterizer.BALL_COLOR);
+    }
+
+    private static int rgb(BufferedImage image, int x, int y) {
+        return image.getRGB(x, y) & 0xFFFFFF;
+    }
+}
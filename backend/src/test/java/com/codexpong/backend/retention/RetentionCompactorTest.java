@@ -0,0 +1,200 @@
+package com.codexpong.backend.retention;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.codexpong.backend.chat.repository.ChatMessageRepository;
+import com.codexpong.backend.chat.repository.ChatMuteRepository;
+import com.codexpong.backend.game.GameResult;
+import com.codexpong.backend.game.GameResultRepository;
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.engine.DeterministicEngine;
+import com.codexpong.backend.job.Job;
+import com.codexpong.backend.job.JobExportProperties;
+import com.codexpong.backend.job.JobRepository;
+import com.codexpong.backend.job.JobService;
+import com.codexpong.backend.job.JobType;
+import com.codexpong.backend.replay.Replay;
+import com.codexpong.backend.replay.ReplayBlobRepository;
+import com.codexpong.backend.replay.ReplayRepository;
+import com.codexpong.backend.replay.ReplayService;
+import com.codexpong.backend.user.domain.User;
+import com.codexpong.backend.user.repository.UserRepository;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * [통합 테스트] backend/src/test/java/com/codexpong/backend/retention/RetentionCompactorTest.java
+ * 설명:
+ *   - 경기 종료는 보존 정책을 적용하지 않고, 정리 작업이 소유자별 개수 한도를 넘은 리플레이와
+ *     그 리플레이의 내보내기 잡/결과 파일을 함께 지우는지 검증한다.
+ *   - 내보내기 결과는 파일만 지우고 잡 행은 남기며, 다운로드는 410으로 응답하는지 확인한다.
+ *   - 전역 용량 한도는 오래된 리플레이 파일부터 초과분만큼만 고르는지 확인한다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/backend/v1.2.0-retention-compactor.md
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RetentionCompactorTest {
+
+    @Autowired
+    private RetentionCompactor compactor;
+
+    @Autowired
+    private RetentionProperties properties;
+
+    @Autowired
+    private ReplayService replayService;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobExportProperties exportProperties;
+
+    @Autowired
+    private ReplayRepository replayRepository;
+
+    @Autowired
+    private ReplayBlobRepository blobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameResultRepository gameResultRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ChatMuteRepository chatMuteRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    private RetentionProperties.Policy savedReplays;
+    private RetentionProperties.Policy savedExports;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository.deleteAll();
+        replayRepository.deleteAll();
+        blobRepository.deleteAll();
+        gameResultRepository.deleteAll();
+        chatMessageRepository.deleteAll();
+        chatMuteRepository.deleteAll();
+        userRepository.deleteAll();
+        savedReplays = properties.getReplays();
+        savedExports = properties.getExports();
+    }
+
+    @AfterEach
+    void restorePolicies() {
+        properties.setReplays(savedReplays);
+        properties.setExports(savedExports);
+    }
+
+    @Test
+    @DisplayName("소유자별 한도를 넘은 리플레이와 오래된 내보내기 결과를 백그라운드에서 정리한다")
+    void compactsPerUserPolicies() throws Exception {
+        properties.setReplays(new RetentionProperties.Policy(2, 0, 0, 0));
+        properties.setExports(new RetentionProperties.Policy(1, 0, 0, 0));
+        String suffix = String.valueOf(System.nanoTime());
+        User left = userRepository.save(new User("ret-left-" + suffix, "password123", "왼쪽", null));
+        User right = userRepository.save(new User("ret-right-" + suffix, "password123", "오른쪽", null));
+
+        List<Replay> oldest = record(left, right, "ret-1-" + suffix, 1L);
+        record(left, right, "ret-2-" + suffix, 2L);
+        List<Replay> newest = record(left, right, "ret-3-" + suffix, 3L);
+        assertThat(replayRepository.findByOwnerOrderByCreatedAtDesc(left)).hasSize(3);
+
+        Replay oldestOfLeft = ownedBy(oldest, left);
+        Path orphanedExport = Path.of(export(left, oldestOfLeft, "ret-old-" + suffix, 100).getResultUri());
+        Job olderJob = export(left, ownedBy(newest, left), "ret-a-" + suffix, 200);
+        Path olderExport = Path.of(olderJob.getResultUri());
+        Path newerExport = Path.of(export(left, ownedBy(newest, left), "ret-b-" + suffix, 300).getResultUri());
+
+        RetentionReport report = compactor.compact();
+
+        assertThat(report.replaysDeleted()).isEqualTo(2);
+        assertThat(report.exportsDeleted()).isEqualTo(1);
+        assertThat(report.reclaimedBytes()).isEqualTo(300);
+        assertThat(replayRepository.findByOwnerOrderByCreatedAtDesc(left)).hasSize(2)
+                .noneMatch(replay -> replay.getId().equals(oldestOfLeft.getId()));
+        assertThat(replayRepository.findByOwnerOrderByCreatedAtDesc(right)).hasSize(2);
+        assertThat(blobRepository.findById(oldestOfLeft.getChecksum()).orElseThrow().getRefCount()).isZero();
+        assertThat(orphanedExport).doesNotExist();
+        assertThat(olderExport).doesNotExist();
+        assertThat(newerExport).exists();
+        assertThat(jobRepository.findAll()).hasSize(2);
+        assertThat(jobRepository.findById(olderJob.getId()).orElseThrow().getResultUri()).isNull();
+        assertThatThrownBy(() -> jobService.resolveResultPath(left.getId(), olderJob.getId()))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.GONE));
+
+        RetentionReport again = compactor.compact();
+        assertThat(again.replaysDeleted()).isZero();
+        assertThat(again.exportsDeleted()).isZero();
+    }
+
+    @Test
+    @DisplayName("전역 용량 한도는 오래된 리플레이 파일부터 초과분만큼만 지운다")
+    void compactsGlobalReplayBytes() {
+        String suffix = String.valueOf(System.nanoTime());
+        User left = userRepository.save(new User("ret-gl-" + suffix, "password123", "왼쪽", null));
+        User right = userRepository.save(new User("ret-gr-" + suffix, "password123", "오른쪽", null));
+        List<Replay> oldest = record(left, right, "ret-g1-" + suffix, 11L);
+        List<Replay> middle = record(left, right, "ret-g2-" + suffix, 12L);
+        List<Replay> newest = record(left, right, "ret-g3-" + suffix, 13L);
+        long keep = size(middle) + size(newest);
+        properties.setReplays(new RetentionProperties.Policy(0, 0, 0, keep));
+
+        RetentionReport report = compactor.compact();
+
+        assertThat(report.replaysDeleted()).isEqualTo(2);
+        assertThat(replayRepository.findAll()).hasSize(4)
+                .noneMatch(replay -> replay.getChecksum().equals(oldest.get(0).getChecksum()));
+        assertThat(blobRepository.sumLiveBytes()).isEqualTo(keep);
+    }
+
+    private List<Replay> record(User left, User right, String roomId, long seed) {
+        GameRoom room = new GameRoom(left, right, MatchType.NORMAL, new DeterministicEngine(roomId, seed, 50));
+        replayService.startRecording(room);
+        GameResult result = gameResultRepository.save(new GameResult(left, right, 5, 3, room.getRoomId(),
+                MatchType.NORMAL, 0, 0, left.getRating(), right.getRating(),
+                LocalDateTime.now(), LocalDateTime.now()));
+        return replayService.completeRecording(room, result);
+    }
+
+    private Replay ownedBy(List<Replay> replays, User owner) {
+        return replays.stream().filter(replay -> replay.getOwner().getId().equals(owner.getId())).findFirst()
+                .orElseThrow();
+    }
+
+    private long size(List<Replay> replays) {
+        return blobRepository.findById(replays.get(0).getChecksum()).orElseThrow().getSizeBytes();
+    }
+
+    private Job export(User owner, Replay replay, String name, int bytes) throws Exception {
+        Path file = Path.of(exportProperties.getPath()).toAbsolutePath().normalize().resolve(name + ".mp4");
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[bytes]);
+        Job job = jobRepository.save(new Job(JobType.REPLAY_EXPORT_MP4, owner, replay));
+        job.succeed(file.toString(), "checksum", (long) bytes);
+        return jobRepository.save(job);
+    }
+}
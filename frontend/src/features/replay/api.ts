@@ -7,9 +7,11 @@ import { ReplayDetail, ReplayEventRecord, ReplayPage } from '../../shared/types/
  * 설명:
  *   - v0.11.0 리플레이 목록/상세 조회와 이벤트 파일 다운로드를 위한 클라이언트 유틸이다.
  *   - 백엔드가 제공하는 JSONL_V1 포맷을 그대로 파싱해 재생 데이터로 변환한다.
- * 버전: v0.11.0
+ *   - v1.2.0부터 fromMs/toMs로 필요한 시간 구간만 받아올 수 있다.
+ * 버전: v1.2.0
  * 관련 설계문서:
  *   - design/frontend/v0.11.0-replay-browser-and-viewer.md
+ *   - design/backend/v1.2.0-seekable-replay.md
  */
 export function fetchReplays(token: string, page = 0, size = 20) {
   return apiFetch<ReplayPage>(`/api/replays?page=${page}&size=${size}`, { method: 'GET' }, token)
@@ -19,8 +21,21 @@ export function fetchReplayDetail(replayId: number, token: string) {
   return apiFetch<ReplayDetail>(`/api/replays/${replayId}`, { method: 'GET' }, token)
 }
 
-export async function fetchReplayEvents(downloadPath: string, token: string) {
-  const response = await fetch(`${API_BASE_URL}${downloadPath}`, {
+export interface ReplayEventRange {
+  fromMs?: number
+  toMs?: number
+}
+
+export async function fetchReplayEvents(downloadPath: string, token: string, range?: ReplayEventRange) {
+  const params = new URLSearchParams()
+  if (range?.fromMs !== undefined) {
+    params.set('fromMs', String(range.fromMs))
+  }
+  if (range?.toMs !== undefined) {
+    params.set('toMs', String(range.toMs))
+  }
+  const query = params.toString()
+  const response = await fetch(`${API_BASE_URL}${downloadPath}${query ? `?${query}` : ''}`, {
     headers: {
       Authorization: `Bearer ${token}`,
     },
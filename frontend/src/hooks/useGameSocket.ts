@@ -1,5 +1,7 @@
 import { useEffect, useRef, useState } from 'react'
 import { WS_BASE_URL } from '../constants'
+import { decodeBinaryStateFrame } from '../shared/realtime/binaryStateFrame'
+import { DeltaStateDecoder } from '../shared/realtime/deltaStateDecoder'
 import { GameServerMessage, GameSnapshot, RatingChange } from '../shared/types/game'
 
 /**
@@ -8,15 +10,19 @@ import { GameServerMessage, GameSnapshot, RatingChange } from '../shared/types/g
  *   - 주어진 roomId와 토큰으로 게임 WebSocket을 연결하고 상태 스냅샷을 관리한다.
  *   - 입력 방향을 서버에 전송하는 헬퍼를 제공한다.
  *   - v0.8.0에서는 관전자 역할 구분과 관전자 수 상태를 반환한다.
- * 버전: v0.8.0
+ *   - v1.2.0에서는 encoding='binary' | 'delta' 옵트인 시 바이너리/델타 STATE 프레임을 해석한다.
+ * 버전: v1.2.0
  * 관련 설계문서:
  *   - design/frontend/v0.8.0-spectator-ui.md
  *   - design/realtime/v0.8.0-spectator-events.md
+ *   - design/realtime/v1.2.0-binary-state-frames.md
+ *   - design/realtime/v1.2.0-delta-state-stream.md
  */
 export function useGameSocket(
   roomId?: string | null,
   token?: string | null,
   audience: 'PLAYER' | 'SPECTATOR' = 'PLAYER',
+  encoding: 'json' | 'binary' | 'delta' = 'json',
 ) {
   const [connected, setConnected] = useState(false)
   const [error, setError] = useState('')
@@ -36,8 +42,10 @@ export function useGameSocket(
     setSpectatorCount(0)
 
     const socket = new WebSocket(
-      `${WS_BASE_URL}/ws/game?roomId=${encodeURIComponent(roomId)}&token=${encodeURIComponent(token)}&role=${audience}`,
+      `${WS_BASE_URL}/ws/game?roomId=${encodeURIComponent(roomId)}&token=${encodeURIComponent(token)}&role=${audience}&encoding=${encoding}`,
     )
+    socket.binaryType = 'arraybuffer'
+    const deltaDecoder = new DeltaStateDecoder(roomId)
     socketRef.current = socket
 
     socket.onopen = () => {
@@ -47,6 +55,22 @@ export function useGameSocket(
     socket.onclose = () => setConnected(false)
     socket.onerror = () => setError('실시간 연결에 실패했습니다.')
     socket.onmessage = (event) => {
+      if (event.data instanceof ArrayBuffer) {
+        if (encoding === 'delta') {
+          const decoded = deltaDecoder.apply(event.data)
+          if (decoded) {
+            setSnapshot(decoded)
+            setSpectatorCount(deltaDecoder.spectatorCount)
+          }
+          return
+        }
+        const frame = decodeBinaryStateFrame(roomId, event.data)
+        if (frame) {
+          setSnapshot(frame.snapshot)
+          setSpectatorCount(frame.spectatorCount)
+        }
+        return
+      }
       const data: GameServerMessage = JSON.parse(event.data)
       setSnapshot(data.snapshot)
       setMatchType(data.matchType)
@@ -64,7 +88,7 @@ export function useGameSocket(
     return () => {
       socket.close()
     }
-  }, [roomId, token, audience])
+  }, [roomId, token, audience, encoding])
 
   const sendInput = (direction: 'UP' | 'DOWN' | 'STAY') => {
     if (
@@ -0,0 +1,38 @@
+import { GameSnapshot } from '../types/game'
+
+/**
+ * [모듈] frontend/src/shared/realtime/binaryStateFrame.ts
+ * 설명:
+ *   - encoding=binary로 접속한 게임 소켓이 받는 68바이트 STATE 프레임을 해석한다.
+ *   - 레이아웃은 little-endian이며 백엔드 BinaryStateFrame과 동일하다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.2.0-binary-state-frames.md
+ */
+export const BINARY_STATE_FRAME_SIZE = 68
+const TYPE_STATE = 0x01
+
+export function decodeBinaryStateFrame(
+  roomId: string,
+  buffer: ArrayBuffer,
+): { snapshot: GameSnapshot; spectatorCount: number } | null {
+  if (buffer.byteLength < BINARY_STATE_FRAME_SIZE) return null
+  const view = new DataView(buffer)
+  if (view.getUint8(0) !== TYPE_STATE) return null
+  return {
+    snapshot: {
+      roomId,
+      finished: (view.getUint8(1) & 0x01) === 0x01,
+      ballX: view.getFloat64(4, true),
+      ballY: view.getFloat64(12, true),
+      ballVelocityX: view.getFloat64(20, true),
+      ballVelocityY: view.getFloat64(28, true),
+      leftPaddleY: view.getFloat64(36, true),
+      rightPaddleY: view.getFloat64(44, true),
+      leftScore: view.getInt32(52, true),
+      rightScore: view.getInt32(56, true),
+      targetScore: view.getInt32(60, true),
+    },
+    spectatorCount: view.getInt32(64, true),
+  }
+}
@@ -0,0 +1,103 @@
+import { GameSnapshot } from '../types/game'
+
+/**
+ * [모듈] frontend/src/shared/realtime/deltaStateDecoder.ts
+ * 설명:
+ *   - encoding=delta로 접속한 게임 소켓의 키프레임/델타 프레임에서 스냅샷을 복원한다.
+ *   - 키프레임 전이거나 시퀀스가 끊긴 델타는 버리고 다음 키프레임을 기다린다.
+ *   - 레이아웃은 백엔드 DeltaStateEncoder와 동일하다.
+ * 버전: v1.2.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.2.0-delta-state-stream.md
+ */
+const TYPE_KEYFRAME = 0x02
+const TYPE_DELTA = 0x03
+const FIELD_COUNT = 6
+const MASK_SCORES = 1 << 6
+const MASK_SPECTATORS = 1 << 7
+
+export class DeltaStateDecoder {
+  private readonly state = new Array<number>(FIELD_COUNT).fill(0)
+  private precision = 0
+  private leftScore = 0
+  private rightScore = 0
+  private targetScore = 0
+  private lastSequence = -1
+  spectatorCount = 0
+
+  constructor(private readonly roomId: string) {}
+
+  apply(buffer: ArrayBuffer): GameSnapshot | null {
+    const view = new DataView(buffer)
+    const reader = { offset: 4 }
+    const type = view.getUint8(0)
+    const finished = (view.getUint8(1) & 0x01) === 0x01
+    const sequence = view.getUint16(2, true)
+    if (type === TYPE_KEYFRAME) {
+      this.precision = view.getFloat64(4, true)
+      reader.offset = 12
+      for (let i = 0; i < FIELD_COUNT; i += 1) {
+        this.state[i] = readSigned(view, reader)
+      }
+      this.leftScore = readUnsigned(view, reader)
+      this.rightScore = readUnsigned(view, reader)
+      this.targetScore = readUnsigned(view, reader)
+      this.spectatorCount = readUnsigned(view, reader)
+    } else if (type === TYPE_DELTA) {
+      if (this.lastSequence < 0 || sequence !== ((this.lastSequence + 1) & 0xffff)) {
+        this.lastSequence = -1
+        return null
+      }
+      const mask = view.getUint8(4)
+      reader.offset = 5
+      for (let i = 0; i < FIELD_COUNT; i += 1) {
+        if (mask & (1 << i)) {
+          this.state[i] += readSigned(view, reader)
+        }
+      }
+      if (mask & MASK_SCORES) {
+        this.leftScore = readUnsigned(view, reader)
+        this.rightScore = readUnsigned(view, reader)
+      }
+      if (mask & MASK_SPECTATORS) {
+        this.spectatorCount = readUnsigned(view, reader)
+      }
+    } else {
+      return null
+    }
+    this.lastSequence = sequence
+    const [ballX, ballY, ballVelocityX, ballVelocityY, leftPaddleY, rightPaddleY] = this.state.map(
+      (value) => value * this.precision,
+    )
+    return {
+      roomId: this.roomId,
+      ballX,
+      ballY,
+      ballVelocityX,
+      ballVelocityY,
+      leftPaddleY,
+      rightPaddleY,
+      leftScore: this.leftScore,
+      rightScore: this.rightScore,
+      targetScore: this.targetScore,
+      finished,
+    }
+  }
+}
+
+function readUnsigned(view: DataView, reader: { offset: number }): number {
+  let result = 0
+  let scale = 1
+  for (;;) {
+    const byte = view.getUint8(reader.offset)
+    reader.offset += 1
+    result += (byte & 0x7f) * scale
+    if ((byte & 0x80) === 0) return result
+    scale *= 128
+  }
+}
+
+function readSigned(view: DataView, reader: { offset: number }): number {
+  const raw = readUnsigned(view, reader)
+  return raw % 2 === 0 ? raw / 2 : -(raw + 1) / 2
+}
@@ -4,7 +4,7 @@ import { GameSnapshot } from './game'
  * [타입] frontend/src/shared/types/replay.ts
  * 설명:
  *   - v0.11.0 리플레이 목록/상세/이벤트 재생에 필요한 타입 정의다.
- *   - eventFormat은 백엔드 JSONL_V1 고정 포맷을 가리킨다.
+ *   - eventFormat은 백엔드 저장 포맷(JSONL_V1, JSONL_GZ_V1, REPLAY_INPUTS_V2)을 가리킨다. 이벤트 응답은 항상 JSONL이다.
  * 버전: v0.11.0
  * 관련 설계문서:
  *   - design/frontend/v0.11.0-replay-browser-and-viewer.md
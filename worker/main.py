@@ -3,12 +3,20 @@
 설명:
   - v0.13.0에서 GPU 기반 FFmpeg 인코더를 우선 적용하되, 미지원 시 자동으로 CPU(libx264) 경로로 폴백한다.
   - Redis Streams 잡 큐를 구독해 리플레이를 MP4/PNG로 변환하고, 지원 하드웨어 정보를 시작 시 로깅한다.
+  - v1.2.0 구간 분할 내보내기: segmentIndex가 있는 요청은 [startMs, endMs) 구간만 입력 바이트 범위에서 읽어 부분 MP4로
+    인코딩하고, step=CONCAT 요청은 부분 MP4를 재인코딩 없이 이어 붙인다.
+  - v1.2.0 잡 레인: 요청은 잡 유형별 레인 스트림("{REQUEST_STREAM}.{lane}")으로 들어온다. JOB_QUEUE_LANE_WEIGHTS 가중치로
+    레인을 고르게 섞어 읽어, MP4가 밀려 있어도 짧은 요청이 뒤로 밀리지 않게 한다. 레거시 스트림은 가장 마지막에 읽는다.
 버전: v1.2.0
 관련 설계문서:
   - design/backend/v0.13.0-export-hw-accel-flags.md
   - design/backend/v1.2.0-otel-tracing.md
+  - design/backend/v1.2.0-segmented-mp4-export.md
+  - design/backend/v1.2.0-job-lanes-and-fair-share.md
 """
 
+import functools
+import gzip
 import json
 import logging
 import os
@@ -16,7 +24,7 @@ import random
 import subprocess
 import threading
 import time
-from contextlib import contextmanager
+from contextlib import contextmanager, nullcontext
 from dataclasses import dataclass
 from pathlib import Path
 from typing import Callable, Iterable, List, Optional
@@ -37,6 +45,8 @@ PROGRESS_STREAM = os.getenv("JOB_QUEUE_PROGRESS_STREAM", "job.progress")
 RESULT_STREAM = os.getenv("JOB_QUEUE_RESULT_STREAM", "job.results")
 CONSUMER_GROUP = os.getenv("JOB_QUEUE_CONSUMER_GROUP", "replay-jobs")
 CONSUMER_NAME = os.getenv("WORKER_ID", "replay-worker")
+# 썸네일은 백엔드가 직접 그려 워커 레인으로 보내지 않는다. 빈 레인을 먼저 읽지 않도록 기본값은 mp4만 둔다.
+LANE_WEIGHTS = os.getenv("JOB_QUEUE_LANE_WEIGHTS", "mp4:1")
 
 EXPORT_ROOT = Path(os.getenv("JOB_EXPORT_PATH", "/data/replays/exports")).resolve()
 COURT_WIDTH = 800
@@ -186,29 +196,98 @@ class ReplayEvent:
     snapshot: Snapshot
 
 
+def parse_lane_weights(raw: str) -> List[tuple]:
+    """"thumbnail:4,mp4:1" 형식을 [(레인, 가중치)]로 읽는다. 가중치가 없거나 잘못되면 1이다."""
+    lanes = []
+    for part in raw.split(","):
+        name, _, weight = part.strip().partition(":")
+        if not name:
+            continue
+        try:
+            lanes.append((name, max(1, int(weight))))
+        except ValueError:
+            lanes.append((name, 1))
+    return lanes
+
+
+def build_lane_schedule(lanes: List[tuple]) -> List[str]:
+    """가중치 합 길이의 한 주기 순서를 만든다. 부드러운 가중 라운드로빈이라 같은 레인이 몰리지 않고 고르게 섞인다."""
+    total = sum(weight for _, weight in lanes)
+    current = {name: 0 for name, _ in lanes}
+    schedule = []
+    for _ in range(total):
+        for name, weight in lanes:
+            current[name] += weight
+        chosen = max(lanes, key=lambda lane: current[lane[0]])[0]
+        current[chosen] -= total
+        schedule.append(chosen)
+    return schedule
+
+
+LANES = parse_lane_weights(LANE_WEIGHTS)
+LANE_SCHEDULE = build_lane_schedule(LANES)
+
+
+def lane_stream(lane: str) -> str:
+    return f"{REQUEST_STREAM}.{lane}"
+
+
+def request_streams() -> List[str]:
+    return [lane_stream(name) for name, _ in LANES] + [REQUEST_STREAM]
+
+
+def read_order(turn: int) -> List[str]:
+    """이번 차례 레인을 먼저, 나머지 레인을 설정 순서로, 레거시 스트림을 마지막에 읽는다."""
+    preferred = lane_stream(LANE_SCHEDULE[turn % len(LANE_SCHEDULE)])
+    return [preferred] + [stream for stream in request_streams() if stream != preferred]
+
+
+def next_requests(turn: int, block_ms: int = 5000) -> List[tuple]:
+    """읽기 순서대로 대기 없이 한 건을 찾고, 모든 스트림이 비어 있으면 전체를 묶어 block_ms 동안 기다린다.
+
+    기다린 끝에 여러 스트림에서 한 건씩 함께 올 수 있으므로 [(스트림, 메시지 id, 필드)] 목록을 돌려준다.
+    """
+    for stream in read_order(turn):
+        messages = r.xreadgroup(CONSUMER_GROUP, CONSUMER_NAME, {stream: ">"}, count=1)
+        for _, items in messages or []:
+            for message_id, fields in items:
+                return [(stream, message_id, fields)]
+    messages = r.xreadgroup(CONSUMER_GROUP, CONSUMER_NAME, {stream: ">" for stream in request_streams()},
+                            count=1, block=block_ms)
+    return [(stream, message_id, fields)
+            for stream, items in messages or []
+            for message_id, fields in items]
+
+
 def ensure_group() -> None:
-    try:
-        r.xgroup_create(REQUEST_STREAM, CONSUMER_GROUP, id="0", mkstream=True)
-    except redis.ResponseError as exc:  # noqa: PERF203
-        if "BUSYGROUP" not in str(exc):
-            raise
+    for stream in request_streams():
+        try:
+            r.xgroup_create(stream, CONSUMER_GROUP, id="0", mkstream=True)
+        except redis.ResponseError as exc:  # noqa: PERF203
+            if "BUSYGROUP" not in str(exc):
+                raise
 
 
 def recover_pending() -> None:
-    """워커 재시작 시 대기 중인 pending 메시지를 다시 가져온다."""
+    """워커 재시작 시 대기 중인 pending 메시지를 레인 순서대로 다시 가져온다."""
+    for stream in request_streams():
+        recover_stream(stream)
+
+
+def recover_stream(stream: str) -> None:
     start_id = "0-0"
     while True:
         try:
-            claimed = r.xautoclaim(REQUEST_STREAM, CONSUMER_GROUP, CONSUMER_NAME,
+            claimed = r.xautoclaim(stream, CONSUMER_GROUP, CONSUMER_NAME,
                                    min_idle_time=0, start_id=start_id, count=10)
         except redis.ResponseError:
-            fallback = r.xreadgroup(CONSUMER_GROUP, CONSUMER_NAME, {REQUEST_STREAM: "0"}, count=10)
+            fallback = r.xreadgroup(CONSUMER_GROUP, CONSUMER_NAME, {stream: "0"}, count=10)
             if not fallback:
                 break
             for _, items in fallback:
                 for message_id, fields in items:
                     process_request(fields)
-                    r.xack(REQUEST_STREAM, CONSUMER_GROUP, message_id)
+                    r.xack(stream, CONSUMER_GROUP, message_id)
             break
         next_start = start_id
         messages = []
@@ -221,29 +300,36 @@ def recover_pending() -> None:
             break
         for message_id, fields in messages:
             process_request(fields)
-            r.xack(REQUEST_STREAM, CONSUMER_GROUP, message_id)
+            r.xack(stream, CONSUMER_GROUP, message_id)
         start_id = next_start
 
 
-def publish_progress(job_id: str, progress: int, phase: str, message: str) -> None:
-    r.xadd(PROGRESS_STREAM, {
+def publish_progress(job_id: str, progress: int, phase: str, message: str,
+                     segment_index: Optional[str] = None) -> None:
+    fields = {
         "jobId": job_id,
         "progress": str(progress),
         "phase": phase,
         "message": message,
-    })
+    }
+    if segment_index is not None:
+        fields["segmentIndex"] = str(segment_index)
+    r.xadd(PROGRESS_STREAM, fields)
 
 
 def publish_result(job_id: str, status: str, result_uri: str = "", checksum: str = "",
-                   error_code: str = "", error_message: str = "") -> None:
-    r.xadd(RESULT_STREAM, {
+                   error_code: str = "", error_message: str = "", segment_index: Optional[str] = None) -> None:
+    fields = {
         "jobId": job_id,
         "status": status,
         "resultUri": result_uri,
         "checksum": checksum,
         "errorCode": error_code,
         "errorMessage": error_message,
-    })
+    }
+    if segment_index is not None:
+        fields["segmentIndex"] = str(segment_index)
+    r.xadd(RESULT_STREAM, fields)
 
 
 def checksum_file(path: Path) -> str:
@@ -284,14 +370,37 @@ def validate_output_path(raw_path: str) -> Path:
     return resolved
 
 
-def load_events(input_path: str) -> List[ReplayEvent]:
+def open_replay(path: Path):
+    """블록 압축 리플레이(JSONL_GZ_V1)는 이어 붙인 gzip 멤버라 gzip 모듈로 그대로 읽는다."""
+    with path.open("rb") as probe:
+        magic = probe.read(2)
+    if magic == b"\x1f\x8b":
+        return gzip.open(path, "rt", encoding="utf-8")
+    return path.open("r", encoding="utf-8")
+
+
+def read_replay_range(path: Path, offset: int, length: int) -> List[str]:
+    """시간 색인으로 찾은 바이트 범위만 읽는다. 블록 압축 리플레이는 범위 경계가 gzip 멤버 경계다."""
+    with path.open("rb") as f:
+        f.seek(offset)
+        data = f.read(length)
+    if data[:2] == b"\x1f\x8b":
+        data = gzip.decompress(data)
+    return data.decode("utf-8").splitlines()
+
+
+def load_events(input_path: str, offset: int = 0, length: Optional[int] = None) -> List[ReplayEvent]:
     if not input_path:
         raise ReplayFormatError("inputPath가 없습니다.")
     path = Path(input_path)
     if not path.exists():
         raise ReplayFormatError("입력 JSONL을 찾을 수 없습니다.")
     events: List[ReplayEvent] = []
-    with path.open("r", encoding="utf-8") as f:
+    if length is None:
+        source = open_replay(path)
+    else:
+        source = nullcontext(read_replay_range(path, offset, length))
+    with source as f:
         for line in f:
             if not line.strip():
                 continue
@@ -363,10 +472,11 @@ def render_frame(snapshot: Snapshot) -> Image.Image:
     return image
 
 
-def generate_frame_bytes(events: List[ReplayEvent], total_ms: int) -> Iterable[bytes]:
+def generate_frame_bytes(events: List[ReplayEvent], total_ms: int, start_ms: int = 0) -> Iterable[bytes]:
+    """[start_ms, total_ms) 구간의 프레임을 만든다. 구간 분할 시 구간마다 같은 프레임 격자를 이어 쓴다."""
     total_frames = frame_count(total_ms)
     current_index = 0
-    for frame_no in range(total_frames):
+    for frame_no in range(start_ms // FRAME_INTERVAL_MS, total_frames):
         target_ms = frame_no * FRAME_INTERVAL_MS
         while current_index + 1 < len(events) and events[current_index + 1].offset_ms <= target_ms:
             current_index += 1
@@ -478,6 +588,11 @@ def export_mp4(job_id: str, replay_id: str, options: dict,
                ffmpeg_runner: Callable[..., None] = run_ffmpeg,
                trace_id: Optional[str] = None) -> None:
     with start_worker_span("worker.export_mp4", trace_id, kind=SpanKind.CONSUMER):
+        # 구간 요청이면 진행률/결과에 구간 번호를 붙여 백엔드가 잡 진행률로 모으게 한다.
+        segment_index = options.get("segmentIndex")
+        if segment_index is not None:
+            progress_cb = functools.partial(progress_cb, segment_index=segment_index)
+            result_cb = functools.partial(result_cb, segment_index=segment_index)
         try:
             output_path = validate_output_path(options.get("outputPath"))
         except OutputPathError as exc:
@@ -486,8 +601,10 @@ def export_mp4(job_id: str, replay_id: str, options: dict,
 
         input_path = options.get("inputPath")
         duration_ms = safe_int(options.get("durationMs", 0), 0)
+        input_length = options.get("inputLength")
         try:
-            events = load_events(input_path)
+            events = load_events(input_path, safe_int(options.get("inputOffset", 0), 0),
+                                 None if input_length is None else safe_int(input_length, 0))
         except ReplayFormatError as exc:
             result_cb(job_id, "FAILED", error_code="INVALID_REPLAY_FORMAT", error_message=str(exc))
             return
@@ -499,13 +616,19 @@ def export_mp4(job_id: str, replay_id: str, options: dict,
         if output_path.exists():
             output_path.unlink(missing_ok=True)
 
-        expected_ms = calculate_expected_ms(events, duration_ms)
+        start_ms = 0
+        end_ms = calculate_expected_ms(events, duration_ms)
+        if segment_index is not None:
+            start_ms = safe_int(options.get("startMs", 0), 0)
+            last_segment = safe_int(segment_index, 0) == safe_int(options.get("segmentCount", 1), 1) - 1
+            end_ms = max(end_ms, start_ms) if last_segment else safe_int(options.get("endMs"), start_ms)
         tmp_path = output_path.with_name(output_path.name + ".tmp")
         tmp_path.unlink(missing_ok=True)
 
         def run_encode(encoder: str, hwaccel: Optional[str] = None, filters: Optional[List[str]] = None) -> None:
-            frames = generate_frame_bytes(events, expected_ms)
-            ffmpeg_runner(job_id, tmp_path, frames, expected_ms, "ENCODE", progress_cb, encoder, hwaccel, filters)
+            frames = generate_frame_bytes(events, end_ms, start_ms)
+            ffmpeg_runner(job_id, tmp_path, frames, end_ms - start_ms, "ENCODE", progress_cb, encoder, hwaccel,
+                          filters)
 
         hw_attempted = False
         if is_hw_enabled() and SELECTED_HW_ENCODER:
@@ -546,6 +669,65 @@ def export_mp4(job_id: str, replay_id: str, options: dict,
             result_cb(job_id, "FAILED", error_code=code, error_message=str(exc))
 
 
+def run_ffmpeg_concat(list_path: Path, output_path: Path) -> None:
+    """부분 MP4를 재인코딩 없이 이어 붙인다. 워커마다 인코더(HW/CPU)가 달라 스트림 파라미터가 다르면 다시 인코딩한다."""
+    base = ["ffmpeg", "-y", "-f", "concat", "-safe", "0", "-i", str(list_path)]
+    tail = ["-movflags", "+faststart", "-f", "mp4", "-loglevel", "error", str(output_path)]
+    try:
+        subprocess.run(base + ["-c", "copy"] + tail, check=True, capture_output=True)
+    except subprocess.CalledProcessError as exc:
+        logger.warning("구간 스트림 복사 실패, 재인코딩으로 이어 붙임: %s", exc.stderr.decode(errors="ignore").strip())
+        output_path.unlink(missing_ok=True)
+        subprocess.run(base + ["-c:v", "libx264", "-pix_fmt", "yuv420p"] + tail, check=True, capture_output=True)
+
+
+def concat_segments(job_id: str, options: dict,
+                    progress_cb: Callable[[str, int, str, str], None] = publish_progress,
+                    result_cb: Callable[..., None] = publish_result,
+                    concat_runner: Callable[[Path, Path], None] = run_ffmpeg_concat,
+                    trace_id: Optional[str] = None) -> None:
+    """구간 분할 내보내기의 마지막 단계: 백엔드가 모든 구간 완료 후 보낸 step=CONCAT 요청을 처리한다."""
+    with start_worker_span("worker.concat_segments", trace_id, kind=SpanKind.CONSUMER):
+        try:
+            output_path = validate_output_path(options.get("outputPath"))
+            parts = [validate_output_path(raw) for raw in (options.get("segmentPaths") or "").splitlines() if raw]
+        except OutputPathError as exc:
+            result_cb(job_id, "FAILED", error_code="INVALID_OUTPUT_PATH", error_message=str(exc))
+            return
+
+        if output_path.exists() and is_valid_mp4(output_path):
+            for part in parts:
+                part.unlink(missing_ok=True)
+            result_cb(job_id, "SUCCEEDED", str(output_path), checksum_file(output_path))
+            return
+        missing = [part.name for part in parts if not is_valid_mp4(part)]
+        if not parts or missing:
+            result_cb(job_id, "FAILED", error_code="SEGMENT_MISSING",
+                      error_message=f"부분 MP4가 없습니다: {', '.join(missing)}")
+            return
+
+        progress_cb(job_id, 10, "CONCAT", "구간 이어 붙이는 중")
+        list_path = output_path.with_name(output_path.name + ".concat.txt")
+        tmp_path = output_path.with_name(output_path.name + ".tmp")
+        escaped = [str(part).replace("'", "'\\''") for part in parts]
+        list_path.write_text("".join(f"file '{part}'\n" for part in escaped), encoding="utf-8")
+        try:
+            concat_runner(list_path, tmp_path)
+            tmp_path.replace(output_path)
+        except Exception as exc:  # noqa: BLE001
+            tmp_path.unlink(missing_ok=True)
+            result_cb(job_id, "FAILED", error_code="FFMPEG_CONCAT_FAILED", error_message=str(exc))
+            return
+        finally:
+            list_path.unlink(missing_ok=True)
+        for part in parts:
+            part.unlink(missing_ok=True)
+        progress_cb(job_id, 100, "CONCAT", "완료")
+        result_cb(job_id, "SUCCEEDED", str(output_path), checksum_file(output_path))
+
+
+# v1.2.0부터 백엔드는 썸네일 잡을 큐에 넣지 않고 서버 내 렌더러로 처리한다.
+# 업그레이드 전에 쌓인 REPLAY_THUMBNAIL 스트림 항목을 비우기 위해서만 남겨 둔다.
 def export_thumbnail(job_id: str, replay_id: str, options: dict,
                      progress_cb: Callable[[str, int, str, str], None] = publish_progress,
                      result_cb: Callable[..., None] = publish_result,
@@ -596,10 +778,13 @@ def process_request(fields: dict) -> None:
         return
     trace_id = fields.get("traceId")
     span_name = f"worker.process.{job_type.lower()}" if isinstance(job_type, str) else "worker.process.unknown"
+    segment_index = options.get("segmentIndex")
     with start_worker_span(span_name, trace_id, kind=SpanKind.CONSUMER):
         try:
-            publish_progress(job_id, 10, "QUEUE", "워커가 작업을 시작했습니다")
-            if job_type == "REPLAY_EXPORT_MP4":
+            publish_progress(job_id, 10, "QUEUE", "워커가 작업을 시작했습니다", segment_index=segment_index)
+            if job_type == "REPLAY_EXPORT_MP4" and options.get("step") == "CONCAT":
+                concat_segments(job_id, options, trace_id=trace_id)
+            elif job_type == "REPLAY_EXPORT_MP4":
                 export_mp4(job_id, replay_id, options, trace_id=trace_id)
             elif job_type == "REPLAY_THUMBNAIL":
                 export_thumbnail(job_id, replay_id, options, trace_id=trace_id)
@@ -607,23 +792,25 @@ def process_request(fields: dict) -> None:
                 publish_result(job_id, "FAILED", error_code="UNSUPPORTED_TYPE",
                                error_message=f"지원하지 않는 유형 {job_type}")
         except Exception as exc:  # noqa: BLE001
-            publish_result(job_id, "FAILED", error_code="WORKER_ERROR", error_message=str(exc))
+            publish_result(job_id, "FAILED", error_code="WORKER_ERROR", error_message=str(exc),
+                           segment_index=segment_index)
 
 
 def main_loop() -> None:
     EXPORT_ROOT.mkdir(parents=True, exist_ok=True)
     ensure_group()
     recover_pending()
+    turn = 0
     while True:
-        messages = r.xreadgroup(CONSUMER_GROUP, CONSUMER_NAME, {REQUEST_STREAM: ">"}, count=1, block=5000)
-        if not messages:
+        requests = next_requests(turn)
+        if not requests:
             recover_pending()
             continue
-        for _, items in messages:
-            for message_id, fields in items:
-                process_request(fields)
-                r.xack(REQUEST_STREAM, CONSUMER_GROUP, message_id)
-                time.sleep(0.1)
+        for stream, message_id, fields in requests:
+            process_request(fields)
+            r.xack(stream, CONSUMER_GROUP, message_id)
+            time.sleep(0.1)
+        turn += 1
 
 
 if __name__ == "__main__":
@@ -1,3 +1,4 @@
+import gzip
 import json
 import os
 import shutil
@@ -166,6 +167,187 @@ class ExporterTest(unittest.TestCase):
         self.assertTrue(output_path.exists(), "HW 실패 후 CPU 폴백으로 파일을 남겨야 한다.")
         self.assertTrue(any(log for log in result_logs if "SUCCEEDED" in log), "성공 로그가 기록돼야 한다.")
 
+    def test_load_events_reads_block_compressed_replay(self) -> None:
+        plain_path = self._write_sample_replay()
+        lines = plain_path.read_text(encoding="utf-8").splitlines(keepends=True)
+        gz_path = Path(self.temp_dir.name) / "sample.jsonl.gz"
+        # JSONL_GZ_V1처럼 블록마다 독립된 gzip 멤버를 이어 붙인다.
+        with gz_path.open("wb") as f:
+            for line in lines:
+                f.write(gzip.compress(line.encode("utf-8")))
+
+        self.assertEqual(worker.load_events(str(gz_path)), worker.load_events(str(plain_path)))
+
+    def _write_long_replay(self, total_ms: int, step_ms: int) -> Path:
+        input_path = Path(self.temp_dir.name) / "long.jsonl"
+        with input_path.open("w", encoding="utf-8") as f:
+            for offset in range(0, total_ms + 1, step_ms):
+                f.write(json.dumps({"offsetMs": offset, "snapshot": {"ballX": offset / 10, "ballY": 240}}))
+                f.write("\n")
+        return input_path
+
+    def _byte_range(self, input_path: Path, start_ms: int, end_ms: int) -> tuple:
+        # 백엔드 ReplayIndex.slice처럼 start 이하 마지막 1초 경계 줄부터 end 이후 첫 1초 경계 줄 전까지 자른다.
+        position = 0
+        start = 0
+        end = input_path.stat().st_size
+        for raw in input_path.read_bytes().splitlines(keepends=True):
+            offset = json.loads(raw)["offsetMs"]
+            if offset % 1000 == 0 and offset <= start_ms:
+                start = position
+            if offset % 1000 == 0 and offset > end_ms:
+                end = position
+                break
+            position += len(raw)
+        return start, end - start
+
+    def test_segment_frames_match_single_pass_frames(self) -> None:
+        input_path = self._write_long_replay(3000, 100)
+        original_render = worker.render_frame
+        worker.render_frame = lambda snapshot: type("Frame", (), {"tobytes": lambda _self: repr(snapshot).encode()})()
+        try:
+            whole = list(worker.generate_frame_bytes(worker.load_events(str(input_path)), 3000))
+            joined: list = []
+            for start_ms, end_ms in ((0, 1000), (1000, 2000), (2000, 3000)):
+                offset, length = self._byte_range(input_path, start_ms, end_ms)
+                events = worker.load_events(str(input_path), offset, length)
+                joined.extend(worker.generate_frame_bytes(events, end_ms, start_ms))
+        finally:
+            worker.render_frame = original_render
+
+        self.assertEqual(len(whole), 3000 // worker.FRAME_INTERVAL_MS)
+        self.assertEqual(joined, whole, "구간 프레임을 이어 붙이면 한 번에 만든 프레임과 같아야 한다.")
+
+    def test_segment_export_tags_progress_and_result_with_segment_index(self) -> None:
+        input_path = self._write_long_replay(3000, 100)
+        offset, length = self._byte_range(input_path, 1000, 2000)
+        output_path = Path(self.temp_dir.name) / "exports" / "job-1.part-1.mp4"
+        runs: list = []
+        results: list = []
+
+        def fake_runner(job_id, target_path, frames, expected_ms, phase, progress_cb, encoder, hwaccel=None,
+                        filters=None):
+            runs.append((expected_ms, sum(1 for _ in frames)))
+            progress_cb(job_id, 50, phase, "인코딩 진행 중")
+            target_path.write_bytes(b"ftypsegment")
+
+        original_render = worker.render_frame
+        worker.render_frame = lambda snapshot: type("Frame", (), {"tobytes": lambda _self: b""})()
+        try:
+            worker.export_mp4(
+                "job-1",
+                "replay-1",
+                {
+                    "inputPath": str(input_path),
+                    "outputPath": str(output_path),
+                    "durationMs": "3000",
+                    "segmentIndex": "1",
+                    "segmentCount": "3",
+                    "startMs": "1000",
+                    "endMs": "2000",
+                    "inputOffset": str(offset),
+                    "inputLength": str(length),
+                },
+                progress_cb=lambda *args, **kwargs: results.append(("progress", kwargs.get("segment_index"))),
+                result_cb=lambda *args, **kwargs: results.append((args[1], kwargs.get("segment_index"))),
+                ffmpeg_runner=fake_runner,
+            )
+        finally:
+            worker.render_frame = original_render
+
+        self.assertEqual(runs, [(1000, 1000 // worker.FRAME_INTERVAL_MS)])
+        self.assertIn(("progress", "1"), results)
+        self.assertEqual(results[-1], ("SUCCEEDED", "1"))
+        self.assertTrue(output_path.exists())
+
+    def test_concat_segments_joins_parts_and_removes_them(self) -> None:
+        exports = Path(self.temp_dir.name) / "exports"
+        exports.mkdir()
+        parts = [exports / f"job-7.part-{index}.mp4" for index in range(3)]
+        for index, part in enumerate(parts):
+            part.write_bytes(b"ftyp" + bytes([index]))
+        output_path = exports / "job-7.mp4"
+        results: list = []
+
+        def fake_concat(list_path: Path, target: Path) -> None:
+            listed = [line[len("file '"):-1] for line in list_path.read_text(encoding="utf-8").splitlines()]
+            target.write_bytes(b"".join(Path(path).read_bytes() for path in listed))
+
+        worker.concat_segments(
+            "job-7",
+            {"outputPath": str(output_path), "segmentPaths": "\n".join(str(part) for part in parts)},
+            progress_cb=lambda *_args, **_kwargs: None,
+            result_cb=lambda *args, **_kwargs: results.append(args),
+            concat_runner=fake_concat,
+        )
+
+        self.assertEqual(output_path.read_bytes(), b"ftyp\x00ftyp\x01ftyp\x02")
+        self.assertFalse(any(part.exists() for part in parts), "이어 붙인 뒤 부분 파일은 지워야 한다.")
+        self.assertEqual(results[-1][1], "SUCCEEDED")
+
+    def test_concat_segments_fails_when_part_missing(self) -> None:
+        exports = Path(self.temp_dir.name) / "exports"
+        exports.mkdir()
+        present = exports / "job-8.part-0.mp4"
+        present.write_bytes(b"ftyp")
+        results: list = []
+
+        worker.concat_segments(
+            "job-8",
+            {
+                "outputPath": str(exports / "job-8.mp4"),
+                "segmentPaths": f"{present}\n{exports / 'job-8.part-1.mp4'}",
+            },
+            progress_cb=lambda *_args, **_kwargs: None,
+            result_cb=lambda *args, **kwargs: results.append((args, kwargs)),
+            concat_runner=lambda *_args: self.fail("부분 파일이 빠졌으면 ffmpeg을 돌리지 않아야 한다."),
+        )
+
+        self.assertEqual(results[-1][1].get("error_code"), "SEGMENT_MISSING")
+        self.assertTrue(present.exists())
+
+    def test_lane_schedule_interleaves_by_weight(self) -> None:
+        lanes = worker.parse_lane_weights("thumbnail:4, mp4:1,broken:x,")
+        self.assertEqual(lanes, [("thumbnail", 4), ("mp4", 1), ("broken", 1)])
+
+        schedule = worker.build_lane_schedule([("thumbnail", 4), ("mp4", 1)])
+        self.assertEqual(schedule, ["thumbnail", "thumbnail", "mp4", "thumbnail", "thumbnail"])
+
+    def test_next_requests_prefers_scheduled_lane_then_falls_back(self) -> None:
+        class FakeRedis:
+            def __init__(self, queued):
+                self.queued = queued
+                self.reads = []
+
+            def xreadgroup(self, group, consumer, streams, count=1, block=None):
+                self.reads.append((tuple(streams), block))
+                result = []
+                for stream in streams:
+                    if self.queued.get(stream):
+                        result.append((stream, [self.queued[stream].pop(0)]))
+                        if block is None:
+                            break
+                return result
+
+        original = (worker.r, worker.LANES, worker.LANE_SCHEDULE)
+        try:
+            worker.LANES = [("thumbnail", 2), ("mp4", 1)]
+            worker.LANE_SCHEDULE = ["thumbnail", "mp4", "thumbnail"]
+            thumb = worker.lane_stream("thumbnail")
+            mp4 = worker.lane_stream("mp4")
+            worker.r = FakeRedis({mp4: [("1-0", {"jobId": "1"}), ("2-0", {"jobId": "2"})],
+                                  thumb: [("3-0", {"jobId": "3"})]})
+
+            self.assertEqual(worker.next_requests(1), [(mp4, "1-0", {"jobId": "1"})])
+            self.assertEqual(worker.next_requests(0), [(thumb, "3-0", {"jobId": "3"})])
+            self.assertEqual(worker.next_requests(0), [(mp4, "2-0", {"jobId": "2"})])
+            self.assertEqual(worker.r.reads[-2][0], (thumb,))
+
+            self.assertEqual(worker.next_requests(0, block_ms=10), [])
+            self.assertEqual(worker.r.reads[-1], ((thumb, mp4, worker.REQUEST_STREAM), 10))
+        finally:
+            worker.r, worker.LANES, worker.LANE_SCHEDULE = original
+
 
 if __name__ == "__main__":
     unittest.main()